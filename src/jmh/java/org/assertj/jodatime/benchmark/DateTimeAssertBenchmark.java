@@ -0,0 +1,282 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.Assertions.assertThatEventually;
+import static org.assertj.jodatime.api.Assertions.setZoneTransitionIndexEnabled;
+
+import org.assertj.jodatime.api.DateTimeAssert;
+import org.assertj.jodatime.api.EventualDateTimeAssert;
+import org.assertj.jodatime.api.JodaTimeSet;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the successful path of every {@link DateTimeAssert} entry point.
+ * <p>
+ * The {@code zoneTransitionIndex} parameter compares the zone offset lookups of the Paris benchmarks with and without
+ * the zone transition index.
+ * <p>
+ * Run with the gc profiler (default {@code jmh.args} of the {@code benchmarks} profile) to get allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class DateTimeAssertBenchmark {
+
+  private static final long ONE_DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+  @Param({ "false", "true" })
+  private boolean zoneTransitionIndex;
+
+  private DateTime actual;
+  private DateTime before;
+  private DateTime after;
+  private DateTime sameInstantInOtherZone;
+  private DateTime actualInParis;
+  private DateTime sameHourInParis;
+  private DateTime inParisOverlap;
+  private DateTime sameSecond;
+  private DateTime sameMinute;
+  private DateTime sameHour;
+  private DateTime sameDay;
+  private DateTime[] candidates;
+  private DateTime[] otherCandidates;
+  private String actualAsString;
+  private String beforeAsString;
+  private String afterAsString;
+  private String[] candidatesAsString;
+  private String[] otherCandidatesAsString;
+  private JodaTimeSet candidatesSet;
+  private JodaTimeSet otherCandidatesSet;
+
+  @Setup
+  public void setup() {
+    setZoneTransitionIndexEnabled(zoneTransitionIndex);
+    actual = new DateTime(2000, 12, 14, 22, 15, 15, 875, DateTimeZone.UTC);
+    before = actual.minusDays(1);
+    after = actual.plusDays(1);
+    sameInstantInOtherZone = actual.withZone(DateTimeZone.forID("Europe/Paris"));
+    actualInParis = sameInstantInOtherZone;
+    sameHourInParis = actualInParis.withMinuteOfHour(0);
+    inParisOverlap = new DateTime("2000-10-29T00:30Z", DateTimeZone.forID("Europe/Paris"));
+    sameSecond = actual.withMillisOfSecond(0);
+    sameMinute = actual.withSecondOfMinute(0);
+    sameHour = actual.withMinuteOfHour(0);
+    sameDay = actual.withHourOfDay(0);
+    candidates = new DateTime[] { before, after, sameInstantInOtherZone };
+    otherCandidates = new DateTime[] { before, after, sameDay };
+    actualAsString = actual.toString();
+    beforeAsString = before.toString();
+    afterAsString = after.toString();
+    candidatesAsString = new String[] { beforeAsString, afterAsString, actualAsString };
+    otherCandidatesAsString = new String[] { beforeAsString, afterAsString };
+    candidatesSet = JodaTimeSet.of(candidates);
+    otherCandidatesSet = JodaTimeSet.of(otherCandidates);
+  }
+
+  @Benchmark
+  public DateTimeAssert hasYear() {
+    return assertThat(actual).hasYear(2000);
+  }
+
+  @Benchmark
+  public DateTimeAssert hasMonthOfYear() {
+    return assertThat(actual).hasMonthOfYear(12);
+  }
+
+  @Benchmark
+  public DateTimeAssert hasDayOfMonth() {
+    return assertThat(actual).hasDayOfMonth(14);
+  }
+
+  @Benchmark
+  public DateTimeAssert hasHourOfDay() {
+    return assertThat(actual).hasHourOfDay(22);
+  }
+
+  @Benchmark
+  public DateTimeAssert hasHourOfDay_Paris() {
+    return assertThat(actualInParis).hasHourOfDay(23);
+  }
+
+  @Benchmark
+  public DateTimeAssert hasMinuteOfHour() {
+    return assertThat(actual).hasMinuteOfHour(15);
+  }
+
+  @Benchmark
+  public DateTimeAssert hasSecondOfMinute() {
+    return assertThat(actual).hasSecondOfMinute(15);
+  }
+
+  @Benchmark
+  public DateTimeAssert hasMillisOfSecond() {
+    return assertThat(actual).hasMillisOfSecond(875);
+  }
+
+  @Benchmark
+  public DateTimeAssert isBefore() {
+    return assertThat(actual).isBefore(after);
+  }
+
+  @Benchmark
+  public DateTimeAssert isBefore_String() {
+    return assertThat(actual).isBefore(afterAsString);
+  }
+
+  @Benchmark
+  public DateTimeAssert isBeforeOrEqualTo() {
+    return assertThat(actual).isBeforeOrEqualTo(after);
+  }
+
+  @Benchmark
+  public DateTimeAssert isBeforeOrEqualTo_String() {
+    return assertThat(actual).isBeforeOrEqualTo(afterAsString);
+  }
+
+  @Benchmark
+  public DateTimeAssert isAfter() {
+    return assertThat(actual).isAfter(before);
+  }
+
+  @Benchmark
+  public DateTimeAssert isAfter_String() {
+    return assertThat(actual).isAfter(beforeAsString);
+  }
+
+  @Benchmark
+  public DateTimeAssert isAfterOrEqualTo() {
+    return assertThat(actual).isAfterOrEqualTo(before);
+  }
+
+  @Benchmark
+  public DateTimeAssert isAfterOrEqualTo_String() {
+    return assertThat(actual).isAfterOrEqualTo(beforeAsString);
+  }
+
+  @Benchmark
+  public DateTimeAssert isInDstOverlap() {
+    return assertThat(inParisOverlap).isInDstOverlap();
+  }
+
+  @Benchmark
+  public DateTimeAssert isEqualTo() {
+    return assertThat(actual).isEqualTo(sameInstantInOtherZone);
+  }
+
+  @Benchmark
+  public DateTimeAssert isEqualTo_String() {
+    return assertThat(actual).isEqualTo(actualAsString);
+  }
+
+  @Benchmark
+  public DateTimeAssert isNotEqualTo() {
+    return assertThat(actual).isNotEqualTo(after);
+  }
+
+  @Benchmark
+  public DateTimeAssert isCloseTo() {
+    return assertThat(actual).isCloseTo(after, ONE_DAY_MILLIS);
+  }
+
+  @Benchmark
+  public DateTimeAssert isNotEqualTo_String() {
+    return assertThat(actual).isNotEqualTo(afterAsString);
+  }
+
+  @Benchmark
+  public DateTimeAssert isEqualToIgnoringMillis() {
+    return assertThat(actual).isEqualToIgnoringMillis(sameSecond);
+  }
+
+  @Benchmark
+  public DateTimeAssert isEqualToIgnoringSeconds() {
+    return assertThat(actual).isEqualToIgnoringSeconds(sameMinute);
+  }
+
+  @Benchmark
+  public DateTimeAssert isEqualToIgnoringMinutes() {
+    return assertThat(actual).isEqualToIgnoringMinutes(sameHour);
+  }
+
+  @Benchmark
+  public DateTimeAssert isEqualToIgnoringMinutes_Paris() {
+    return assertThat(actualInParis).isEqualToIgnoringMinutes(sameHourInParis);
+  }
+
+  @Benchmark
+  public DateTimeAssert isEqualToIgnoringHours() {
+    return assertThat(actual).isEqualToIgnoringHours(sameDay);
+  }
+
+  @Benchmark
+  public DateTimeAssert isEqualToTruncatedTo() {
+    return assertThat(actual).isEqualToTruncatedTo(sameHour, DateTimeFieldType.hourOfDay());
+  }
+
+  @Benchmark
+  public DateTimeAssert isIn() {
+    return assertThat(actual).isIn(candidates);
+  }
+
+  @Benchmark
+  public DateTimeAssert isIn_String() {
+    return assertThat(actual).isIn(candidatesAsString);
+  }
+
+  @Benchmark
+  public DateTimeAssert isNotIn() {
+    return assertThat(actual).isNotIn(otherCandidates);
+  }
+
+  @Benchmark
+  public DateTimeAssert isNotIn_String() {
+    return assertThat(actual).isNotIn(otherCandidatesAsString);
+  }
+
+  @Benchmark
+  public DateTimeAssert isIn_JodaTimeSet() {
+    return assertThat(actual).isIn(candidatesSet);
+  }
+
+  @Benchmark
+  public DateTimeAssert isNotIn_JodaTimeSet() {
+    return assertThat(actual).isNotIn(otherCandidatesSet);
+  }
+
+  // the polled value satisfies the assertion on the first attempt, no sleep involved
+  @Benchmark
+  public EventualDateTimeAssert eventually_isAfter() {
+    return assertThatEventually(() -> actual).isAfter(before);
+  }
+
+}
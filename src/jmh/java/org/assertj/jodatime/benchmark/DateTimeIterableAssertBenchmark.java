@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.jodatime.api.DateTimeIterableAssert;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the successful path of {@link DateTimeIterableAssert} assertions on an event log of one event per
+ * second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class DateTimeIterableAssertBenchmark {
+
+  private static final Duration ONE_SECOND = Duration.standardSeconds(1);
+  private static final Duration ONE_MINUTE = Duration.standardMinutes(1);
+
+  @Param({ "1000", "1000000" })
+  private int size;
+
+  private List<DateTime> events;
+  private List<DateTime> eventsSeenByOtherNode;
+  private DateTime start;
+  private DateTime end;
+
+  @Setup
+  public void setup() {
+    start = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.UTC);
+    events = new ArrayList<>(size);
+    eventsSeenByOtherNode = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      events.add(start.plusSeconds(i));
+      eventsSeenByOtherNode.add(start.plusSeconds(i).plusMillis(i % 5));
+    }
+    end = events.get(size - 1);
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert isSorted() {
+    return assertThatDateTimes(events).isSorted();
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert isStrictlyIncreasing() {
+    return assertThatDateTimes(events).isStrictlyIncreasing();
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert isWithin() {
+    return assertThatDateTimes(events).isWithin(start, end);
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert allHaveYear() {
+    return assertThatDateTimes(events).allHaveYear(2000);
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert isPairwiseCloseTo() {
+    return assertThatDateTimes(events).isPairwiseCloseTo(eventsSeenByOtherNode, 5);
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert matchesSeries() {
+    return assertThatDateTimes(events).matchesSeries(eventsSeenByOtherNode, 5);
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert hasNoGapsLongerThan() {
+    return assertThatDateTimes(events).hasNoGapsLongerThan(ONE_SECOND);
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert hasAtMostElementsInAnyWindow() {
+    return assertThatDateTimes(events).hasAtMostElementsInAnyWindow(60, ONE_MINUTE);
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert hasAtLeastElementsInAnyWindow() {
+    return assertThatDateTimes(events).hasAtLeastElementsInAnyWindow(60, ONE_MINUTE);
+  }
+
+}
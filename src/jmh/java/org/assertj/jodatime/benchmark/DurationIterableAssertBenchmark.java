@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThatDurations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.jodatime.api.DurationIterableAssert;
+import org.joda.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Average time of the successful path of {@link DurationIterableAssert} assertions on log-normally distributed
+ * latencies, compared to sorting a copy of the latencies to read a percentile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class DurationIterableAssertBenchmark {
+
+  @Param({ "10000", "1000000" })
+  private int size;
+
+  private List<Duration> latencies;
+  private Duration p99Bound;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    latencies = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      // median around 20ms with a long tail
+      latencies.add(Duration.millis((long) Math.exp(3 + random.nextGaussian())));
+    }
+    p99Bound = Duration.standardSeconds(10);
+  }
+
+  @Benchmark
+  public DurationIterableAssert hasPercentileAtMost() {
+    return assertThatDurations(latencies).hasPercentileAtMost(99, p99Bound);
+  }
+
+  @Benchmark
+  public DurationIterableAssert hasMaxAtMost() {
+    return assertThatDurations(latencies).hasMaxAtMost(Duration.standardHours(1));
+  }
+
+  @Benchmark
+  public DurationIterableAssert hasMeanAtMost() {
+    return assertThatDurations(latencies).hasMeanAtMost(p99Bound);
+  }
+
+  @Benchmark
+  public Duration percentile_of_sorted_copy_baseline() {
+    List<Duration> sorted = new ArrayList<>(latencies);
+    sorted.sort(null);
+    return sorted.get((int) Math.ceil(0.99 * size) - 1);
+  }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThatEpochMillis;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.jodatime.api.EpochMillisArrayAssert;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the successful path of {@link EpochMillisArrayAssert} assertions on an event log of one event per
+ * second, to compare with {@link DateTimeIterableAssertBenchmark} on the same log made of {@link DateTime}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class EpochMillisArrayAssertBenchmark {
+
+  private static final Duration ONE_SECOND = Duration.standardSeconds(1);
+  private static final Duration ONE_MINUTE = Duration.standardMinutes(1);
+
+  @Param({ "1000", "1000000" })
+  private int size;
+
+  private long[] events;
+  private long[] shiftedEvents;
+  private DateTime start;
+  private DateTime end;
+  private DateTime afterEnd;
+  private Path goldenFile;
+
+  @Setup
+  public void setup() throws IOException {
+    start = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.UTC);
+    events = new long[size];
+    for (int i = 0; i < size; i++) {
+      events[i] = start.getMillis() + i * 1000L;
+    }
+    shiftedEvents = new long[size];
+    for (int i = 0; i < size; i++) {
+      shiftedEvents[i] = events[i] + i % 3;
+    }
+    end = new DateTime(events[size - 1], DateTimeZone.UTC);
+    afterEnd = end.plusMillis(1);
+    goldenFile = Files.createTempFile("events", ".golden");
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(goldenFile))) {
+      for (long event : events) {
+        out.writeLong(event);
+      }
+    }
+  }
+
+  @TearDown
+  public void deleteGoldenFile() throws IOException {
+    Files.delete(goldenFile);
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert isSorted() {
+    return assertThatEpochMillis(events).isSorted();
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert isStrictlyIncreasing() {
+    return assertThatEpochMillis(events).isStrictlyIncreasing();
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert isWithin() {
+    return assertThatEpochMillis(events).isWithin(start, end);
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert isBefore() {
+    return assertThatEpochMillis(events).isBefore(afterEnd);
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert hasYear() {
+    return assertThatEpochMillis(events).hasYear(2000, DateTimeZone.UTC);
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert hasNoGapsLongerThan() {
+    return assertThatEpochMillis(events).hasNoGapsLongerThan(ONE_SECOND);
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert hasAtMostElementsInAnyWindow() {
+    return assertThatEpochMillis(events).hasAtMostElementsInAnyWindow(60, ONE_MINUTE);
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert hasAtLeastElementsInAnyWindow() {
+    return assertThatEpochMillis(events).hasAtLeastElementsInAnyWindow(60, ONE_MINUTE);
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert matchesSeries() {
+    return assertThatEpochMillis(events).matchesSeries(events);
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert matchesSeries_with_tolerance() {
+    return assertThatEpochMillis(shiftedEvents).matchesSeries(events, 2);
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert matchesGoldenFile() {
+    return assertThatEpochMillis(events).matchesGoldenFile(goldenFile);
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of failing assertions whose error is caught, the {@code _discarded} benchmarks drop the error without
+ * reading its message (as soft assertions style runs expecting failures do) while the {@code _reported} ones read it.
+ * <p>
+ * The difference between both is the cost of rendering the error message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class FailingAssertionBenchmark {
+
+  private DateTime actual;
+  private DateTime after;
+  private DateTime nextDay;
+
+  @Setup
+  public void setup() {
+    actual = new DateTime(2000, 12, 14, 22, 15, 15, 875, DateTimeZone.UTC);
+    after = actual.plusHours(1);
+    nextDay = actual.plusDays(1);
+  }
+
+  @Benchmark
+  public Object hasYear_discarded() {
+    try {
+      assertThat(actual).hasYear(2001);
+      return null;
+    } catch (AssertionError error) {
+      return error;
+    }
+  }
+
+  @Benchmark
+  public Object hasYear_reported() {
+    try {
+      assertThat(actual).hasYear(2001);
+      return null;
+    } catch (AssertionError error) {
+      return error.getMessage();
+    }
+  }
+
+  @Benchmark
+  public Object isAfter_discarded() {
+    try {
+      assertThat(actual).isAfter(after);
+      return null;
+    } catch (AssertionError error) {
+      return error;
+    }
+  }
+
+  @Benchmark
+  public Object isAfter_reported() {
+    try {
+      assertThat(actual).isAfter(after);
+      return null;
+    } catch (AssertionError error) {
+      return error.getMessage();
+    }
+  }
+
+  @Benchmark
+  public Object isEqualToIgnoringHours_discarded() {
+    try {
+      assertThat(actual).isEqualToIgnoringHours(nextDay);
+      return null;
+    } catch (AssertionError error) {
+      return error;
+    }
+  }
+
+  @Benchmark
+  public Object isEqualToIgnoringHours_reported() {
+    try {
+      assertThat(actual).isEqualToIgnoringHours(nextDay);
+      return null;
+    } catch (AssertionError error) {
+      return error.getMessage();
+    }
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.Assertions;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of failing assertions whose error is caught and discarded depending on how their stack trace is captured:
+ * {@code full} (the default), {@code truncated} to 5 elements or {@code none}.
+ * <p>
+ * The cost of capturing a stack trace grows with the stack depth, {@code callerDepth} adds frames above the assertion
+ * to get closer to the depth of a test run by a test runner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class FailingAssertionStackTraceBenchmark {
+
+  @Param({ "full", "truncated", "none" })
+  public String stackTraces;
+
+  @Param({ "0", "50" })
+  public int callerDepth;
+
+  private DateTime actual;
+  private DateTime after;
+  private LocalDate actualDate;
+
+  @Setup
+  public void setup() {
+    actual = new DateTime(2000, 12, 14, 22, 15, 15, 875, DateTimeZone.UTC);
+    after = actual.plusHours(1);
+    actualDate = actual.toLocalDate();
+    Assertions.setStackTracesEnabled(!"none".equals(stackTraces));
+    if ("truncated".equals(stackTraces)) Assertions.setStackTraceMaxDepth(5);
+  }
+
+  @TearDown
+  public void restoreDefaults() {
+    Assertions.setStackTracesEnabled(true);
+    Assertions.setStackTraceMaxDepth(Integer.MAX_VALUE);
+  }
+
+  @Benchmark
+  public Object hasYear() {
+    return callAt(callerDepth, () -> assertThat(actual).hasYear(2001));
+  }
+
+  @Benchmark
+  public Object isAfter() {
+    return callAt(callerDepth, () -> assertThat(actual).isAfter(after));
+  }
+
+  @Benchmark
+  public Object LocalDate_isAfter() {
+    return callAt(callerDepth, () -> assertThat(actualDate).isAfter("2000-12-15"));
+  }
+
+  // runs the failing assertion under depth additional frames and returns its error
+  private static Object callAt(int depth, Runnable failingAssertion) {
+    if (depth > 0) return callAt(depth - 1, failingAssertion);
+    try {
+      failingAssertion.run();
+      return null;
+    } catch (AssertionError error) {
+      return error;
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.InstantAssert;
+import org.assertj.jodatime.api.JodaTimeSet;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the successful path of every {@link InstantAssert} entry point, comparisons with a {@link DateTime}
+ * show that no conversion is involved whatever the kind of {@link org.joda.time.ReadableInstant} given.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class InstantAssertBenchmark {
+
+  private static final long ONE_DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+  private Instant actual;
+  private Instant before;
+  private Instant after;
+  private DateTime sameInstantInOtherZone;
+  private JodaTimeSet candidatesSet;
+  private JodaTimeSet otherCandidatesSet;
+
+  @Setup
+  public void setup() {
+    actual = new Instant(976832115875L);
+    before = actual.minus(86400000L);
+    after = actual.plus(86400000L);
+    sameInstantInOtherZone = new DateTime(actual.getMillis(), DateTimeZone.forID("Europe/Paris"));
+    candidatesSet = JodaTimeSet.of(before, after, sameInstantInOtherZone);
+    otherCandidatesSet = JodaTimeSet.of(before, after);
+  }
+
+  @Benchmark
+  public InstantAssert isBefore() {
+    return assertThat(actual).isBefore(after);
+  }
+
+  @Benchmark
+  public InstantAssert isBeforeOrEqualTo() {
+    return assertThat(actual).isBeforeOrEqualTo(after);
+  }
+
+  @Benchmark
+  public InstantAssert isAfter() {
+    return assertThat(actual).isAfter(before);
+  }
+
+  @Benchmark
+  public InstantAssert isAfterOrEqualTo() {
+    return assertThat(actual).isAfterOrEqualTo(before);
+  }
+
+  @Benchmark
+  public InstantAssert isEqualTo() {
+    return assertThat(actual).isEqualTo(sameInstantInOtherZone);
+  }
+
+  @Benchmark
+  public InstantAssert isNotEqualTo() {
+    return assertThat(actual).isNotEqualTo(after);
+  }
+
+  @Benchmark
+  public InstantAssert isCloseTo() {
+    return assertThat(actual).isCloseTo(after, ONE_DAY_MILLIS);
+  }
+
+  @Benchmark
+  public InstantAssert isIn_JodaTimeSet() {
+    return assertThat(actual).isIn(candidatesSet);
+  }
+
+  @Benchmark
+  public InstantAssert isNotIn_JodaTimeSet() {
+    return assertThat(actual).isNotIn(otherCandidatesSet);
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThatIntervals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.jodatime.api.IntervalIterableAssert;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the successful path of {@link IntervalIterableAssert} assertions on abutting one minute bookings,
+ * either already sorted by start or shuffled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class IntervalIterableAssertBenchmark {
+
+  @Param({ "1000", "100000" })
+  private int size;
+
+  @Param({ "true", "false" })
+  private boolean shuffled;
+
+  private List<Interval> bookings;
+  private DateTime start;
+  private DateTime end;
+
+  @Setup
+  public void setup() {
+    start = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.UTC);
+    bookings = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      bookings.add(new Interval(start.plusMinutes(i), start.plusMinutes(i + 1)));
+    }
+    end = start.plusMinutes(size);
+    if (shuffled) Collections.shuffle(bookings, new Random(42));
+  }
+
+  @Benchmark
+  public IntervalIterableAssert hasNoOverlaps() {
+    return assertThatIntervals(bookings).hasNoOverlaps();
+  }
+
+  @Benchmark
+  public IntervalIterableAssert coversContinuously() {
+    return assertThatIntervals(bookings).coversContinuously(start, end);
+  }
+
+  @Benchmark
+  public IntervalIterableAssert hasNoGapsLongerThan() {
+    return assertThatIntervals(bookings).hasNoGapsLongerThan(Duration.ZERO);
+  }
+
+}
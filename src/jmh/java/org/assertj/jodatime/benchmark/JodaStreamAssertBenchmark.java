@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimeStream;
+import static org.assertj.jodatime.api.JodaStreamCheck.elementCount;
+import static org.assertj.jodatime.api.JodaStreamCheck.sorted;
+import static org.assertj.jodatime.api.JodaStreamCheck.strictlyIncreasing;
+import static org.assertj.jodatime.api.JodaStreamCheck.within;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.jodatime.api.JodaStreamAssert;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the successful path of {@link JodaStreamAssert} on a lazily generated event log of one event per
+ * second, the events are never all in memory at the same time.
+ * <p>
+ * Run with the gc profiler to check that the allocation rate does not depend on the number of events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class JodaStreamAssertBenchmark {
+
+  @Param({ "1000", "1000000" })
+  private int size;
+
+  private DateTime start;
+  private DateTime end;
+
+  @Setup
+  public void setup() {
+    start = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.UTC);
+    end = start.plusSeconds(size - 1);
+  }
+
+  @Benchmark
+  public JodaStreamAssert<DateTime> consume_sorted() {
+    return assertThatDateTimeStream(events()).consume(sorted());
+  }
+
+  @Benchmark
+  public JodaStreamAssert<DateTime> consume_strictlyIncreasing_within_elementCount() {
+    return assertThatDateTimeStream(events()).consume(strictlyIncreasing(), within(start, end), elementCount(size));
+  }
+
+  private Stream<DateTime> events() {
+    return IntStream.range(0, size).mapToObj(start::plusSeconds);
+  }
+
+}
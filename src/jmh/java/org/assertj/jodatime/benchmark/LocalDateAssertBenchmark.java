@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.BusinessCalendar;
+import org.assertj.jodatime.api.LocalDateAssert;
+import org.assertj.jodatime.api.JodaTimeSet;
+import org.joda.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the successful path of every {@link LocalDateAssert} entry point.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class LocalDateAssertBenchmark {
+
+  private static final long ONE_DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+  private LocalDate actual;
+  private LocalDate before;
+  private LocalDate after;
+  private LocalDate same;
+  private LocalDate[] candidates;
+  private LocalDate[] otherCandidates;
+  private String actualAsString;
+  private String beforeAsString;
+  private String afterAsString;
+  private String[] candidatesAsString;
+  private String[] otherCandidatesAsString;
+  private JodaTimeSet candidatesSet;
+  private JodaTimeSet otherCandidatesSet;
+  private BusinessCalendar businessCalendar;
+  private LocalDate monthBefore;
+  private int businessDaysSinceMonthBefore;
+  private LocalDate tenYearsBefore;
+  private int businessDaysSinceTenYearsBefore;
+
+  @Setup
+  public void setup() {
+    actual = new LocalDate(2000, 12, 14);
+    before = actual.minusDays(1);
+    after = actual.plusDays(1);
+    same = new LocalDate(2000, 12, 14);
+    candidates = new LocalDate[] { before, after, same };
+    otherCandidates = new LocalDate[] { before, after };
+    actualAsString = actual.toString();
+    beforeAsString = before.toString();
+    afterAsString = after.toString();
+    candidatesAsString = new String[] { beforeAsString, afterAsString, actualAsString };
+    otherCandidatesAsString = new String[] { beforeAsString, afterAsString };
+    candidatesSet = JodaTimeSet.of(candidates);
+    otherCandidatesSet = JodaTimeSet.of(otherCandidates);
+    businessCalendar = BusinessCalendar.withHolidays(new LocalDate(2000, 12, 25), new LocalDate(2000, 11, 1),
+                                                     new LocalDate(1991, 1, 1));
+    monthBefore = actual.minusMonths(1);
+    businessDaysSinceMonthBefore = (int) businessCalendar.businessDaysBetween(monthBefore, actual);
+    tenYearsBefore = actual.minusYears(10);
+    businessDaysSinceTenYearsBefore = (int) businessCalendar.businessDaysBetween(tenYearsBefore, actual);
+  }
+
+  @Benchmark
+  public LocalDateAssert hasYear() {
+    return assertThat(actual).hasYear(2000);
+  }
+
+  @Benchmark
+  public LocalDateAssert hasMonthOfYear() {
+    return assertThat(actual).hasMonthOfYear(12);
+  }
+
+  @Benchmark
+  public LocalDateAssert hasDayOfMonth() {
+    return assertThat(actual).hasDayOfMonth(14);
+  }
+
+  @Benchmark
+  public LocalDateAssert isBefore() {
+    return assertThat(actual).isBefore(after);
+  }
+
+  @Benchmark
+  public LocalDateAssert isBefore_String() {
+    return assertThat(actual).isBefore(afterAsString);
+  }
+
+  @Benchmark
+  public LocalDateAssert isBeforeOrEqualTo() {
+    return assertThat(actual).isBeforeOrEqualTo(after);
+  }
+
+  @Benchmark
+  public LocalDateAssert isBeforeOrEqualTo_String() {
+    return assertThat(actual).isBeforeOrEqualTo(afterAsString);
+  }
+
+  @Benchmark
+  public LocalDateAssert isAfter() {
+    return assertThat(actual).isAfter(before);
+  }
+
+  @Benchmark
+  public LocalDateAssert isAfter_String() {
+    return assertThat(actual).isAfter(beforeAsString);
+  }
+
+  @Benchmark
+  public LocalDateAssert isAfterOrEqualTo() {
+    return assertThat(actual).isAfterOrEqualTo(before);
+  }
+
+  @Benchmark
+  public LocalDateAssert isAfterOrEqualTo_String() {
+    return assertThat(actual).isAfterOrEqualTo(beforeAsString);
+  }
+
+  @Benchmark
+  public LocalDateAssert isEqualTo() {
+    return assertThat(actual).isEqualTo(same);
+  }
+
+  @Benchmark
+  public LocalDateAssert isEqualTo_String() {
+    return assertThat(actual).isEqualTo(actualAsString);
+  }
+
+  @Benchmark
+  public LocalDateAssert isNotEqualTo() {
+    return assertThat(actual).isNotEqualTo(after);
+  }
+
+  @Benchmark
+  public LocalDateAssert isCloseTo() {
+    return assertThat(actual).isCloseTo(after, ONE_DAY_MILLIS);
+  }
+
+  @Benchmark
+  public LocalDateAssert isBusinessDay() {
+    return assertThat(actual).usingBusinessCalendar(businessCalendar).isBusinessDay();
+  }
+
+  @Benchmark
+  public LocalDateAssert isNotHoliday() {
+    return assertThat(actual).usingBusinessCalendar(businessCalendar).isNotHoliday();
+  }
+
+  @Benchmark
+  public LocalDateAssert isNthBusinessDayAfter_month() {
+    return assertThat(actual).usingBusinessCalendar(businessCalendar)
+                             .isNthBusinessDayAfter(businessDaysSinceMonthBefore, monthBefore);
+  }
+
+  @Benchmark
+  public LocalDateAssert isNthBusinessDayAfter_tenYears() {
+    return assertThat(actual).usingBusinessCalendar(businessCalendar)
+                             .isNthBusinessDayAfter(businessDaysSinceTenYearsBefore, tenYearsBefore);
+  }
+
+  @Benchmark
+  public LocalDateAssert isNotEqualTo_String() {
+    return assertThat(actual).isNotEqualTo(afterAsString);
+  }
+
+  @Benchmark
+  public LocalDateAssert isIn() {
+    return assertThat(actual).isIn(candidates);
+  }
+
+  @Benchmark
+  public LocalDateAssert isIn_String() {
+    return assertThat(actual).isIn(candidatesAsString);
+  }
+
+  @Benchmark
+  public LocalDateAssert isNotIn() {
+    return assertThat(actual).isNotIn(otherCandidates);
+  }
+
+  @Benchmark
+  public LocalDateAssert isNotIn_String() {
+    return assertThat(actual).isNotIn(otherCandidatesAsString);
+  }
+
+  @Benchmark
+  public LocalDateAssert isIn_JodaTimeSet() {
+    return assertThat(actual).isIn(candidatesSet);
+  }
+
+  @Benchmark
+  public LocalDateAssert isNotIn_JodaTimeSet() {
+    return assertThat(actual).isNotIn(otherCandidatesSet);
+  }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.LocalDateTimeAssert;
+import org.assertj.jodatime.api.JodaTimeSet;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.LocalDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the successful path of every {@link LocalDateTimeAssert} entry point.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class LocalDateTimeAssertBenchmark {
+
+  private static final long ONE_DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+  private LocalDateTime actual;
+  private LocalDateTime before;
+  private LocalDateTime after;
+  private LocalDateTime same;
+  private LocalDateTime sameSecond;
+  private LocalDateTime sameMinute;
+  private LocalDateTime sameHour;
+  private LocalDateTime sameDay;
+  private LocalDateTime[] candidates;
+  private LocalDateTime[] otherCandidates;
+  private String actualAsString;
+  private String beforeAsString;
+  private String afterAsString;
+  private String[] candidatesAsString;
+  private String[] otherCandidatesAsString;
+  private JodaTimeSet candidatesSet;
+  private JodaTimeSet otherCandidatesSet;
+
+  @Setup
+  public void setup() {
+    actual = new LocalDateTime(2000, 12, 14, 22, 15, 15, 875);
+    before = actual.minusDays(1);
+    after = actual.plusDays(1);
+    same = new LocalDateTime(2000, 12, 14, 22, 15, 15, 875);
+    sameSecond = actual.withMillisOfSecond(0);
+    sameMinute = actual.withSecondOfMinute(0);
+    sameHour = actual.withMinuteOfHour(0);
+    sameDay = actual.withHourOfDay(0);
+    candidates = new LocalDateTime[] { before, after, same };
+    otherCandidates = new LocalDateTime[] { before, after, sameDay };
+    actualAsString = actual.toString();
+    beforeAsString = before.toString();
+    afterAsString = after.toString();
+    candidatesAsString = new String[] { beforeAsString, afterAsString, actualAsString };
+    otherCandidatesAsString = new String[] { beforeAsString, afterAsString };
+    candidatesSet = JodaTimeSet.of(candidates);
+    otherCandidatesSet = JodaTimeSet.of(otherCandidates);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert hasYear() {
+    return assertThat(actual).hasYear(2000);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert hasMonthOfYear() {
+    return assertThat(actual).hasMonthOfYear(12);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert hasDayOfMonth() {
+    return assertThat(actual).hasDayOfMonth(14);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert hasHourOfDay() {
+    return assertThat(actual).hasHourOfDay(22);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert hasMinuteOfHour() {
+    return assertThat(actual).hasMinuteOfHour(15);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert hasSecondOfMinute() {
+    return assertThat(actual).hasSecondOfMinute(15);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert hasMillisOfSecond() {
+    return assertThat(actual).hasMillisOfSecond(875);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isBefore() {
+    return assertThat(actual).isBefore(after);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isBefore_String() {
+    return assertThat(actual).isBefore(afterAsString);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isBeforeOrEqualTo() {
+    return assertThat(actual).isBeforeOrEqualTo(after);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isBeforeOrEqualTo_String() {
+    return assertThat(actual).isBeforeOrEqualTo(afterAsString);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isAfter() {
+    return assertThat(actual).isAfter(before);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isAfter_String() {
+    return assertThat(actual).isAfter(beforeAsString);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isAfterOrEqualTo() {
+    return assertThat(actual).isAfterOrEqualTo(before);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isAfterOrEqualTo_String() {
+    return assertThat(actual).isAfterOrEqualTo(beforeAsString);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isEqualTo() {
+    return assertThat(actual).isEqualTo(same);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isEqualTo_String() {
+    return assertThat(actual).isEqualTo(actualAsString);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isNotEqualTo() {
+    return assertThat(actual).isNotEqualTo(after);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isCloseTo() {
+    return assertThat(actual).isCloseTo(after, ONE_DAY_MILLIS);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isNotEqualTo_String() {
+    return assertThat(actual).isNotEqualTo(afterAsString);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isEqualToIgnoringMillis() {
+    return assertThat(actual).isEqualToIgnoringMillis(sameSecond);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isEqualToIgnoringSeconds() {
+    return assertThat(actual).isEqualToIgnoringSeconds(sameMinute);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isEqualToIgnoringMinutes() {
+    return assertThat(actual).isEqualToIgnoringMinutes(sameHour);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isEqualToIgnoringHours() {
+    return assertThat(actual).isEqualToIgnoringHours(sameDay);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isEqualToTruncatedTo() {
+    return assertThat(actual).isEqualToTruncatedTo(sameHour, DateTimeFieldType.hourOfDay());
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isIn() {
+    return assertThat(actual).isIn(candidates);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isIn_String() {
+    return assertThat(actual).isIn(candidatesAsString);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isNotIn() {
+    return assertThat(actual).isNotIn(otherCandidates);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isNotIn_String() {
+    return assertThat(actual).isNotIn(otherCandidatesAsString);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isIn_JodaTimeSet() {
+    return assertThat(actual).isIn(candidatesSet);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isNotIn_JodaTimeSet() {
+    return assertThat(actual).isNotIn(otherCandidatesSet);
+  }
+
+}
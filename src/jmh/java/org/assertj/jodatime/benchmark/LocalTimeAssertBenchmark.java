@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.Assertions.assertThatLocalTimes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.jodatime.api.LocalTimeAssert;
+import org.assertj.jodatime.api.LocalTimeIterableAssert;
+import org.joda.time.LocalTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the successful path of {@link LocalTimeAssert} and {@link LocalTimeIterableAssert} entry points, the
+ * collection benchmarks check one slot per minute of a day.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class LocalTimeAssertBenchmark {
+
+  private static final int MINUTES_PER_DAY = 24 * 60;
+
+  private LocalTime actual;
+  private LocalTime before;
+  private LocalTime after;
+  private LocalTime sameMinute;
+  private LocalTime tenPm;
+  private LocalTime twoAm;
+  private String afterAsString;
+  private List<LocalTime> slotsOfDay;
+
+  @Setup
+  public void setup() {
+    actual = new LocalTime(22, 15, 15, 875);
+    before = actual.minusHours(1);
+    after = actual.plusHours(1);
+    sameMinute = actual.withSecondOfMinute(0);
+    tenPm = new LocalTime(22, 0);
+    twoAm = new LocalTime(2, 0);
+    afterAsString = after.toString();
+    slotsOfDay = new ArrayList<>(MINUTES_PER_DAY);
+    for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+      slotsOfDay.add(LocalTime.MIDNIGHT.plusMinutes(minute));
+    }
+  }
+
+  @Benchmark
+  public LocalTimeAssert hasHourOfDay() {
+    return assertThat(actual).hasHourOfDay(22);
+  }
+
+  @Benchmark
+  public LocalTimeAssert isBefore() {
+    return assertThat(actual).isBefore(after);
+  }
+
+  @Benchmark
+  public LocalTimeAssert isBefore_String() {
+    return assertThat(actual).isBefore(afterAsString);
+  }
+
+  @Benchmark
+  public LocalTimeAssert isAfter() {
+    return assertThat(actual).isAfter(before);
+  }
+
+  @Benchmark
+  public LocalTimeAssert isBetween_crossing_midnight() {
+    return assertThat(actual).isBetween(tenPm, twoAm);
+  }
+
+  @Benchmark
+  public LocalTimeAssert isEqualToIgnoringSeconds() {
+    return assertThat(actual).isEqualToIgnoringSeconds(sameMinute);
+  }
+
+  @Benchmark
+  public LocalTimeIterableAssert isStrictlyIncreasing() {
+    return assertThatLocalTimes(slotsOfDay).isStrictlyIncreasing();
+  }
+
+  @Benchmark
+  public LocalTimeIterableAssert isWithin() {
+    return assertThatLocalTimes(slotsOfDay).isWithin(LocalTime.MIDNIGHT, LocalTime.MIDNIGHT.minusMillis(1));
+  }
+
+}
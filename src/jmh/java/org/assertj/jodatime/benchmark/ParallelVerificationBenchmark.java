@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.assertj.jodatime.api.Assertions.assertThatEpochMillis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.jodatime.api.DateTimeIterableAssert;
+import org.assertj.jodatime.api.EpochMillisArrayAssert;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Average time of sequential versus parallel verification of "all events are within the partition and sorted" on
+ * event logs of different sizes, both as epoch millis and as {@link DateTime}s.
+ * <p>
+ * The smallest size is under the sequential threshold, parallel and sequential should be on par.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class ParallelVerificationBenchmark {
+
+  @Param({ "10000", "1000000", "10000000" })
+  private int size;
+
+  private long[] epochMillis;
+  private List<DateTime> dateTimes;
+  private DateTime partitionStart;
+  private DateTime partitionEnd;
+
+  @Setup
+  public void setup() {
+    partitionStart = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.UTC);
+    partitionEnd = partitionStart.plusMillis(size * 100);
+    epochMillis = new long[size];
+    dateTimes = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      epochMillis[i] = partitionStart.getMillis() + i * 100L;
+      dateTimes.add(new DateTime(epochMillis[i], DateTimeZone.UTC));
+    }
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert epochMillis_sequential() {
+    return assertThatEpochMillis(epochMillis).isWithin(partitionStart, partitionEnd).isSorted();
+  }
+
+  @Benchmark
+  public EpochMillisArrayAssert epochMillis_parallel() {
+    return assertThatEpochMillis(epochMillis).inParallel().isWithin(partitionStart, partitionEnd).isSorted();
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert dateTimes_sequential() {
+    return assertThatDateTimes(dateTimes).isWithin(partitionStart, partitionEnd).isSorted();
+  }
+
+  @Benchmark
+  public DateTimeIterableAssert dateTimes_parallel() {
+    return assertThatDateTimes(dateTimes).inParallel().isWithin(partitionStart, partitionEnd).isSorted();
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.jodatime.api.JodaTimeRepresentation.JODA_TIME_REPRESENTATION;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeRepresentation;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the rendering of the values printed in error messages by {@link JodaTimeRepresentation} compared to
+ * AssertJ standard representation, {@code events} is a 10000 elements collection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class RepresentationBenchmark {
+
+  private DateTime dateTime;
+  private LocalDateTime localDateTime;
+  private LocalDate localDate;
+  private List<DateTime> events;
+
+  @Setup
+  public void setup() {
+    dateTime = new DateTime(2000, 12, 14, 22, 15, 15, 875, DateTimeZone.forID("Europe/Paris"));
+    localDateTime = dateTime.toLocalDateTime();
+    localDate = dateTime.toLocalDate();
+    events = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      events.add(dateTime.plusSeconds(i));
+    }
+  }
+
+  @Benchmark
+  public String dateTime_standard() {
+    return STANDARD_REPRESENTATION.toStringOf(dateTime);
+  }
+
+  @Benchmark
+  public String dateTime_jodaTime() {
+    return JODA_TIME_REPRESENTATION.toStringOf(dateTime);
+  }
+
+  @Benchmark
+  public String localDateTime_standard() {
+    return STANDARD_REPRESENTATION.toStringOf(localDateTime);
+  }
+
+  @Benchmark
+  public String localDateTime_jodaTime() {
+    return JODA_TIME_REPRESENTATION.toStringOf(localDateTime);
+  }
+
+  @Benchmark
+  public String localDate_standard() {
+    return STANDARD_REPRESENTATION.toStringOf(localDate);
+  }
+
+  @Benchmark
+  public String localDate_jodaTime() {
+    return JODA_TIME_REPRESENTATION.toStringOf(localDate);
+  }
+
+  @Benchmark
+  public String events_standard() {
+    return STANDARD_REPRESENTATION.toStringOf(events);
+  }
+
+  @Benchmark
+  public String events_jodaTime() {
+    return JODA_TIME_REPRESENTATION.toStringOf(events);
+  }
+
+}
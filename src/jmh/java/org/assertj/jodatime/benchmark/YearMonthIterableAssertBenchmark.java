@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.jodatime.api.Assertions.assertThatYearMonths;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.assertj.jodatime.api.YearMonthIterableAssert;
+import org.joda.time.LocalDate;
+import org.joda.time.YearMonth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the successful path of {@link YearMonthIterableAssert} assertions on shuffled monthly partition keys,
+ * compared to checking the same keys converted to {@link LocalDate}s in a {@code HashSet}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+public class YearMonthIterableAssertBenchmark {
+
+  @Param({ "1000", "100000" })
+  private int size;
+
+  private List<YearMonth> partitionKeys;
+  private List<YearMonth> retainedMonths;
+
+  @Setup
+  public void setup() {
+    YearMonth first = new YearMonth(1900, 1);
+    partitionKeys = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      partitionKeys.add(first.plusMonths(i));
+    }
+    retainedMonths = new ArrayList<>(partitionKeys);
+    Collections.shuffle(partitionKeys, new Random(42));
+  }
+
+  @Benchmark
+  public YearMonthIterableAssert isContiguous() {
+    return assertThatYearMonths(partitionKeys).isContiguous();
+  }
+
+  @Benchmark
+  public YearMonthIterableAssert hasNoDuplicates() {
+    return assertThatYearMonths(partitionKeys).hasNoDuplicates();
+  }
+
+  @Benchmark
+  public YearMonthIterableAssert isSubsetOf() {
+    return assertThatYearMonths(partitionKeys).isSubsetOf(retainedMonths);
+  }
+
+  @Benchmark
+  public boolean hasNoDuplicates_as_LocalDate_baseline() {
+    Set<LocalDate> distinct = new HashSet<>();
+    for (YearMonth partitionKey : partitionKeys) {
+      if (!distinct.add(partitionKey.toLocalDate(1))) return false;
+    }
+    return true;
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.core.error.ShouldBeIn.shouldBeIn;
+import static org.assertj.core.error.ShouldNotBeIn.shouldNotBeIn;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldBeAfter.shouldBeAfter;
+import static org.assertj.jodatime.error.ShouldBeAfterOrEqualsTo.shouldBeAfterOrEqualsTo;
+import static org.assertj.jodatime.error.ShouldBeBefore.shouldBeBefore;
+import static org.assertj.jodatime.error.ShouldBeBeforeOrEqualsTo.shouldBeBeforeOrEqualsTo;
+import static org.assertj.jodatime.error.ShouldBeCloseTo.shouldBeCloseTo;
+import static org.assertj.jodatime.internal.Instants.compareMillis;
+import static org.assertj.jodatime.internal.Instants.snapshotOf;
+import static org.assertj.jodatime.internal.Tolerances.distance;
+
+import org.assertj.core.api.AbstractAssert;
+import org.joda.time.ReadableInstant;
+
+/**
+ * Base class of the assertions for Joda {@link ReadableInstant} types, it holds the comparisons shared by
+ * {@link DateTimeAssert} and {@link InstantAssert} so that both have the same semantics.
+ * <p>
+ * Instants are compared by their epoch millis only, whatever their {@link org.joda.time.DateTimeZone DateTimeZone}
+ * and chronology, no object is created unless the assertion fails.
+ *
+ * @param <SELF> the "self" type of this assertion class.
+ * @param <ACTUAL> the type of the actual instant.
+ */
+public abstract class AbstractInstantAssert<SELF extends AbstractInstantAssert<SELF, ACTUAL>,
+                                            ACTUAL extends ReadableInstant>
+    extends AbstractAssert<SELF, ACTUAL> {
+
+  protected AbstractInstantAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Fails if actual is not strictly before other, both are expected not to be null.
+   *
+   * @param other the instant to compare actual to.
+   * @return this assertion object.
+   */
+  protected SELF assertIsBefore(ReadableInstant other) {
+    if (compareMillis(actual, other) >= 0)
+      throw lazyAssertionError(info, shouldBeBefore(snapshotOf(actual), snapshotOf(other)));
+    return myself;
+  }
+
+  /**
+   * Fails if actual is after other, both are expected not to be null.
+   *
+   * @param other the instant to compare actual to.
+   * @return this assertion object.
+   */
+  protected SELF assertIsBeforeOrEqualTo(ReadableInstant other) {
+    if (compareMillis(actual, other) > 0)
+      throw lazyAssertionError(info, shouldBeBeforeOrEqualsTo(snapshotOf(actual), snapshotOf(other)));
+    return myself;
+  }
+
+  /**
+   * Fails if actual is not strictly after other, both are expected not to be null.
+   *
+   * @param other the instant to compare actual to.
+   * @return this assertion object.
+   */
+  protected SELF assertIsAfter(ReadableInstant other) {
+    if (compareMillis(actual, other) <= 0)
+      throw lazyAssertionError(info, shouldBeAfter(snapshotOf(actual), snapshotOf(other)));
+    return myself;
+  }
+
+  /**
+   * Fails if actual is before other, both are expected not to be null.
+   *
+   * @param other the instant to compare actual to.
+   * @return this assertion object.
+   */
+  protected SELF assertIsAfterOrEqualTo(ReadableInstant other) {
+    if (compareMillis(actual, other) < 0)
+      throw lazyAssertionError(info, shouldBeAfterOrEqualsTo(snapshotOf(actual), snapshotOf(other)));
+    return myself;
+  }
+
+  /**
+   * Fails if actual is more than the given tolerance away from other, both are expected not to be null and the
+   * tolerance not to be negative.
+   *
+   * @param other the instant to compare actual to.
+   * @param toleranceMillis the maximum distance in millis between actual and other.
+   * @return this assertion object.
+   */
+  protected SELF assertIsCloseTo(ReadableInstant other, long toleranceMillis) {
+    long distance = distance(actual.getMillis(), other.getMillis());
+    if (distance > toleranceMillis) {
+      throw lazyAssertionError(info, shouldBeCloseTo(snapshotOf(actual), snapshotOf(other), toleranceMillis, distance));
+    }
+    return myself;
+  }
+
+  /**
+   * Fails if actual is null or if it is not in the given set, the set is expected not to be null.
+   *
+   * @param values the set to look actual in.
+   * @return this assertion object.
+   */
+  protected SELF assertIsIn(JodaTimeSet values) {
+    isNotNull();
+    if (!values.contains(actual)) throw lazyAssertionError(info, shouldBeIn(snapshotOf(actual), values));
+    return myself;
+  }
+
+  /**
+   * Fails if actual is null or if it is in the given set, the set is expected not to be null.
+   *
+   * @param values the set to look actual in.
+   * @return this assertion object.
+   */
+  protected SELF assertIsNotIn(JodaTimeSet values) {
+    isNotNull();
+    if (values.contains(actual)) throw lazyAssertionError(info, shouldNotBeIn(snapshotOf(actual), values));
+    return myself;
+  }
+}
@@ -12,9 +12,27 @@
  */
 package org.assertj.jodatime.api;
 
+import static java.util.Arrays.asList;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.assertj.jodatime.internal.Instants;
+import org.assertj.jodatime.internal.Parsing;
+import org.assertj.jodatime.internal.StackTraceCapture;
+import org.assertj.jodatime.internal.ZoneTransitions;
 import org.joda.time.DateTime;
+import org.joda.time.Instant;
 import org.joda.time.LocalDate;
 import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.MonthDay;
+import org.joda.time.ReadableDuration;
+import org.joda.time.ReadableInterval;
+import org.joda.time.ReadablePeriod;
+import org.joda.time.YearMonth;
 
 /**
  * The entry point for all Joda Time assertions.
@@ -36,6 +54,394 @@ public class Assertions {
     return new LocalDateAssert(LocalDateAssert.class, localDate);
   }
 
+  public static LocalTimeAssert assertThat(LocalTime localTime) {
+    return new LocalTimeAssert(LocalTimeAssert.class, localTime);
+  }
+
+  public static YearMonthAssert assertThat(YearMonth yearMonth) {
+    return new YearMonthAssert(YearMonthAssert.class, yearMonth);
+  }
+
+  public static MonthDayAssert assertThat(MonthDay monthDay) {
+    return new MonthDayAssert(MonthDayAssert.class, monthDay);
+  }
+
+  public static InstantAssert assertThat(Instant instant) {
+    return new InstantAssert(InstantAssert.class, instant);
+  }
+
+  public static IntervalAssert assertThat(ReadableInterval interval) {
+    return new IntervalAssert(IntervalAssert.class, interval);
+  }
+
+  public static DurationAssert assertThat(ReadableDuration duration) {
+    return new DurationAssert(DurationAssert.class, duration);
+  }
+
+  public static PeriodAssert assertThat(ReadablePeriod period) {
+    return new PeriodAssert(PeriodAssert.class, period);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DateTimeIterableAssert}</code>.
+   * <p>
+   * It is not named {@code assertThat} to avoid a clash with the {@code Iterable} and {@code List} overloads of
+   * {@code org.assertj.core.api.Assertions#assertThat}.
+   *
+   * @param dateTimes the actual {@link DateTime}s.
+   * @return the created assertion object.
+   */
+  public static DateTimeIterableAssert assertThatDateTimes(Iterable<? extends DateTime> dateTimes) {
+    return new DateTimeIterableAssert(DateTimeIterableAssert.class, dateTimes);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DateTimeIterableAssert}</code>, the array is not copied.
+   * <p>
+   * It is not named {@code assertThat} to avoid a clash with {@code org.assertj.core.api.Assertions#assertThat(T[])}.
+   *
+   * @param dateTimes the actual {@link DateTime}s.
+   * @return the created assertion object.
+   */
+  public static DateTimeIterableAssert assertThatDateTimes(DateTime[] dateTimes) {
+    return new DateTimeIterableAssert(DateTimeIterableAssert.class, dateTimes == null ? null : asList(dateTimes));
+  }
+
+  /**
+   * Creates a new instance of <code>{@link EpochMillisArrayAssert}</code> to verify instants given as milliseconds from
+   * 1970-01-01T00:00:00Z without converting them to {@link DateTime}s.
+   * <p>
+   * It is not named {@code assertThat} to avoid a clash with {@code org.assertj.core.api.Assertions#assertThat(long[])}.
+   *
+   * @param epochMillis the actual epoch millis.
+   * @return the created assertion object.
+   */
+  public static EpochMillisArrayAssert assertThatEpochMillis(long[] epochMillis) {
+    return new EpochMillisArrayAssert(EpochMillisArrayAssert.class, epochMillis);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link IntervalIterableAssert}</code>.
+   * <p>
+   * It is not named {@code assertThat} to avoid a clash with
+   * {@code org.assertj.core.api.Assertions#assertThat(Iterable)}.
+   *
+   * @param intervals the actual intervals.
+   * @return the created assertion object.
+   */
+  public static IntervalIterableAssert assertThatIntervals(Iterable<? extends ReadableInterval> intervals) {
+    return new IntervalIterableAssert(IntervalIterableAssert.class, intervals);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link IntervalIterableAssert}</code>.
+   *
+   * @param intervals the actual intervals.
+   * @return the created assertion object.
+   */
+  public static IntervalIterableAssert assertThatIntervals(ReadableInterval[] intervals) {
+    return new IntervalIterableAssert(IntervalIterableAssert.class, intervals == null ? null : asList(intervals));
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DurationIterableAssert}</code>.
+   * <p>
+   * It is not named {@code assertThat} to avoid a clash with
+   * {@code org.assertj.core.api.Assertions#assertThat(Iterable)}.
+   *
+   * @param durations the actual durations.
+   * @return the created assertion object.
+   */
+  public static DurationIterableAssert assertThatDurations(Iterable<? extends ReadableDuration> durations) {
+    return new DurationIterableAssert(DurationIterableAssert.class, durations);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DurationIterableAssert}</code>.
+   *
+   * @param durations the actual durations.
+   * @return the created assertion object.
+   */
+  public static DurationIterableAssert assertThatDurations(ReadableDuration[] durations) {
+    return new DurationIterableAssert(DurationIterableAssert.class, durations == null ? null : asList(durations));
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LocalTimeIterableAssert}</code>.
+   * <p>
+   * It is not named {@code assertThat} to avoid a clash with
+   * {@code org.assertj.core.api.Assertions#assertThat(Iterable)}.
+   *
+   * @param localTimes the actual local times.
+   * @return the created assertion object.
+   */
+  public static LocalTimeIterableAssert assertThatLocalTimes(Iterable<? extends LocalTime> localTimes) {
+    return new LocalTimeIterableAssert(LocalTimeIterableAssert.class, localTimes);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LocalTimeIterableAssert}</code>.
+   *
+   * @param localTimes the actual local times.
+   * @return the created assertion object.
+   */
+  public static LocalTimeIterableAssert assertThatLocalTimes(LocalTime[] localTimes) {
+    return new LocalTimeIterableAssert(LocalTimeIterableAssert.class, localTimes == null ? null : asList(localTimes));
+  }
+
+  /**
+   * Creates a new instance of <code>{@link YearMonthIterableAssert}</code>.
+   * <p>
+   * It is not named {@code assertThat} to avoid a clash with
+   * {@code org.assertj.core.api.Assertions#assertThat(Iterable)}.
+   *
+   * @param yearMonths the actual year months.
+   * @return the created assertion object.
+   */
+  public static YearMonthIterableAssert assertThatYearMonths(Iterable<? extends YearMonth> yearMonths) {
+    return new YearMonthIterableAssert(YearMonthIterableAssert.class, yearMonths);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link YearMonthIterableAssert}</code>.
+   *
+   * @param yearMonths the actual year months.
+   * @return the created assertion object.
+   */
+  public static YearMonthIterableAssert assertThatYearMonths(YearMonth[] yearMonths) {
+    return new YearMonthIterableAssert(YearMonthIterableAssert.class, yearMonths == null ? null : asList(yearMonths));
+  }
+
+  /**
+   * Creates a new instance of <code>{@link EventualDateTimeAssert}</code> polling the given supplier until the
+   * {@link DateTime} it returns satisfies the assertions or until a timeout elapses.
+   *
+   * @param dateTimeSupplier the supplier of the actual {@link DateTime}s.
+   * @return the created assertion object.
+   */
+  public static EventualDateTimeAssert assertThatEventually(Supplier<? extends DateTime> dateTimeSupplier) {
+    return new EventualDateTimeAssert(dateTimeSupplier);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link JodaStreamAssert}</code> for the given {@link DateTime}s.
+   * <p>
+   * The elements are consumed only once by {@link JodaStreamAssert#consume(JodaStreamCheck...)}.
+   *
+   * @param dateTimes the actual {@link DateTime}s.
+   * @return the created assertion object.
+   */
+  public static JodaStreamAssert<DateTime> assertThatDateTimeStream(Stream<? extends DateTime> dateTimes) {
+    return assertThatDateTimeStream(dateTimes == null ? null : dateTimes.iterator());
+  }
+
+  /**
+   * Same as {@link #assertThatDateTimeStream(Stream)} but with an {@link Iterator}.
+   *
+   * @param dateTimes the actual {@link DateTime}s.
+   * @return the created assertion object.
+   */
+  public static JodaStreamAssert<DateTime> assertThatDateTimeStream(Iterator<? extends DateTime> dateTimes) {
+    return new JodaStreamAssert<>(dateTimes, Instants::compareMillis);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link JodaStreamAssert}</code> for the given {@link LocalDateTime}s.
+   * <p>
+   * The elements are consumed only once by {@link JodaStreamAssert#consume(JodaStreamCheck...)}.
+   *
+   * @param actual the actual {@link LocalDateTime}s.
+   * @return the created assertion object.
+   */
+  public static JodaStreamAssert<LocalDateTime> assertThatLocalDateTimeStream(Stream<? extends LocalDateTime> actual) {
+    return assertThatLocalDateTimeStream(actual == null ? null : actual.iterator());
+  }
+
+  /**
+   * Same as {@link #assertThatLocalDateTimeStream(Stream)} but with an {@link Iterator}.
+   *
+   * @param actual the actual {@link LocalDateTime}s.
+   * @return the created assertion object.
+   */
+  public static JodaStreamAssert<LocalDateTime> assertThatLocalDateTimeStream(Iterator<? extends LocalDateTime> actual) {
+    return new JodaStreamAssert<>(actual, Comparator.<LocalDateTime> naturalOrder());
+  }
+
+  /**
+   * Creates a new instance of <code>{@link JodaStreamAssert}</code> for the given {@link LocalDate}s.
+   * <p>
+   * The elements are consumed only once by {@link JodaStreamAssert#consume(JodaStreamCheck...)}.
+   *
+   * @param localDates the actual {@link LocalDate}s.
+   * @return the created assertion object.
+   */
+  public static JodaStreamAssert<LocalDate> assertThatLocalDateStream(Stream<? extends LocalDate> localDates) {
+    return assertThatLocalDateStream(localDates == null ? null : localDates.iterator());
+  }
+
+  /**
+   * Same as {@link #assertThatLocalDateStream(Stream)} but with an {@link Iterator}.
+   *
+   * @param localDates the actual {@link LocalDate}s.
+   * @return the created assertion object.
+   */
+  public static JodaStreamAssert<LocalDate> assertThatLocalDateStream(Iterator<? extends LocalDate> localDates) {
+    return new JodaStreamAssert<>(localDates, Comparator.<LocalDate> naturalOrder());
+  }
+
+  /**
+   * Enables or disables the cache used to parse the String parameters of assertions like
+   * {@link DateTimeAssert#isBefore(String)} or {@link LocalDateAssert#isIn(String...)}, it is disabled by default.
+   * <p>
+   * Parsing is the most expensive part of the String based assertions, test suites reusing the same literals many times
+   * should enable it. The cache is thread safe and bounded (see {@link #setParseCacheMaxSize(int)}), disabling it
+   * clears it along with its statistics.
+   * <p>
+   * Example :
+   * <pre><code class='java'> Assertions.setParseCacheEnabled(true);
+   *
+   * // "2000-01-01T00:00:00" is parsed once
+   * assertThat(new DateTime("2000-01-01T00:00:00")).isEqualTo("2000-01-01T00:00:00");
+   * assertThat(new DateTime("2000-01-02T00:00:00")).isAfter("2000-01-01T00:00:00");</code></pre>
+   *
+   * @param enabled whether parsed values should be cached.
+   */
+  public static void setParseCacheEnabled(boolean enabled) {
+    Parsing.setCacheEnabled(enabled);
+  }
+
+  /**
+   * Sets the maximum number of parsed values kept by the parse cache, default is
+   * {@value org.assertj.jodatime.internal.Parsing#DEFAULT_CACHE_MAX_SIZE}.
+   * <p>
+   * When the cache is full, an arbitrary cached value is evicted to make room for the new one.
+   *
+   * @param maxSize the maximum number of cached values.
+   * @throws IllegalArgumentException if the given size is not strictly positive.
+   */
+  public static void setParseCacheMaxSize(int maxSize) {
+    Parsing.setCacheMaxSize(maxSize);
+  }
+
+  /**
+   * Returns the hit and miss counts of the parse cache since it was enabled or last cleared.
+   *
+   * @return a snapshot of the parse cache statistics.
+   */
+  public static ParseCacheStatistics parseCacheStatistics() {
+    return new ParseCacheStatistics(Parsing.cacheHits(), Parsing.cacheMisses(), Parsing.cacheSize(),
+                                    Parsing.cacheMaxSize());
+  }
+
+  /**
+   * Removes all the parse cache values and resets its statistics.
+   */
+  public static void clearParseCache() {
+    Parsing.clearCache();
+  }
+
+  /**
+   * Enables or disables the index of the zone offset transitions used by the field assertions of {@link DateTime}s in
+   * zones with daylight saving time (like {@link DateTimeAssert#hasHourOfDay(int)}) and by the DST gap and overlap
+   * assertions, it is disabled by default.
+   * <p>
+   * The offsets are then found by a binary search over an index built once per zone instead of being computed by the
+   * {@link org.joda.time.DateTimeZone DateTimeZone} for each assertion, test suites running many assertions on
+   * {@link DateTime}s of a few zones should enable it. The indexes are kept in a thread safe and bounded cache (see
+   * {@link #setZoneTransitionIndexMaxZones(int)}), disabling indexing clears it.
+   * <p>
+   * Example :
+   * <pre><code class='java'> Assertions.setZoneTransitionIndexEnabled(true);
+   *
+   * // the transitions of Europe/Paris are indexed once
+   * assertThat(new DateTime("2000-01-01T10:00:00", paris)).hasHourOfDay(10);
+   * assertThat(new DateTime("2000-07-01T10:00:00", paris)).hasHourOfDay(10);</code></pre>
+   *
+   * @param enabled whether zone offset transitions should be indexed.
+   */
+  public static void setZoneTransitionIndexEnabled(boolean enabled) {
+    ZoneTransitions.setIndexEnabled(enabled);
+  }
+
+  /**
+   * Sets the maximum number of zones whose offset transitions are kept indexed, default is
+   * {@value org.assertj.jodatime.internal.ZoneTransitions#DEFAULT_INDEX_MAX_ZONES}.
+   * <p>
+   * When the cache is full, an arbitrary index is evicted to make room for the new one.
+   *
+   * @param maxZones the maximum number of indexed zones.
+   * @throws IllegalArgumentException if the given number is not strictly positive.
+   */
+  public static void setZoneTransitionIndexMaxZones(int maxZones) {
+    ZoneTransitions.setIndexMaxZones(maxZones);
+  }
+
+  /**
+   * Enables or disables the capture of the stack trace of the errors thrown by failing Joda assertions, it is enabled by
+   * default.
+   * <p>
+   * Capturing the stack trace is the most expensive part of a failing assertion whose message is not read, test suites
+   * triggering failures on purpose in bulk (e.g. property based negative tests) should disable it. The failures of
+   * {@code isNotNull()} and of the other assertions inherited from AssertJ core are not concerned.
+   * <p>
+   * Example :
+   * <pre><code class='java'> Assertions.setStackTracesEnabled(false);
+   *
+   * // the caught error has an empty stack trace
+   * try {
+   *   assertThat(new DateTime("2000-01-01T00:00:00")).isAfter("2000-01-02T00:00:00");
+   * } catch (AssertionError e) {
+   *   // expected
+   * }</code></pre>
+   *
+   * @param enabled whether the errors should capture their stack trace.
+   */
+  public static void setStackTracesEnabled(boolean enabled) {
+    StackTraceCapture.setEnabled(enabled);
+  }
+
+  /**
+   * Sets the maximum number of stack trace elements kept by the errors thrown by failing Joda assertions, the other
+   * ones are dropped once the AssertJ elements are removed, default is unlimited.
+   * <p>
+   * The stack trace is still captured entirely, truncating it reduces the memory retained by the errors and the size
+   * of the reports, use {@link #setStackTracesEnabled(boolean)} to save its capture.
+   *
+   * @param maxDepth the maximum number of stack trace elements kept.
+   * @throws IllegalArgumentException if the given depth is not strictly positive.
+   */
+  public static void setStackTraceMaxDepth(int maxDepth) {
+    StackTraceCapture.setMaxDepth(maxDepth);
+  }
+
+  /**
+   * Registers {@link JodaTimeRepresentation#JODA_TIME_REPRESENTATION} as the representation of the values printed in
+   * the error messages of all the following assertions, Joda and AssertJ core ones.
+   * <p>
+   * Joda values are then printed with formatters built once and large collections and arrays are truncated to their
+   * first {@value JodaTimeRepresentation#DEFAULT_MAX_ELEMENTS_FOR_PRINTING} elements. To use another maximum, register
+   * a new {@link JodaTimeRepresentation} with {@code org.assertj.core.api.Assertions.useRepresentation}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> Assertions.useJodaTimeRepresentation();
+   *
+   * // the error message only prints the first 100 DateTimes
+   * assertThat(oneYearOfEventDates).isStrictlyIncreasing();
+   *
+   * // back to the AssertJ representation
+   * Assertions.useDefaultRepresentation();</code></pre>
+   */
+  public static void useJodaTimeRepresentation() {
+    org.assertj.core.api.Assertions.useRepresentation(JodaTimeRepresentation.JODA_TIME_REPRESENTATION);
+  }
+
+  /**
+   * Registers back the AssertJ default representation for all the following assertions.
+   */
+  public static void useDefaultRepresentation() {
+    org.assertj.core.api.Assertions.useDefaultRepresentation();
+  }
+
   /** Creates a new <code>{@link Assertions}</code>. */
   protected Assertions() {
     // empty
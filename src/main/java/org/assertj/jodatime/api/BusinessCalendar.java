@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static java.util.Arrays.asList;
+import static org.assertj.jodatime.internal.LocalMillis.localMillisOf;
+import static org.joda.time.DateTimeConstants.MONDAY;
+import static org.joda.time.DateTimeConstants.SATURDAY;
+import static org.joda.time.DateTimeConstants.SUNDAY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.jodatime.internal.BusinessDays;
+import org.joda.time.LocalDate;
+
+/**
+ * Immutable calendar of business days, a day being a business day if it is neither a weekend day nor a holiday, used by
+ * the business day assertions of {@link LocalDateAssert}.
+ * <p>
+ * Business days are stored as one bitset per year indexed by day of year, so checking a day is an array lookup and the
+ * number of business days between two dates is counted a word of 64 days at a time. Calendars are meant to be built
+ * once and reused by many assertions.
+ * <p>
+ * Days are located in the ISO calendar whatever the chronology of the {@link LocalDate}s.
+ * <p>
+ * Example :
+ * <pre><code class='java'> // built once
+ * BusinessCalendar target2 = BusinessCalendar.withHolidays(new LocalDate(2018, 1, 1), new LocalDate(2018, 3, 30),
+ *                                                          new LocalDate(2018, 4, 2), new LocalDate(2018, 5, 1),
+ *                                                          new LocalDate(2018, 12, 25), new LocalDate(2018, 12, 26));
+ *
+ * // reused by many assertions
+ * assertThat(settlementDate).usingBusinessCalendar(target2)
+ *                           .isBusinessDay()
+ *                           .isNthBusinessDayAfter(2, tradeDate);</code></pre>
+ */
+public final class BusinessCalendar {
+
+  /**
+   * Calendar without holidays whose weekend days are Saturday and Sunday.
+   */
+  public static final BusinessCalendar MONDAY_TO_FRIDAY = new BusinessCalendar(new int[] { SATURDAY, SUNDAY },
+                                                                               new ArrayList<>());
+
+  private final int[] weekendDaysOfWeek;
+  private final List<LocalDate> holidays;
+  private final BusinessDays businessDays;
+
+  /**
+   * Creates a calendar whose weekend days are Saturday and Sunday with the given holidays.
+   *
+   * @param holidays the holidays of the calendar.
+   * @return the created calendar.
+   * @throws IllegalArgumentException if the given array or one of its values is {@code null}.
+   */
+  public static BusinessCalendar withHolidays(LocalDate... holidays) {
+    checkHolidaysNotNull(holidays);
+    return withHolidays(asList(holidays));
+  }
+
+  /**
+   * Same as {@link #withHolidays(LocalDate...)} but with an {@link Iterable}.
+   *
+   * @param holidays the holidays of the calendar.
+   * @return the created calendar.
+   * @throws IllegalArgumentException if the given {@code Iterable} or one of its values is {@code null}.
+   */
+  public static BusinessCalendar withHolidays(Iterable<LocalDate> holidays) {
+    checkHolidaysNotNull(holidays);
+    List<LocalDate> holidaysCopy = new ArrayList<>();
+    for (LocalDate holiday : holidays) {
+      if (holiday == null) throw new IllegalArgumentException("The holidays should not contain null values");
+      holidaysCopy.add(holiday);
+    }
+    return new BusinessCalendar(MONDAY_TO_FRIDAY.weekendDaysOfWeek, holidaysCopy);
+  }
+
+  /**
+   * Returns a copy of this calendar with the given weekend days instead of this calendar ones, the holidays are kept.
+   * <p>
+   * Example :
+   * <pre><code class='java'> BusinessCalendar sundayToThursday = BusinessCalendar.MONDAY_TO_FRIDAY.withWeekendDays(FRIDAY, SATURDAY);</code></pre>
+   *
+   * @param daysOfWeek the weekend days as {@link org.joda.time.DateTimeConstants DateTimeConstants} days of week
+   *          ({@code MONDAY} to {@code SUNDAY}), may be empty.
+   * @return the calendar with the given weekend days.
+   * @throws IllegalArgumentException if the given array is {@code null} or one of its values is not a day of week.
+   */
+  public BusinessCalendar withWeekendDays(int... daysOfWeek) {
+    if (daysOfWeek == null) throw new IllegalArgumentException("The weekend days should not be null");
+    for (int dayOfWeek : daysOfWeek) {
+      if (dayOfWeek < MONDAY || dayOfWeek > SUNDAY)
+        throw new IllegalArgumentException("The weekend days should be days of week from 1 (Monday) to 7 (Sunday) but "
+                                           + dayOfWeek + " was not");
+    }
+    return new BusinessCalendar(daysOfWeek.clone(), holidays);
+  }
+
+  private BusinessCalendar(int[] weekendDaysOfWeek, List<LocalDate> holidays) {
+    this.weekendDaysOfWeek = weekendDaysOfWeek;
+    this.holidays = holidays;
+    long[] holidaysLocalMillis = new long[holidays.size()];
+    for (int i = 0; i < holidaysLocalMillis.length; i++) {
+      holidaysLocalMillis[i] = localMillisOf(holidays.get(i));
+    }
+    businessDays = new BusinessDays(weekendDaysOfWeek, holidaysLocalMillis);
+  }
+
+  /**
+   * @param date the date to check. expected not be null
+   * @return true if the given date is neither a weekend day nor a holiday.
+   */
+  public boolean isBusinessDay(LocalDate date) {
+    return businessDays.isBusinessDay(localMillisOf(date));
+  }
+
+  /**
+   * @param date the date to check. expected not be null
+   * @return true if the given date is a holiday of this calendar, whether it is a weekend day or not.
+   */
+  public boolean isHoliday(LocalDate date) {
+    return businessDays.isHoliday(localMillisOf(date));
+  }
+
+  /**
+   * @param date the date to check. expected not be null
+   * @return true if the given date is a weekend day of this calendar.
+   */
+  public boolean isWeekendDay(LocalDate date) {
+    return businessDays.isWeekendDay(localMillisOf(date));
+  }
+
+  /**
+   * Returns the number of business days after the start date up to the end date included, e.g. the number of business
+   * days from a Friday to the next Monday is 1 in the {@link #MONDAY_TO_FRIDAY} calendar.
+   *
+   * @param start the start date, excluded from the count. expected not be null
+   * @param end the end date, included in the count. expected not be null
+   * @return the number of business days in ]start, end], 0 if end is not after start.
+   */
+  public long businessDaysBetween(LocalDate start, LocalDate end) {
+    long startLocalMillis = localMillisOf(start);
+    long endLocalMillis = localMillisOf(end);
+    return endLocalMillis > startLocalMillis ? businessDays.countBetween(startLocalMillis, endLocalMillis) : 0;
+  }
+
+  @Override
+  public String toString() {
+    return "BusinessCalendar[weekend days=" + Arrays.toString(weekendDaysOfWeek) + ", " + holidays.size()
+           + " holidays]";
+  }
+
+  private static void checkHolidaysNotNull(Object holidays) {
+    if (holidays == null) throw new IllegalArgumentException("The holidays should not be null");
+  }
+}
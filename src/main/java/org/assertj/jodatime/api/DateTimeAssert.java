@@ -12,14 +12,13 @@
  */
 package org.assertj.jodatime.api;
 
-import static org.assertj.jodatime.error.ShouldBeAfter.shouldBeAfter;
-import static org.assertj.jodatime.error.ShouldBeAfterOrEqualsTo.shouldBeAfterOrEqualsTo;
-import static org.assertj.jodatime.error.ShouldBeBefore.shouldBeBefore;
-import static org.assertj.jodatime.error.ShouldBeBeforeOrEqualsTo.shouldBeBeforeOrEqualsTo;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
 import static org.assertj.jodatime.error.ShouldBeEqualIgnoringHours.shouldBeEqualIgnoringHours;
 import static org.assertj.jodatime.error.ShouldBeEqualIgnoringMillis.shouldBeEqualIgnoringMillis;
 import static org.assertj.jodatime.error.ShouldBeEqualIgnoringMinutes.shouldBeEqualIgnoringMinutes;
 import static org.assertj.jodatime.error.ShouldBeEqualIgnoringSeconds.shouldBeEqualIgnoringSeconds;
+import static org.assertj.jodatime.error.ShouldBeEqualTruncatedTo.shouldBeEqualTruncatedTo;
+import static org.assertj.jodatime.error.ShouldBeInDstShift.shouldBeInDstOverlap;
 import static org.assertj.jodatime.error.ShouldHaveDayOfMonthEqualTo.shouldHaveDayOfMonthEqualTo;
 import static org.assertj.jodatime.error.ShouldHaveHourOfDayEqualTo.shouldHaveHoursEqualTo;
 import static org.assertj.jodatime.error.ShouldHaveMillisOfSecondEqualTo.shouldHaveMillisOfSecondEqualTo;
@@ -27,11 +26,26 @@ import static org.assertj.jodatime.error.ShouldHaveMinuteOfHourEqualTo.shouldHav
 import static org.assertj.jodatime.error.ShouldHaveMonthOfYearEqualTo.shouldHaveMonthOfYearEqualTo;
 import static org.assertj.jodatime.error.ShouldHaveSecondOfMinuteEqualTo.shouldHaveSecondOfMinuteEqualTo;
 import static org.assertj.jodatime.error.ShouldHaveYearEqualTo.shouldHaveYearEqualTo;
-
-import org.assertj.core.api.AbstractAssert;
-import org.assertj.core.internal.Failures;
+import static org.assertj.jodatime.internal.Instants.areEqualInZoneOf;
+import static org.assertj.jodatime.internal.LocalMillis.fieldValueOf;
+import static org.assertj.jodatime.internal.LocalMillis.localMillisOf;
+import static org.assertj.jodatime.internal.Parsing.parseDateTime;
+import static org.assertj.jodatime.internal.Tolerances.checkTolerance;
+import static org.assertj.jodatime.internal.Tolerances.toleranceMillisOf;
+import static org.assertj.jodatime.internal.Truncations.areEqualTruncatedTo;
+import static org.joda.time.DateTimeFieldType.dayOfMonth;
+import static org.joda.time.DateTimeFieldType.hourOfDay;
+import static org.joda.time.DateTimeFieldType.millisOfSecond;
+import static org.joda.time.DateTimeFieldType.minuteOfHour;
+import static org.joda.time.DateTimeFieldType.monthOfYear;
+import static org.joda.time.DateTimeFieldType.secondOfMinute;
+import static org.joda.time.DateTimeFieldType.year;
+
+import org.assertj.jodatime.internal.ZoneTransitions;
 import org.joda.time.DateTime;
+import org.joda.time.DateTimeFieldType;
 import org.joda.time.DateTimeZone;
+import org.joda.time.ReadableDuration;
 
 /**
  * Assertions fot Joda {@link DateTime} type.
@@ -40,7 +54,7 @@ import org.joda.time.DateTimeZone;
  * @author Joel Costigliola
  * @author John Killmer
  */
-public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
+public class DateTimeAssert extends AbstractInstantAssert<DateTimeAssert, DateTime> {
 
   public static final String NULL_DATE_TIME_PARAMETER_MESSAGE = "The DateTime to compare actual with should not be null";
 
@@ -72,7 +86,9 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert hasYear(int expectedYear){
     isNotNull();
-    if (actual.getYear() != expectedYear) throw Failures.instance().failure(info, shouldHaveYearEqualTo(actual, actual.getYear(), expectedYear));
+    int actualYear = fieldValueOf(actual, year());
+    if (actualYear != expectedYear)
+      throw lazyAssertionError(info, shouldHaveYearEqualTo(actual, actualYear, expectedYear));
     return this;
   }
 
@@ -89,7 +105,9 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert hasMonthOfYear(int expectedMonthOfYear){
     isNotNull();
-    if (actual.getMonthOfYear() != expectedMonthOfYear) throw Failures.instance().failure(info, shouldHaveMonthOfYearEqualTo(actual, actual.getMonthOfYear(), expectedMonthOfYear));
+    int actualMonthOfYear = fieldValueOf(actual, monthOfYear());
+    if (actualMonthOfYear != expectedMonthOfYear)
+      throw lazyAssertionError(info, shouldHaveMonthOfYearEqualTo(actual, actualMonthOfYear, expectedMonthOfYear));
     return this;
   }
 
@@ -106,7 +124,9 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert hasDayOfMonth(int expectedDayOfMonth){
     isNotNull();
-    if (actual.getDayOfMonth() != expectedDayOfMonth) throw Failures.instance().failure(info, shouldHaveDayOfMonthEqualTo(actual, actual.getDayOfMonth(), expectedDayOfMonth));
+    int actualDayOfMonth = fieldValueOf(actual, dayOfMonth());
+    if (actualDayOfMonth != expectedDayOfMonth)
+      throw lazyAssertionError(info, shouldHaveDayOfMonthEqualTo(actual, actualDayOfMonth, expectedDayOfMonth));
     return this;
   }
 
@@ -123,7 +143,9 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert hasHourOfDay(int expectedHourOfDay){
     isNotNull();
-    if (actual.getHourOfDay() != expectedHourOfDay) throw Failures.instance().failure(info, shouldHaveHoursEqualTo(actual, actual.getHourOfDay(), expectedHourOfDay));
+    int actualHourOfDay = fieldValueOf(actual, hourOfDay());
+    if (actualHourOfDay != expectedHourOfDay)
+      throw lazyAssertionError(info, shouldHaveHoursEqualTo(actual, actualHourOfDay, expectedHourOfDay));
     return this;
   }
 
@@ -140,7 +162,9 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert hasMinuteOfHour(int expectedMinuteOfHour){
     isNotNull();
-    if (actual.getMinuteOfHour() != expectedMinuteOfHour) throw Failures.instance().failure(info, shouldHaveMinuteOfHourEqualTo(actual, actual.getMinuteOfHour(), expectedMinuteOfHour));
+    int actualMinuteOfHour = fieldValueOf(actual, minuteOfHour());
+    if (actualMinuteOfHour != expectedMinuteOfHour)
+      throw lazyAssertionError(info, shouldHaveMinuteOfHourEqualTo(actual, actualMinuteOfHour, expectedMinuteOfHour));
     return this;
   }
 
@@ -157,7 +181,10 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert hasSecondOfMinute(int expectedSecondOfMinute){
     isNotNull();
-    if (actual.getSecondOfMinute() != expectedSecondOfMinute) throw Failures.instance().failure(info, shouldHaveSecondOfMinuteEqualTo(actual, actual.getSecondOfMinute(), expectedSecondOfMinute));
+    int actualSecondOfMinute = fieldValueOf(actual, secondOfMinute());
+    if (actualSecondOfMinute != expectedSecondOfMinute)
+      throw lazyAssertionError(info, shouldHaveSecondOfMinuteEqualTo(actual, actualSecondOfMinute,
+                                                                     expectedSecondOfMinute));
     return this;
   }
 
@@ -174,7 +201,10 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert hasMillisOfSecond(int expectedMillisOfSecond){
     isNotNull();
-    if (actual.getMillisOfSecond() != expectedMillisOfSecond) throw Failures.instance().failure(info, shouldHaveMillisOfSecondEqualTo(actual, actual.getMillisOfSecond(), expectedMillisOfSecond));
+    int actualMillisOfSecond = fieldValueOf(actual, millisOfSecond());
+    if (actualMillisOfSecond != expectedMillisOfSecond)
+      throw lazyAssertionError(info, shouldHaveMillisOfSecondEqualTo(actual, actualMillisOfSecond,
+                                                                     expectedMillisOfSecond));
     return this;
   }
 
@@ -193,8 +223,7 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isBefore(DateTime other) {
     isNotNull();
     assertDateTimeParameterIsNotNull(other);
-    if (!actual.isBefore(other)) throw Failures.instance().failure(info, shouldBeBefore(actual, other));
-    return this;
+    return assertIsBefore(other);
   }
 
   /**
@@ -220,7 +249,7 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isBefore(String dateTimeAsString) {
     isNotNull();
     assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isBefore(new DateTime(dateTimeAsString, actual.getZone()));
+    return isBefore(parseDateTime(dateTimeAsString, actual.getZone()));
   }
 
   /**
@@ -246,10 +275,7 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
     if (actual == other) return this;
     isNotNull();
     assertDateTimeParameterIsNotNull(other);
-    if (actual.isAfter(other)) {
-      throw Failures.instance().failure(info, shouldBeBeforeOrEqualsTo(actual, other));
-    }
-    return this;
+    return assertIsBeforeOrEqualTo(other);
   }
 
   /**
@@ -276,7 +302,7 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isBeforeOrEqualTo(String dateTimeAsString) {
     isNotNull();
     assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isBeforeOrEqualTo(new DateTime(dateTimeAsString, actual.getZone()));
+    return isBeforeOrEqualTo(parseDateTime(dateTimeAsString, actual.getZone()));
   }
 
   /**
@@ -303,8 +329,7 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
     if (actual == other) return this;
     isNotNull();
     assertDateTimeParameterIsNotNull(other);
-    if (actual.isBefore(other)) throw Failures.instance().failure(info, shouldBeAfterOrEqualsTo(actual, other));
-    return this;
+    return assertIsAfterOrEqualTo(other);
   }
 
   /**
@@ -331,7 +356,7 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isAfterOrEqualTo(String dateTimeAsString) {
     isNotNull();
     assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isAfterOrEqualTo(new DateTime(dateTimeAsString, actual.getZone()));
+    return isAfterOrEqualTo(parseDateTime(dateTimeAsString, actual.getZone()));
   }
 
   /**
@@ -349,8 +374,7 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isAfter(DateTime other) {
     isNotNull();
     assertDateTimeParameterIsNotNull(other);
-    if (!actual.isAfter(other)) throw Failures.instance().failure(info, shouldBeAfter(actual, other));
-    return this;
+    return assertIsAfter(other);
   }
 
   /**
@@ -375,7 +399,7 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isAfter(String dateTimeAsString) {
     isNotNull();
     assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isAfter(new DateTime(dateTimeAsString, actual.getZone()));
+    return isAfter(parseDateTime(dateTimeAsString, actual.getZone()));
   }
 
   /**
@@ -410,8 +434,8 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isEqualToIgnoringMillis(DateTime other) {
     isNotNull();
     assertDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringMillis(actual, other.toDateTime(actual.getZone()))) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringMillis(actual, other));
+    if (!areEqualTruncatedTo(actual, other, secondOfMinute())) {
+      throw lazyAssertionError(info, shouldBeEqualIgnoringMillis(actual, other));
     }
     return this;
   }
@@ -448,8 +472,8 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isEqualToIgnoringSeconds(DateTime other) {
     isNotNull();
     assertDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringSeconds(actual, other.toDateTime(actual.getZone()))) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringSeconds(actual, other));
+    if (!areEqualTruncatedTo(actual, other, minuteOfHour())) {
+      throw lazyAssertionError(info, shouldBeEqualIgnoringSeconds(actual, other));
     }
     return this;
   }
@@ -487,8 +511,8 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isEqualToIgnoringMinutes(DateTime other) {
     isNotNull();
     assertDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringMinutes(actual, other.toDateTime(actual.getZone()))) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringMinutes(actual, other));
+    if (!areEqualTruncatedTo(actual, other, hourOfDay())) {
+      throw lazyAssertionError(info, shouldBeEqualIgnoringMinutes(actual, other));
     }
     return this;
   }
@@ -525,8 +549,74 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isEqualToIgnoringHours(DateTime other) {
     isNotNull();
     assertDateTimeParameterIsNotNull(other);
-    if (!haveSameYearMonthAndDayOfMonth(actual, other.toDateTime(actual.getZone()))) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringHours(actual, other));
+    if (!areEqualTruncatedTo(actual, other, dayOfMonth())) {
+      throw lazyAssertionError(info, shouldBeEqualIgnoringHours(actual, other));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that actual and given {@code DateTime} have same fields down to the given {@link DateTimeFieldType}
+   * included, all the smaller fields are ignored in comparison. For example truncating to
+   * {@link DateTimeFieldType#hourOfDay()} is equivalent to {@link #isEqualToIgnoringMinutes(DateTime)} and truncating to
+   * {@link DateTimeFieldType#monthOfYear()} only compares the year and month fields.
+   * <p>
+   * Note that given {@link DateTime} is converted in actual's {@link DateTimeZone} before comparison.
+   * <p>
+   * Like the other isEqualToIgnoringXxx assertions, this is a fields comparison and not a time difference one, e.g
+   * 2000-01-01T<b>01:00</b>:00.000 and 2000-01-01T<b>00:59</b>:59.999 are not equal once truncated to the hour.
+   * <p>
+   * Code example :
+   * <pre><code class='java'> // successfull assertions
+   * DateTime dateTime1 = new DateTime(2000, 1, 10, 23, 50, 0, 0);
+   * DateTime dateTime2 = new DateTime(2000, 1, 31, 00, 00, 2, 7);
+   * assertThat(dateTime1).isEqualToTruncatedTo(dateTime2, DateTimeFieldType.monthOfYear());
+   *
+   * // failing assertions
+   * assertThat(dateTime1).isEqualToTruncatedTo(dateTime2, DateTimeFieldType.dayOfMonth());</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @param fieldType the smallest field to compare.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code DateTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code DateTimeFieldType} is {@code null}.
+   * @throws AssertionError if the actual {@code DateTime} is not equal to the given one once both are truncated to the
+   *           given field.
+   */
+  public DateTimeAssert isEqualToTruncatedTo(DateTime other, DateTimeFieldType fieldType) {
+    isNotNull();
+    assertDateTimeParameterIsNotNull(other);
+    if (fieldType == null) throw new IllegalArgumentException("The DateTimeFieldType to truncate to should not be null");
+    if (!areEqualTruncatedTo(actual, other, fieldType)) {
+      throw lazyAssertionError(info, shouldBeEqualTruncatedTo(actual, other, fieldType));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the local time of the actual {@code DateTime} is ambiguous in its {@link DateTimeZone} because it is
+   * in an overlap, i.e. it happens twice when the offset of the zone decreases like when daylight saving time ends.
+   * <p>
+   * The transitions of the zone are looked up in the zone itself unless they are indexed, see
+   * {@link Assertions#setZoneTransitionIndexEnabled(boolean)}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // clocks go from 03:00 back to 02:00 on 2018-10-28 in Paris,
+   * // 02:30 happens at 00:30Z and 01:30Z
+   * DateTimeZone paris = DateTimeZone.forID(&quot;Europe/Paris&quot;);
+   * assertThat(new DateTime(&quot;2018-10-28T00:30Z&quot;, paris)).isInDstOverlap();
+   * assertThat(new DateTime(&quot;2018-10-28T01:30Z&quot;, paris)).isInDstOverlap();</code></pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code DateTime} is {@code null}.
+   * @throws AssertionError if the local time of the actual {@code DateTime} is not in an overlap of its zone.
+   */
+  public DateTimeAssert isInDstOverlap() {
+    isNotNull();
+    DateTimeZone zone = actual.getZone();
+    if (!ZoneTransitions.isInOverlap(zone, localMillisOf(zone, actual.getMillis()))) {
+      throw lazyAssertionError(info, shouldBeInDstOverlap(actual, zone));
     }
     return this;
   }
@@ -552,6 +642,8 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
   public DateTimeAssert isEqualTo(DateTime expected) {
     if (actual == expected) return this;
     isNotNull();
+    if (expected != null && areEqualInZoneOf(actual, expected)) return this;
+    // expected converted in actual's DateTimeZone is only needed to report the failure
     return super.isEqualTo(new DateTime(expected, actual.getZone()));
   }
 
@@ -576,7 +668,7 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert isEqualTo(String dateTimeAsString) {
     assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isEqualTo(new DateTime(dateTimeAsString));
+    return isEqualTo(parseDateTime(dateTimeAsString));
   }
 
   /**
@@ -592,8 +684,9 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert isNotEqualTo(DateTime expected) {
     // if actual is null, we don't really care about DateTimeZone
-    DateTime other = actual == null ? expected : new DateTime(expected, actual.getZone());
-    return super.isNotEqualTo(other);
+    if (actual == null) return super.isNotEqualTo(expected);
+    if (expected != null && !areEqualInZoneOf(actual, expected)) return this;
+    return super.isNotEqualTo(new DateTime(expected, actual.getZone()));
   }
 
   /**
@@ -617,7 +710,55 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert isNotEqualTo(String dateTimeAsString) {
     assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isNotEqualTo(new DateTime(dateTimeAsString));
+    return isNotEqualTo(parseDateTime(dateTimeAsString));
+  }
+
+  /**
+   * Verifies that the actual {@code DateTime} is close to the given one within the given tolerance in milliseconds,
+   * bounds included.
+   * <p>
+   * Contrary to field based assertions like {@code isEqualToIgnoringSeconds}, values on both sides of a field boundary
+   * are close: the distance between both epoch millis is computed with a single subtraction.
+   * <p>
+   * As with {@link #isBefore(DateTime)}, both {@code DateTime}s are compared as instants whatever their time zone.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion succeeds
+   * assertThat(new DateTime(&quot;2000-01-01T10:00:59.999Z&quot;)).isCloseTo(new DateTime(&quot;2000-01-01T10:01:00.000Z&quot;), 1);
+   *
+   * // assertion fails
+   * assertThat(new DateTime(&quot;2000-01-01T10:00:59.999Z&quot;)).isCloseTo(new DateTime(&quot;2000-01-01T10:01:00.001Z&quot;), 1);</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @param toleranceMillis the maximum distance in milliseconds between the actual {@code DateTime} and the given one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code DateTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} is {@code null} or if the tolerance is negative.
+   * @throws AssertionError if the actual {@code DateTime} is not close to the given one within the given tolerance.
+   */
+  public DateTimeAssert isCloseTo(DateTime other, long toleranceMillis) {
+    isNotNull();
+    assertDateTimeParameterIsNotNull(other);
+    checkTolerance(toleranceMillis);
+    return assertIsCloseTo(other, toleranceMillis);
+  }
+
+  /**
+   * Same assertion as {@link #isCloseTo(DateTime, long)} but the tolerance is given as a {@link ReadableDuration}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new DateTime(&quot;2000-01-01T10:00:59.999Z&quot;)).isCloseTo(new DateTime(&quot;2000-01-01T10:01:00.000Z&quot;), Duration.millis(1));</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @param tolerance the maximum distance between the actual {@code DateTime} and the given one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code DateTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} or the tolerance is {@code null} or if the tolerance is
+   *           negative.
+   * @throws AssertionError if the actual {@code DateTime} is not close to the given one within the given tolerance.
+   */
+  public DateTimeAssert isCloseTo(DateTime other, ReadableDuration tolerance) {
+    return isCloseTo(other, toleranceMillisOf(tolerance));
   }
 
   /**
@@ -634,6 +775,8 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert isIn(DateTime... expected) {
     checkIsNotNullAndNotEmpty(expected);
+    if (actual != null && containsInActualTimeZone(expected)) return this;
+    // expected converted in actual's DateTimeZone are only needed to report the failure
     return super.isIn((Object[]) changeToActualTimeZone(expected));
   }
 
@@ -675,6 +818,7 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
    */
   public DateTimeAssert isNotIn(DateTime... expected) {
     checkIsNotNullAndNotEmpty(expected);
+    if (actual != null && !containsInActualTimeZone(expected)) return this;
     return super.isNotIn((Object[]) changeToActualTimeZone(expected));
   }
 
@@ -702,16 +846,65 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
     return isNotIn(convertToDateTimeArray(dateTimesAsString));
   }
 
+  /**
+   * Verifies that the actual {@link DateTime} is in the given {@link JodaTimeSet}, this check is a constant time lookup
+   * which makes it suitable to verify many values against a large set of candidates built once.
+   * <p>
+   * Note that the values are compared by same instant (epoch millis), whatever their {@link DateTimeZone} and chronology, see {@link JodaTimeSet}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> JodaTimeSet candidates = JodaTimeSet.of(new DateTime(&quot;1999-12-31&quot;), new DateTime(&quot;2000-01-01&quot;));
+   * assertThat(new DateTime(&quot;2000-01-01&quot;)).isIn(candidates);</code></pre>
+   *
+   * @param values the {@link JodaTimeSet} to look the actual value in.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code DateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given {@link JodaTimeSet} is {@code null} or does not contain {@link DateTime}s.
+   * @throws AssertionError if the actual {@code DateTime} is not in the given {@link JodaTimeSet}.
+   */
+  public DateTimeAssert isIn(JodaTimeSet values) {
+    checkJodaTimeSetIsNotNull(values);
+    return assertIsIn(values);
+  }
+
+  /**
+   * Verifies that the actual {@link DateTime} is not in the given {@link JodaTimeSet}, this check is a constant time
+   * lookup which makes it suitable to verify many values against a large set of candidates built once.
+   * <p>
+   * Note that the values are compared by same instant (epoch millis), whatever their {@link DateTimeZone} and chronology, see {@link JodaTimeSet}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> JodaTimeSet forbiddenValues = JodaTimeSet.of(new DateTime(&quot;1999-12-31&quot;), new DateTime(&quot;2000-01-02&quot;));
+   * assertThat(new DateTime(&quot;2000-01-01&quot;)).isNotIn(forbiddenValues);</code></pre>
+   *
+   * @param values the {@link JodaTimeSet} to look the actual value in.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code DateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given {@link JodaTimeSet} is {@code null} or does not contain {@link DateTime}s.
+   * @throws AssertionError if the actual {@code DateTime} is in the given {@link JodaTimeSet}.
+   */
+  public DateTimeAssert isNotIn(JodaTimeSet values) {
+    checkJodaTimeSetIsNotNull(values);
+    return assertIsNotIn(values);
+  }
+
   private DateTime[] convertToDateTimeArray(String... dateTimesAsString) {
     DateTime[] dates = new DateTime[dateTimesAsString.length];
     for (int i = 0; i < dateTimesAsString.length; i++) {
       // building the DateTime in actual's DateTimeZone if not null
-      dates[i] = actual == null ? new DateTime(dateTimesAsString[i])
-          : new DateTime(dateTimesAsString[i], actual.getZone());
+      dates[i] = actual == null ? parseDateTime(dateTimesAsString[i])
+          : parseDateTime(dateTimesAsString[i], actual.getZone());
     }
     return dates;
   }
 
+  private boolean containsInActualTimeZone(DateTime[] dateTimes) {
+    for (DateTime dateTime : dateTimes) {
+      if (dateTime != null && areEqualInZoneOf(actual, dateTime)) return true;
+    }
+    return false;
+  }
+
   private DateTime[] changeToActualTimeZone(DateTime... dateTimes) {
     DateTime[] dates = new DateTime[dateTimes.length];
     for (int i = 0; i < dateTimes.length; i++) {
@@ -726,6 +919,10 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
     if (values.length == 0) throw new IllegalArgumentException("The given DateTime array should not be empty");
   }
 
+  private static void checkJodaTimeSetIsNotNull(JodaTimeSet values) {
+    if (values == null) throw new IllegalArgumentException("The given JodaTimeSet should not be null");
+  }
+
   /**
    * Check that the {@link DateTime} to compare actual {@link DateTime} to is not null, otherwise throws a
    * {@link IllegalArgumentException} with an explicit message
@@ -749,72 +946,4 @@ public class DateTimeAssert extends AbstractAssert<DateTimeAssert, DateTime> {
       throw new IllegalArgumentException("The String representing the DateTime to compare actual with should not be null");
   }
 
-  /**
-   * Returns true if both datetime are in the same year, month and day of month, hour, minute and second, false
-   * otherwise.
-   * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month and day of month, hour, minute and second, false
-   *         otherwise.
-   */
-  private static boolean areEqualIgnoringMillis(DateTime actual, DateTime other) {
-    return areEqualIgnoringSeconds(actual, other) && actual.getSecondOfMinute() == other.getSecondOfMinute();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year, month, day of month, hour and minute, false otherwise.
-   * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month, day of month, hour and minute, false otherwise.
-   */
-  private static boolean areEqualIgnoringSeconds(DateTime actual, DateTime other) {
-    return areEqualIgnoringMinutes(actual, other) && actual.getMinuteOfHour() == other.getMinuteOfHour();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year, month, day of month and hour, false otherwise.
-   * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month, day of month and hour, false otherwise.
-   */
-  private static boolean areEqualIgnoringMinutes(DateTime actual, DateTime other) {
-    return haveSameYearMonthAndDayOfMonth(actual, other) && actual.getHourOfDay() == other.getHourOfDay();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year, month and day of month, false otherwise.
-   * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month and day of month, false otherwise
-   */
-  private static boolean haveSameYearMonthAndDayOfMonth(DateTime actual, DateTime other) {
-    return haveSameYearAndMonth(actual, other) && actual.getDayOfMonth() == other.getDayOfMonth();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year and month, false otherwise.
-   * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year and month, false otherwise
-   */
-  private static boolean haveSameYearAndMonth(DateTime actual, DateTime other) {
-    return haveSameYear(actual, other) && actual.getMonthOfYear() == other.getMonthOfYear();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year, false otherwise.
-   * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, false otherwise
-   */
-  private static boolean haveSameYear(DateTime actual, DateTime other) {
-    return actual.getYear() == other.getYear();
-  }
-
 }
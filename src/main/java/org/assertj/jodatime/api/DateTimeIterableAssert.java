@@ -0,0 +1,633 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.api.EpochMillisArrayAssert.checkGoldenFileIsNotNull;
+import static org.assertj.jodatime.error.ElementShouldNotBeNull.elementShouldNotBeNull;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldAllBeWithin.shouldAllBeWithin;
+import static org.assertj.jodatime.error.ShouldAllHaveFieldEqualTo.shouldAllHaveFieldEqualTo;
+import static org.assertj.jodatime.error.ShouldBeCloseTo.elementShouldBeCloseTo;
+import static org.assertj.jodatime.error.ShouldBeCloseTo.seriesShouldHaveSameSize;
+import static org.assertj.jodatime.error.ShouldBeInChronologicalOrder.shouldBeSorted;
+import static org.assertj.jodatime.error.ShouldBeInChronologicalOrder.shouldBeStrictlyIncreasing;
+import static org.assertj.jodatime.error.ShouldHaveElementCountInAnyWindow.shouldHaveAtLeastElementsInAnyWindow;
+import static org.assertj.jodatime.error.ShouldHaveElementCountInAnyWindow.shouldHaveAtMostElementsInAnyWindow;
+import static org.assertj.jodatime.error.ShouldHaveNoGapLongerThan.elementsShouldHaveNoGapLongerThan;
+import static org.assertj.jodatime.error.ShouldMatchGoldenFile.elementShouldMatchGoldenFile;
+import static org.assertj.jodatime.error.ShouldMatchGoldenFile.shouldHaveGoldenFileSize;
+import static org.assertj.jodatime.error.ShouldMatchSeries.shouldMatchSeries;
+import static org.assertj.jodatime.internal.IndexSearch.NOT_FOUND;
+import static org.assertj.jodatime.internal.IndexSearch.firstIndexMatchingInParallel;
+import static org.assertj.jodatime.internal.LocalMillis.fieldValueOf;
+import static org.assertj.jodatime.internal.Sequences.firstViolation;
+import static org.assertj.jodatime.internal.Sequences.firstViolationInParallel;
+import static org.assertj.jodatime.internal.SlidingWindows.firstWindowWithLessThan;
+import static org.assertj.jodatime.internal.SlidingWindows.firstWindowWithMoreThan;
+import static org.assertj.jodatime.internal.SlidingWindows.windowMillisOf;
+import static org.assertj.jodatime.internal.Tolerances.checkTolerance;
+import static org.assertj.jodatime.internal.Tolerances.distance;
+import static org.assertj.jodatime.internal.Tolerances.toleranceMillisOf;
+import static org.joda.time.DateTimeFieldType.dayOfMonth;
+import static org.joda.time.DateTimeFieldType.monthOfYear;
+import static org.joda.time.DateTimeFieldType.year;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.jodatime.internal.ElementCheck;
+import org.assertj.jodatime.internal.GoldenFile;
+import org.assertj.jodatime.internal.SeriesDiff;
+import org.assertj.jodatime.internal.Violation;
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.Duration;
+import org.joda.time.Interval;
+import org.joda.time.ReadableDuration;
+
+/**
+ * Assertions for {@link Iterable}s (and arrays) of Joda {@link DateTime}s.
+ * <p>
+ * Each assertion is a single pass over the elements comparing their millis, no intermediate collection or value is
+ * created. Only the first element failing an assertion is reported along with its index, {@code null} elements always
+ * fail the assertions.
+ * <p>
+ * Large collections can be checked in parallel, see {@link #inParallel()}.
+ */
+public class DateTimeIterableAssert extends AbstractAssert<DateTimeIterableAssert, Iterable<? extends DateTime>> {
+
+  private static final ElementCheck<DateTime> SORTED = (previous, element) -> previous != null
+      && element.getMillis() < previous.getMillis();
+  private static final ElementCheck<DateTime> STRICTLY_INCREASING = (previous, element) -> previous != null
+      && element.getMillis() <= previous.getMillis();
+
+  private boolean parallel;
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.DateTimeIterableAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected DateTimeIterableAssert(Class<DateTimeIterableAssert> selfType, Iterable<? extends DateTime> actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected Iterable<? extends DateTime> getActual() {
+    return actual;
+  }
+
+  /**
+   * Makes the assertions following this call check the elements in parallel with fork/join (in the common
+   * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}), the reported element is still the first failing one.
+   * <p>
+   * This is worth it for collections of hundreds of thousands of elements or more, smaller ones are still checked
+   * sequentially. If the actual {@code Iterable} is not a {@link RandomAccess} list, its elements are first copied in
+   * one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(partitionEvents).inParallel()
+   *                                    .isWithin(partitionStart, partitionEnd)
+   *                                    .isSorted();</code></pre>
+   *
+   * @return this assertion object.
+   */
+  public DateTimeIterableAssert inParallel() {
+    parallel = true;
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code DateTime}s are in chronological order, consecutive elements representing the same
+   * instant are accepted.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(asList(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-01&quot;),
+   *                           new DateTime(&quot;2000-01-02&quot;))).isSorted();</code></pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or before the element preceding it.
+   */
+  public DateTimeIterableAssert isSorted() {
+    return assertAllElements(SORTED, violation -> shouldBeSorted(violation.index(), violation.previous(),
+                                                                 violation.element()));
+  }
+
+  /**
+   * Verifies that each actual {@code DateTime} is strictly after the element preceding it.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(asList(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-02&quot;))).isStrictlyIncreasing();</code></pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or not strictly after the element preceding it.
+   */
+  public DateTimeIterableAssert isStrictlyIncreasing() {
+    return assertAllElements(STRICTLY_INCREASING, violation -> shouldBeStrictlyIncreasing(violation.index(),
+                                                                                           violation.previous(),
+                                                                                           violation.element()));
+  }
+
+  /**
+   * Verifies that all the actual {@code DateTime}s are within the given range, bounds included.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(asList(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-02&quot;)))
+   *   .isWithin(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-12-31&quot;));</code></pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if start or end is {@code null} or if start is after end.
+   * @throws AssertionError if an element is {@code null} or not within the given range.
+   */
+  public DateTimeIterableAssert isWithin(DateTime start, DateTime end) {
+    checkRange(start, end);
+    long startMillis = start.getMillis();
+    long endMillis = end.getMillis();
+    ElementCheck<DateTime> outOfRange = (previous, element) -> element.getMillis() < startMillis
+                                                               || element.getMillis() > endMillis;
+    return assertAllElements(outOfRange,
+                             violation -> shouldAllBeWithin(violation.index(), violation.element(), start, end));
+  }
+
+  /**
+   * Verifies that the year of all the actual {@code DateTime}s is equal to the given one, each in its own time zone.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(asList(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-12-31&quot;))).allHaveYear(2000);</code></pre>
+   *
+   * @param expectedYear the given year.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or its year is not equal to the given one.
+   */
+  public DateTimeIterableAssert allHaveYear(int expectedYear) {
+    return allHaveFieldEqualTo(year(), expectedYear);
+  }
+
+  /**
+   * Verifies that the month of all the actual {@code DateTime}s is equal to the given one, each in its own time zone.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(asList(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2001-01-31&quot;))).allHaveMonthOfYear(1);</code></pre>
+   *
+   * @param expectedMonthOfYear the given month.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or its month is not equal to the given one.
+   */
+  public DateTimeIterableAssert allHaveMonthOfYear(int expectedMonthOfYear) {
+    return allHaveFieldEqualTo(monthOfYear(), expectedMonthOfYear);
+  }
+
+  /**
+   * Verifies that the day of month of all the actual {@code DateTime}s is equal to the given one, each in its own time
+   * zone.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(asList(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-02-01&quot;))).allHaveDayOfMonth(1);</code></pre>
+   *
+   * @param expectedDayOfMonth the given day of month.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or its day of month is not equal to the given one.
+   */
+  public DateTimeIterableAssert allHaveDayOfMonth(int expectedDayOfMonth) {
+    return allHaveFieldEqualTo(dayOfMonth(), expectedDayOfMonth);
+  }
+
+  /**
+   * Verifies that each actual {@code DateTime} is close to the expected one at the same position within the given
+   * tolerance in milliseconds, bounds included, both sequences must have the same size.
+   * <p>
+   * This is meant to compare two series of timestamps, like the ones recorded by two nodes, in one pass: each pair
+   * distance is a single subtraction of epoch millis, so {@code DateTime}s in different time zones can be compared.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(leaderTimestamps).isPairwiseCloseTo(followerTimestamps, 5);</code></pre>
+   *
+   * @param expected the expected {@code DateTime}s.
+   * @param toleranceMillis the maximum distance in milliseconds between an actual element and the expected one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the expected {@code DateTime}s are {@code null}, contain a {@code null} element
+   *           or if the tolerance is negative.
+   * @throws AssertionError if the actual and expected elements have different sizes.
+   * @throws AssertionError if an element is {@code null} or not close to the expected one.
+   */
+  public DateTimeIterableAssert isPairwiseCloseTo(Iterable<? extends DateTime> expected, long toleranceMillis) {
+    isNotNull();
+    if (expected == null) throw new IllegalArgumentException("The expected DateTimes should not be null");
+    checkTolerance(toleranceMillis);
+    return parallel ? assertPairwiseCloseToInParallel(expected, toleranceMillis)
+        : assertPairwiseCloseTo(expected, toleranceMillis);
+  }
+
+  /**
+   * Same assertion as {@link #isPairwiseCloseTo(Iterable, long)} but the tolerance is given as a
+   * {@link ReadableDuration}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(leaderTimestamps).isPairwiseCloseTo(followerTimestamps, Duration.millis(5));</code></pre>
+   *
+   * @param expected the expected {@code DateTime}s.
+   * @param tolerance the maximum distance between an actual element and the expected one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the expected {@code DateTime}s or the tolerance are {@code null}, if the
+   *           expected {@code DateTime}s contain a {@code null} element or if the tolerance is negative.
+   * @throws AssertionError if the actual and expected elements have different sizes.
+   * @throws AssertionError if an element is {@code null} or not close to the expected one.
+   */
+  public DateTimeIterableAssert isPairwiseCloseTo(Iterable<? extends DateTime> expected, ReadableDuration tolerance) {
+    return isPairwiseCloseTo(expected, toleranceMillisOf(tolerance));
+  }
+
+  /**
+   * Verifies that the actual {@code DateTime}s and the expected ones are the same series of instants, i.e. that each
+   * actual element is matched by an expected one and vice versa, both series being in chronological order.
+   * <p>
+   * Both series are compared with a single linear merge of their epoch millis, so series of millions of elements are
+   * compared in linear time and the failure only reports the number of missing and extra elements along with the
+   * first ones of each, instead of the whole series.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(replayedEvents).matchesSeries(recordedEvents);</code></pre>
+   *
+   * @param expected the expected {@code DateTime}s, in chronological order.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the expected {@code DateTime}s are {@code null}, contain a {@code null} element
+   *           or are not in chronological order.
+   * @throws AssertionError if an element is {@code null} or before the element preceding it.
+   * @throws AssertionError if an expected element is missing or if an actual element is not expected.
+   */
+  public DateTimeIterableAssert matchesSeries(Iterable<? extends DateTime> expected) {
+    return matchesSeries(expected, 0);
+  }
+
+  /**
+   * Same assertion as {@link #matchesSeries(Iterable)} but an actual element matches an expected one if they are not
+   * further apart than the given tolerance in milliseconds, bounds included.
+   * <p>
+   * The merge matches elements in chronological order: when the current actual and expected elements are within the
+   * tolerance they match, otherwise the earliest one is reported as extra (if it is the actual one) or missing and the
+   * merge goes on with the next one. The failure also reports the matching elements that are not equal (shifted).
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(replayedEvents).matchesSeries(recordedEvents, 5);</code></pre>
+   *
+   * @param expected the expected {@code DateTime}s, in chronological order.
+   * @param toleranceMillis the maximum distance in milliseconds between an actual element and the expected one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the expected {@code DateTime}s are {@code null}, contain a {@code null} element
+   *           or are not in chronological order or if the tolerance is negative.
+   * @throws AssertionError if an element is {@code null} or before the element preceding it.
+   * @throws AssertionError if an expected element is missing or if an actual element is not expected.
+   */
+  public DateTimeIterableAssert matchesSeries(Iterable<? extends DateTime> expected, long toleranceMillis) {
+    isNotNull();
+    if (expected == null) throw new IllegalArgumentException("The expected DateTimes should not be null");
+    checkTolerance(toleranceMillis);
+    isSorted();
+    SeriesDiff diff = SeriesDiff.diff(actualMillis(), millisOf(expected), toleranceMillis);
+    if (diff.seriesMatch()) return this;
+    Chronology chronology = firstChronologyOf(actual.iterator().hasNext() ? actual : expected);
+    throw lazyAssertionError(info, shouldMatchSeries(diff, toleranceMillis,
+                                                     millis -> new DateTime(millis, chronology)));
+  }
+
+  /**
+   * Same assertion as {@link #matchesSeries(Iterable, long)} but the tolerance is given as a {@link ReadableDuration}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(replayedEvents).matchesSeries(recordedEvents, Duration.millis(5));</code></pre>
+   *
+   * @param expected the expected {@code DateTime}s, in chronological order.
+   * @param tolerance the maximum distance between an actual element and the expected one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the expected {@code DateTime}s or the tolerance are {@code null}, if the
+   *           expected {@code DateTime}s contain a {@code null} element or are not in chronological order or if the
+   *           tolerance is negative.
+   * @throws AssertionError if an element is {@code null} or before the element preceding it.
+   * @throws AssertionError if an expected element is missing or if an actual element is not expected.
+   */
+  public DateTimeIterableAssert matchesSeries(Iterable<? extends DateTime> expected, ReadableDuration tolerance) {
+    return matchesSeries(expected, toleranceMillisOf(tolerance));
+  }
+
+  /**
+   * Verifies that the epoch millis of the actual {@code DateTime}s are equal, in the same order, to the ones stored in
+   * the given golden file.
+   * <p>
+   * A golden file is a binary file of fixed-width big-endian longs (as written by
+   * {@link java.io.DataOutputStream#writeLong(long) DataOutputStream.writeLong}). It is memory-mapped and read element
+   * by element, it is never loaded on the heap so golden files of hundreds of MB can be used.
+   * <p>
+   * When the {@code assertj.jodatime.updateGoldenFiles} system property is {@code true}, the golden file is
+   * (re)written with the actual epoch millis instead of being compared, e.g. to record the golden files after an
+   * expected change: {@code mvn test -Dassertj.jodatime.updateGoldenFiles=true}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDateTimes(replayedEvents).matchesGoldenFile(Paths.get(&quot;src/test/resources/replay.golden&quot;));</code></pre>
+   *
+   * @param goldenFile the golden file to compare actual with.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the golden file is {@code null}, does not exist or if its size is not a
+   *           multiple of 8 bytes.
+   * @throws java.io.UncheckedIOException if the golden file can't be read or written.
+   * @throws AssertionError if an element is {@code null}.
+   * @throws AssertionError if an element is not equal to the one at the same index in the golden file or if actual and
+   *           the golden file don't have the same number of elements.
+   */
+  public DateTimeIterableAssert matchesGoldenFile(Path goldenFile) {
+    isNotNull();
+    checkGoldenFileIsNotNull(goldenFile);
+    if (GoldenFile.updateRequested()) {
+      // check all elements first to avoid leaving a truncated golden file behind
+      long index = 0;
+      for (DateTime element : actual) {
+        if (element == null) throw lazyAssertionError(info, elementShouldNotBeNull(index));
+        index++;
+      }
+      GoldenFile.write(goldenFile, actualMillis());
+      return this;
+    }
+    GoldenFile golden = GoldenFile.map(goldenFile);
+    long index = 0;
+    for (DateTime element : actual) {
+      if (element == null) throw lazyAssertionError(info, elementShouldNotBeNull(index));
+      if (index < golden.size() && element.getMillis() != golden.get(index))
+        throw lazyAssertionError(info, elementShouldMatchGoldenFile(index, element,
+                                                                    new DateTime(golden.get(index),
+                                                                                 element.getChronology()),
+                                                                    goldenFile));
+      index++;
+    }
+    if (index != golden.size())
+      throw lazyAssertionError(info, shouldHaveGoldenFileSize(index, golden.size(), goldenFile));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code DateTime}s are in chronological order and that consecutive elements are not further
+   * apart than the given duration.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatDateTimes(asList(new DateTime(&quot;2000-01-01T00:00:00&quot;), new DateTime(&quot;2000-01-01T00:00:05&quot;)))
+   *   .hasNoGapsLongerThan(Duration.standardSeconds(5));
+   *
+   * // assertion fails
+   * assertThatDateTimes(asList(new DateTime(&quot;2000-01-01T00:00:00&quot;), new DateTime(&quot;2000-01-01T00:00:06&quot;)))
+   *   .hasNoGapsLongerThan(Duration.standardSeconds(5));</code></pre>
+   *
+   * @param maxGap the longest accepted duration between consecutive elements.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given duration is {@code null} or negative.
+   * @throws AssertionError if an element is {@code null} or before the element preceding it.
+   * @throws AssertionError if two consecutive elements are further apart than the given duration, the first ones are
+   *           reported.
+   */
+  public DateTimeIterableAssert hasNoGapsLongerThan(ReadableDuration maxGap) {
+    if (maxGap == null) throw new IllegalArgumentException("The maximum gap duration should not be null");
+    if (maxGap.getMillis() < 0)
+      throw new IllegalArgumentException("The maximum gap duration should not be negative but was " + maxGap);
+    long maxGapMillis = maxGap.getMillis();
+    return assertAllElements((previous, element) -> previous != null
+                                                    && (element.getMillis() < previous.getMillis()
+                                                        || distance(previous.getMillis(),
+                                                                    element.getMillis()) > maxGapMillis),
+                             violation -> gapError(maxGap, violation));
+  }
+
+  /**
+   * Verifies that the actual {@code DateTime}s are in chronological order and that no time window of the given length
+   * contains more than the given number of elements, e.g. to check a maximum event rate.
+   * <p>
+   * A window of length {@code w} starting at {@code t} is {@code [t, t + w[}, it contains the elements that are equal
+   * to or after {@code t} and strictly before {@code t + w}.
+   * <p>
+   * The windows are slid over the elements with two iterators, the actual {@code Iterable} must thus be iterable more
+   * than once. The check is linear in the number of elements and does not depend on the number of elements per window.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // no more than 1000 events in any second
+   * assertThatDateTimes(ingestedEventDates).hasAtMostElementsInAnyWindow(1000, Duration.standardSeconds(1));</code></pre>
+   *
+   * @param maxCount the maximum number of elements accepted in a window.
+   * @param window the length of the windows.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the maximum number of elements is negative or if the window duration is
+   *           {@code null} or not strictly positive.
+   * @throws AssertionError if an element is {@code null} or before the element preceding it.
+   * @throws AssertionError if a window contains more than the given number of elements, the window starting at the
+   *           earliest element is reported.
+   */
+  public DateTimeIterableAssert hasAtMostElementsInAnyWindow(int maxCount, ReadableDuration window) {
+    if (maxCount < 0)
+      throw new IllegalArgumentException("The maximum number of elements should not be negative but was " + maxCount);
+    long windowMillis = windowMillisOf(window);
+    isSorted();
+    long[] offendingWindow = firstWindowWithMoreThan(this::actualMillis, maxCount, windowMillis);
+    if (offendingWindow == null) return this;
+    throw lazyAssertionError(info, shouldHaveAtMostElementsInAnyWindow(maxCount, window, toInterval(offendingWindow),
+                                                                       offendingWindow[2], offendingWindow[3]));
+  }
+
+  /**
+   * Verifies that the actual {@code DateTime}s are in chronological order and that every time window of the given
+   * length between the first and the last elements (both included) contains at least the given number of elements,
+   * e.g. to check a minimum event rate.
+   * <p>
+   * A window of length {@code w} starting at {@code t} is {@code [t, t + w[}, the windows starting before the first
+   * element or ending after the last one are not checked, so the assertion passes when the elements span less than a
+   * window.
+   * <p>
+   * The windows are slid over the elements with two iterators, the actual {@code Iterable} must thus be iterable more
+   * than once. The check is linear in the number of elements and does not depend on the number of elements per window.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // at least one event per minute
+   * assertThatDateTimes(ingestedEventDates).hasAtLeastElementsInAnyWindow(1, Duration.standardMinutes(1));</code></pre>
+   *
+   * @param minCount the minimum number of elements expected in a window.
+   * @param window the length of the windows.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the minimum number of elements is not strictly positive or if the window
+   *           duration is {@code null} or not strictly positive.
+   * @throws AssertionError if an element is {@code null} or before the element preceding it.
+   * @throws AssertionError if a window contains less than the given number of elements, the earliest one is reported.
+   */
+  public DateTimeIterableAssert hasAtLeastElementsInAnyWindow(int minCount, ReadableDuration window) {
+    if (minCount <= 0)
+      throw new IllegalArgumentException("The minimum number of elements should be strictly positive but was "
+                                         + minCount);
+    long windowMillis = windowMillisOf(window);
+    isSorted();
+    long[] offendingWindow = firstWindowWithLessThan(this::actualMillis, minCount, windowMillis);
+    if (offendingWindow == null) return this;
+    throw lazyAssertionError(info, shouldHaveAtLeastElementsInAnyWindow(minCount, window, toInterval(offendingWindow),
+                                                                        offendingWindow[2]));
+  }
+
+  private DateTimeIterableAssert allHaveFieldEqualTo(DateTimeFieldType fieldType, int expectedValue) {
+    return assertAllElements((previous, element) -> fieldValueOf(element, fieldType) != expectedValue,
+                             violation -> shouldAllHaveFieldEqualTo(violation.index(), violation.element(), fieldType,
+                                                                    fieldValueOf(violation.element(), fieldType),
+                                                                    expectedValue));
+  }
+
+  private static ErrorMessageFactory gapError(ReadableDuration maxGap, Violation<DateTime> violation) {
+    DateTime previous = violation.previous();
+    DateTime element = violation.element();
+    if (element.isBefore(previous)) return shouldBeSorted(violation.index(), previous, element);
+    return elementsShouldHaveNoGapLongerThan(maxGap, violation.index(), previous, element,
+                                             new Duration(previous, element));
+  }
+
+  // a new iterator over the millis of the actual elements, expected to be all non null
+  private PrimitiveIterator.OfLong actualMillis() {
+    Iterator<? extends DateTime> elements = actual.iterator();
+    return new PrimitiveIterator.OfLong() {
+      @Override
+      public boolean hasNext() {
+        return elements.hasNext();
+      }
+
+      @Override
+      public long nextLong() {
+        return elements.next().getMillis();
+      }
+    };
+  }
+
+  // a new iterator over the millis of the expected elements
+  private static PrimitiveIterator.OfLong millisOf(Iterable<? extends DateTime> expected) {
+    Iterator<? extends DateTime> elements = expected.iterator();
+    return new PrimitiveIterator.OfLong() {
+      private long index;
+
+      @Override
+      public boolean hasNext() {
+        return elements.hasNext();
+      }
+
+      @Override
+      public long nextLong() {
+        DateTime element = elements.next();
+        if (element == null)
+          throw new IllegalArgumentException("The expected DateTimes should not contain null elements but element at "
+                                             + "index " + index + " was null");
+        index++;
+        return element.getMillis();
+      }
+    };
+  }
+
+  // the elements of a series diff are reported in the calendar of the first element
+  private static Chronology firstChronologyOf(Iterable<? extends DateTime> dateTimes) {
+    return dateTimes.iterator().next().getChronology();
+  }
+
+  // the window is reported in the calendar of the first element
+  private Interval toInterval(long[] window) {
+    return new Interval(window[0], window[1], actual.iterator().next().getChronology());
+  }
+
+  private DateTimeIterableAssert assertAllElements(ElementCheck<DateTime> check,
+                                                   Function<Violation<DateTime>, ErrorMessageFactory> errorMessage) {
+    isNotNull();
+    Violation<DateTime> violation = parallel ? firstViolationInParallel(randomAccessListOf(actual), check)
+        : firstViolation(actual.iterator(), check);
+    if (violation == null) return this;
+    if (violation.element() == null) throw lazyAssertionError(info, elementShouldNotBeNull(violation.index()));
+    throw lazyAssertionError(info, errorMessage.apply(violation));
+  }
+
+  private DateTimeIterableAssert assertPairwiseCloseTo(Iterable<? extends DateTime> expected, long toleranceMillis) {
+    Iterator<? extends DateTime> actualElements = actual.iterator();
+    Iterator<? extends DateTime> expectedElements = expected.iterator();
+    long index = 0;
+    for (; actualElements.hasNext() && expectedElements.hasNext(); index++) {
+      assertPairIsCloseTo(index, actualElements.next(), expectedElements.next(), toleranceMillis);
+    }
+    if (actualElements.hasNext() || expectedElements.hasNext())
+      throw lazyAssertionError(info, seriesShouldHaveSameSize(index, expectedElements.hasNext()));
+    return this;
+  }
+
+  private DateTimeIterableAssert assertPairwiseCloseToInParallel(Iterable<? extends DateTime> expected,
+                                                                 long toleranceMillis) {
+    List<? extends DateTime> actualList = randomAccessListOf(actual);
+    List<? extends DateTime> expectedList = randomAccessListOf(expected);
+    int size = Math.min(actualList.size(), expectedList.size());
+    int index = firstIndexMatchingInParallel(size, i -> !arePairwiseCloseTo(actualList.get(i), expectedList.get(i),
+                                                                             toleranceMillis));
+    if (index != NOT_FOUND) assertPairIsCloseTo(index, actualList.get(index), expectedList.get(index), toleranceMillis);
+    if (actualList.size() != expectedList.size())
+      throw lazyAssertionError(info, seriesShouldHaveSameSize(size, actualList.size() < expectedList.size()));
+    return this;
+  }
+
+  private static boolean arePairwiseCloseTo(DateTime element, DateTime expectedElement, long toleranceMillis) {
+    return element != null && expectedElement != null
+           && distance(element.getMillis(), expectedElement.getMillis()) <= toleranceMillis;
+  }
+
+  // fails with the appropriate error if the given pair is not close
+  private void assertPairIsCloseTo(long index, DateTime element, DateTime expectedElement, long toleranceMillis) {
+    if (expectedElement == null)
+      throw new IllegalArgumentException("The expected DateTimes should not contain null elements but element at index "
+                                         + index + " was null");
+    if (element == null) throw lazyAssertionError(info, elementShouldNotBeNull(index));
+    long distance = distance(element.getMillis(), expectedElement.getMillis());
+    if (distance > toleranceMillis)
+      throw lazyAssertionError(info, elementShouldBeCloseTo(index, element, expectedElement, toleranceMillis,
+                                                            distance));
+  }
+
+  private static List<? extends DateTime> randomAccessListOf(Iterable<? extends DateTime> dateTimes) {
+    if (dateTimes instanceof List && dateTimes instanceof RandomAccess) return (List<? extends DateTime>) dateTimes;
+    List<DateTime> list = new ArrayList<>();
+    for (DateTime dateTime : dateTimes) {
+      list.add(dateTime);
+    }
+    return list;
+  }
+
+  private static void checkRange(DateTime start, DateTime end) {
+    if (start == null) throw new IllegalArgumentException("The start of the range should not be null");
+    if (end == null) throw new IllegalArgumentException("The end of the range should not be null");
+    if (start.isAfter(end)) throw new IllegalArgumentException("The start of the range should not be after its end");
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldBeLongerThan.shouldBeLongerThan;
+import static org.assertj.jodatime.error.ShouldBeLongerThan.shouldBeLongerThanOrEqualTo;
+import static org.assertj.jodatime.error.ShouldBeShorterThan.shouldBeShorterThan;
+import static org.assertj.jodatime.error.ShouldBeShorterThan.shouldBeShorterThanOrEqualTo;
+
+import org.assertj.core.api.AbstractAssert;
+import org.joda.time.Duration;
+import org.joda.time.ReadableDuration;
+
+/**
+ * Assertions for Joda {@link ReadableDuration} types like {@link Duration}, durations are compared by their millis.
+ */
+public class DurationAssert extends AbstractAssert<DurationAssert, ReadableDuration> {
+
+  public static final String NULL_DURATION_PARAMETER_MESSAGE = "The duration to compare actual with should not be null";
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.DurationAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected DurationAssert(Class<DurationAssert> selfType, ReadableDuration actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected ReadableDuration getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the actual duration is <b>strictly</b> shorter than the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(Duration.millis(150)).isShorterThan(Duration.millis(200));</code></pre>
+   *
+   * @param other the given duration.
+   * @return this assertion object.
+   * @throws AssertionError if the actual duration is {@code null}.
+   * @throws IllegalArgumentException if the given duration is {@code null}.
+   * @throws AssertionError if the actual duration is not strictly shorter than the given one.
+   */
+  public DurationAssert isShorterThan(ReadableDuration other) {
+    isNotNull();
+    assertDurationParameterIsNotNull(other);
+    if (!actual.isShorterThan(other)) throw lazyAssertionError(info, shouldBeShorterThan(actual, other));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual duration is shorter than or equal to the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(Duration.millis(200)).isShorterThanOrEqualTo(Duration.millis(200));</code></pre>
+   *
+   * @param other the given duration.
+   * @return this assertion object.
+   * @throws AssertionError if the actual duration is {@code null}.
+   * @throws IllegalArgumentException if the given duration is {@code null}.
+   * @throws AssertionError if the actual duration is longer than the given one.
+   */
+  public DurationAssert isShorterThanOrEqualTo(ReadableDuration other) {
+    isNotNull();
+    assertDurationParameterIsNotNull(other);
+    if (actual.isLongerThan(other)) throw lazyAssertionError(info, shouldBeShorterThanOrEqualTo(actual, other));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual duration is <b>strictly</b> longer than the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(Duration.standardSeconds(2)).isLongerThan(Duration.millis(200));</code></pre>
+   *
+   * @param other the given duration.
+   * @return this assertion object.
+   * @throws AssertionError if the actual duration is {@code null}.
+   * @throws IllegalArgumentException if the given duration is {@code null}.
+   * @throws AssertionError if the actual duration is not strictly longer than the given one.
+   */
+  public DurationAssert isLongerThan(ReadableDuration other) {
+    isNotNull();
+    assertDurationParameterIsNotNull(other);
+    if (!actual.isLongerThan(other)) throw lazyAssertionError(info, shouldBeLongerThan(actual, other));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual duration is longer than or equal to the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(Duration.millis(200)).isLongerThanOrEqualTo(Duration.millis(200));</code></pre>
+   *
+   * @param other the given duration.
+   * @return this assertion object.
+   * @throws AssertionError if the actual duration is {@code null}.
+   * @throws IllegalArgumentException if the given duration is {@code null}.
+   * @throws AssertionError if the actual duration is shorter than the given one.
+   */
+  public DurationAssert isLongerThanOrEqualTo(ReadableDuration other) {
+    isNotNull();
+    assertDurationParameterIsNotNull(other);
+    if (actual.isShorterThan(other)) throw lazyAssertionError(info, shouldBeLongerThanOrEqualTo(actual, other));
+    return this;
+  }
+
+  private static void assertDurationParameterIsNotNull(ReadableDuration duration) {
+    if (duration == null) throw new IllegalArgumentException(NULL_DURATION_PARAMETER_MESSAGE);
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static java.math.RoundingMode.CEILING;
+import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.assertj.jodatime.error.ElementShouldNotBeNull.elementShouldNotBeNull;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldHaveStatisticAtMost.shouldHaveStatisticAtMost;
+import static org.assertj.jodatime.internal.Selection.kthSmallest;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.assertj.core.api.AbstractAssert;
+import org.joda.time.Duration;
+import org.joda.time.ReadableDuration;
+
+/**
+ * Assertions on statistics of {@link Iterable}s (and arrays) of Joda {@link ReadableDuration}s like request latencies.
+ * <p>
+ * The statistics are computed in a single pass over the elements without sorting them or keeping a copy of them, a
+ * percentile is checked by counting the durations longer than the given maximum. Only when a percentile assertion fails
+ * are the durations copied to compute the actual percentile value with a selection algorithm (linear on average) for
+ * the error message. {@code null} elements always fail the assertions.
+ * <p>
+ * Example :
+ * <pre><code class='java'> assertThatDurations(latencies).hasPercentileAtMost(99, Duration.millis(200))
+ *                               .hasMeanAtMost(Duration.millis(50))
+ *                               .hasMaxAtMost(Duration.standardSeconds(1));</code></pre>
+ */
+public class DurationIterableAssert
+    extends AbstractAssert<DurationIterableAssert, Iterable<? extends ReadableDuration>> {
+
+  private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.DurationIterableAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected DurationIterableAssert(Class<DurationIterableAssert> selfType,
+                                   Iterable<? extends ReadableDuration> actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected Iterable<? extends ReadableDuration> getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the given percentile of the actual durations is shorter than or equal to the given maximum.
+   * <p>
+   * The percentile is computed with the nearest-rank method: the p-th percentile of n durations is the smallest duration
+   * such that at least p% of the durations are shorter than or equal to it, no interpolation is done.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // p99 below 200ms
+   * assertThatDurations(latencies).hasPercentileAtMost(99, Duration.millis(200));</code></pre>
+   *
+   * @param percentile the percentile to check, in ]0, 100].
+   * @param max the maximum accepted value of the percentile.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null} or empty.
+   * @throws IllegalArgumentException if the percentile is not in ]0, 100] or if the given maximum is {@code null}.
+   * @throws AssertionError if an element is {@code null} or if the percentile is longer than the given maximum.
+   */
+  public DurationIterableAssert hasPercentileAtMost(double percentile, ReadableDuration max) {
+    if (!(percentile > 0 && percentile <= 100))
+      throw new IllegalArgumentException("The percentile should be in ]0, 100] but was " + percentile);
+    assertMaxParameterIsNotNull(max);
+    isNotNull();
+    long maxMillis = max.getMillis();
+    long count = 0;
+    long longerCount = 0;
+    for (ReadableDuration duration : actual) {
+      assertElementIsNotNull(duration, count);
+      if (duration.getMillis() > maxMillis) longerCount++;
+      count++;
+    }
+    if (count == 0) throw lazyAssertionError(info, shouldNotBeEmpty());
+    long rank = rankOf(percentile, count);
+    // the percentile is at most max iff the durations longer than max all rank after the percentile
+    if (longerCount <= count - rank) return this;
+    long[] millis = millisOf(actual, count);
+    Duration actualPercentile = new Duration(kthSmallest(millis, (int) (rank - 1)));
+    throw lazyAssertionError(info, shouldHaveStatisticAtMost("p" + format(percentile), actualPercentile, max, count));
+  }
+
+  /**
+   * Verifies that the longest actual duration is shorter than or equal to the given maximum.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDurations(latencies).hasMaxAtMost(Duration.standardSeconds(1));</code></pre>
+   *
+   * @param max the maximum accepted duration.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null} or empty.
+   * @throws IllegalArgumentException if the given maximum is {@code null}.
+   * @throws AssertionError if an element is {@code null} or if a duration is longer than the given maximum.
+   */
+  public DurationIterableAssert hasMaxAtMost(ReadableDuration max) {
+    assertMaxParameterIsNotNull(max);
+    isNotNull();
+    long count = 0;
+    long longestMillis = Long.MIN_VALUE;
+    for (ReadableDuration duration : actual) {
+      assertElementIsNotNull(duration, count);
+      longestMillis = Math.max(longestMillis, duration.getMillis());
+      count++;
+    }
+    if (count == 0) throw lazyAssertionError(info, shouldNotBeEmpty());
+    if (longestMillis <= max.getMillis()) return this;
+    throw lazyAssertionError(info, shouldHaveStatisticAtMost("max", new Duration(longestMillis), max, count));
+  }
+
+  /**
+   * Verifies that the arithmetic mean of the actual durations is shorter than or equal to the given maximum.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatDurations(latencies).hasMeanAtMost(Duration.millis(50));</code></pre>
+   *
+   * @param max the maximum accepted mean duration.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null} or empty.
+   * @throws IllegalArgumentException if the given maximum is {@code null}.
+   * @throws AssertionError if an element is {@code null} or if the mean is longer than the given maximum.
+   */
+  public DurationIterableAssert hasMeanAtMost(ReadableDuration max) {
+    assertMaxParameterIsNotNull(max);
+    isNotNull();
+    long count = 0;
+    // a double sum is exact up to 2^53 ms (about 285 000 years) and can't overflow
+    double sumMillis = 0;
+    for (ReadableDuration duration : actual) {
+      assertElementIsNotNull(duration, count);
+      sumMillis += duration.getMillis();
+      count++;
+    }
+    if (count == 0) throw lazyAssertionError(info, shouldNotBeEmpty());
+    double meanMillis = sumMillis / count;
+    if (meanMillis <= max.getMillis()) return this;
+    // rounded up so that the reported mean is longer than max
+    Duration mean = new Duration((long) Math.ceil(meanMillis));
+    throw lazyAssertionError(info, shouldHaveStatisticAtMost("mean", mean, max, count));
+  }
+
+  private static void assertMaxParameterIsNotNull(ReadableDuration max) {
+    if (max == null) throw new IllegalArgumentException("The maximum duration should not be null");
+  }
+
+  private void assertElementIsNotNull(ReadableDuration duration, long index) {
+    if (duration == null) throw lazyAssertionError(info, elementShouldNotBeNull(index));
+  }
+
+  // 1 based nearest rank, computed in decimal to avoid rounding errors like 99.9 * 1000 / 100 > 999
+  private static long rankOf(double percentile, long count) {
+    BigDecimal rank = new BigDecimal(Double.toString(percentile)).multiply(BigDecimal.valueOf(count))
+                                                                 .divide(ONE_HUNDRED, 0, CEILING);
+    return Math.max(1, rank.longValue());
+  }
+
+  private static long[] millisOf(Iterable<? extends ReadableDuration> durations, long count) {
+    if (count > Integer.MAX_VALUE - 8)
+      throw new IllegalStateException("Too many durations to compute the actual percentile: " + count);
+    long[] millis = new long[(int) count];
+    int i = 0;
+    for (ReadableDuration duration : durations) {
+      millis[i++] = duration.getMillis();
+    }
+    return millis;
+  }
+
+  private static String format(double percentile) {
+    return BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+  }
+}
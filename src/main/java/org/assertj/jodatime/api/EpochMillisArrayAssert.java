@@ -0,0 +1,594 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static java.util.Arrays.stream;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldAllBeAfter.shouldAllBeAfter;
+import static org.assertj.jodatime.error.ShouldAllBeAfter.shouldAllBeAfterOrEqualTo;
+import static org.assertj.jodatime.error.ShouldAllBeBefore.shouldAllBeBefore;
+import static org.assertj.jodatime.error.ShouldAllBeBefore.shouldAllBeBeforeOrEqualTo;
+import static org.assertj.jodatime.error.ShouldAllBeEqualTruncatedTo.shouldAllBeEqualTruncatedTo;
+import static org.assertj.jodatime.error.ShouldAllBeWithin.shouldAllBeWithin;
+import static org.assertj.jodatime.error.ShouldAllHaveFieldEqualTo.shouldAllHaveFieldEqualTo;
+import static org.assertj.jodatime.error.ShouldBeInChronologicalOrder.shouldBeSorted;
+import static org.assertj.jodatime.error.ShouldBeInChronologicalOrder.shouldBeStrictlyIncreasing;
+import static org.assertj.jodatime.error.ShouldHaveElementCountInAnyWindow.shouldHaveAtLeastElementsInAnyWindow;
+import static org.assertj.jodatime.error.ShouldHaveElementCountInAnyWindow.shouldHaveAtMostElementsInAnyWindow;
+import static org.assertj.jodatime.error.ShouldHaveNoGapLongerThan.elementsShouldHaveNoGapLongerThan;
+import static org.assertj.jodatime.error.ShouldMatchGoldenFile.elementShouldMatchGoldenFile;
+import static org.assertj.jodatime.error.ShouldMatchGoldenFile.shouldHaveGoldenFileSize;
+import static org.assertj.jodatime.error.ShouldMatchSeries.shouldMatchSeries;
+import static org.assertj.jodatime.internal.IndexSearch.NOT_FOUND;
+import static org.assertj.jodatime.internal.IndexSearch.firstIndexMatching;
+import static org.assertj.jodatime.internal.IndexSearch.firstIndexMatchingInParallel;
+import static org.assertj.jodatime.internal.LocalMillis.localMillisOf;
+import static org.assertj.jodatime.internal.SlidingWindows.firstWindowWithLessThan;
+import static org.assertj.jodatime.internal.SlidingWindows.firstWindowWithMoreThan;
+import static org.assertj.jodatime.internal.SlidingWindows.windowMillisOf;
+import static org.assertj.jodatime.internal.Tolerances.checkTolerance;
+import static org.assertj.jodatime.internal.Tolerances.distance;
+import static org.assertj.jodatime.internal.Tolerances.toleranceMillisOf;
+import static org.joda.time.DateTimeFieldType.dayOfMonth;
+import static org.joda.time.DateTimeFieldType.minuteOfHour;
+import static org.joda.time.DateTimeFieldType.monthOfYear;
+import static org.joda.time.DateTimeFieldType.year;
+
+import java.nio.file.Path;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.jodatime.internal.GoldenFile;
+import org.assertj.jodatime.internal.SeriesDiff;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeField;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Interval;
+import org.joda.time.ReadableDuration;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * Assertions for arrays of epoch milliseconds, i.e. instants represented as milliseconds from 1970-01-01T00:00:00Z.
+ * <p>
+ * The assertions have the same meaning as the {@link DateTimeAssert} ones applied to each element but are evaluated
+ * directly on the primitive values, no {@link DateTime} is created unless an assertion fails and the failing element
+ * must be reported. Field based assertions take the {@link DateTimeZone} to evaluate fields in as epoch millis don't
+ * have one.
+ * <p>
+ * Large arrays can be checked in parallel, see {@link #inParallel()}.
+ */
+public class EpochMillisArrayAssert extends AbstractAssert<EpochMillisArrayAssert, long[]> {
+
+  private boolean parallel;
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.EpochMillisArrayAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected EpochMillisArrayAssert(Class<EpochMillisArrayAssert> selfType, long[] actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected long[] getActual() {
+    return actual;
+  }
+
+  /**
+   * Makes the assertions following this call check the elements in parallel with fork/join (in the common
+   * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}), the reported element is still the first failing one.
+   * <p>
+   * This is worth it for arrays of hundreds of thousands of elements or more, smaller ones are still checked
+   * sequentially.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatEpochMillis(partitionEventsMillis).inParallel()
+   *                                           .isWithin(partitionStart, partitionEnd)
+   *                                           .isSorted();</code></pre>
+   *
+   * @return this assertion object.
+   */
+  public EpochMillisArrayAssert inParallel() {
+    parallel = true;
+    return this;
+  }
+
+  /**
+   * Verifies that all the actual epoch millis are strictly before the given {@link DateTime}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 1000L };
+   * assertThatEpochMillis(epochMillis).isBefore(new DateTime(&quot;1970-01-02T00:00:00Z&quot;));</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} is {@code null}.
+   * @throws AssertionError if an element is not strictly before the given one.
+   */
+  public EpochMillisArrayAssert isBefore(DateTime other) {
+    assertDateTimeParameterIsNotNull(other);
+    long otherMillis = other.getMillis();
+    return assertAllElements(i -> actual[i] >= otherMillis,
+                             i -> shouldAllBeBefore(i, toDateTime(actual[i], other), other));
+  }
+
+  /**
+   * Verifies that all the actual epoch millis are before or equal to the given {@link DateTime}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 1000L };
+   * assertThatEpochMillis(epochMillis).isBeforeOrEqualTo(new DateTime(&quot;1970-01-01T00:00:01Z&quot;));</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} is {@code null}.
+   * @throws AssertionError if an element is after the given one.
+   */
+  public EpochMillisArrayAssert isBeforeOrEqualTo(DateTime other) {
+    assertDateTimeParameterIsNotNull(other);
+    long otherMillis = other.getMillis();
+    return assertAllElements(i -> actual[i] > otherMillis,
+                             i -> shouldAllBeBeforeOrEqualTo(i, toDateTime(actual[i], other), other));
+  }
+
+  /**
+   * Verifies that all the actual epoch millis are strictly after the given {@link DateTime}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 1000L };
+   * assertThatEpochMillis(epochMillis).isAfter(new DateTime(&quot;1969-12-31T00:00:00Z&quot;));</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} is {@code null}.
+   * @throws AssertionError if an element is not strictly after the given one.
+   */
+  public EpochMillisArrayAssert isAfter(DateTime other) {
+    assertDateTimeParameterIsNotNull(other);
+    long otherMillis = other.getMillis();
+    return assertAllElements(i -> actual[i] <= otherMillis,
+                             i -> shouldAllBeAfter(i, toDateTime(actual[i], other), other));
+  }
+
+  /**
+   * Verifies that all the actual epoch millis are after or equal to the given {@link DateTime}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 1000L };
+   * assertThatEpochMillis(epochMillis).isAfterOrEqualTo(new DateTime(&quot;1970-01-01T00:00:00Z&quot;));</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} is {@code null}.
+   * @throws AssertionError if an element is before the given one.
+   */
+  public EpochMillisArrayAssert isAfterOrEqualTo(DateTime other) {
+    assertDateTimeParameterIsNotNull(other);
+    long otherMillis = other.getMillis();
+    return assertAllElements(i -> actual[i] < otherMillis,
+                             i -> shouldAllBeAfterOrEqualTo(i, toDateTime(actual[i], other), other));
+  }
+
+  /**
+   * Verifies that all the actual epoch millis are within the given range, bounds included.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 1000L };
+   * assertThatEpochMillis(epochMillis).isWithin(new DateTime(&quot;1970-01-01T00:00:00Z&quot;),
+   *                                             new DateTime(&quot;1970-01-01T00:00:01Z&quot;));</code></pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if start or end is {@code null} or if start is after end.
+   * @throws AssertionError if an element is not within the given range.
+   */
+  public EpochMillisArrayAssert isWithin(DateTime start, DateTime end) {
+    checkRange(start, end);
+    long startMillis = start.getMillis();
+    long endMillis = end.getMillis();
+    return assertAllElements(i -> actual[i] < startMillis || actual[i] > endMillis,
+                             i -> shouldAllBeWithin(i, toDateTime(actual[i], start), start, end));
+  }
+
+  /**
+   * Verifies that the actual epoch millis are in ascending order, consecutive equal values are accepted.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 0L, 1000L };
+   * assertThatEpochMillis(epochMillis).isSorted();</code></pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if an element is less than the element preceding it.
+   */
+  public EpochMillisArrayAssert isSorted() {
+    return assertAllElements(i -> i > 0 && actual[i] < actual[i - 1],
+                             i -> shouldBeSorted(i, toUTCDateTime(actual[i - 1]), toUTCDateTime(actual[i])));
+  }
+
+  /**
+   * Verifies that each actual epoch millis is strictly greater than the element preceding it.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 1L, 1000L };
+   * assertThatEpochMillis(epochMillis).isStrictlyIncreasing();</code></pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if an element is not strictly greater than the element preceding it.
+   */
+  public EpochMillisArrayAssert isStrictlyIncreasing() {
+    return assertAllElements(i -> i > 0 && actual[i] <= actual[i - 1],
+                             i -> shouldBeStrictlyIncreasing(i, toUTCDateTime(actual[i - 1]),
+                                                             toUTCDateTime(actual[i])));
+  }
+
+  /**
+   * Verifies that the actual epoch millis are in ascending order and that consecutive elements are not further apart
+   * than the given duration.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 1000L, 2000L };
+   * // assertion succeeds
+   * assertThatEpochMillis(epochMillis).hasNoGapsLongerThan(Duration.standardSeconds(1));
+   * // assertion fails
+   * assertThatEpochMillis(epochMillis).hasNoGapsLongerThan(Duration.millis(999));</code></pre>
+   *
+   * @param maxGap the longest accepted duration between consecutive elements.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the given duration is {@code null} or negative.
+   * @throws AssertionError if an element is less than the element preceding it.
+   * @throws AssertionError if two consecutive elements are further apart than the given duration, the first ones are
+   *           reported.
+   */
+  public EpochMillisArrayAssert hasNoGapsLongerThan(ReadableDuration maxGap) {
+    if (maxGap == null) throw new IllegalArgumentException("The maximum gap duration should not be null");
+    if (maxGap.getMillis() < 0)
+      throw new IllegalArgumentException("The maximum gap duration should not be negative but was " + maxGap);
+    long maxGapMillis = maxGap.getMillis();
+    return assertAllElements(i -> i > 0 && (actual[i] < actual[i - 1]
+                                            || distance(actual[i - 1], actual[i]) > maxGapMillis),
+                             i -> actual[i] < actual[i - 1]
+                                 ? shouldBeSorted(i, toUTCDateTime(actual[i - 1]), toUTCDateTime(actual[i]))
+                                 : elementsShouldHaveNoGapLongerThan(maxGap, i, toUTCDateTime(actual[i - 1]),
+                                                                     toUTCDateTime(actual[i]),
+                                                                     new Duration(actual[i - 1], actual[i])));
+  }
+
+  /**
+   * Verifies that the actual epoch millis are in ascending order and that no time window of the given length contains
+   * more than the given number of elements, e.g. to check a maximum event rate.
+   * <p>
+   * A window of length {@code w} starting at {@code t} is {@code [t, t + w[}, it contains the elements greater than or
+   * equal to {@code t} and less than {@code t + w}. The check is linear in the number of elements and does not depend
+   * on the number of elements per window.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 400L, 800L, 1200L };
+   * // assertion succeeds
+   * assertThatEpochMillis(epochMillis).hasAtMostElementsInAnyWindow(3, Duration.standardSeconds(1));
+   * // assertion fails: [0, 1000[ contains 3 elements
+   * assertThatEpochMillis(epochMillis).hasAtMostElementsInAnyWindow(2, Duration.standardSeconds(1));</code></pre>
+   *
+   * @param maxCount the maximum number of elements accepted in a window.
+   * @param window the length of the windows.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the maximum number of elements is negative or if the window duration is
+   *           {@code null} or not strictly positive.
+   * @throws AssertionError if an element is less than the element preceding it.
+   * @throws AssertionError if a window contains more than the given number of elements, the window starting at the
+   *           earliest element is reported.
+   */
+  public EpochMillisArrayAssert hasAtMostElementsInAnyWindow(int maxCount, ReadableDuration window) {
+    if (maxCount < 0)
+      throw new IllegalArgumentException("The maximum number of elements should not be negative but was " + maxCount);
+    long windowMillis = windowMillisOf(window);
+    isSorted();
+    long[] offendingWindow = firstWindowWithMoreThan(() -> stream(actual).iterator(), maxCount, windowMillis);
+    if (offendingWindow == null) return this;
+    throw lazyAssertionError(info, shouldHaveAtMostElementsInAnyWindow(maxCount, window,
+                                                                       toUTCInterval(offendingWindow),
+                                                                       offendingWindow[2], offendingWindow[3]));
+  }
+
+  /**
+   * Verifies that the actual epoch millis are in ascending order and that every time window of the given length between
+   * the first and the last elements (both included) contains at least the given number of elements, e.g. to check a
+   * minimum event rate.
+   * <p>
+   * A window of length {@code w} starting at {@code t} is {@code [t, t + w[}, the windows starting before the first
+   * element or ending after the last one are not checked, so the assertion passes when the elements span less than a
+   * window. The check is linear in the number of elements and does not depend on the number of elements per window.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 400L, 800L, 2000L };
+   * // assertion succeeds
+   * assertThatEpochMillis(epochMillis).hasAtLeastElementsInAnyWindow(1, Duration.standardSeconds(2));
+   * // assertion fails: [801, 1801[ contains no elements
+   * assertThatEpochMillis(epochMillis).hasAtLeastElementsInAnyWindow(1, Duration.standardSeconds(1));</code></pre>
+   *
+   * @param minCount the minimum number of elements expected in a window.
+   * @param window the length of the windows.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the minimum number of elements is not strictly positive or if the window
+   *           duration is {@code null} or not strictly positive.
+   * @throws AssertionError if an element is less than the element preceding it.
+   * @throws AssertionError if a window contains less than the given number of elements, the earliest one is reported.
+   */
+  public EpochMillisArrayAssert hasAtLeastElementsInAnyWindow(int minCount, ReadableDuration window) {
+    if (minCount <= 0)
+      throw new IllegalArgumentException("The minimum number of elements should be strictly positive but was "
+                                         + minCount);
+    long windowMillis = windowMillisOf(window);
+    isSorted();
+    long[] offendingWindow = firstWindowWithLessThan(() -> stream(actual).iterator(), minCount, windowMillis);
+    if (offendingWindow == null) return this;
+    throw lazyAssertionError(info, shouldHaveAtLeastElementsInAnyWindow(minCount, window,
+                                                                        toUTCInterval(offendingWindow),
+                                                                        offendingWindow[2]));
+  }
+
+  /**
+   * Verifies that the actual epoch millis and the expected ones are the same series, i.e. that each actual element is
+   * matched by an expected one and vice versa, both series being in ascending order.
+   * <p>
+   * Both series are compared with a single linear merge, so series of millions of elements are compared in linear time
+   * and the failure only reports the number of missing and extra elements along with the first ones of each.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatEpochMillis(replayedEventsMillis).matchesSeries(recordedEventsMillis);</code></pre>
+   *
+   * @param expected the expected epoch millis, in ascending order.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the expected array is {@code null} or not in ascending order.
+   * @throws AssertionError if an element is less than the element preceding it.
+   * @throws AssertionError if an expected element is missing or if an actual element is not expected.
+   */
+  public EpochMillisArrayAssert matchesSeries(long[] expected) {
+    return matchesSeries(expected, 0);
+  }
+
+  /**
+   * Same assertion as {@link #matchesSeries(long[])} but an actual element matches an expected one if they are not
+   * further apart than the given tolerance in milliseconds, bounds included.
+   * <p>
+   * The merge matches elements in ascending order: when the current actual and expected elements are within the
+   * tolerance they match, otherwise the smallest one is reported as extra (if it is the actual one) or missing and the
+   * merge goes on with the next one. The failure also reports the matching elements that are not equal (shifted).
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatEpochMillis(replayedEventsMillis).matchesSeries(recordedEventsMillis, 5);</code></pre>
+   *
+   * @param expected the expected epoch millis, in ascending order.
+   * @param toleranceMillis the maximum distance in milliseconds between an actual element and the expected one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the expected array is {@code null} or not in ascending order or if the
+   *           tolerance is negative.
+   * @throws AssertionError if an element is less than the element preceding it.
+   * @throws AssertionError if an expected element is missing or if an actual element is not expected.
+   */
+  public EpochMillisArrayAssert matchesSeries(long[] expected, long toleranceMillis) {
+    isNotNull();
+    if (expected == null) throw new IllegalArgumentException("The expected epoch millis should not be null");
+    checkTolerance(toleranceMillis);
+    isSorted();
+    SeriesDiff diff = SeriesDiff.diff(stream(actual).iterator(), stream(expected).iterator(), toleranceMillis);
+    if (diff.seriesMatch()) return this;
+    throw lazyAssertionError(info, shouldMatchSeries(diff, toleranceMillis, EpochMillisArrayAssert::toUTCDateTime));
+  }
+
+  /**
+   * Same assertion as {@link #matchesSeries(long[], long)} but the tolerance is given as a {@link ReadableDuration}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatEpochMillis(replayedEventsMillis).matchesSeries(recordedEventsMillis, Duration.millis(5));</code></pre>
+   *
+   * @param expected the expected epoch millis, in ascending order.
+   * @param tolerance the maximum distance between an actual element and the expected one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the expected array or the tolerance is {@code null}, if the expected array is
+   *           not in ascending order or if the tolerance is negative.
+   * @throws AssertionError if an element is less than the element preceding it.
+   * @throws AssertionError if an expected element is missing or if an actual element is not expected.
+   */
+  public EpochMillisArrayAssert matchesSeries(long[] expected, ReadableDuration tolerance) {
+    return matchesSeries(expected, toleranceMillisOf(tolerance));
+  }
+
+  /**
+   * Verifies that the actual epoch millis are equal, in the same order, to the ones stored in the given golden file.
+   * <p>
+   * A golden file is a binary file of fixed-width big-endian longs (as written by
+   * {@link java.io.DataOutputStream#writeLong(long) DataOutputStream.writeLong}). It is memory-mapped and read element
+   * by element, it is never loaded on the heap so golden files of hundreds of MB can be used.
+   * <p>
+   * When the {@code assertj.jodatime.updateGoldenFiles} system property is {@code true}, the golden file is
+   * (re)written with the actual epoch millis instead of being compared, e.g. to record the golden files after an
+   * expected change: {@code mvn test -Dassertj.jodatime.updateGoldenFiles=true}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatEpochMillis(pipelineOutputMillis).matchesGoldenFile(Paths.get(&quot;src/test/resources/pipeline.golden&quot;));</code></pre>
+   *
+   * @param goldenFile the golden file to compare actual with.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the golden file is {@code null}, does not exist or if its size is not a
+   *           multiple of 8 bytes.
+   * @throws java.io.UncheckedIOException if the golden file can't be read or written.
+   * @throws AssertionError if an element is not equal to the one at the same index in the golden file or if actual and
+   *           the golden file don't have the same number of elements.
+   */
+  public EpochMillisArrayAssert matchesGoldenFile(Path goldenFile) {
+    isNotNull();
+    checkGoldenFileIsNotNull(goldenFile);
+    if (GoldenFile.updateRequested()) {
+      GoldenFile.write(goldenFile, stream(actual).iterator());
+      return this;
+    }
+    GoldenFile golden = GoldenFile.map(goldenFile);
+    int comparedSize = (int) Math.min(actual.length, golden.size());
+    int index = firstIndexMatching(comparedSize, i -> actual[i] != golden.get(i));
+    if (index != NOT_FOUND)
+      throw lazyAssertionError(info, elementShouldMatchGoldenFile(index, toUTCDateTime(actual[index]),
+                                                                  toUTCDateTime(golden.get(index)), goldenFile));
+    if (actual.length != golden.size())
+      throw lazyAssertionError(info, shouldHaveGoldenFileSize(actual.length, golden.size(), goldenFile));
+    return this;
+  }
+
+  /**
+   * Verifies that the year of all the actual epoch millis in the given {@link DateTimeZone} is equal to the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 1000L };
+   * assertThatEpochMillis(epochMillis).hasYear(1970, DateTimeZone.UTC);
+   * // 1970-01-01T00:00:00Z is 1969-12-31T19:00:00-05:00
+   * assertThatEpochMillis(epochMillis).hasYear(1969, DateTimeZone.forID(&quot;America/New_York&quot;));</code></pre>
+   *
+   * @param expectedYear the given year.
+   * @param zone the {@link DateTimeZone} to get the year in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the given {@code DateTimeZone} is {@code null}.
+   * @throws AssertionError if the year of an element is not equal to the given one.
+   */
+  public EpochMillisArrayAssert hasYear(int expectedYear, DateTimeZone zone) {
+    return allHaveFieldEqualTo(year(), expectedYear, zone);
+  }
+
+  /**
+   * Verifies that the month of all the actual epoch millis in the given {@link DateTimeZone} is equal to the given
+   * one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 1000L };
+   * assertThatEpochMillis(epochMillis).hasMonthOfYear(1, DateTimeZone.UTC);</code></pre>
+   *
+   * @param expectedMonthOfYear the given month.
+   * @param zone the {@link DateTimeZone} to get the month in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the given {@code DateTimeZone} is {@code null}.
+   * @throws AssertionError if the month of an element is not equal to the given one.
+   */
+  public EpochMillisArrayAssert hasMonthOfYear(int expectedMonthOfYear, DateTimeZone zone) {
+    return allHaveFieldEqualTo(monthOfYear(), expectedMonthOfYear, zone);
+  }
+
+  /**
+   * Verifies that the day of month of all the actual epoch millis in the given {@link DateTimeZone} is equal to the
+   * given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 1000L };
+   * assertThatEpochMillis(epochMillis).hasDayOfMonth(1, DateTimeZone.UTC);</code></pre>
+   *
+   * @param expectedDayOfMonth the given day of month.
+   * @param zone the {@link DateTimeZone} to get the day of month in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the given {@code DateTimeZone} is {@code null}.
+   * @throws AssertionError if the day of month of an element is not equal to the given one.
+   */
+  public EpochMillisArrayAssert hasDayOfMonth(int expectedDayOfMonth, DateTimeZone zone) {
+    return allHaveFieldEqualTo(dayOfMonth(), expectedDayOfMonth, zone);
+  }
+
+  /**
+   * Verifies that all the actual epoch millis have same year, month, day, hour and minute fields as the given
+   * {@link DateTime}, the fields being evaluated in its {@link DateTimeZone}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> long[] epochMillis = { 0L, 59_999L };
+   * assertThatEpochMillis(epochMillis).isEqualToIgnoringSeconds(new DateTime(&quot;1970-01-01T00:00:30Z&quot;));</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} is {@code null}.
+   * @throws AssertionError if an element does not have same year, month, day, hour and minute fields as the given
+   *           {@link DateTime}.
+   */
+  public EpochMillisArrayAssert isEqualToIgnoringSeconds(DateTime other) {
+    assertDateTimeParameterIsNotNull(other);
+    DateTimeZone zone = other.getZone();
+    DateTimeField minuteField = minuteOfHour().getField(other.getChronology().withUTC());
+    long otherTruncatedLocalMillis = minuteField.roundFloor(localMillisOf(zone, other.getMillis()));
+    return assertAllElements(i -> minuteField.roundFloor(localMillisOf(zone, actual[i])) != otherTruncatedLocalMillis,
+                             i -> shouldAllBeEqualTruncatedTo(i, toDateTime(actual[i], other), other,
+                                                              minuteOfHour()));
+  }
+
+  private EpochMillisArrayAssert allHaveFieldEqualTo(DateTimeFieldType fieldType, int expectedValue,
+                                                     DateTimeZone zone) {
+    if (zone == null) throw new IllegalArgumentException("The DateTimeZone to get fields in should not be null");
+    DateTimeField field = fieldType.getField(ISOChronology.getInstance(zone));
+    return assertAllElements(i -> field.get(actual[i]) != expectedValue,
+                             i -> shouldAllHaveFieldEqualTo(i, new DateTime(actual[i], zone), fieldType,
+                                                            field.get(actual[i]), expectedValue));
+  }
+
+  private EpochMillisArrayAssert assertAllElements(IntPredicate isViolatedAt,
+                                                   IntFunction<ErrorMessageFactory> errorMessage) {
+    isNotNull();
+    int index = parallel ? firstIndexMatchingInParallel(actual.length, isViolatedAt)
+        : firstIndexMatching(actual.length, isViolatedAt);
+    if (index == NOT_FOUND) return this;
+    throw lazyAssertionError(info, errorMessage.apply(index));
+  }
+
+  // failing elements are reported in the zone and chronology of the DateTime they were compared to
+  private static DateTime toDateTime(long epochMillis, DateTime reference) {
+    return new DateTime(epochMillis, reference.getChronology());
+  }
+
+  private static DateTime toUTCDateTime(long epochMillis) {
+    return new DateTime(epochMillis, DateTimeZone.UTC);
+  }
+
+  private static Interval toUTCInterval(long[] window) {
+    return new Interval(window[0], window[1], ISOChronology.getInstanceUTC());
+  }
+
+  static void checkGoldenFileIsNotNull(Path goldenFile) {
+    if (goldenFile == null) throw new IllegalArgumentException("The golden file should not be null");
+  }
+
+  private static void assertDateTimeParameterIsNotNull(DateTime dateTime) {
+    if (dateTime == null) throw new IllegalArgumentException(DateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE);
+  }
+
+  private static void checkRange(DateTime start, DateTime end) {
+    if (start == null) throw new IllegalArgumentException("The start of the range should not be null");
+    if (end == null) throw new IllegalArgumentException("The end of the range should not be null");
+    if (start.isAfter(end)) throw new IllegalArgumentException("The start of the range should not be after its end");
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.api.DateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldBeSatisfiedWithin.shouldBeSatisfiedWithin;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.jodatime.internal.Backoff;
+import org.joda.time.DateTime;
+import org.joda.time.Duration;
+import org.joda.time.ReadableDuration;
+
+/**
+ * Assertions for a {@link DateTime} that is expected to change, like the last update time of an entity written
+ * asynchronously: the value is polled from a {@link Supplier} until it satisfies the {@link DateTimeAssert} assertions
+ * or until a timeout elapses.
+ * <p>
+ * The calling thread polls the supplier itself, no other thread is involved. It sleeps between attempts, the delay
+ * starts at 10ms and doubles after each failed attempt up to 1s (see {@link #withPollDelays(ReadableDuration,
+ * ReadableDuration)}), the supplier is polled one last time when the timeout (10s by default) elapses. Exceptions
+ * thrown by the supplier are not retried, they are propagated.
+ * <p>
+ * Example :
+ * <pre><code class='java'> DateTime beforeUpdate = DateTime.now();
+ * service.updateAsync(order);
+ *
+ * assertThatEventually(() -&gt; repository.find(order.getId()).getLastUpdated()).within(Duration.standardSeconds(5))
+ *                                                                           .isAfter(beforeUpdate);</code></pre>
+ */
+public class EventualDateTimeAssert extends AbstractAssert<EventualDateTimeAssert, Supplier<? extends DateTime>> {
+
+  static final Duration DEFAULT_TIMEOUT = Duration.standardSeconds(10);
+  static final Duration DEFAULT_INITIAL_POLL_DELAY = Duration.millis(10);
+  static final Duration DEFAULT_MAX_POLL_DELAY = Duration.standardSeconds(1);
+
+  private ReadableDuration timeout = DEFAULT_TIMEOUT;
+  private long initialPollDelayMillis = DEFAULT_INITIAL_POLL_DELAY.getMillis();
+  private long maxPollDelayMillis = DEFAULT_MAX_POLL_DELAY.getMillis();
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.EventualDateTimeAssert}</code>.
+   *
+   * @param actual the supplier of the actual values to verify
+   */
+  protected EventualDateTimeAssert(Supplier<? extends DateTime> actual) {
+    super(actual, EventualDateTimeAssert.class);
+  }
+
+  // visible for test
+  protected Supplier<? extends DateTime> getActual() {
+    return actual;
+  }
+
+  /**
+   * Sets the time given to the polled {@code DateTime} to satisfy the next assertions, 10s by default.
+   * <p>
+   * A zero timeout polls the supplier once.
+   *
+   * @param timeout the time given to the polled value to satisfy the assertions.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if the timeout is {@code null} or negative.
+   */
+  public EventualDateTimeAssert within(ReadableDuration timeout) {
+    if (timeout == null) throw new IllegalArgumentException("The timeout should not be null");
+    if (timeout.getMillis() < 0)
+      throw new IllegalArgumentException("The timeout should not be negative but was " + timeout);
+    this.timeout = timeout;
+    return this;
+  }
+
+  /**
+   * Sets the delays between two polls of the supplier, 10ms after the first failed attempt doubling after each failed
+   * attempt up to 1s by default.
+   * <p>
+   * A short initial delay notices quickly a value that is about to change, a long max delay limits the number of
+   * wakeups of long waits. Use the same delay for both to poll at a fixed rate.
+   *
+   * @param initialDelay the delay after the first failed attempt.
+   * @param maxDelay the maximum delay between two attempts.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if a delay is {@code null} or not strictly positive or if the max delay is less
+   *           than the initial one.
+   */
+  public EventualDateTimeAssert withPollDelays(ReadableDuration initialDelay, ReadableDuration maxDelay) {
+    if (initialDelay == null) throw new IllegalArgumentException("The initial poll delay should not be null");
+    if (maxDelay == null) throw new IllegalArgumentException("The max poll delay should not be null");
+    if (initialDelay.getMillis() <= 0)
+      throw new IllegalArgumentException("The initial poll delay should be strictly positive but was " + initialDelay);
+    if (maxDelay.getMillis() < initialDelay.getMillis())
+      throw new IllegalArgumentException("The max poll delay " + maxDelay + " should not be less than the initial "
+                                         + "one " + initialDelay);
+    initialPollDelayMillis = initialDelay.getMillis();
+    maxPollDelayMillis = maxDelay.getMillis();
+    return this;
+  }
+
+  /**
+   * Verifies that the polled {@code DateTime} eventually satisfies the given {@link DateTimeAssert} assertions, i.e.
+   * that one of the values returned by the supplier before the timeout elapses satisfies all of them.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatEventually(() -&gt; job.getLastRun()).within(Duration.standardSeconds(5))
+   *                                         .eventuallySatisfies(lastRun -&gt; lastRun.isAfter(start).isBefore(deadline));</code></pre>
+   *
+   * @param requirements the assertions the polled value should satisfy.
+   * @return this assertion object.
+   * @throws AssertionError if the supplier is {@code null}.
+   * @throws IllegalArgumentException if the given requirements are {@code null}.
+   * @throws AssertionError if no polled value satisfies the requirements before the timeout elapses or if the thread
+   *           is interrupted while waiting (its interrupt status is then restored).
+   */
+  public EventualDateTimeAssert eventuallySatisfies(Consumer<? super DateTimeAssert> requirements) {
+    isNotNull();
+    if (requirements == null) throw new IllegalArgumentException("The requirements should not be null");
+    Backoff backoff = new Backoff(timeout.getMillis(), initialPollDelayMillis, maxPollDelayMillis);
+    AssertionError lastFailure;
+    do {
+      try {
+        DateTimeAssert polledValueAssert = new DateTimeAssert(DateTimeAssert.class, actual.get());
+        requirements.accept(polledValueAssert.as(info.description()).withRepresentation(info.representation()));
+        return this;
+      } catch (AssertionError failure) {
+        lastFailure = failure;
+      }
+    } while (backoff.awaitNextAttempt());
+    throw lazyAssertionError(info, shouldBeSatisfiedWithin(timeout, backoff.failedAttempts(), lastFailure));
+  }
+
+  /**
+   * Verifies that the polled {@code DateTime} eventually becomes <b>strictly</b> after the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatEventually(() -&gt; order.getLastUpdated()).isAfter(beforeUpdate);</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the supplier is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} is {@code null}.
+   * @throws AssertionError if no polled value is strictly after the given one before the timeout elapses.
+   */
+  public EventualDateTimeAssert isAfter(DateTime other) {
+    assertDateTimeParameterIsNotNull(other);
+    return eventuallySatisfies(dateTime -> dateTime.isAfter(other));
+  }
+
+  /**
+   * Verifies that the polled {@code DateTime} eventually becomes after or equal to the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatEventually(() -&gt; order.getLastUpdated()).isAfterOrEqualTo(beforeUpdate);</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the supplier is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} is {@code null}.
+   * @throws AssertionError if no polled value is after or equal to the given one before the timeout elapses.
+   */
+  public EventualDateTimeAssert isAfterOrEqualTo(DateTime other) {
+    assertDateTimeParameterIsNotNull(other);
+    return eventuallySatisfies(dateTime -> dateTime.isAfterOrEqualTo(other));
+  }
+
+  /**
+   * Verifies that the polled {@code DateTime} eventually becomes <b>strictly</b> before the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatEventually(() -&gt; cache.getExpiry()).isBefore(maxExpiry);</code></pre>
+   *
+   * @param other the given {@link DateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the supplier is {@code null}.
+   * @throws IllegalArgumentException if other {@code DateTime} is {@code null}.
+   * @throws AssertionError if no polled value is strictly before the given one before the timeout elapses.
+   */
+  public EventualDateTimeAssert isBefore(DateTime other) {
+    assertDateTimeParameterIsNotNull(other);
+    return eventuallySatisfies(dateTime -> dateTime.isBefore(other));
+  }
+
+  private static void assertDateTimeParameterIsNotNull(DateTime dateTime) {
+    if (dateTime == null) throw new IllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+  }
+}
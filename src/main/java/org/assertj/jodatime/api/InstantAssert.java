@@ -0,0 +1,249 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.internal.Tolerances.checkTolerance;
+import static org.assertj.jodatime.internal.Tolerances.toleranceMillisOf;
+
+import org.joda.time.DateTime;
+import org.joda.time.Instant;
+import org.joda.time.ReadableDuration;
+import org.joda.time.ReadableInstant;
+
+/**
+ * Assertions for Joda {@link Instant} type.
+ * <p>
+ * Instants are compared by their epoch millis with the same semantics as {@link DateTimeAssert} comparisons, the
+ * successful assertions don't create any object, no {@link DateTime} or time zone is involved.
+ */
+public class InstantAssert extends AbstractInstantAssert<InstantAssert, Instant> {
+
+  public static final String NULL_INSTANT_PARAMETER_MESSAGE = "The instant to compare actual with should not be null";
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.InstantAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected InstantAssert(Class<InstantAssert> selfType, Instant actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected Instant getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the actual {@code Instant} is <b>strictly</b> before the given instant.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Instant(1000L)).isBefore(new Instant(2000L));</code></pre>
+   *
+   * @param other the given instant, any {@link ReadableInstant} like a {@link DateTime} can be used.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Instant} is {@code null}.
+   * @throws IllegalArgumentException if the given instant is {@code null}.
+   * @throws AssertionError if the actual {@code Instant} is not strictly before the given one.
+   */
+  public InstantAssert isBefore(ReadableInstant other) {
+    isNotNull();
+    assertInstantParameterIsNotNull(other);
+    return assertIsBefore(other);
+  }
+
+  /**
+   * Verifies that the actual {@code Instant} is before or equal to the given instant.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Instant(1000L)).isBeforeOrEqualTo(new Instant(1000L))
+   *                               .isBeforeOrEqualTo(new Instant(2000L));</code></pre>
+   *
+   * @param other the given instant, any {@link ReadableInstant} like a {@link DateTime} can be used.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Instant} is {@code null}.
+   * @throws IllegalArgumentException if the given instant is {@code null}.
+   * @throws AssertionError if the actual {@code Instant} is after the given one.
+   */
+  public InstantAssert isBeforeOrEqualTo(ReadableInstant other) {
+    isNotNull();
+    assertInstantParameterIsNotNull(other);
+    return assertIsBeforeOrEqualTo(other);
+  }
+
+  /**
+   * Verifies that the actual {@code Instant} is <b>strictly</b> after the given instant.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Instant(2000L)).isAfter(new Instant(1000L));</code></pre>
+   *
+   * @param other the given instant, any {@link ReadableInstant} like a {@link DateTime} can be used.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Instant} is {@code null}.
+   * @throws IllegalArgumentException if the given instant is {@code null}.
+   * @throws AssertionError if the actual {@code Instant} is not strictly after the given one.
+   */
+  public InstantAssert isAfter(ReadableInstant other) {
+    isNotNull();
+    assertInstantParameterIsNotNull(other);
+    return assertIsAfter(other);
+  }
+
+  /**
+   * Verifies that the actual {@code Instant} is after or equal to the given instant.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Instant(2000L)).isAfterOrEqualTo(new Instant(2000L))
+   *                               .isAfterOrEqualTo(new Instant(1000L));</code></pre>
+   *
+   * @param other the given instant, any {@link ReadableInstant} like a {@link DateTime} can be used.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Instant} is {@code null}.
+   * @throws IllegalArgumentException if the given instant is {@code null}.
+   * @throws AssertionError if the actual {@code Instant} is before the given one.
+   */
+  public InstantAssert isAfterOrEqualTo(ReadableInstant other) {
+    isNotNull();
+    assertInstantParameterIsNotNull(other);
+    return assertIsAfterOrEqualTo(other);
+  }
+
+  /**
+   * Verifies that the actual {@code Instant} represents the same instant as the given one, i.e. that they have the same
+   * epoch millis, the chronology and time zone of the given instant are ignored.
+   * <p>
+   * Assertion succeeds when both actual and given instant are null.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Instant(0L)).isEqualTo(new DateTime(0L, DateTimeZone.forID(&quot;Europe/Paris&quot;)));</code></pre>
+   *
+   * @param expected the given instant.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Instant} does not represent the same instant as the given one.
+   */
+  public InstantAssert isEqualTo(ReadableInstant expected) {
+    if (actual == expected) return this;
+    if (actual != null && expected != null && actual.getMillis() == expected.getMillis()) return this;
+    // expected as an Instant is only needed to report the failure
+    return super.isEqualTo(expected == null ? null : expected.toInstant());
+  }
+
+  /**
+   * Verifies that the actual {@code Instant} does not represent the same instant as the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Instant(0L)).isNotEqualTo(new Instant(1L));</code></pre>
+   *
+   * @param other the given instant.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Instant} represents the same instant as the given one.
+   */
+  public InstantAssert isNotEqualTo(ReadableInstant other) {
+    if (actual == null || other == null) return super.isNotEqualTo(other);
+    if (actual.getMillis() != other.getMillis()) return this;
+    return super.isNotEqualTo(other.toInstant());
+  }
+
+  /**
+   * Verifies that the actual {@code Instant} is close to the given one within the given tolerance in milliseconds,
+   * bounds included.
+   * <p>
+   * Contrary to field based assertions like {@code isEqualToIgnoringSeconds}, values on both sides of a field boundary
+   * are close: the distance between both epoch millis is computed with a single subtraction.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion succeeds
+   * assertThat(new Instant(59999L)).isCloseTo(new Instant(60000L), 1);
+   *
+   * // assertion fails
+   * assertThat(new Instant(59999L)).isCloseTo(new Instant(60001L), 1);</code></pre>
+   *
+   * @param other the given {@link ReadableInstant}.
+   * @param toleranceMillis the maximum distance in milliseconds between the actual {@code Instant} and the given one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Instant} is {@code null}.
+   * @throws IllegalArgumentException if the other instant is {@code null} or if the tolerance is negative.
+   * @throws AssertionError if the actual {@code Instant} is not close to the given one within the given tolerance.
+   */
+  public InstantAssert isCloseTo(ReadableInstant other, long toleranceMillis) {
+    isNotNull();
+    assertInstantParameterIsNotNull(other);
+    checkTolerance(toleranceMillis);
+    return assertIsCloseTo(other, toleranceMillis);
+  }
+
+  /**
+   * Same assertion as {@link #isCloseTo(ReadableInstant, long)} but the tolerance is given as a
+   * {@link ReadableDuration}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Instant(59999L)).isCloseTo(new Instant(60000L), Duration.millis(1));</code></pre>
+   *
+   * @param other the given {@link ReadableInstant}.
+   * @param tolerance the maximum distance between the actual {@code Instant} and the given one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Instant} is {@code null}.
+   * @throws IllegalArgumentException if the other instant or the tolerance is {@code null} or if the tolerance is
+   *           negative.
+   * @throws AssertionError if the actual {@code Instant} is not close to the given one within the given tolerance.
+   */
+  public InstantAssert isCloseTo(ReadableInstant other, ReadableDuration tolerance) {
+    return isCloseTo(other, toleranceMillisOf(tolerance));
+  }
+
+  /**
+   * Verifies that the actual {@code Instant} is in the given {@link JodaTimeSet}, this check is a constant time lookup.
+   * <p>
+   * Example :
+   * <pre><code class='java'> JodaTimeSet candidates = JodaTimeSet.of(new Instant(0L), new Instant(1000L));
+   * assertThat(new Instant(1000L)).isIn(candidates);</code></pre>
+   *
+   * @param values the {@link JodaTimeSet} to look the actual value in.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code Instant} is {@code null}.
+   * @throws IllegalArgumentException if the given {@link JodaTimeSet} is {@code null} or does not contain instants.
+   * @throws AssertionError if the actual {@code Instant} is not in the given {@link JodaTimeSet}.
+   */
+  public InstantAssert isIn(JodaTimeSet values) {
+    checkJodaTimeSetIsNotNull(values);
+    return assertIsIn(values);
+  }
+
+  /**
+   * Verifies that the actual {@code Instant} is not in the given {@link JodaTimeSet}, this check is a constant time
+   * lookup.
+   * <p>
+   * Example :
+   * <pre><code class='java'> JodaTimeSet forbiddenValues = JodaTimeSet.of(new Instant(0L), new Instant(1000L));
+   * assertThat(new Instant(2000L)).isNotIn(forbiddenValues);</code></pre>
+   *
+   * @param values the {@link JodaTimeSet} to look the actual value in.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code Instant} is {@code null}.
+   * @throws IllegalArgumentException if the given {@link JodaTimeSet} is {@code null} or does not contain instants.
+   * @throws AssertionError if the actual {@code Instant} is in the given {@link JodaTimeSet}.
+   */
+  public InstantAssert isNotIn(JodaTimeSet values) {
+    checkJodaTimeSetIsNotNull(values);
+    return assertIsNotIn(values);
+  }
+
+  private static void checkJodaTimeSetIsNotNull(JodaTimeSet values) {
+    if (values == null) throw new IllegalArgumentException("The given JodaTimeSet should not be null");
+  }
+
+  private static void assertInstantParameterIsNotNull(ReadableInstant instant) {
+    if (instant == null) throw new IllegalArgumentException(NULL_INSTANT_PARAMETER_MESSAGE);
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldAbut.shouldAbut;
+import static org.assertj.jodatime.error.ShouldContain.shouldContain;
+import static org.assertj.jodatime.error.ShouldContain.shouldNotContain;
+import static org.assertj.jodatime.error.ShouldOverlap.shouldNotOverlap;
+import static org.assertj.jodatime.error.ShouldOverlap.shouldOverlap;
+import static org.assertj.jodatime.internal.Instants.snapshotOf;
+
+import org.assertj.core.api.AbstractAssert;
+import org.joda.time.Interval;
+import org.joda.time.ReadableInstant;
+import org.joda.time.ReadableInterval;
+
+/**
+ * Assertions for Joda {@link ReadableInterval} types like {@link Interval}.
+ * <p>
+ * Intervals include their start and exclude their end, see {@link ReadableInterval} for the exact definition of the
+ * relations between intervals.
+ */
+public class IntervalAssert extends AbstractAssert<IntervalAssert, ReadableInterval> {
+
+  public static final String NULL_INSTANT_PARAMETER_MESSAGE = "The instant to compare actual with should not be null";
+  public static final String NULL_INTERVAL_PARAMETER_MESSAGE = "The interval to compare actual with should not be null";
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.IntervalAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected IntervalAssert(Class<IntervalAssert> selfType, ReadableInterval actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected ReadableInterval getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the actual interval contains the given instant, i.e. that the instant is equal to or after the start
+   * of the interval and strictly before its end.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Interval(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-02&quot;)))
+   *   .contains(new DateTime(&quot;2000-01-01T12:00&quot;));</code></pre>
+   *
+   * @param instant the given instant.
+   * @return this assertion object.
+   * @throws AssertionError if the actual interval is {@code null}.
+   * @throws IllegalArgumentException if the given instant is {@code null}.
+   * @throws AssertionError if the actual interval does not contain the given instant.
+   */
+  public IntervalAssert contains(ReadableInstant instant) {
+    isNotNull();
+    assertInstantParameterIsNotNull(instant);
+    if (!actual.contains(instant))
+      throw lazyAssertionError(info, shouldContain(actual.toInterval(), snapshotOf(instant)));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual interval does not contain the given instant.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // the end of an interval is excluded
+   * assertThat(new Interval(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-02&quot;)))
+   *   .doesNotContain(new DateTime(&quot;2000-01-02&quot;));</code></pre>
+   *
+   * @param instant the given instant.
+   * @return this assertion object.
+   * @throws AssertionError if the actual interval is {@code null}.
+   * @throws IllegalArgumentException if the given instant is {@code null}.
+   * @throws AssertionError if the actual interval contains the given instant.
+   */
+  public IntervalAssert doesNotContain(ReadableInstant instant) {
+    isNotNull();
+    assertInstantParameterIsNotNull(instant);
+    if (actual.contains(instant))
+      throw lazyAssertionError(info, shouldNotContain(actual.toInterval(), snapshotOf(instant)));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual interval fully contains the given interval.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Interval(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-03&quot;)))
+   *   .contains(new Interval(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-02&quot;)));</code></pre>
+   *
+   * @param interval the given interval.
+   * @return this assertion object.
+   * @throws AssertionError if the actual interval is {@code null}.
+   * @throws IllegalArgumentException if the given interval is {@code null}.
+   * @throws AssertionError if the actual interval does not contain the given interval.
+   */
+  public IntervalAssert contains(ReadableInterval interval) {
+    isNotNull();
+    assertIntervalParameterIsNotNull(interval);
+    if (!actual.contains(interval))
+      throw lazyAssertionError(info, shouldContain(actual.toInterval(), interval.toInterval()));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual interval and the given one share at least one instant, abutting intervals don't overlap.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Interval(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-03&quot;)))
+   *   .overlaps(new Interval(new DateTime(&quot;2000-01-02&quot;), new DateTime(&quot;2000-01-04&quot;)));</code></pre>
+   *
+   * @param interval the given interval.
+   * @return this assertion object.
+   * @throws AssertionError if the actual interval is {@code null}.
+   * @throws IllegalArgumentException if the given interval is {@code null}.
+   * @throws AssertionError if the actual interval does not overlap the given interval.
+   */
+  public IntervalAssert overlaps(ReadableInterval interval) {
+    isNotNull();
+    assertIntervalParameterIsNotNull(interval);
+    if (!actual.overlaps(interval))
+      throw lazyAssertionError(info, shouldOverlap(actual.toInterval(), interval.toInterval()));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual interval and the given one don't share any instant.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Interval(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-02&quot;)))
+   *   .doesNotOverlap(new Interval(new DateTime(&quot;2000-01-02&quot;), new DateTime(&quot;2000-01-03&quot;)));</code></pre>
+   *
+   * @param interval the given interval.
+   * @return this assertion object.
+   * @throws AssertionError if the actual interval is {@code null}.
+   * @throws IllegalArgumentException if the given interval is {@code null}.
+   * @throws AssertionError if the actual interval overlaps the given interval.
+   */
+  public IntervalAssert doesNotOverlap(ReadableInterval interval) {
+    isNotNull();
+    assertIntervalParameterIsNotNull(interval);
+    if (actual.overlaps(interval))
+      throw lazyAssertionError(info, shouldNotOverlap(actual.toInterval(), interval.toInterval()));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual interval ends where the given one starts or starts where the given one ends.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Interval(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-02&quot;)))
+   *   .abuts(new Interval(new DateTime(&quot;2000-01-02&quot;), new DateTime(&quot;2000-01-03&quot;)));</code></pre>
+   *
+   * @param interval the given interval.
+   * @return this assertion object.
+   * @throws AssertionError if the actual interval is {@code null}.
+   * @throws IllegalArgumentException if the given interval is {@code null}.
+   * @throws AssertionError if the actual interval does not abut the given interval.
+   */
+  public IntervalAssert abuts(ReadableInterval interval) {
+    isNotNull();
+    assertIntervalParameterIsNotNull(interval);
+    // ReadableInterval does not define abuts
+    boolean abuts = actual.getEndMillis() == interval.getStartMillis()
+                    || actual.getStartMillis() == interval.getEndMillis();
+    if (!abuts) throw lazyAssertionError(info, shouldAbut(actual.toInterval(), interval.toInterval()));
+    return this;
+  }
+
+  private static void assertInstantParameterIsNotNull(ReadableInstant instant) {
+    if (instant == null) throw new IllegalArgumentException(NULL_INSTANT_PARAMETER_MESSAGE);
+  }
+
+  private static void assertIntervalParameterIsNotNull(ReadableInterval interval) {
+    if (interval == null) throw new IllegalArgumentException(NULL_INTERVAL_PARAMETER_MESSAGE);
+  }
+}
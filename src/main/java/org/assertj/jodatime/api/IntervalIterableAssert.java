@@ -0,0 +1,178 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.ElementShouldNotBeNull.elementShouldNotBeNull;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldCoverContinuously.shouldCoverContinuously;
+import static org.assertj.jodatime.error.ShouldHaveNoGapLongerThan.shouldHaveNoGapLongerThan;
+import static org.assertj.jodatime.error.ShouldHaveNoOverlaps.shouldHaveNoOverlaps;
+import static org.assertj.jodatime.internal.IntervalSweeps.findOverlap;
+import static org.assertj.jodatime.internal.IntervalSweeps.firstGapLongerThan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.assertj.core.api.AbstractAssert;
+import org.joda.time.DateTime;
+import org.joda.time.Interval;
+import org.joda.time.ReadableDuration;
+import org.joda.time.ReadableInterval;
+
+/**
+ * Assertions for {@link Iterable}s (and arrays) of Joda {@link ReadableInterval}s like {@link Interval}.
+ * <p>
+ * The intervals are sorted by start once and swept in that order, checking n intervals is O(n log n) instead of
+ * comparing each pair of intervals. Intervals include their start and exclude their end, {@code null} elements always
+ * fail the assertions.
+ */
+public class IntervalIterableAssert
+    extends AbstractAssert<IntervalIterableAssert, Iterable<? extends ReadableInterval>> {
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.IntervalIterableAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected IntervalIterableAssert(Class<IntervalIterableAssert> selfType,
+                                   Iterable<? extends ReadableInterval> actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected Iterable<? extends ReadableInterval> getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that no two actual intervals overlap, abutting intervals are accepted.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatIntervals(asList(new Interval(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-02&quot;)),
+   *                           new Interval(new DateTime(&quot;2000-01-02&quot;), new DateTime(&quot;2000-01-03&quot;)))).hasNoOverlaps();</code></pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or if two intervals overlap, one overlapping pair is reported.
+   */
+  public IntervalIterableAssert hasNoOverlaps() {
+    Intervals intervals = intervalsOf(actual);
+    int[] overlap = findOverlap(intervals.starts, intervals.ends);
+    if (overlap == null) return this;
+    throw lazyAssertionError(info, shouldHaveNoOverlaps(overlap[0], intervals.elements.get(overlap[0]).toInterval(),
+                                                        overlap[1], intervals.elements.get(overlap[1]).toInterval()));
+  }
+
+  /**
+   * Verifies that every instant from the given start (inclusive) to the given end (exclusive) is contained in at least
+   * one actual interval, intervals may overlap.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatIntervals(asList(new Interval(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-03&quot;)),
+   *                           new Interval(new DateTime(&quot;2000-01-02&quot;), new DateTime(&quot;2000-01-04&quot;))))
+   *   .coversContinuously(new DateTime(&quot;2000-01-01&quot;), new DateTime(&quot;2000-01-04&quot;));</code></pre>
+   *
+   * @param start the start of the range to cover, inclusive.
+   * @param end the end of the range to cover, exclusive.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if start or end is {@code null} or if start is after end.
+   * @throws AssertionError if an element is {@code null} or if an instant of the range is not in any interval, the
+   *           earliest uncovered part of the range is reported.
+   */
+  public IntervalIterableAssert coversContinuously(DateTime start, DateTime end) {
+    if (start == null) throw new IllegalArgumentException("The start of the range should not be null");
+    if (end == null) throw new IllegalArgumentException("The end of the range should not be null");
+    if (start.isAfter(end)) throw new IllegalArgumentException("The start of the range should not be after its end");
+    Intervals intervals = intervalsOf(actual);
+    long[] gap = firstGapLongerThan(intervals.starts, intervals.ends, start.getMillis(), end.getMillis(), 0);
+    if (gap == null) return this;
+    throw lazyAssertionError(info, shouldCoverContinuously(start, end,
+                                                           new Interval(gap[0], gap[1], start.getChronology())));
+  }
+
+  /**
+   * Verifies that from the earliest start to the latest end of the actual intervals, there is no stretch of time longer
+   * than the given duration that is not contained in any interval.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // one hour break between the two intervals
+   * assertThatIntervals(asList(new Interval(new DateTime(&quot;2000-01-01T08:00&quot;), new DateTime(&quot;2000-01-01T12:00&quot;)),
+   *                            new Interval(new DateTime(&quot;2000-01-01T13:00&quot;), new DateTime(&quot;2000-01-01T17:00&quot;))))
+   *   .hasNoGapsLongerThan(Duration.standardHours(1));</code></pre>
+   *
+   * @param maxGap the longest accepted gap.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given duration is {@code null} or negative.
+   * @throws AssertionError if an element is {@code null} or if there is a gap longer than the given duration between
+   *           intervals, the earliest one is reported.
+   */
+  public IntervalIterableAssert hasNoGapsLongerThan(ReadableDuration maxGap) {
+    if (maxGap == null) throw new IllegalArgumentException("The maximum gap duration should not be null");
+    if (maxGap.getMillis() < 0)
+      throw new IllegalArgumentException("The maximum gap duration should not be negative but was " + maxGap);
+    Intervals intervals = intervalsOf(actual);
+    long[] gap = firstGapLongerThan(intervals.starts, intervals.ends, maxGap.getMillis());
+    if (gap == null) return this;
+    // the gap is reported in the calendar of the intervals
+    Interval gapInterval = new Interval(gap[0], gap[1], intervals.elements.get(0).getChronology());
+    throw lazyAssertionError(info, shouldHaveNoGapLongerThan(maxGap, gapInterval, gapInterval.toDuration()));
+  }
+
+  private Intervals intervalsOf(Iterable<? extends ReadableInterval> iterable) {
+    isNotNull();
+    int sizeHint = iterable instanceof Collection ? ((Collection<?>) iterable).size() : 16;
+    Intervals intervals = new Intervals(sizeHint);
+    for (ReadableInterval interval : iterable) {
+      if (interval == null) throw lazyAssertionError(info, elementShouldNotBeNull(intervals.elements.size()));
+      intervals.add(interval);
+    }
+    intervals.trim();
+    return intervals;
+  }
+
+  // the start and end millis of the intervals, extracted once as all checks work on millis
+  private static final class Intervals {
+
+    private final List<ReadableInterval> elements;
+    private long[] starts;
+    private long[] ends;
+
+    private Intervals(int sizeHint) {
+      elements = new ArrayList<>(sizeHint);
+      starts = new long[sizeHint];
+      ends = new long[sizeHint];
+    }
+
+    private void add(ReadableInterval interval) {
+      int index = elements.size();
+      if (index == starts.length) {
+        starts = Arrays.copyOf(starts, Math.max(16, index * 2));
+        ends = Arrays.copyOf(ends, starts.length);
+      }
+      starts[index] = interval.getStartMillis();
+      ends[index] = interval.getEndMillis();
+      elements.add(interval);
+    }
+
+    private void trim() {
+      if (starts.length == elements.size()) return;
+      starts = Arrays.copyOf(starts, elements.size());
+      ends = Arrays.copyOf(ends, elements.size());
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.jodatime.internal.StackTraceCapture;
+import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+
+/**
+ * Entry point for soft assertions of Joda types: failing assertions do not throw, their errors are collected and
+ * reported together by {@link #assertAll()}.
+ * <p>
+ * Only the first {@code maxRecordedErrors} errors are kept, the following ones are just counted, so that validating a
+ * large batch of values does not keep every failure in memory. Stack traces can be skipped with
+ * {@link #withoutStackTraces()} when only the failure messages matter.
+ * <p>
+ * Example :
+ * <pre><code class='java'> JodaSoftAssertions softly = new JodaSoftAssertions(100).withoutStackTraces();
+ * for (Record record : records) {
+ *   softly.assertThat(record.getCreationDate()).isBefore(record.getUpdateDate());
+ *   softly.assertThat(record.getBirthDate()).isAfter(new LocalDate(1900, 1, 1));
+ * }
+ * // fails reporting the number of failed assertions and the first 100 error messages
+ * softly.assertAll();</code></pre>
+ * <p>
+ * Assertions are not wrapped in proxies, each entry point returns a subclass of the fail-fast assertion class. The
+ * assertions inherited from AssertJ are collected as well, except {@code satisfies} which cannot be overridden: it
+ * still throws its first failure, assert the requirements with this instance instead. This class is not thread safe,
+ * use one instance per thread.
+ */
+public class JodaSoftAssertions {
+
+  /**
+   * Number of errors kept by default, the following ones are only counted.
+   */
+  public static final int DEFAULT_MAX_RECORDED_ERRORS = 100;
+
+  private final int maxRecordedErrors;
+  private final List<AssertionError> errors = new ArrayList<>();
+  private long failureCount;
+  private boolean captureStackTraces = true;
+  // set while a soft assertion runs, the assertions it calls on itself must not collect their failure a second time
+  private boolean collecting;
+
+  /**
+   * Creates a new <code>{@link JodaSoftAssertions}</code> keeping the first {@value #DEFAULT_MAX_RECORDED_ERRORS}
+   * errors.
+   */
+  public JodaSoftAssertions() {
+    this(DEFAULT_MAX_RECORDED_ERRORS);
+  }
+
+  /**
+   * Creates a new <code>{@link JodaSoftAssertions}</code> keeping the given number of errors, the following ones are
+   * only counted.
+   *
+   * @param maxRecordedErrors the maximum number of errors kept.
+   * @throws IllegalArgumentException if the given maximum is negative.
+   */
+  public JodaSoftAssertions(int maxRecordedErrors) {
+    if (maxRecordedErrors < 0)
+      throw new IllegalArgumentException("The maximum number of recorded errors should not be negative but was "
+                                         + maxRecordedErrors);
+    this.maxRecordedErrors = maxRecordedErrors;
+  }
+
+  /**
+   * Stops capturing the stack trace of the errors of the failing soft assertions, it saves most of the cost of a
+   * failure when only the error messages are reported.
+   * <p>
+   * Only the errors created by the Joda assertions are concerned, the {@code isNotNull} and {@code isEqualTo(Object)}
+   * assertions inherited from AssertJ core still capture their stack trace.
+   *
+   * @return {@code this} soft assertions object.
+   */
+  public JodaSoftAssertions withoutStackTraces() {
+    captureStackTraces = false;
+    return this;
+  }
+
+  /**
+   * Creates a new soft assertion for a {@link DateTime}.
+   *
+   * @param actual the actual value.
+   * @return the created soft assertion object.
+   */
+  public DateTimeAssert assertThat(DateTime actual) {
+    return new SoftDateTimeAssert(this, actual);
+  }
+
+  /**
+   * Creates a new soft assertion for a {@link LocalDateTime}.
+   *
+   * @param actual the actual value.
+   * @return the created soft assertion object.
+   */
+  public LocalDateTimeAssert assertThat(LocalDateTime actual) {
+    return new SoftLocalDateTimeAssert(this, actual);
+  }
+
+  /**
+   * Creates a new soft assertion for a {@link LocalDate}.
+   *
+   * @param actual the actual value.
+   * @return the created soft assertion object.
+   */
+  public LocalDateAssert assertThat(LocalDate actual) {
+    return new SoftLocalDateAssert(this, actual);
+  }
+
+  /**
+   * @return the number of failed soft assertions, including the ones whose error was not recorded.
+   */
+  public long failureCount() {
+    return failureCount;
+  }
+
+  /**
+   * @return the errors of the first failed soft assertions, at most {@code maxRecordedErrors} of them.
+   */
+  public List<AssertionError> errorsCollected() {
+    return unmodifiableList(new ArrayList<>(errors));
+  }
+
+  /**
+   * @return true if no soft assertion has failed.
+   */
+  public boolean wasSuccess() {
+    return failureCount == 0;
+  }
+
+  /**
+   * Verifies that no soft assertion has failed.
+   *
+   * @throws AssertionError reporting the number of failed soft assertions and the messages of the recorded errors if
+   *           any soft assertion has failed.
+   */
+  public void assertAll() {
+    if (failureCount == 0) return;
+    StringBuilder message = new StringBuilder();
+    if (failureCount == errors.size()) {
+      message.append(String.format("%nThe following %s assertions failed:", failureCount));
+    } else {
+      message.append(String.format("%n%s assertions failed, the first %s are:", failureCount, errors.size()));
+    }
+    for (int i = 0; i < errors.size(); i++) {
+      message.append(String.format("%n%s) %s", i + 1, errors.get(i).getMessage()));
+    }
+    throw new AssertionError(message.toString());
+  }
+
+  // runs the given assertion of a soft assertion object, collecting its failure instead of throwing it
+  void collectFailureOf(Runnable assertion) {
+    if (collecting) {
+      // called by the running soft assertion (e.g. isNotNull()), the failure is collected by the outermost one
+      assertion.run();
+      return;
+    }
+    collecting = true;
+    boolean stackTraceCapturePreviouslyDisabled = !captureStackTraces && StackTraceCapture.disable();
+    try {
+      assertion.run();
+    } catch (AssertionError error) {
+      failureCount++;
+      if (errors.size() < maxRecordedErrors) errors.add(error);
+    } finally {
+      collecting = false;
+      if (!captureStackTraces) StackTraceCapture.restore(stackTraceCapturePreviouslyDisabled);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.ElementShouldNotBeNull.elementShouldNotBeNull;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.jodatime.internal.ElementCheck;
+import org.assertj.jodatime.internal.Violation;
+import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+
+/**
+ * Assertions for a stream of Joda values ({@link DateTime}, {@link LocalDateTime} or {@link LocalDate}) given as a
+ * {@link java.util.stream.Stream Stream} or an {@link Iterator}, the elements are never collected.
+ * <p>
+ * As a stream can only be consumed once, all the {@link JodaStreamCheck}s are given to
+ * {@link #consume(JodaStreamCheck...)} which verifies them in a single pass. The pass keeps constant state: the
+ * previous element and the number of elements, the first failing element is reported along with its position,
+ * {@code null} elements always fail.
+ * <p>
+ * {@link DateTime}s are compared by their millis like {@link DateTimeAssert} does, {@link LocalDateTime}s and
+ * {@link LocalDate}s by their natural order.
+ * <p>
+ * Example :
+ * <pre><code class='java'> try (Stream&lt;DateTime&gt; events = Files.lines(eventLog).map(DateTime::parse)) {
+ *   assertThatDateTimeStream(events).consume(sorted(), within(partitionStart, partitionEnd));
+ * }</code></pre>
+ *
+ * @param <T> the type of the streamed Joda values.
+ */
+public class JodaStreamAssert<T> extends AbstractAssert<JodaStreamAssert<T>, Iterator<? extends T>> {
+
+  private final Comparator<? super T> order;
+  private boolean consumed;
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.JodaStreamAssert}</code>.
+   *
+   * @param actual the actual elements to verify
+   * @param order the chronological order of the elements
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  protected JodaStreamAssert(Iterator<? extends T> actual, Comparator<? super T> order) {
+    super(actual, (Class) JodaStreamAssert.class);
+    this.order = order;
+  }
+
+  // visible for test
+  protected Iterator<? extends T> getActual() {
+    return actual;
+  }
+
+  /**
+   * Consumes the actual elements once, verifying each of them against all the given checks.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatLocalDateStream(holidays).consume(strictlyIncreasing(), elementCount(11));</code></pre>
+   *
+   * @param checks the checks to verify, elements are only checked not to be {@code null} if none is given.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   * @throws IllegalArgumentException if one of the given checks is {@code null} or if the start of a
+   *           {@link JodaStreamCheck#within(Object, Object) within} range is after its end.
+   * @throws AssertionError if an element is {@code null} or does not pass one of the given checks, or if the number
+   *           of elements is not the expected one.
+   */
+  @SafeVarargs
+  public final JodaStreamAssert<T> consume(JodaStreamCheck<T>... checks) {
+    isNotNull();
+    if (consumed) throw new IllegalStateException("The stream has already been consumed");
+    ElementCheck<T>[] elementChecks = elementChecksOf(checks);
+    consumed = true;
+    T previous = null;
+    long index = 0;
+    for (; actual.hasNext(); index++) {
+      T element = actual.next();
+      if (element == null) throw lazyAssertionError(info, elementShouldNotBeNull(index));
+      for (int i = 0; i < checks.length; i++) {
+        if (elementChecks[i] != null && elementChecks[i].isViolatedBy(previous, element))
+          throw lazyAssertionError(info, checks[i].violationError(new Violation<>(index, previous, element)));
+      }
+      previous = element;
+    }
+    for (JodaStreamCheck<T> check : checks) {
+      ErrorMessageFactory countError = check.countError(index);
+      if (countError != null) throw lazyAssertionError(info, countError);
+    }
+    return this;
+  }
+
+  private ElementCheck<T>[] elementChecksOf(JodaStreamCheck<T>[] checks) {
+    @SuppressWarnings("unchecked")
+    ElementCheck<T>[] elementChecks = new ElementCheck[checks.length];
+    for (int i = 0; i < checks.length; i++) {
+      if (checks[i] == null) throw new IllegalArgumentException("The stream checks should not be null");
+      elementChecks[i] = checks[i].elementCheck(order);
+    }
+    return elementChecks;
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.ShouldAllBeWithin.shouldAllBeWithin;
+import static org.assertj.jodatime.error.ShouldBeInChronologicalOrder.shouldBeSorted;
+import static org.assertj.jodatime.error.ShouldBeInChronologicalOrder.shouldBeStrictlyIncreasing;
+import static org.assertj.jodatime.error.ShouldHaveElementCount.shouldHaveElementCount;
+
+import java.util.Comparator;
+
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.jodatime.internal.ElementCheck;
+import org.assertj.jodatime.internal.Violation;
+
+/**
+ * A check of the elements of a stream of Joda values, verified by {@link JodaStreamAssert#consume(JodaStreamCheck...)}
+ * while the stream is consumed.
+ * <p>
+ * Example :
+ * <pre><code class='java'> assertThatDateTimeStream(events).consume(sorted(),
+ *                                          within(partitionStart, partitionEnd));</code></pre>
+ *
+ * @param <T> the type of the streamed Joda values.
+ */
+public abstract class JodaStreamCheck<T> {
+
+  private JodaStreamCheck() {}
+
+  /**
+   * Checks that the elements are in chronological order, consecutive equal elements are accepted.
+   *
+   * @param <T> the type of the streamed Joda values.
+   * @return the created check.
+   */
+  public static <T> JodaStreamCheck<T> sorted() {
+    return new JodaStreamCheck<T>() {
+      @Override
+      ElementCheck<T> elementCheck(Comparator<? super T> order) {
+        return (previous, element) -> previous != null && order.compare(element, previous) < 0;
+      }
+
+      @Override
+      ErrorMessageFactory violationError(Violation<T> violation) {
+        return shouldBeSorted(violation.index(), violation.previous(), violation.element());
+      }
+    };
+  }
+
+  /**
+   * Checks that each element is strictly after the element preceding it.
+   *
+   * @param <T> the type of the streamed Joda values.
+   * @return the created check.
+   */
+  public static <T> JodaStreamCheck<T> strictlyIncreasing() {
+    return new JodaStreamCheck<T>() {
+      @Override
+      ElementCheck<T> elementCheck(Comparator<? super T> order) {
+        return (previous, element) -> previous != null && order.compare(element, previous) <= 0;
+      }
+
+      @Override
+      ErrorMessageFactory violationError(Violation<T> violation) {
+        return shouldBeStrictlyIncreasing(violation.index(), violation.previous(), violation.element());
+      }
+    };
+  }
+
+  /**
+   * Checks that all the elements are within the given range, bounds included.
+   *
+   * @param <T> the type of the streamed Joda values.
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @return the created check.
+   * @throws IllegalArgumentException if start or end is {@code null}.
+   */
+  public static <T> JodaStreamCheck<T> within(T start, T end) {
+    if (start == null) throw new IllegalArgumentException("The start of the range should not be null");
+    if (end == null) throw new IllegalArgumentException("The end of the range should not be null");
+    return new JodaStreamCheck<T>() {
+      @Override
+      ElementCheck<T> elementCheck(Comparator<? super T> order) {
+        if (order.compare(start, end) > 0)
+          throw new IllegalArgumentException("The start of the range should not be after its end");
+        return (previous, element) -> order.compare(element, start) < 0 || order.compare(element, end) > 0;
+      }
+
+      @Override
+      ErrorMessageFactory violationError(Violation<T> violation) {
+        return shouldAllBeWithin(violation.index(), violation.element(), start, end);
+      }
+    };
+  }
+
+  /**
+   * Checks the number of elements, it is verified once all elements have been consumed.
+   *
+   * @param <T> the type of the streamed Joda values.
+   * @param expectedCount the expected number of elements.
+   * @return the created check.
+   * @throws IllegalArgumentException if the given count is negative.
+   */
+  public static <T> JodaStreamCheck<T> elementCount(long expectedCount) {
+    if (expectedCount < 0) throw new IllegalArgumentException("The expected number of elements should not be negative");
+    return new JodaStreamCheck<T>() {
+      @Override
+      ErrorMessageFactory countError(long count) {
+        return count == expectedCount ? null : shouldHaveElementCount(count, expectedCount);
+      }
+    };
+  }
+
+  // the check of each element in the given order, null if this check is not about the elements
+  ElementCheck<T> elementCheck(Comparator<? super T> order) {
+    return null;
+  }
+
+  ErrorMessageFactory violationError(Violation<T> violation) {
+    throw new UnsupportedOperationException();
+  }
+
+  // the error of this check for the given number of elements, null if it passes
+  ErrorMessageFactory countError(long count) {
+    return null;
+  }
+}
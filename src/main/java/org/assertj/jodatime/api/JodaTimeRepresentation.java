@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.joda.time.DateTime;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * {@link StandardRepresentation} printing {@link DateTime}, {@link Instant}, {@link LocalDateTime},
+ * {@link LocalDate} and {@link LocalTime} values with formatters built once and printing only the first elements of large collections and
+ * arrays.
+ * <p>
+ * Joda values are printed as their {@code toString()} does but without looking the ISO formatter up nor going
+ * through the type checks of {@link StandardRepresentation}, the Joda elements of a truncated collection are printed in
+ * a single buffer. Collections and arrays with more elements than the maximum are printed like
+ * {@code [2000-01-01, 2000-01-02, ... (998 more)]}, the other values are printed as {@link StandardRepresentation}
+ * does.
+ * <p>
+ * It can be used for a single assertion or registered globally:
+ * <pre><code class='java'> assertThatDateTimes(dateTimes).withRepresentation(JodaTimeRepresentation.JODA_TIME_REPRESENTATION)
+ *                                .isSorted();
+ *
+ * // for all the following assertions, including AssertJ core ones
+ * Assertions.useJodaTimeRepresentation();</code></pre>
+ */
+public class JodaTimeRepresentation extends StandardRepresentation {
+
+  public static final int DEFAULT_MAX_ELEMENTS_FOR_PRINTING = 100;
+
+  /**
+   * The representation printing at most {@value #DEFAULT_MAX_ELEMENTS_FOR_PRINTING} elements of collections and arrays.
+   */
+  public static final JodaTimeRepresentation JODA_TIME_REPRESENTATION = new JodaTimeRepresentation(
+      DEFAULT_MAX_ELEMENTS_FOR_PRINTING);
+
+  // the formatters used by the toString() of DateTime, Instant, LocalDateTime, LocalDate and LocalTime
+  private static final DateTimeFormatter DATE_TIME_FORMATTER = ISODateTimeFormat.dateTime();
+  private static final DateTimeFormatter DATE_FORMATTER = ISODateTimeFormat.date();
+  private static final DateTimeFormatter TIME_FORMATTER = ISODateTimeFormat.time();
+  // length of 2000-01-01T00:00:00.000+01:00
+  private static final int DATE_TIME_LENGTH = 29;
+
+  private final int maxElementsForPrinting;
+
+  /**
+   * Creates a representation printing at most the given number of elements of collections and arrays.
+   *
+   * @param maxElementsForPrinting the maximum number of printed elements.
+   * @throws IllegalArgumentException if the given number is not strictly positive.
+   */
+  public JodaTimeRepresentation(int maxElementsForPrinting) {
+    if (maxElementsForPrinting <= 0)
+      throw new IllegalArgumentException("The maximum number of elements for printing should be strictly positive "
+                                         + "but was " + maxElementsForPrinting);
+    this.maxElementsForPrinting = maxElementsForPrinting;
+  }
+
+  @Override
+  public String toStringOf(Object object) {
+    if (isJodaValue(object)) {
+      StringBuffer buffer = new StringBuffer(DATE_TIME_LENGTH);
+      appendJodaValue(buffer, object);
+      return buffer.toString();
+    }
+    if (object instanceof Collection && ((Collection<?>) object).size() > maxElementsForPrinting) {
+      return truncatedToStringOf((Collection<?>) object);
+    }
+    if (object != null && object.getClass().isArray() && Array.getLength(object) > maxElementsForPrinting) {
+      return truncatedToStringOfArray(object);
+    }
+    return super.toStringOf(object);
+  }
+
+  private String truncatedToStringOf(Collection<?> collection) {
+    StringBuffer buffer = new StringBuffer(maxElementsForPrinting * DATE_TIME_LENGTH).append('[');
+    int printed = 0;
+    for (Object element : collection) {
+      if (printed == maxElementsForPrinting) break;
+      if (printed++ > 0) buffer.append(", ");
+      if (element == collection) buffer.append("(this Collection)");
+      else appendElement(buffer, element);
+    }
+    return appendRemaining(buffer, collection.size() - printed);
+  }
+
+  private String truncatedToStringOfArray(Object array) {
+    StringBuffer buffer = new StringBuffer(maxElementsForPrinting * DATE_TIME_LENGTH).append('[');
+    for (int i = 0; i < maxElementsForPrinting; i++) {
+      if (i > 0) buffer.append(", ");
+      appendElement(buffer, Array.get(array, i));
+    }
+    return appendRemaining(buffer, Array.getLength(array) - maxElementsForPrinting);
+  }
+
+  private void appendElement(StringBuffer buffer, Object element) {
+    if (isJodaValue(element)) appendJodaValue(buffer, element);
+    else buffer.append(toStringOf(element));
+  }
+
+  private static String appendRemaining(StringBuffer buffer, int remaining) {
+    return buffer.append(", ... (").append(remaining).append(" more)]").toString();
+  }
+
+  private static boolean isJodaValue(Object object) {
+    return object instanceof DateTime || object instanceof Instant || object instanceof LocalDateTime
+           || object instanceof LocalDate || object instanceof LocalTime;
+  }
+
+  // printTo only takes a StringBuffer (not a StringBuilder) without the IOException of the Appendable variant
+  private static void appendJodaValue(StringBuffer buffer, Object jodaValue) {
+    if (jodaValue instanceof DateTime) DATE_TIME_FORMATTER.printTo(buffer, (DateTime) jodaValue);
+    else if (jodaValue instanceof Instant) DATE_TIME_FORMATTER.printTo(buffer, (Instant) jodaValue);
+    else if (jodaValue instanceof LocalDateTime) DATE_TIME_FORMATTER.printTo(buffer, (LocalDateTime) jodaValue);
+    else if (jodaValue instanceof LocalDate) DATE_FORMATTER.printTo(buffer, (LocalDate) jodaValue);
+    else TIME_FORMATTER.printTo(buffer, (LocalTime) jodaValue);
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static java.util.Arrays.asList;
+import static org.assertj.jodatime.internal.LocalMillis.localMillisOf;
+
+import java.util.Collection;
+
+import org.assertj.jodatime.internal.LongHashSet;
+import org.joda.time.DateTime;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.ReadableInstant;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * Immutable set of Joda values indexed by their millis, it is meant to be built once and reused to check that many
+ * values are (or are not) in a large number of candidates, each check being a constant time hash lookup.
+ * <p>
+ * {@link ReadableInstant}s (like {@link DateTime}) are indexed by their epoch millis, so two instants are considered
+ * the same whatever their {@link org.joda.time.DateTimeZone DateTimeZone} and chronology are. {@link LocalDateTime}s
+ * and {@link LocalDate}s are indexed by their local millis.
+ * <p>
+ * Example :
+ * <pre><code class='java'> // built once
+ * JodaTimeSet scheduledInstants = JodaTimeSet.ofInstants(scheduler.allScheduledDateTimes());
+ *
+ * // reused by many assertions
+ * assertThat(firstEvent.getDateTime()).isIn(scheduledInstants);
+ * assertThat(secondEvent.getDateTime()).isIn(scheduledInstants);</code></pre>
+ */
+public final class JodaTimeSet {
+
+  // number of values displayed by toString, error messages would be unreadable with thousands of values
+  private static final int MAX_DISPLAYED_VALUES = 10;
+  // the empty set has no kind, it can be used to look for any kind of value
+  private static final JodaTimeSet EMPTY = new JodaTimeSet(null, new LongHashSet(0));
+
+  private final Kind kind;
+  private final LongHashSet millis;
+
+  /**
+   * Returns an empty set, it contains no value of any kind.
+   * <p>
+   * Use it instead of {@code JodaTimeSet.of()} which does not compile as the kind of values can't be inferred.
+   *
+   * @return the empty set.
+   */
+  public static JodaTimeSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a set of the given {@link ReadableInstant}s indexed by their epoch millis.
+   *
+   * @param instants the instants to put in the set.
+   * @return the created set.
+   * @throws IllegalArgumentException if the given array or one of its values is {@code null}.
+   */
+  public static JodaTimeSet of(ReadableInstant... instants) {
+    checkNotNull(instants);
+    return ofInstants(asList(instants));
+  }
+
+  /**
+   * Creates a set of the given {@link LocalDateTime}s indexed by their local millis.
+   *
+   * @param localDateTimes the local date times to put in the set.
+   * @return the created set.
+   * @throws IllegalArgumentException if the given array or one of its values is {@code null}.
+   */
+  public static JodaTimeSet of(LocalDateTime... localDateTimes) {
+    checkNotNull(localDateTimes);
+    return ofLocalDateTimes(asList(localDateTimes));
+  }
+
+  /**
+   * Creates a set of the given {@link LocalDate}s indexed by their local millis.
+   *
+   * @param localDates the local dates to put in the set.
+   * @return the created set.
+   * @throws IllegalArgumentException if the given array or one of its values is {@code null}.
+   */
+  public static JodaTimeSet of(LocalDate... localDates) {
+    checkNotNull(localDates);
+    return ofLocalDates(asList(localDates));
+  }
+
+  /**
+   * Same as {@link #of(ReadableInstant...)} but with an {@link Iterable}.
+   *
+   * @param instants the instants to put in the set.
+   * @return the created set.
+   * @throws IllegalArgumentException if the given {@code Iterable} or one of its values is {@code null}.
+   */
+  public static JodaTimeSet ofInstants(Iterable<? extends ReadableInstant> instants) {
+    checkNotNull(instants);
+    LongHashSet millis = new LongHashSet(sizeHint(instants));
+    for (ReadableInstant instant : instants) {
+      checkValueNotNull(instant);
+      millis.add(instant.getMillis());
+    }
+    return new JodaTimeSet(Kind.INSTANT, millis);
+  }
+
+  /**
+   * Same as {@link #of(LocalDateTime...)} but with an {@link Iterable}.
+   *
+   * @param localDateTimes the local date times to put in the set.
+   * @return the created set.
+   * @throws IllegalArgumentException if the given {@code Iterable} or one of its values is {@code null}.
+   */
+  public static JodaTimeSet ofLocalDateTimes(Iterable<LocalDateTime> localDateTimes) {
+    checkNotNull(localDateTimes);
+    LongHashSet millis = new LongHashSet(sizeHint(localDateTimes));
+    for (LocalDateTime localDateTime : localDateTimes) {
+      checkValueNotNull(localDateTime);
+      millis.add(localMillisOf(localDateTime));
+    }
+    return new JodaTimeSet(Kind.LOCAL_DATE_TIME, millis);
+  }
+
+  /**
+   * Same as {@link #of(LocalDate...)} but with an {@link Iterable}.
+   *
+   * @param localDates the local dates to put in the set.
+   * @return the created set.
+   * @throws IllegalArgumentException if the given {@code Iterable} or one of its values is {@code null}.
+   */
+  public static JodaTimeSet ofLocalDates(Iterable<LocalDate> localDates) {
+    checkNotNull(localDates);
+    LongHashSet millis = new LongHashSet(sizeHint(localDates));
+    for (LocalDate localDate : localDates) {
+      checkValueNotNull(localDate);
+      millis.add(localMillisOf(localDate));
+    }
+    return new JodaTimeSet(Kind.LOCAL_DATE, millis);
+  }
+
+  private JodaTimeSet(Kind kind, LongHashSet millis) {
+    this.kind = kind;
+    this.millis = millis;
+  }
+
+  /**
+   * Returns true if this set contains an instant with the same epoch millis as the given one.
+   *
+   * @param instant the instant to look for.
+   * @return true if this set contains the given instant.
+   * @throws IllegalArgumentException if this set was not built from {@link ReadableInstant}s.
+   */
+  public boolean contains(ReadableInstant instant) {
+    checkKind(Kind.INSTANT);
+    return instant != null && millis.contains(instant.getMillis());
+  }
+
+  /**
+   * Returns true if this set contains the given {@link LocalDateTime}.
+   *
+   * @param localDateTime the local date time to look for.
+   * @return true if this set contains the given local date time.
+   * @throws IllegalArgumentException if this set was not built from {@link LocalDateTime}s.
+   */
+  public boolean contains(LocalDateTime localDateTime) {
+    checkKind(Kind.LOCAL_DATE_TIME);
+    return localDateTime != null && millis.contains(localMillisOf(localDateTime));
+  }
+
+  /**
+   * Returns true if this set contains the given {@link LocalDate}.
+   *
+   * @param localDate the local date to look for.
+   * @return true if this set contains the given local date.
+   * @throws IllegalArgumentException if this set was not built from {@link LocalDate}s.
+   */
+  public boolean contains(LocalDate localDate) {
+    checkKind(Kind.LOCAL_DATE);
+    return localDate != null && millis.contains(localMillisOf(localDate));
+  }
+
+  /**
+   * @return the number of distinct values in this set.
+   */
+  public int size() {
+    return millis.size();
+  }
+
+  @Override
+  public String toString() {
+    long[] values = millis.toSortedArray();
+    StringBuilder description = new StringBuilder("JodaTimeSet[");
+    for (int i = 0; i < values.length && i < MAX_DISPLAYED_VALUES; i++) {
+      if (i > 0) description.append(", ");
+      description.append(kind.format(values[i]));
+    }
+    if (values.length > MAX_DISPLAYED_VALUES) {
+      description.append(", ... (").append(values.length - MAX_DISPLAYED_VALUES).append(" more)");
+    }
+    return description.append(']').toString();
+  }
+
+  private void checkKind(Kind expectedKind) {
+    if (kind != null && kind != expectedKind)
+      throw new IllegalArgumentException("JodaTimeSet contains " + kind.description + ", it can't be used to look for "
+                                         + expectedKind.description);
+  }
+
+  private static int sizeHint(Iterable<?> values) {
+    return values instanceof Collection ? ((Collection<?>) values).size() : 16;
+  }
+
+  private static void checkNotNull(Object values) {
+    if (values == null) throw new IllegalArgumentException("The values to build a JodaTimeSet from should not be null");
+  }
+
+  private static void checkValueNotNull(Object value) {
+    if (value == null) throw new IllegalArgumentException("A JodaTimeSet should not contain null values");
+  }
+
+  private enum Kind {
+    INSTANT("instants") {
+      @Override
+      String format(long millis) {
+        return new Instant(millis).toString();
+      }
+    },
+    LOCAL_DATE_TIME("LocalDateTimes") {
+      @Override
+      String format(long localMillis) {
+        return new LocalDateTime(localMillis, ISOChronology.getInstanceUTC()).toString();
+      }
+    },
+    LOCAL_DATE("LocalDates") {
+      @Override
+      String format(long localMillis) {
+        return new LocalDate(localMillis, ISOChronology.getInstanceUTC()).toString();
+      }
+    };
+
+    private final String description;
+
+    Kind(String description) {
+      this.description = description;
+    }
+
+    abstract String format(long millis);
+  }
+}
@@ -12,18 +12,31 @@
  */
 package org.assertj.jodatime.api;
 
+import static org.assertj.core.error.ShouldBeIn.shouldBeIn;
+import static org.assertj.core.error.ShouldNotBeIn.shouldNotBeIn;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
 import static org.assertj.jodatime.error.ShouldBeAfter.shouldBeAfter;
 import static org.assertj.jodatime.error.ShouldBeAfterOrEqualsTo.shouldBeAfterOrEqualsTo;
 import static org.assertj.jodatime.error.ShouldBeBefore.shouldBeBefore;
 import static org.assertj.jodatime.error.ShouldBeBeforeOrEqualsTo.shouldBeBeforeOrEqualsTo;
+import static org.assertj.jodatime.error.ShouldBeBusinessDay.shouldBeBusinessDay;
+import static org.assertj.jodatime.error.ShouldBeBusinessDay.shouldNotBeHoliday;
+import static org.assertj.jodatime.error.ShouldBeCloseTo.shouldBeCloseTo;
+import static org.assertj.jodatime.error.ShouldBeNthBusinessDayAfter.shouldBeNthBusinessDayAfter;
+import static org.assertj.jodatime.error.ShouldBeNthBusinessDayAfter.shouldBeNthBusinessDayAfterButIsNotBusinessDay;
 import static org.assertj.jodatime.error.ShouldHaveDayOfMonthEqualTo.shouldHaveDayOfMonthEqualTo;
 import static org.assertj.jodatime.error.ShouldHaveMonthOfYearEqualTo.shouldHaveMonthOfYearEqualTo;
 import static org.assertj.jodatime.error.ShouldHaveYearEqualTo.shouldHaveYearEqualTo;
+import static org.assertj.jodatime.internal.LocalMillis.localMillisOf;
+import static org.assertj.jodatime.internal.Parsing.parseLocalDate;
+import static org.assertj.jodatime.internal.Tolerances.checkTolerance;
+import static org.assertj.jodatime.internal.Tolerances.distance;
+import static org.assertj.jodatime.internal.Tolerances.toleranceMillisOf;
 
 import org.assertj.core.api.AbstractAssert;
-import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
 import org.joda.time.LocalDate;
+import org.joda.time.ReadableDuration;
 
 /**
  * Assertions fot Joda {@link LocalDate} type.
@@ -34,6 +47,8 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
 
   public static final String NULL_LOCAL_DATE_PARAMETER_MESSAGE = "The LocalDate to compare actual with should not be null";
 
+  private BusinessCalendar businessCalendar = BusinessCalendar.MONDAY_TO_FRIDAY;
+
   /**
    * Creates a new <code>{@link LocalDateAssert}</code>.
    *
@@ -63,7 +78,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
   public LocalDateAssert hasYear(int expectedYear) {
     isNotNull();
     if (actual.getYear() != expectedYear)
-      throw Failures.instance().failure(info, shouldHaveYearEqualTo(actual, actual.getYear(), expectedYear));
+      throw lazyAssertionError(info, shouldHaveYearEqualTo(actual, actual.getYear(), expectedYear));
     return this;
   }
 
@@ -81,8 +96,8 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
   public LocalDateAssert hasMonthOfYear(int expectedMonthOfYear) {
     isNotNull();
     if (actual.getMonthOfYear() != expectedMonthOfYear)
-      throw Failures.instance()
-                    .failure(info, shouldHaveMonthOfYearEqualTo(actual, actual.getMonthOfYear(), expectedMonthOfYear));
+      throw lazyAssertionError(info,
+                               shouldHaveMonthOfYearEqualTo(actual, actual.getMonthOfYear(), expectedMonthOfYear));
     return this;
   }
 
@@ -100,8 +115,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
   public LocalDateAssert hasDayOfMonth(int expectedDayOfMonth) {
     isNotNull();
     if (actual.getDayOfMonth() != expectedDayOfMonth)
-      throw Failures.instance()
-                    .failure(info, shouldHaveDayOfMonthEqualTo(actual, actual.getDayOfMonth(), expectedDayOfMonth));
+      throw lazyAssertionError(info, shouldHaveDayOfMonthEqualTo(actual, actual.getDayOfMonth(), expectedDayOfMonth));
     return this;
   }
 
@@ -121,7 +135,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
     isNotNull();
     assertLocalDateParameterIsNotNull(other);
     if (!actual.isBefore(other)) {
-      throw Failures.instance().failure(info, shouldBeBefore(actual, other));
+      throw lazyAssertionError(info, shouldBeBefore(actual, other));
     }
     return this;
   }
@@ -144,7 +158,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
    */
   public LocalDateAssert isBefore(String LocalDateAsString) {
     assertLocalDateAsStringParameterIsNotNull(LocalDateAsString);
-    return isBefore(new LocalDate(LocalDateAsString));
+    return isBefore(parseLocalDate(LocalDateAsString));
   }
 
   /**
@@ -164,7 +178,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
     isNotNull();
     assertLocalDateParameterIsNotNull(other);
     if (actual.isAfter(other)) {
-      throw Failures.instance().failure(info, shouldBeBeforeOrEqualsTo(actual, other));
+      throw lazyAssertionError(info, shouldBeBeforeOrEqualsTo(actual, other));
     }
     return this;
   }
@@ -188,7 +202,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
    */
   public LocalDateAssert isBeforeOrEqualTo(String LocalDateAsString) {
     assertLocalDateAsStringParameterIsNotNull(LocalDateAsString);
-    return isBeforeOrEqualTo(new LocalDate(LocalDateAsString));
+    return isBeforeOrEqualTo(parseLocalDate(LocalDateAsString));
   }
 
   /**
@@ -208,7 +222,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
     isNotNull();
     assertLocalDateParameterIsNotNull(other);
     if (actual.isBefore(other)) {
-      throw Failures.instance().failure(info, shouldBeAfterOrEqualsTo(actual, other));
+      throw lazyAssertionError(info, shouldBeAfterOrEqualsTo(actual, other));
     }
     return this;
   }
@@ -232,7 +246,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
    */
   public LocalDateAssert isAfterOrEqualTo(String LocalDateAsString) {
     assertLocalDateAsStringParameterIsNotNull(LocalDateAsString);
-    return isAfterOrEqualTo(new LocalDate(LocalDateAsString));
+    return isAfterOrEqualTo(parseLocalDate(LocalDateAsString));
   }
 
   /**
@@ -251,7 +265,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
     Objects.instance().assertNotNull(info, actual);
     assertLocalDateParameterIsNotNull(other);
     if (!actual.isAfter(other)) {
-      throw Failures.instance().failure(info, shouldBeAfter(actual, other));
+      throw lazyAssertionError(info, shouldBeAfter(actual, other));
     }
     return this;
   }
@@ -274,7 +288,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
    */
   public LocalDateAssert isAfter(String localDateAsString) {
     assertLocalDateAsStringParameterIsNotNull(localDateAsString);
-    return isAfter(new LocalDate(localDateAsString));
+    return isAfter(parseLocalDate(localDateAsString));
   }
 
   /**
@@ -295,7 +309,7 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
    */
   public LocalDateAssert isEqualTo(String localDateString) {
     assertLocalDateAsStringParameterIsNotNull(localDateString);
-    return isEqualTo(new LocalDate(localDateString));
+    return isEqualTo(parseLocalDate(localDateString));
   }
 
   /**
@@ -316,7 +330,58 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
    */
   public LocalDateAssert isNotEqualTo(String localDateAsString) {
     assertLocalDateAsStringParameterIsNotNull(localDateAsString);
-    return isNotEqualTo(new LocalDate(localDateAsString));
+    return isNotEqualTo(parseLocalDate(localDateAsString));
+  }
+
+  /**
+   * Verifies that the actual {@code LocalDate} is close to the given one within the given tolerance in milliseconds,
+   * bounds included.
+   * <p>
+   * Contrary to field based assertions like {@code isEqualToIgnoringSeconds}, values on both sides of a field boundary
+   * are close: the distance between both local millis is computed with a single subtraction.
+   * <p>
+   * The local millis of a {@code LocalDate} are the ones of its start of day, use a multiple of a day as tolerance.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion succeeds
+   * assertThat(new LocalDate(&quot;2000-01-31&quot;)).isCloseTo(new LocalDate(&quot;2000-02-01&quot;), 1);
+   *
+   * // assertion fails
+   * assertThat(new LocalDate(&quot;2000-01-31&quot;)).isCloseTo(new LocalDate(&quot;2000-02-02&quot;), 1);</code></pre>
+   *
+   * @param other the given {@link LocalDate}.
+   * @param toleranceMillis the maximum distance in milliseconds between the actual {@code LocalDate} and the given one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDate} is {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalDate} is {@code null} or if the tolerance is negative.
+   * @throws AssertionError if the actual {@code LocalDate} is not close to the given one within the given tolerance.
+   */
+  public LocalDateAssert isCloseTo(LocalDate other, long toleranceMillis) {
+    isNotNull();
+    assertLocalDateParameterIsNotNull(other);
+    checkTolerance(toleranceMillis);
+    long distance = distance(localMillisOf(actual), localMillisOf(other));
+    if (distance > toleranceMillis) throw lazyAssertionError(info, shouldBeCloseTo(actual, other, toleranceMillis,
+                                                                                  distance));
+    return this;
+  }
+
+  /**
+   * Same assertion as {@link #isCloseTo(LocalDate, long)} but the tolerance is given as a {@link ReadableDuration}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new LocalDate(&quot;2000-01-31&quot;)).isCloseTo(new LocalDate(&quot;2000-02-01&quot;), Duration.standardDays(1));</code></pre>
+   *
+   * @param other the given {@link LocalDate}.
+   * @param tolerance the maximum distance between the actual {@code LocalDate} and the given one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDate} is {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalDate} or the tolerance is {@code null} or if the tolerance is
+   *           negative.
+   * @throws AssertionError if the actual {@code LocalDate} is not close to the given one within the given tolerance.
+   */
+  public LocalDateAssert isCloseTo(LocalDate other, ReadableDuration tolerance) {
+    return isCloseTo(other, toleranceMillisOf(tolerance));
   }
 
   /**
@@ -361,10 +426,162 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
     return isNotIn(convertToLocalDateArray(localDatesAsString));
   }
 
+  /**
+   * Verifies that the actual {@link LocalDate} is in the given {@link JodaTimeSet}, this check is a constant time lookup
+   * which makes it suitable to verify many values against a large set of candidates built once.
+   * <p>
+   * Note that the values are compared by same local millis, see {@link JodaTimeSet}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> JodaTimeSet candidates = JodaTimeSet.of(new LocalDate(&quot;1999-12-31&quot;), new LocalDate(&quot;2000-01-01&quot;));
+   * assertThat(new LocalDate(&quot;2000-01-01&quot;)).isIn(candidates);</code></pre>
+   *
+   * @param values the {@link JodaTimeSet} to look the actual value in.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code LocalDate} is {@code null}.
+   * @throws IllegalArgumentException if the given {@link JodaTimeSet} is {@code null} or does not contain {@link LocalDate}s.
+   * @throws AssertionError if the actual {@code LocalDate} is not in the given {@link JodaTimeSet}.
+   */
+  public LocalDateAssert isIn(JodaTimeSet values) {
+    isNotNull();
+    checkJodaTimeSetIsNotNull(values);
+    if (!values.contains(actual)) throw lazyAssertionError(info, shouldBeIn(actual, values));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@link LocalDate} is not in the given {@link JodaTimeSet}, this check is a constant time
+   * lookup which makes it suitable to verify many values against a large set of candidates built once.
+   * <p>
+   * Note that the values are compared by same local millis, see {@link JodaTimeSet}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> JodaTimeSet forbiddenValues = JodaTimeSet.of(new LocalDate(&quot;1999-12-31&quot;), new LocalDate(&quot;2000-01-02&quot;));
+   * assertThat(new LocalDate(&quot;2000-01-01&quot;)).isNotIn(forbiddenValues);</code></pre>
+   *
+   * @param values the {@link JodaTimeSet} to look the actual value in.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code LocalDate} is {@code null}.
+   * @throws IllegalArgumentException if the given {@link JodaTimeSet} is {@code null} or does not contain {@link LocalDate}s.
+   * @throws AssertionError if the actual {@code LocalDate} is in the given {@link JodaTimeSet}.
+   */
+  public LocalDateAssert isNotIn(JodaTimeSet values) {
+    isNotNull();
+    checkJodaTimeSetIsNotNull(values);
+    if (values.contains(actual)) throw lazyAssertionError(info, shouldNotBeIn(actual, values));
+    return this;
+  }
+
+  /**
+   * Use the given {@link BusinessCalendar} for the business day assertions of this assertion object, by default
+   * {@link BusinessCalendar#MONDAY_TO_FRIDAY} (i.e. without holidays) is used.
+   * <p>
+   * Example :
+   * <pre><code class='java'> BusinessCalendar calendar = BusinessCalendar.withHolidays(new LocalDate(&quot;2018-12-25&quot;));
+   *
+   * assertThat(new LocalDate(&quot;2018-12-24&quot;)).usingBusinessCalendar(calendar).isBusinessDay();</code></pre>
+   *
+   * @param calendar the {@link BusinessCalendar} to use.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the given {@link BusinessCalendar} is {@code null}.
+   */
+  public LocalDateAssert usingBusinessCalendar(BusinessCalendar calendar) {
+    if (calendar == null) throw new IllegalArgumentException("The BusinessCalendar should not be null");
+    businessCalendar = calendar;
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code LocalDate} is a business day of the {@link BusinessCalendar} in use (see
+   * {@link #usingBusinessCalendar(BusinessCalendar)}), i.e. it is neither a weekend day nor a holiday.
+   * <p>
+   * Example :
+   * <pre><code class='java'> BusinessCalendar calendar = BusinessCalendar.withHolidays(new LocalDate(&quot;2018-12-25&quot;));
+   *
+   * // assertion succeeds
+   * assertThat(new LocalDate(&quot;2018-12-24&quot;)).usingBusinessCalendar(calendar).isBusinessDay();
+   *
+   * // assertions fail
+   * assertThat(new LocalDate(&quot;2018-12-25&quot;)).usingBusinessCalendar(calendar).isBusinessDay();
+   * assertThat(new LocalDate(&quot;2018-12-22&quot;)).usingBusinessCalendar(calendar).isBusinessDay();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code LocalDate} is {@code null}.
+   * @throws AssertionError if the actual {@code LocalDate} is a weekend day or a holiday.
+   */
+  public LocalDateAssert isBusinessDay() {
+    isNotNull();
+    if (!businessCalendar.isBusinessDay(actual))
+      throw lazyAssertionError(info, shouldBeBusinessDay(actual, businessCalendar.isHoliday(actual)));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code LocalDate} is not a holiday of the {@link BusinessCalendar} in use (see
+   * {@link #usingBusinessCalendar(BusinessCalendar)}), weekend days that are not holidays pass.
+   * <p>
+   * Example :
+   * <pre><code class='java'> BusinessCalendar calendar = BusinessCalendar.withHolidays(new LocalDate(&quot;2018-12-25&quot;));
+   *
+   * // assertions succeed
+   * assertThat(new LocalDate(&quot;2018-12-24&quot;)).usingBusinessCalendar(calendar).isNotHoliday();
+   * assertThat(new LocalDate(&quot;2018-12-22&quot;)).usingBusinessCalendar(calendar).isNotHoliday();
+   *
+   * // assertion fails
+   * assertThat(new LocalDate(&quot;2018-12-25&quot;)).usingBusinessCalendar(calendar).isNotHoliday();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code LocalDate} is {@code null}.
+   * @throws AssertionError if the actual {@code LocalDate} is a holiday.
+   */
+  public LocalDateAssert isNotHoliday() {
+    isNotNull();
+    if (businessCalendar.isHoliday(actual)) throw lazyAssertionError(info, shouldNotBeHoliday(actual));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code LocalDate} is the n-th business day after the given start date in the
+   * {@link BusinessCalendar} in use (see {@link #usingBusinessCalendar(BusinessCalendar)}), i.e. it is a business day
+   * and there are n business days after start up to actual included.
+   * <p>
+   * The business days between both dates are counted with the population count of the calendar bitsets, not day by
+   * day.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // T+2 settlement of a Thursday trade
+   * LocalDate tradeDate = new LocalDate(&quot;2018-12-20&quot;);
+   *
+   * // assertion succeeds
+   * assertThat(new LocalDate(&quot;2018-12-24&quot;)).isNthBusinessDayAfter(2, tradeDate);
+   *
+   * // assertions fail
+   * assertThat(new LocalDate(&quot;2018-12-22&quot;)).isNthBusinessDayAfter(2, tradeDate);
+   * assertThat(new LocalDate(&quot;2018-12-25&quot;)).isNthBusinessDayAfter(2, tradeDate);</code></pre>
+   *
+   * @param n the expected number of business days between start and actual.
+   * @param start the start date, it does not need to be a business day.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code LocalDate} is {@code null}.
+   * @throws IllegalArgumentException if n is not strictly positive or if start is {@code null}.
+   * @throws AssertionError if the actual {@code LocalDate} is not a business day or is not n business days after start.
+   */
+  public LocalDateAssert isNthBusinessDayAfter(int n, LocalDate start) {
+    isNotNull();
+    if (n <= 0)
+      throw new IllegalArgumentException("The number of business days should be strictly positive but was " + n);
+    assertLocalDateParameterIsNotNull(start);
+    if (!businessCalendar.isBusinessDay(actual))
+      throw lazyAssertionError(info, shouldBeNthBusinessDayAfterButIsNotBusinessDay(actual, n, start));
+    long businessDays = businessCalendar.businessDaysBetween(start, actual);
+    if (businessDays != n) throw lazyAssertionError(info, shouldBeNthBusinessDayAfter(actual, n, start, businessDays));
+    return this;
+  }
+
   private static Object[] convertToLocalDateArray(String... localDatesAsString) {
     LocalDate[] dates = new LocalDate[localDatesAsString.length];
     for (int i = 0; i < localDatesAsString.length; i++) {
-      dates[i] = new LocalDate(localDatesAsString[i]);
+      dates[i] = parseLocalDate(localDatesAsString[i]);
     }
     return dates;
   }
@@ -378,6 +595,10 @@ public class LocalDateAssert extends AbstractAssert<LocalDateAssert, LocalDate>
     }
   }
 
+  private static void checkJodaTimeSetIsNotNull(JodaTimeSet values) {
+    if (values == null) throw new IllegalArgumentException("The given JodaTimeSet should not be null");
+  }
+
   /**
    * Check that the {@link LocalDate} string representation to compare actual {@link LocalDate} to is not null,
    * otherwise throws a {@link IllegalArgumentException} with an explicit message
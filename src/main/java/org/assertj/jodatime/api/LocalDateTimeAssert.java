@@ -12,14 +12,21 @@
  */
 package org.assertj.jodatime.api;
 
+import static org.assertj.core.error.ShouldBeIn.shouldBeIn;
+import static org.assertj.core.error.ShouldNotBeIn.shouldNotBeIn;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
 import static org.assertj.jodatime.error.ShouldBeAfter.shouldBeAfter;
 import static org.assertj.jodatime.error.ShouldBeAfterOrEqualsTo.shouldBeAfterOrEqualsTo;
 import static org.assertj.jodatime.error.ShouldBeBefore.shouldBeBefore;
 import static org.assertj.jodatime.error.ShouldBeBeforeOrEqualsTo.shouldBeBeforeOrEqualsTo;
+import static org.assertj.jodatime.error.ShouldBeCloseTo.shouldBeCloseTo;
 import static org.assertj.jodatime.error.ShouldBeEqualIgnoringHours.shouldBeEqualIgnoringHours;
 import static org.assertj.jodatime.error.ShouldBeEqualIgnoringMillis.shouldBeEqualIgnoringMillis;
 import static org.assertj.jodatime.error.ShouldBeEqualIgnoringMinutes.shouldBeEqualIgnoringMinutes;
 import static org.assertj.jodatime.error.ShouldBeEqualIgnoringSeconds.shouldBeEqualIgnoringSeconds;
+import static org.assertj.jodatime.error.ShouldBeEqualTruncatedTo.shouldBeEqualTruncatedTo;
+import static org.assertj.jodatime.error.ShouldBeInDstShift.shouldBeInDstGap;
+import static org.assertj.jodatime.error.ShouldBeInDstShift.shouldBeInDstOverlap;
 import static org.assertj.jodatime.error.ShouldHaveDayOfMonthEqualTo.shouldHaveDayOfMonthEqualTo;
 import static org.assertj.jodatime.error.ShouldHaveHourOfDayEqualTo.shouldHaveHoursEqualTo;
 import static org.assertj.jodatime.error.ShouldHaveMillisOfSecondEqualTo.shouldHaveMillisOfSecondEqualTo;
@@ -27,11 +34,24 @@ import static org.assertj.jodatime.error.ShouldHaveMinuteOfHourEqualTo.shouldHav
 import static org.assertj.jodatime.error.ShouldHaveMonthOfYearEqualTo.shouldHaveMonthOfYearEqualTo;
 import static org.assertj.jodatime.error.ShouldHaveSecondOfMinuteEqualTo.shouldHaveSecondOfMinuteEqualTo;
 import static org.assertj.jodatime.error.ShouldHaveYearEqualTo.shouldHaveYearEqualTo;
+import static org.assertj.jodatime.internal.LocalMillis.localMillisOf;
+import static org.assertj.jodatime.internal.Parsing.parseLocalDateTime;
+import static org.assertj.jodatime.internal.Tolerances.checkTolerance;
+import static org.assertj.jodatime.internal.Tolerances.distance;
+import static org.assertj.jodatime.internal.Tolerances.toleranceMillisOf;
+import static org.assertj.jodatime.internal.Truncations.areEqualTruncatedTo;
+import static org.joda.time.DateTimeFieldType.dayOfMonth;
+import static org.joda.time.DateTimeFieldType.hourOfDay;
+import static org.joda.time.DateTimeFieldType.minuteOfHour;
+import static org.joda.time.DateTimeFieldType.secondOfMinute;
 
 import org.assertj.core.api.AbstractAssert;
-import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
+import org.assertj.jodatime.internal.ZoneTransitions;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDateTime;
+import org.joda.time.ReadableDuration;
 
 /**
  * Assertions fot Joda {@link LocalDateTime} type.
@@ -73,7 +93,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert hasYear(int expectedYear) {
     isNotNull();
     if (actual.getYear() != expectedYear)
-      throw Failures.instance().failure(info, shouldHaveYearEqualTo(actual, actual.getYear(), expectedYear));
+      throw lazyAssertionError(info, shouldHaveYearEqualTo(actual, actual.getYear(), expectedYear));
     return this;
   }
 
@@ -91,7 +111,8 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert hasMonthOfYear(int expectedMonthOfYear) {
     isNotNull();
     if (actual.getMonthOfYear() != expectedMonthOfYear)
-      throw Failures.instance().failure(info, shouldHaveMonthOfYearEqualTo(actual, actual.getMonthOfYear(), expectedMonthOfYear));
+      throw lazyAssertionError(info,
+                               shouldHaveMonthOfYearEqualTo(actual, actual.getMonthOfYear(), expectedMonthOfYear));
     return this;
   }
 
@@ -109,7 +130,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert hasDayOfMonth(int expectedDayOfMonth) {
     isNotNull();
     if (actual.getDayOfMonth() != expectedDayOfMonth)
-      throw Failures.instance().failure(info, shouldHaveDayOfMonthEqualTo(actual, actual.getDayOfMonth(), expectedDayOfMonth));
+      throw lazyAssertionError(info, shouldHaveDayOfMonthEqualTo(actual, actual.getDayOfMonth(), expectedDayOfMonth));
     return this;
   }
 
@@ -127,7 +148,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert hasHourOfDay(int expectedHourOfDay) {
     isNotNull();
     if (actual.getHourOfDay() != expectedHourOfDay)
-      throw Failures.instance().failure(info, shouldHaveHoursEqualTo(actual, actual.getHourOfDay(), expectedHourOfDay));
+      throw lazyAssertionError(info, shouldHaveHoursEqualTo(actual, actual.getHourOfDay(), expectedHourOfDay));
     return this;
   }
 
@@ -145,8 +166,8 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert hasMinuteOfHour(int expectedMinuteOfHour) {
     isNotNull();
     if (actual.getMinuteOfHour() != expectedMinuteOfHour)
-      throw Failures.instance().failure(info,
-                                        shouldHaveMinuteOfHourEqualTo(actual, actual.getMinuteOfHour(), expectedMinuteOfHour));
+      throw lazyAssertionError(info,
+                               shouldHaveMinuteOfHourEqualTo(actual, actual.getMinuteOfHour(), expectedMinuteOfHour));
     return this;
   }
 
@@ -164,8 +185,8 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert hasSecondOfMinute(int expectedSecondOfMinute) {
     isNotNull();
     if (actual.getSecondOfMinute() != expectedSecondOfMinute)
-      throw Failures.instance()
-                    .failure(info, shouldHaveSecondOfMinuteEqualTo(actual, actual.getSecondOfMinute(), expectedSecondOfMinute));
+      throw lazyAssertionError(info,
+                               shouldHaveSecondOfMinuteEqualTo(actual, actual.getSecondOfMinute(), expectedSecondOfMinute));
     return this;
   }
 
@@ -183,8 +204,8 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert hasMillisOfSecond(int expectedMillisOfSecond) {
     isNotNull();
     if (actual.getMillisOfSecond() != expectedMillisOfSecond)
-      throw Failures.instance()
-                    .failure(info, shouldHaveMillisOfSecondEqualTo(actual, actual.getMillisOfSecond(), expectedMillisOfSecond));
+      throw lazyAssertionError(info,
+                               shouldHaveMillisOfSecondEqualTo(actual, actual.getMillisOfSecond(), expectedMillisOfSecond));
     return this;
   }
 
@@ -204,7 +225,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
     Objects.instance().assertNotNull(info, actual);
     assertLocalDateTimeParameterIsNotNull(other);
     if (!actual.isBefore(other)) {
-      throw Failures.instance().failure(info, shouldBeBefore(actual, other));
+      throw lazyAssertionError(info, shouldBeBefore(actual, other));
     }
     return this;
   }
@@ -229,7 +250,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    */
   public LocalDateTimeAssert isBefore(String localDateTimeAsString) {
     assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
-    return isBefore(new LocalDateTime(localDateTimeAsString));
+    return isBefore(parseLocalDateTime(localDateTimeAsString));
   }
 
   /**
@@ -249,7 +270,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
     Objects.instance().assertNotNull(info, actual);
     assertLocalDateTimeParameterIsNotNull(other);
     if (actual.isAfter(other)) {
-      throw Failures.instance().failure(info, shouldBeBeforeOrEqualsTo(actual, other));
+      throw lazyAssertionError(info, shouldBeBeforeOrEqualsTo(actual, other));
     }
     return this;
   }
@@ -275,7 +296,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    */
   public LocalDateTimeAssert isBeforeOrEqualTo(String localDateTimeAsString) {
     assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
-    return isBeforeOrEqualTo(new LocalDateTime(localDateTimeAsString));
+    return isBeforeOrEqualTo(parseLocalDateTime(localDateTimeAsString));
   }
 
   /**
@@ -295,7 +316,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
     Objects.instance().assertNotNull(info, actual);
     assertLocalDateTimeParameterIsNotNull(other);
     if (actual.isBefore(other)) {
-      throw Failures.instance().failure(info, shouldBeAfterOrEqualsTo(actual, other));
+      throw lazyAssertionError(info, shouldBeAfterOrEqualsTo(actual, other));
     }
     return this;
   }
@@ -321,7 +342,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    */
   public LocalDateTimeAssert isAfterOrEqualTo(String localDateTimeAsString) {
     assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
-    return isAfterOrEqualTo(new LocalDateTime(localDateTimeAsString));
+    return isAfterOrEqualTo(parseLocalDateTime(localDateTimeAsString));
   }
 
   /**
@@ -340,7 +361,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
     Objects.instance().assertNotNull(info, actual);
     assertLocalDateTimeParameterIsNotNull(other);
     if (!actual.isAfter(other)) {
-      throw Failures.instance().failure(info, shouldBeAfter(actual, other));
+      throw lazyAssertionError(info, shouldBeAfter(actual, other));
     }
     return this;
   }
@@ -365,7 +386,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    */
   public LocalDateTimeAssert isAfter(String localDateTimeAsString) {
     assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
-    return isAfter(new LocalDateTime(localDateTimeAsString));
+    return isAfter(parseLocalDateTime(localDateTimeAsString));
   }
 
   /**
@@ -388,7 +409,7 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    */
   public LocalDateTimeAssert isEqualTo(String dateTimeAsString) {
     assertLocalDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isEqualTo(new LocalDateTime(dateTimeAsString));
+    return isEqualTo(parseLocalDateTime(dateTimeAsString));
   }
 
   /**
@@ -411,7 +432,59 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    */
   public LocalDateTimeAssert isNotEqualTo(String dateTimeAsString) {
     assertLocalDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isNotEqualTo(new LocalDateTime(dateTimeAsString));
+    return isNotEqualTo(parseLocalDateTime(dateTimeAsString));
+  }
+
+  /**
+   * Verifies that the actual {@code LocalDateTime} is close to the given one within the given tolerance in
+   * milliseconds, bounds included.
+   * <p>
+   * Contrary to field based assertions like {@code isEqualToIgnoringSeconds}, values on both sides of a field boundary
+   * are close: the distance between both local millis is computed with a single subtraction.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion succeeds
+   * assertThat(new LocalDateTime(&quot;2000-01-01T10:00:59.999&quot;)).isCloseTo(new LocalDateTime(&quot;2000-01-01T10:01:00.000&quot;), 1);
+   *
+   * // assertion fails
+   * assertThat(new LocalDateTime(&quot;2000-01-01T10:00:59.999&quot;)).isCloseTo(new LocalDateTime(&quot;2000-01-01T10:01:00.001&quot;), 1);</code></pre>
+   *
+   * @param other the given {@link LocalDateTime}.
+   * @param toleranceMillis the maximum distance in milliseconds between the actual {@code LocalDateTime} and the given
+   *           one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalDateTime} is {@code null} or if the tolerance is negative.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not close to the given one within the given
+   *           tolerance.
+   */
+  public LocalDateTimeAssert isCloseTo(LocalDateTime other, long toleranceMillis) {
+    isNotNull();
+    assertLocalDateTimeParameterIsNotNull(other);
+    checkTolerance(toleranceMillis);
+    long distance = distance(localMillisOf(actual), localMillisOf(other));
+    if (distance > toleranceMillis) throw lazyAssertionError(info, shouldBeCloseTo(actual, other, toleranceMillis,
+                                                                                  distance));
+    return this;
+  }
+
+  /**
+   * Same assertion as {@link #isCloseTo(LocalDateTime, long)} but the tolerance is given as a {@link ReadableDuration}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new LocalDateTime(&quot;2000-01-01T10:00:59.999&quot;)).isCloseTo(new LocalDateTime(&quot;2000-01-01T10:01:00.000&quot;), Duration.millis(1));</code></pre>
+   *
+   * @param other the given {@link LocalDateTime}.
+   * @param tolerance the maximum distance between the actual {@code LocalDateTime} and the given one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalDateTime} or the tolerance is {@code null} or if the
+   *           tolerance is negative.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not close to the given one within the given
+   *           tolerance.
+   */
+  public LocalDateTimeAssert isCloseTo(LocalDateTime other, ReadableDuration tolerance) {
+    return isCloseTo(other, toleranceMillisOf(tolerance));
   }
 
   /**
@@ -460,10 +533,56 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
     return isNotIn(convertToLocalDateTimeArray(dateTimesAsString));
   }
 
+  /**
+   * Verifies that the actual {@link LocalDateTime} is in the given {@link JodaTimeSet}, this check is a constant time lookup
+   * which makes it suitable to verify many values against a large set of candidates built once.
+   * <p>
+   * Note that the values are compared by same local millis, see {@link JodaTimeSet}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> JodaTimeSet candidates = JodaTimeSet.of(new LocalDateTime(&quot;1999-12-31&quot;), new LocalDateTime(&quot;2000-01-01&quot;));
+   * assertThat(new LocalDateTime(&quot;2000-01-01&quot;)).isIn(candidates);</code></pre>
+   *
+   * @param values the {@link JodaTimeSet} to look the actual value in.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given {@link JodaTimeSet} is {@code null} or does not contain {@link LocalDateTime}s.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not in the given {@link JodaTimeSet}.
+   */
+  public LocalDateTimeAssert isIn(JodaTimeSet values) {
+    Objects.instance().assertNotNull(info, actual);
+    checkJodaTimeSetIsNotNull(values);
+    if (!values.contains(actual)) throw lazyAssertionError(info, shouldBeIn(actual, values));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@link LocalDateTime} is not in the given {@link JodaTimeSet}, this check is a constant time
+   * lookup which makes it suitable to verify many values against a large set of candidates built once.
+   * <p>
+   * Note that the values are compared by same local millis, see {@link JodaTimeSet}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> JodaTimeSet forbiddenValues = JodaTimeSet.of(new LocalDateTime(&quot;1999-12-31&quot;), new LocalDateTime(&quot;2000-01-02&quot;));
+   * assertThat(new LocalDateTime(&quot;2000-01-01&quot;)).isNotIn(forbiddenValues);</code></pre>
+   *
+   * @param values the {@link JodaTimeSet} to look the actual value in.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given {@link JodaTimeSet} is {@code null} or does not contain {@link LocalDateTime}s.
+   * @throws AssertionError if the actual {@code LocalDateTime} is in the given {@link JodaTimeSet}.
+   */
+  public LocalDateTimeAssert isNotIn(JodaTimeSet values) {
+    Objects.instance().assertNotNull(info, actual);
+    checkJodaTimeSetIsNotNull(values);
+    if (values.contains(actual)) throw lazyAssertionError(info, shouldNotBeIn(actual, values));
+    return this;
+  }
+
   private static Object[] convertToLocalDateTimeArray(String... dateTimesAsString) {
     LocalDateTime[] dates = new LocalDateTime[dateTimesAsString.length];
     for (int i = 0; i < dateTimesAsString.length; i++) {
-      dates[i] = new LocalDateTime(dateTimesAsString[i]);
+      dates[i] = parseLocalDateTime(dateTimesAsString[i]);
     }
     return dates;
   }
@@ -477,6 +596,10 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
     }
   }
 
+  private static void checkJodaTimeSetIsNotNull(JodaTimeSet values) {
+    if (values == null) throw new IllegalArgumentException("The given JodaTimeSet should not be null");
+  }
+
   /**
    * Check that the {@link LocalDateTime} string representation to compare actual {@link LocalDateTime} to is not null,
    * otherwise throws a {@link IllegalArgumentException} with an explicit message
@@ -534,8 +657,8 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert isEqualToIgnoringMillis(LocalDateTime other) {
     Objects.instance().assertNotNull(info, actual);
     assertLocalDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringMillis(actual, other)) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringMillis(actual, other));
+    if (!areEqualTruncatedTo(actual, other, secondOfMinute())) {
+      throw lazyAssertionError(info, shouldBeEqualIgnoringMillis(actual, other));
     }
     return this;
   }
@@ -571,8 +694,8 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert isEqualToIgnoringSeconds(LocalDateTime other) {
     Objects.instance().assertNotNull(info, actual);
     assertLocalDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringSeconds(actual, other)) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringSeconds(actual, other));
+    if (!areEqualTruncatedTo(actual, other, minuteOfHour())) {
+      throw lazyAssertionError(info, shouldBeEqualIgnoringSeconds(actual, other));
     }
     return this;
   }
@@ -608,8 +731,8 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert isEqualToIgnoringMinutes(LocalDateTime other) {
     Objects.instance().assertNotNull(info, actual);
     assertLocalDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringMinutes(actual, other)) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringMinutes(actual, other));
+    if (!areEqualTruncatedTo(actual, other, hourOfDay())) {
+      throw lazyAssertionError(info, shouldBeEqualIgnoringMinutes(actual, other));
     }
     return this;
   }
@@ -645,77 +768,102 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
   public LocalDateTimeAssert isEqualToIgnoringHours(LocalDateTime other) {
     Objects.instance().assertNotNull(info, actual);
     assertLocalDateTimeParameterIsNotNull(other);
-    if (!haveSameYearMonthAndDayOfMonth(actual, other)) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringHours(actual, other));
+    if (!areEqualTruncatedTo(actual, other, dayOfMonth())) {
+      throw lazyAssertionError(info, shouldBeEqualIgnoringHours(actual, other));
     }
     return this;
   }
 
   /**
-   * Returns true if both datetime are in the same year, month and day of month, hour, minute and second, false
-   * otherwise.
-   *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month and day of month, hour, minute and second, false
-   *         otherwise.
-   */
-  private static boolean areEqualIgnoringMillis(LocalDateTime actual, LocalDateTime other) {
-    return areEqualIgnoringSeconds(actual, other) && actual.getSecondOfMinute() == other.getSecondOfMinute();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year, month, day of month, hour and minute, false otherwise.
+   * Verifies that actual and given {@code LocalDateTime} have same fields down to the given {@link DateTimeFieldType}
+   * included, all the smaller fields are ignored in comparison. For example truncating to
+   * {@link DateTimeFieldType#hourOfDay()} is equivalent to {@link #isEqualToIgnoringMinutes(LocalDateTime)} and truncating to
+   * {@link DateTimeFieldType#monthOfYear()} only compares the year and month fields.
+   * <p>
+   * Like the other isEqualToIgnoringXxx assertions, this is a fields comparison and not a time difference one, e.g
+   * 2000-01-01T<b>01:00</b>:00.000 and 2000-01-01T<b>00:59</b>:59.999 are not equal once truncated to the hour.
+   * <p>
+   * Code example :
+   * <pre><code class='java'> // successfull assertions
+   * LocalDateTime localDateTime1 = new LocalDateTime(2000, 1, 10, 23, 50, 0, 0);
+   * LocalDateTime localDateTime2 = new LocalDateTime(2000, 1, 31, 00, 00, 2, 7);
+   * assertThat(localDateTime1).isEqualToTruncatedTo(localDateTime2, DateTimeFieldType.monthOfYear());
    *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month, day of month, hour and minute, false otherwise.
-   */
-  private static boolean areEqualIgnoringSeconds(LocalDateTime actual, LocalDateTime other) {
-    return areEqualIgnoringMinutes(actual, other) && actual.getMinuteOfHour() == other.getMinuteOfHour();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year, month, day of month and hour, false otherwise.
+   * // failing assertions
+   * assertThat(localDateTime1).isEqualToTruncatedTo(localDateTime2, DateTimeFieldType.dayOfMonth());</code></pre>
    *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month, day of month and hour, false otherwise.
+   * @param other the given {@link LocalDateTime}.
+   * @param fieldType the smallest field to compare.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code DateTimeFieldType} is {@code null}.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not equal to the given one once both are truncated to the
+   *           given field.
    */
-  private static boolean areEqualIgnoringMinutes(LocalDateTime actual, LocalDateTime other) {
-    return haveSameYearMonthAndDayOfMonth(actual, other) && actual.getHourOfDay() == other.getHourOfDay();
+  public LocalDateTimeAssert isEqualToTruncatedTo(LocalDateTime other, DateTimeFieldType fieldType) {
+    Objects.instance().assertNotNull(info, actual);
+    assertLocalDateTimeParameterIsNotNull(other);
+    if (fieldType == null) throw new IllegalArgumentException("The DateTimeFieldType to truncate to should not be null");
+    if (!areEqualTruncatedTo(actual, other, fieldType)) {
+      throw lazyAssertionError(info, shouldBeEqualTruncatedTo(actual, other, fieldType));
+    }
+    return this;
   }
 
   /**
-   * Returns true if both datetime are in the same year, month and day of month, false otherwise.
+   * Verifies that the actual {@code LocalDateTime} does not exist in the given {@link DateTimeZone} because it is in a
+   * gap, i.e. it is skipped when the offset of the zone increases like when daylight saving time starts.
+   * <p>
+   * The transitions of the zone are looked up in the zone itself unless they are indexed, see
+   * {@link Assertions#setZoneTransitionIndexEnabled(boolean)}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // clocks go from 02:00 to 03:00 on 2018-03-25 in Paris
+   * assertThat(new LocalDateTime(&quot;2018-03-25T02:30&quot;)).isInDstGap(DateTimeZone.forID(&quot;Europe/Paris&quot;));</code></pre>
    *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month and day of month, false otherwise
+   * @param zone the time zone the actual {@code LocalDateTime} is checked in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given {@link DateTimeZone} is {@code null}.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not in a gap of the given zone.
    */
-  private static boolean haveSameYearMonthAndDayOfMonth(LocalDateTime actual, LocalDateTime other) {
-    return haveSameYearAndMonth(actual, other) && actual.getDayOfMonth() == other.getDayOfMonth();
+  public LocalDateTimeAssert isInDstGap(DateTimeZone zone) {
+    isNotNull();
+    checkZoneIsNotNull(zone);
+    if (!ZoneTransitions.isInGap(zone, localMillisOf(actual))) {
+      throw lazyAssertionError(info, shouldBeInDstGap(actual, zone));
+    }
+    return this;
   }
 
   /**
-   * Returns true if both datetime are in the same year and month, false otherwise.
+   * Verifies that the actual {@code LocalDateTime} is ambiguous in the given {@link DateTimeZone} because it is in an
+   * overlap, i.e. it happens twice when the offset of the zone decreases like when daylight saving time ends.
+   * <p>
+   * The transitions of the zone are looked up in the zone itself unless they are indexed, see
+   * {@link Assertions#setZoneTransitionIndexEnabled(boolean)}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // clocks go from 03:00 back to 02:00 on 2018-10-28 in Paris
+   * assertThat(new LocalDateTime(&quot;2018-10-28T02:30&quot;)).isInDstOverlap(DateTimeZone.forID(&quot;Europe/Paris&quot;));</code></pre>
    *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year and month, false otherwise
+   * @param zone the time zone the actual {@code LocalDateTime} is checked in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given {@link DateTimeZone} is {@code null}.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not in an overlap of the given zone.
    */
-  private static boolean haveSameYearAndMonth(LocalDateTime actual, LocalDateTime other) {
-    return haveSameYear(actual, other) && actual.getMonthOfYear() == other.getMonthOfYear();
+  public LocalDateTimeAssert isInDstOverlap(DateTimeZone zone) {
+    isNotNull();
+    checkZoneIsNotNull(zone);
+    if (!ZoneTransitions.isInOverlap(zone, localMillisOf(actual))) {
+      throw lazyAssertionError(info, shouldBeInDstOverlap(actual, zone));
+    }
+    return this;
   }
 
-  /**
-   * Returns true if both datetime are in the same year, false otherwise.
-   *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, false otherwise
-   */
-  private static boolean haveSameYear(LocalDateTime actual, LocalDateTime other) {
-    return actual.getYear() == other.getYear();
+  private static void checkZoneIsNotNull(DateTimeZone zone) {
+    if (zone == null) throw new IllegalArgumentException("The DateTimeZone should not be null");
   }
-}
\ No newline at end of file
+}
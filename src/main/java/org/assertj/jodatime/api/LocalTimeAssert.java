@@ -0,0 +1,267 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldBeAfter.shouldBeAfter;
+import static org.assertj.jodatime.error.ShouldBeBefore.shouldBeBefore;
+import static org.assertj.jodatime.error.ShouldBeWithin.shouldBeWithin;
+import static org.assertj.jodatime.error.ShouldHaveHourOfDayEqualTo.shouldHaveHoursEqualTo;
+import static org.assertj.jodatime.error.ShouldHaveMinuteOfHourEqualTo.shouldHaveMinuteOfHourEqualTo;
+import static org.assertj.jodatime.error.ShouldHaveSameHourAndMinute.shouldHaveSameHourAndMinute;
+import static org.assertj.jodatime.internal.MillisOfDay.hourOf;
+import static org.assertj.jodatime.internal.MillisOfDay.isWithin;
+import static org.assertj.jodatime.internal.MillisOfDay.minuteOfDayOf;
+import static org.assertj.jodatime.internal.Parsing.parseLocalTime;
+
+import org.assertj.core.api.AbstractAssert;
+import org.joda.time.LocalTime;
+
+/**
+ * Assertions for Joda {@link LocalTime} type.
+ * <p>
+ * Times are compared by their millis of day as plain ints, whatever their chronology.
+ */
+public class LocalTimeAssert extends AbstractAssert<LocalTimeAssert, LocalTime> {
+
+  public static final String NULL_LOCAL_TIME_PARAMETER_MESSAGE = "The LocalTime to compare actual with should not be null";
+
+  private static final int MINUTES_PER_HOUR = 60;
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.LocalTimeAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected LocalTimeAssert(Class<LocalTimeAssert> selfType, LocalTime actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected LocalTime getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the hour of the actual {@code LocalTime} is equal to the given hour
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new LocalTime(&quot;11:00:00&quot;)).hasHourOfDay(11);</code></pre>
+   *
+   * @param expectedHourOfDay the given hour.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalTime} is {@code null}.
+   * @throws AssertionError if the hour of the actual {@code LocalTime} is not equal to the given hour.
+   */
+  public LocalTimeAssert hasHourOfDay(int expectedHourOfDay) {
+    isNotNull();
+    int actualHourOfDay = hourOf(actual.getMillisOfDay());
+    if (actualHourOfDay != expectedHourOfDay)
+      throw lazyAssertionError(info, shouldHaveHoursEqualTo(actual, actualHourOfDay, expectedHourOfDay));
+    return this;
+  }
+
+  /**
+   * Verifies that the minute of the actual {@code LocalTime} is equal to the given minute
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new LocalTime(&quot;11:09:00&quot;)).hasMinuteOfHour(9);</code></pre>
+   *
+   * @param expectedMinuteOfHour the given minute.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalTime} is {@code null}.
+   * @throws AssertionError if the minute of the actual {@code LocalTime} is not equal to the given minute.
+   */
+  public LocalTimeAssert hasMinuteOfHour(int expectedMinuteOfHour) {
+    isNotNull();
+    int actualMinuteOfHour = minuteOfDayOf(actual.getMillisOfDay()) % MINUTES_PER_HOUR;
+    if (actualMinuteOfHour != expectedMinuteOfHour)
+      throw lazyAssertionError(info, shouldHaveMinuteOfHourEqualTo(actual, actualMinuteOfHour, expectedMinuteOfHour));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code LocalTime} is <b>strictly</b> before the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new LocalTime(&quot;10:00&quot;)).isBefore(new LocalTime(&quot;10:30&quot;));</code></pre>
+   *
+   * @param other the given {@link LocalTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalTime} is {@code null}.
+   * @throws AssertionError if the actual {@code LocalTime} is not strictly before the given one.
+   */
+  public LocalTimeAssert isBefore(LocalTime other) {
+    isNotNull();
+    assertLocalTimeParameterIsNotNull(other);
+    if (actual.getMillisOfDay() >= other.getMillisOfDay())
+      throw lazyAssertionError(info, shouldBeBefore(actual, other));
+    return this;
+  }
+
+  /**
+   * Same assertion as {@link #isBefore(LocalTime)} but the {@link LocalTime} is built from given String, which must
+   * follow ISO time format to allow calling {@link LocalTime#LocalTime(Object) LocalTime(Object)} constructor.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // use directly String in comparison to avoid a conversion
+   * assertThat(new LocalTime(&quot;10:00&quot;)).isBefore(&quot;10:30&quot;);</code></pre>
+   *
+   * @param localTimeAsString String representing a {@link LocalTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalTime} is {@code null}.
+   * @throws IllegalArgumentException if given String is null or can't be converted to a {@link LocalTime}.
+   * @throws AssertionError if the actual {@code LocalTime} is not strictly before the {@link LocalTime} built from
+   *           given String.
+   */
+  public LocalTimeAssert isBefore(String localTimeAsString) {
+    assertLocalTimeAsStringParameterIsNotNull(localTimeAsString);
+    return isBefore(parseLocalTime(localTimeAsString));
+  }
+
+  /**
+   * Verifies that the actual {@code LocalTime} is <b>strictly</b> after the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new LocalTime(&quot;10:30&quot;)).isAfter(new LocalTime(&quot;10:00&quot;));</code></pre>
+   *
+   * @param other the given {@link LocalTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalTime} is {@code null}.
+   * @throws AssertionError if the actual {@code LocalTime} is not strictly after the given one.
+   */
+  public LocalTimeAssert isAfter(LocalTime other) {
+    isNotNull();
+    assertLocalTimeParameterIsNotNull(other);
+    if (actual.getMillisOfDay() <= other.getMillisOfDay())
+      throw lazyAssertionError(info, shouldBeAfter(actual, other));
+    return this;
+  }
+
+  /**
+   * Same assertion as {@link #isAfter(LocalTime)} but the {@link LocalTime} is built from given String, which must
+   * follow ISO time format to allow calling {@link LocalTime#LocalTime(Object) LocalTime(Object)} constructor.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // use directly String in comparison to avoid a conversion
+   * assertThat(new LocalTime(&quot;10:30&quot;)).isAfter(&quot;10:00&quot;);</code></pre>
+   *
+   * @param localTimeAsString String representing a {@link LocalTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalTime} is {@code null}.
+   * @throws IllegalArgumentException if given String is null or can't be converted to a {@link LocalTime}.
+   * @throws AssertionError if the actual {@code LocalTime} is not strictly after the {@link LocalTime} built from
+   *           given String.
+   */
+  public LocalTimeAssert isAfter(String localTimeAsString) {
+    assertLocalTimeAsStringParameterIsNotNull(localTimeAsString);
+    return isAfter(parseLocalTime(localTimeAsString));
+  }
+
+  /**
+   * Verifies that the actual {@code LocalTime} is within the given range, bounds included.
+   * <p>
+   * A range whose start is after its end crosses midnight, e.g. {@code [22:00, 02:00]} contains {@code 23:00} and
+   * {@code 01:00} but not {@code 12:00}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertions succeed
+   * assertThat(new LocalTime(&quot;10:00&quot;)).isBetween(new LocalTime(&quot;09:00&quot;), new LocalTime(&quot;10:00&quot;));
+   * assertThat(new LocalTime(&quot;23:00&quot;)).isBetween(new LocalTime(&quot;22:00&quot;), new LocalTime(&quot;02:00&quot;));
+   *
+   * // assertion fails
+   * assertThat(new LocalTime(&quot;12:00&quot;)).isBetween(new LocalTime(&quot;22:00&quot;), new LocalTime(&quot;02:00&quot;));</code></pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalTime} is {@code null}.
+   * @throws IllegalArgumentException if start or end is {@code null}.
+   * @throws AssertionError if the actual {@code LocalTime} is not within the given range.
+   */
+  public LocalTimeAssert isBetween(LocalTime start, LocalTime end) {
+    isNotNull();
+    checkRange(start, end);
+    if (!isWithin(actual.getMillisOfDay(), start.getMillisOfDay(), end.getMillisOfDay()))
+      throw lazyAssertionError(info, shouldBeWithin(actual, start, end));
+    return this;
+  }
+
+  /**
+   * Same assertion as {@link #isBetween(LocalTime, LocalTime)} but the {@link LocalTime}s are built from given Strings,
+   * which must follow ISO time format to allow calling {@link LocalTime#LocalTime(Object) LocalTime(Object)}
+   * constructor.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new LocalTime(&quot;10:00&quot;)).isBetween(&quot;09:00&quot;, &quot;18:00&quot;);</code></pre>
+   *
+   * @param start String representing the start of the range, inclusive.
+   * @param end String representing the end of the range, inclusive.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalTime} is {@code null}.
+   * @throws IllegalArgumentException if a given String is null or can't be converted to a {@link LocalTime}.
+   * @throws AssertionError if the actual {@code LocalTime} is not within the given range.
+   */
+  public LocalTimeAssert isBetween(String start, String end) {
+    checkRange(start, end);
+    return isBetween(parseLocalTime(start), parseLocalTime(end));
+  }
+
+  /**
+   * Verifies that actual and given {@link LocalTime} have same hour and minute fields (second and millisecond fields
+   * are ignored in comparison).
+   * <p>
+   * Assertion can fail with LocalTimes in same chronological second time window, e.g :
+   * <p>
+   * <b>01:00</b>:00.000 and <b>00:59</b>:59.999.
+   * <p>
+   * Code example :
+   * <pre><code class='java'> // successful assertion
+   * assertThat(new LocalTime(23, 50, 0, 0)).isEqualToIgnoringSeconds(new LocalTime(23, 50, 10, 456));
+   *
+   * // failing assertion (even if time difference is only 1ms)
+   * assertThat(new LocalTime(23, 50, 0, 0)).isEqualToIgnoringSeconds(new LocalTime(23, 49, 59, 999));</code></pre>
+   *
+   * @param other the given {@link LocalTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalTime} is {@code null}.
+   * @throws AssertionError if the actual {@code LocalTime} is not equal to the given one with second and millisecond
+   *           fields ignored.
+   */
+  public LocalTimeAssert isEqualToIgnoringSeconds(LocalTime other) {
+    isNotNull();
+    assertLocalTimeParameterIsNotNull(other);
+    if (minuteOfDayOf(actual.getMillisOfDay()) != minuteOfDayOf(other.getMillisOfDay()))
+      throw lazyAssertionError(info, shouldHaveSameHourAndMinute(actual, other));
+    return this;
+  }
+
+  private static void assertLocalTimeAsStringParameterIsNotNull(String localTimeAsString) {
+    if (localTimeAsString == null)
+      throw new IllegalArgumentException("The String representing the LocalTime to compare actual with should not "
+                                         + "be null");
+  }
+
+  private static void assertLocalTimeParameterIsNotNull(LocalTime other) {
+    if (other == null) throw new IllegalArgumentException(NULL_LOCAL_TIME_PARAMETER_MESSAGE);
+  }
+
+  private static void checkRange(Object start, Object end) {
+    if (start == null) throw new IllegalArgumentException("The start of the range should not be null");
+    if (end == null) throw new IllegalArgumentException("The end of the range should not be null");
+  }
+}
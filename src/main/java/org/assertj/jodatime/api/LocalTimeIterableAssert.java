@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.ElementShouldNotBeNull.elementShouldNotBeNull;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldAllBeWithin.shouldAllBeWithin;
+import static org.assertj.jodatime.error.ShouldAllHaveFieldEqualTo.shouldAllHaveFieldEqualTo;
+import static org.assertj.jodatime.error.ShouldBeInChronologicalOrder.shouldBeSorted;
+import static org.assertj.jodatime.error.ShouldBeInChronologicalOrder.shouldBeStrictlyIncreasing;
+import static org.assertj.jodatime.internal.MillisOfDay.hourOf;
+import static org.assertj.jodatime.internal.Sequences.firstViolation;
+import static org.joda.time.DateTimeFieldType.hourOfDay;
+
+import java.util.function.Function;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.jodatime.internal.ElementCheck;
+import org.assertj.jodatime.internal.MillisOfDay;
+import org.assertj.jodatime.internal.Violation;
+import org.joda.time.LocalTime;
+
+/**
+ * Assertions for {@link Iterable}s (and arrays) of Joda {@link LocalTime}s, like the slots of a daily schedule.
+ * <p>
+ * Each assertion is a single pass over the elements comparing their millis of day as plain ints, no intermediate
+ * collection or value is created. Only the first element failing an assertion is reported along with its index,
+ * {@code null} elements always fail the assertions.
+ * <p>
+ * Example :
+ * <pre><code class='java'> assertThatLocalTimes(openingSlots).isStrictlyIncreasing()
+ *                                  .isWithin(new LocalTime(&quot;08:00&quot;), new LocalTime(&quot;20:00&quot;));</code></pre>
+ */
+public class LocalTimeIterableAssert
+    extends AbstractAssert<LocalTimeIterableAssert, Iterable<? extends LocalTime>> {
+
+  private static final ElementCheck<LocalTime> SORTED = (previous, element) -> previous != null
+      && element.getMillisOfDay() < previous.getMillisOfDay();
+  private static final ElementCheck<LocalTime> STRICTLY_INCREASING = (previous, element) -> previous != null
+      && element.getMillisOfDay() <= previous.getMillisOfDay();
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.LocalTimeIterableAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected LocalTimeIterableAssert(Class<LocalTimeIterableAssert> selfType, Iterable<? extends LocalTime> actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected Iterable<? extends LocalTime> getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the actual {@code LocalTime}s are in chronological order, consecutive equal times are accepted.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatLocalTimes(asList(new LocalTime(&quot;08:00&quot;), new LocalTime(&quot;08:00&quot;),
+   *                             new LocalTime(&quot;09:00&quot;))).isSorted();</code></pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or before the element preceding it.
+   */
+  public LocalTimeIterableAssert isSorted() {
+    return assertAllElements(SORTED, violation -> shouldBeSorted(violation.index(), violation.previous(),
+                                                                 violation.element()));
+  }
+
+  /**
+   * Verifies that each actual {@code LocalTime} is strictly after the element preceding it, e.g. that schedule slots
+   * are ordered and distinct.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatLocalTimes(asList(new LocalTime(&quot;08:00&quot;), new LocalTime(&quot;09:00&quot;))).isStrictlyIncreasing();</code></pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or not strictly after the element preceding it.
+   */
+  public LocalTimeIterableAssert isStrictlyIncreasing() {
+    return assertAllElements(STRICTLY_INCREASING, violation -> shouldBeStrictlyIncreasing(violation.index(),
+                                                                                           violation.previous(),
+                                                                                           violation.element()));
+  }
+
+  /**
+   * Verifies that all the actual {@code LocalTime}s are within the given range, bounds included.
+   * <p>
+   * A range whose start is after its end crosses midnight, e.g. {@code [22:00, 02:00]} contains {@code 23:00} and
+   * {@code 01:00} but not {@code 12:00}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatLocalTimes(asList(new LocalTime(&quot;23:00&quot;), new LocalTime(&quot;01:00&quot;)))
+   *   .isWithin(new LocalTime(&quot;22:00&quot;), new LocalTime(&quot;02:00&quot;));</code></pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if start or end is {@code null}.
+   * @throws AssertionError if an element is {@code null} or not within the given range.
+   */
+  public LocalTimeIterableAssert isWithin(LocalTime start, LocalTime end) {
+    if (start == null) throw new IllegalArgumentException("The start of the range should not be null");
+    if (end == null) throw new IllegalArgumentException("The end of the range should not be null");
+    int startMillisOfDay = start.getMillisOfDay();
+    int endMillisOfDay = end.getMillisOfDay();
+    ElementCheck<LocalTime> outOfRange = (previous, element) -> !MillisOfDay.isWithin(element.getMillisOfDay(),
+                                                                                      startMillisOfDay,
+                                                                                      endMillisOfDay);
+    return assertAllElements(outOfRange,
+                             violation -> shouldAllBeWithin(violation.index(), violation.element(), start, end));
+  }
+
+  /**
+   * Verifies that the hour of all the actual {@code LocalTime}s is equal to the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThatLocalTimes(asList(new LocalTime(&quot;08:00&quot;), new LocalTime(&quot;08:59&quot;))).allHaveHourOfDay(8);</code></pre>
+   *
+   * @param expectedHourOfDay the given hour.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or its hour is not equal to the given one.
+   */
+  public LocalTimeIterableAssert allHaveHourOfDay(int expectedHourOfDay) {
+    return assertAllElements((previous, element) -> hourOf(element.getMillisOfDay()) != expectedHourOfDay,
+                             violation -> shouldAllHaveFieldEqualTo(violation.index(), violation.element(), hourOfDay(),
+                                                                    hourOf(violation.element().getMillisOfDay()),
+                                                                    expectedHourOfDay));
+  }
+
+  private LocalTimeIterableAssert assertAllElements(ElementCheck<LocalTime> check,
+                                                    Function<Violation<LocalTime>, ErrorMessageFactory> errorMessage) {
+    isNotNull();
+    Violation<LocalTime> violation = firstViolation(actual.iterator(), check);
+    if (violation == null) return this;
+    if (violation.element() == null) throw lazyAssertionError(info, elementShouldNotBeNull(violation.index()));
+    throw lazyAssertionError(info, errorMessage.apply(violation));
+  }
+}
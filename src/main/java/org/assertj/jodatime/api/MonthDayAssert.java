@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldBeAfter.shouldBeAfter;
+import static org.assertj.jodatime.error.ShouldBeBefore.shouldBeBefore;
+import static org.assertj.jodatime.error.ShouldHaveDayOfMonthEqualTo.shouldHaveDayOfMonthEqualTo;
+import static org.assertj.jodatime.error.ShouldHaveMonthOfYearEqualTo.shouldHaveMonthOfYearEqualTo;
+import static org.assertj.jodatime.internal.PackedMonths.pack;
+import static org.assertj.jodatime.internal.Parsing.parseMonthDay;
+
+import org.assertj.core.api.AbstractAssert;
+import org.joda.time.MonthDay;
+
+/**
+ * Assertions for Joda {@link MonthDay} type.
+ * <p>
+ * Month days are compared by their month and day fields packed in a single int.
+ */
+public class MonthDayAssert extends AbstractAssert<MonthDayAssert, MonthDay> {
+
+  public static final String NULL_MONTH_DAY_PARAMETER_MESSAGE = "The MonthDay to compare actual with should not "
+                                                                 + "be null";
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.MonthDayAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected MonthDayAssert(Class<MonthDayAssert> selfType, MonthDay actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected MonthDay getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the month of the actual {@code MonthDay} is equal to the given month
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new MonthDay(3, 15)).hasMonthOfYear(3);</code></pre>
+   *
+   * @param expectedMonthOfYear the given month.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code MonthDay} is {@code null}.
+   * @throws AssertionError if the month of the actual {@code MonthDay} is not equal to the given month.
+   */
+  public MonthDayAssert hasMonthOfYear(int expectedMonthOfYear) {
+    isNotNull();
+    int actualMonthOfYear = actual.getMonthOfYear();
+    if (actualMonthOfYear != expectedMonthOfYear)
+      throw lazyAssertionError(info, shouldHaveMonthOfYearEqualTo(actual, actualMonthOfYear, expectedMonthOfYear));
+    return this;
+  }
+
+  /**
+   * Verifies that the day of the actual {@code MonthDay} is equal to the given day
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new MonthDay(3, 15)).hasDayOfMonth(15);</code></pre>
+   *
+   * @param expectedDayOfMonth the given day.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code MonthDay} is {@code null}.
+   * @throws AssertionError if the day of the actual {@code MonthDay} is not equal to the given day.
+   */
+  public MonthDayAssert hasDayOfMonth(int expectedDayOfMonth) {
+    isNotNull();
+    int actualDayOfMonth = actual.getDayOfMonth();
+    if (actualDayOfMonth != expectedDayOfMonth)
+      throw lazyAssertionError(info, shouldHaveDayOfMonthEqualTo(actual, actualDayOfMonth, expectedDayOfMonth));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code MonthDay} is <b>strictly</b> before the given one in a calendar year.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new MonthDay(3, 15)).isBefore(new MonthDay(4, 1));</code></pre>
+   *
+   * @param other the given {@link MonthDay}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code MonthDay} is {@code null}.
+   * @throws IllegalArgumentException if other {@code MonthDay} is {@code null}.
+   * @throws AssertionError if the actual {@code MonthDay} is not strictly before the given one.
+   */
+  public MonthDayAssert isBefore(MonthDay other) {
+    isNotNull();
+    assertMonthDayParameterIsNotNull(other);
+    if (pack(actual) >= pack(other)) throw lazyAssertionError(info, shouldBeBefore(actual, other));
+    return this;
+  }
+
+  /**
+   * Same assertion as {@link #isBefore(MonthDay)} but the {@link MonthDay} is built from given String, which must
+   * follow ISO month day format ({@code --MM-dd}) to allow calling {@link MonthDay#parse(String)}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // use directly String in comparison to avoid a conversion
+   * assertThat(new MonthDay(3, 15)).isBefore(&quot;--04-01&quot;);</code></pre>
+   *
+   * @param monthDayAsString String representing a {@link MonthDay}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code MonthDay} is {@code null}.
+   * @throws IllegalArgumentException if given String is null or can't be converted to a {@link MonthDay}.
+   * @throws AssertionError if the actual {@code MonthDay} is not strictly before the {@link MonthDay} built from
+   *           given String.
+   */
+  public MonthDayAssert isBefore(String monthDayAsString) {
+    assertMonthDayAsStringParameterIsNotNull(monthDayAsString);
+    return isBefore(parseMonthDay(monthDayAsString));
+  }
+
+  /**
+   * Verifies that the actual {@code MonthDay} is <b>strictly</b> after the given one in a calendar year.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new MonthDay(4, 1)).isAfter(new MonthDay(3, 15));</code></pre>
+   *
+   * @param other the given {@link MonthDay}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code MonthDay} is {@code null}.
+   * @throws IllegalArgumentException if other {@code MonthDay} is {@code null}.
+   * @throws AssertionError if the actual {@code MonthDay} is not strictly after the given one.
+   */
+  public MonthDayAssert isAfter(MonthDay other) {
+    isNotNull();
+    assertMonthDayParameterIsNotNull(other);
+    if (pack(actual) <= pack(other)) throw lazyAssertionError(info, shouldBeAfter(actual, other));
+    return this;
+  }
+
+  /**
+   * Same assertion as {@link #isAfter(MonthDay)} but the {@link MonthDay} is built from given String, which must
+   * follow ISO month day format ({@code --MM-dd}) to allow calling {@link MonthDay#parse(String)}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // use directly String in comparison to avoid a conversion
+   * assertThat(new MonthDay(4, 1)).isAfter(&quot;--03-15&quot;);</code></pre>
+   *
+   * @param monthDayAsString String representing a {@link MonthDay}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code MonthDay} is {@code null}.
+   * @throws IllegalArgumentException if given String is null or can't be converted to a {@link MonthDay}.
+   * @throws AssertionError if the actual {@code MonthDay} is not strictly after the {@link MonthDay} built from
+   *           given String.
+   */
+  public MonthDayAssert isAfter(String monthDayAsString) {
+    assertMonthDayAsStringParameterIsNotNull(monthDayAsString);
+    return isAfter(parseMonthDay(monthDayAsString));
+  }
+
+  private static void assertMonthDayAsStringParameterIsNotNull(String monthDayAsString) {
+    if (monthDayAsString == null)
+      throw new IllegalArgumentException("The String representing the MonthDay to compare actual with should not "
+                                         + "be null");
+  }
+
+  private static void assertMonthDayParameterIsNotNull(MonthDay other) {
+    if (other == null) throw new IllegalArgumentException(NULL_MONTH_DAY_PARAMETER_MESSAGE);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static java.lang.String.format;
+
+/**
+ * Snapshot of the statistics of the cache used to parse the String parameters of the assertions, see
+ * {@link Assertions#setParseCacheEnabled(boolean)}.
+ */
+public final class ParseCacheStatistics {
+
+  private final long hitCount;
+  private final long missCount;
+  private final int size;
+  private final int maxSize;
+
+  ParseCacheStatistics(long hitCount, long missCount, int size, int maxSize) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.size = size;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @return the number of parsings that were served by the cache.
+   */
+  public long hitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return the number of parsings that were not in the cache.
+   */
+  public long missCount() {
+    return missCount;
+  }
+
+  /**
+   * @return the ratio of hits among all the cached parsings, 0 if nothing was parsed yet.
+   */
+  public double hitRate() {
+    long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+  }
+
+  /**
+   * @return the number of parsed values currently cached.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the maximum number of parsed values the cache keeps.
+   */
+  public int maxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public String toString() {
+    return format("ParseCacheStatistics[hitCount=%s, missCount=%s, hitRate=%.2f, size=%s, maxSize=%s]",
+                  hitCount, missCount, hitRate(), size, maxSize);
+  }
+}
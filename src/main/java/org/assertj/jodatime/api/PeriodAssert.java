@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldHavePeriodFieldEqualTo.shouldHavePeriodFieldEqualTo;
+
+import org.assertj.core.api.AbstractAssert;
+import org.joda.time.DurationFieldType;
+import org.joda.time.Period;
+import org.joda.time.ReadablePeriod;
+
+/**
+ * Assertions for Joda {@link ReadablePeriod} types like {@link Period}.
+ * <p>
+ * Fields are checked as they are stored in the period, e.g. {@code Period.hours(36)} has 36 hours and 0 days. A field
+ * not supported by the period type of the actual period is 0.
+ */
+public class PeriodAssert extends AbstractAssert<PeriodAssert, ReadablePeriod> {
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.PeriodAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected PeriodAssert(Class<PeriodAssert> selfType, ReadablePeriod actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected ReadablePeriod getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the years of the actual period is equal to the given value, the period is not normalized.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Period(2, 3, 0, 0, 0, 0, 0, 0)).hasYears(2);</code></pre>
+   *
+   * @param expectedYears the given years.
+   * @return this assertion object.
+   * @throws AssertionError if the actual period is {@code null}.
+   * @throws AssertionError if the years of the actual period is not equal to the given value.
+   */
+  public PeriodAssert hasYears(int expectedYears) {
+    return hasFieldEqualTo(DurationFieldType.years(), expectedYears);
+  }
+
+  /**
+   * Verifies that the months of the actual period is equal to the given value, the period is not normalized.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Period(2, 3, 0, 0, 0, 0, 0, 0)).hasMonths(3);</code></pre>
+   *
+   * @param expectedMonths the given months.
+   * @return this assertion object.
+   * @throws AssertionError if the actual period is {@code null}.
+   * @throws AssertionError if the months of the actual period is not equal to the given value.
+   */
+  public PeriodAssert hasMonths(int expectedMonths) {
+    return hasFieldEqualTo(DurationFieldType.months(), expectedMonths);
+  }
+
+  /**
+   * Verifies that the weeks of the actual period is equal to the given value, the period is not normalized.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(Period.weeks(2)).hasWeeks(2);</code></pre>
+   *
+   * @param expectedWeeks the given weeks.
+   * @return this assertion object.
+   * @throws AssertionError if the actual period is {@code null}.
+   * @throws AssertionError if the weeks of the actual period is not equal to the given value.
+   */
+  public PeriodAssert hasWeeks(int expectedWeeks) {
+    return hasFieldEqualTo(DurationFieldType.weeks(), expectedWeeks);
+  }
+
+  /**
+   * Verifies that the days of the actual period is equal to the given value, the period is not normalized.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(Period.days(10)).hasDays(10);</code></pre>
+   *
+   * @param expectedDays the given days.
+   * @return this assertion object.
+   * @throws AssertionError if the actual period is {@code null}.
+   * @throws AssertionError if the days of the actual period is not equal to the given value.
+   */
+  public PeriodAssert hasDays(int expectedDays) {
+    return hasFieldEqualTo(DurationFieldType.days(), expectedDays);
+  }
+
+  /**
+   * Verifies that the hours of the actual period is equal to the given value, the period is not normalized.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(Period.hours(36)).hasHours(36);</code></pre>
+   *
+   * @param expectedHours the given hours.
+   * @return this assertion object.
+   * @throws AssertionError if the actual period is {@code null}.
+   * @throws AssertionError if the hours of the actual period is not equal to the given value.
+   */
+  public PeriodAssert hasHours(int expectedHours) {
+    return hasFieldEqualTo(DurationFieldType.hours(), expectedHours);
+  }
+
+  /**
+   * Verifies that the minutes of the actual period is equal to the given value, the period is not normalized.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Period(1, 30, 0, 0)).hasMinutes(30);</code></pre>
+   *
+   * @param expectedMinutes the given minutes.
+   * @return this assertion object.
+   * @throws AssertionError if the actual period is {@code null}.
+   * @throws AssertionError if the minutes of the actual period is not equal to the given value.
+   */
+  public PeriodAssert hasMinutes(int expectedMinutes) {
+    return hasFieldEqualTo(DurationFieldType.minutes(), expectedMinutes);
+  }
+
+  /**
+   * Verifies that the seconds of the actual period is equal to the given value, the period is not normalized.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new Period(0, 1, 30, 0)).hasSeconds(30);</code></pre>
+   *
+   * @param expectedSeconds the given seconds.
+   * @return this assertion object.
+   * @throws AssertionError if the actual period is {@code null}.
+   * @throws AssertionError if the seconds of the actual period is not equal to the given value.
+   */
+  public PeriodAssert hasSeconds(int expectedSeconds) {
+    return hasFieldEqualTo(DurationFieldType.seconds(), expectedSeconds);
+  }
+
+  /**
+   * Verifies that the millis of the actual period is equal to the given value, the period is not normalized.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(Period.millis(1500)).hasMillis(1500);</code></pre>
+   *
+   * @param expectedMillis the given millis.
+   * @return this assertion object.
+   * @throws AssertionError if the actual period is {@code null}.
+   * @throws AssertionError if the millis of the actual period is not equal to the given value.
+   */
+  public PeriodAssert hasMillis(int expectedMillis) {
+    return hasFieldEqualTo(DurationFieldType.millis(), expectedMillis);
+  }
+
+  private PeriodAssert hasFieldEqualTo(DurationFieldType fieldType, int expectedValue) {
+    isNotNull();
+    int actualValue = actual.get(fieldType);
+    if (actualValue != expectedValue)
+      throw lazyAssertionError(info, shouldHavePeriodFieldEqualTo(actual.toPeriod(), fieldType, actualValue,
+                                                                  expectedValue));
+    return this;
+  }
+}
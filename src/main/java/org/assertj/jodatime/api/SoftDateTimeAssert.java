@@ -0,0 +1,335 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import java.util.function.Predicate;
+
+import org.assertj.core.api.Condition;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.ReadableDuration;
+
+/**
+ * {@link DateTimeAssert} collecting its failures in a {@link JodaSoftAssertions} instead of throwing them.
+ * <p>
+ * Every assertion is overridden to run the fail-fast one, assertions calling other assertions of this object have
+ * their failure collected once.
+ */
+class SoftDateTimeAssert extends DateTimeAssert {
+
+  private final JodaSoftAssertions softly;
+
+  SoftDateTimeAssert(JodaSoftAssertions softly, DateTime actual) {
+    super(DateTimeAssert.class, actual);
+    this.softly = softly;
+  }
+
+  @Override
+  public DateTimeAssert isNotNull() {
+    softly.collectFailureOf(() -> super.isNotNull());
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isEqualTo(Object expected) {
+    softly.collectFailureOf(() -> super.isEqualTo(expected));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isNotEqualTo(Object other) {
+    softly.collectFailureOf(() -> super.isNotEqualTo(other));
+    return this;
+  }
+
+  @Override
+  public void isNull() {
+    softly.collectFailureOf(() -> super.isNull());
+  }
+
+  @Override
+  public DateTimeAssert isIn(Object... values) {
+    softly.collectFailureOf(() -> super.isIn(values));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isNotIn(Object... values) {
+    softly.collectFailureOf(() -> super.isNotIn(values));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isIn(Iterable<?> values) {
+    softly.collectFailureOf(() -> super.isIn(values));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isNotIn(Iterable<?> values) {
+    softly.collectFailureOf(() -> super.isNotIn(values));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isInstanceOf(Class<?> type) {
+    softly.collectFailureOf(() -> super.isInstanceOf(type));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isSameAs(Object expected) {
+    softly.collectFailureOf(() -> super.isSameAs(expected));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isNotSameAs(Object other) {
+    softly.collectFailureOf(() -> super.isNotSameAs(other));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert matches(Predicate<? super DateTime> predicate) {
+    softly.collectFailureOf(() -> super.matches(predicate));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert matches(Predicate<? super DateTime> predicate, String predicateDescription) {
+    softly.collectFailureOf(() -> super.matches(predicate, predicateDescription));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert is(Condition<? super DateTime> condition) {
+    softly.collectFailureOf(() -> super.is(condition));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isNot(Condition<? super DateTime> condition) {
+    softly.collectFailureOf(() -> super.isNot(condition));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert has(Condition<? super DateTime> condition) {
+    softly.collectFailureOf(() -> super.has(condition));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert doesNotHave(Condition<? super DateTime> condition) {
+    softly.collectFailureOf(() -> super.doesNotHave(condition));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert hasYear(int expectedYear) {
+    softly.collectFailureOf(() -> super.hasYear(expectedYear));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert hasMonthOfYear(int expectedMonthOfYear) {
+    softly.collectFailureOf(() -> super.hasMonthOfYear(expectedMonthOfYear));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert hasDayOfMonth(int expectedDayOfMonth) {
+    softly.collectFailureOf(() -> super.hasDayOfMonth(expectedDayOfMonth));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert hasHourOfDay(int expectedHourOfDay) {
+    softly.collectFailureOf(() -> super.hasHourOfDay(expectedHourOfDay));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert hasMinuteOfHour(int expectedMinuteOfHour) {
+    softly.collectFailureOf(() -> super.hasMinuteOfHour(expectedMinuteOfHour));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert hasSecondOfMinute(int expectedSecondOfMinute) {
+    softly.collectFailureOf(() -> super.hasSecondOfMinute(expectedSecondOfMinute));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert hasMillisOfSecond(int expectedMillisOfSecond) {
+    softly.collectFailureOf(() -> super.hasMillisOfSecond(expectedMillisOfSecond));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isBefore(DateTime other) {
+    softly.collectFailureOf(() -> super.isBefore(other));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isBefore(String dateTimeAsString) {
+    softly.collectFailureOf(() -> super.isBefore(dateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isBeforeOrEqualTo(DateTime other) {
+    softly.collectFailureOf(() -> super.isBeforeOrEqualTo(other));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isBeforeOrEqualTo(String dateTimeAsString) {
+    softly.collectFailureOf(() -> super.isBeforeOrEqualTo(dateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isAfterOrEqualTo(DateTime other) {
+    softly.collectFailureOf(() -> super.isAfterOrEqualTo(other));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isAfterOrEqualTo(String dateTimeAsString) {
+    softly.collectFailureOf(() -> super.isAfterOrEqualTo(dateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isAfter(DateTime other) {
+    softly.collectFailureOf(() -> super.isAfter(other));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isAfter(String dateTimeAsString) {
+    softly.collectFailureOf(() -> super.isAfter(dateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isEqualToIgnoringMillis(DateTime other) {
+    softly.collectFailureOf(() -> super.isEqualToIgnoringMillis(other));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isEqualToIgnoringSeconds(DateTime other) {
+    softly.collectFailureOf(() -> super.isEqualToIgnoringSeconds(other));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isEqualToIgnoringMinutes(DateTime other) {
+    softly.collectFailureOf(() -> super.isEqualToIgnoringMinutes(other));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isEqualToIgnoringHours(DateTime other) {
+    softly.collectFailureOf(() -> super.isEqualToIgnoringHours(other));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isEqualToTruncatedTo(DateTime other, DateTimeFieldType fieldType) {
+    softly.collectFailureOf(() -> super.isEqualToTruncatedTo(other, fieldType));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isInDstOverlap() {
+    softly.collectFailureOf(() -> super.isInDstOverlap());
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isEqualTo(DateTime expected) {
+    softly.collectFailureOf(() -> super.isEqualTo(expected));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isEqualTo(String dateTimeAsString) {
+    softly.collectFailureOf(() -> super.isEqualTo(dateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isNotEqualTo(DateTime expected) {
+    softly.collectFailureOf(() -> super.isNotEqualTo(expected));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isNotEqualTo(String dateTimeAsString) {
+    softly.collectFailureOf(() -> super.isNotEqualTo(dateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isCloseTo(DateTime other, long toleranceMillis) {
+    softly.collectFailureOf(() -> super.isCloseTo(other, toleranceMillis));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isCloseTo(DateTime other, ReadableDuration tolerance) {
+    softly.collectFailureOf(() -> super.isCloseTo(other, tolerance));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isIn(DateTime... expected) {
+    softly.collectFailureOf(() -> super.isIn(expected));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isIn(String... dateTimesAsString) {
+    softly.collectFailureOf(() -> super.isIn(dateTimesAsString));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isNotIn(DateTime... expected) {
+    softly.collectFailureOf(() -> super.isNotIn(expected));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isNotIn(String... dateTimesAsString) {
+    softly.collectFailureOf(() -> super.isNotIn(dateTimesAsString));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isIn(JodaTimeSet values) {
+    softly.collectFailureOf(() -> super.isIn(values));
+    return this;
+  }
+
+  @Override
+  public DateTimeAssert isNotIn(JodaTimeSet values) {
+    softly.collectFailureOf(() -> super.isNotIn(values));
+    return this;
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import java.util.function.Predicate;
+
+import org.assertj.core.api.Condition;
+import org.joda.time.LocalDate;
+import org.joda.time.ReadableDuration;
+
+/**
+ * {@link LocalDateAssert} collecting its failures in a {@link JodaSoftAssertions} instead of throwing them.
+ * <p>
+ * Every assertion is overridden to run the fail-fast one, assertions calling other assertions of this object have
+ * their failure collected once.
+ */
+class SoftLocalDateAssert extends LocalDateAssert {
+
+  private final JodaSoftAssertions softly;
+
+  SoftLocalDateAssert(JodaSoftAssertions softly, LocalDate actual) {
+    super(LocalDateAssert.class, actual);
+    this.softly = softly;
+  }
+
+  @Override
+  public LocalDateAssert isNotNull() {
+    softly.collectFailureOf(() -> super.isNotNull());
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isEqualTo(Object expected) {
+    softly.collectFailureOf(() -> super.isEqualTo(expected));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isNotEqualTo(Object other) {
+    softly.collectFailureOf(() -> super.isNotEqualTo(other));
+    return this;
+  }
+
+  @Override
+  public void isNull() {
+    softly.collectFailureOf(() -> super.isNull());
+  }
+
+  @Override
+  public LocalDateAssert isIn(Object... values) {
+    softly.collectFailureOf(() -> super.isIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isNotIn(Object... values) {
+    softly.collectFailureOf(() -> super.isNotIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isIn(Iterable<?> values) {
+    softly.collectFailureOf(() -> super.isIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isNotIn(Iterable<?> values) {
+    softly.collectFailureOf(() -> super.isNotIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isInstanceOf(Class<?> type) {
+    softly.collectFailureOf(() -> super.isInstanceOf(type));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isSameAs(Object expected) {
+    softly.collectFailureOf(() -> super.isSameAs(expected));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isNotSameAs(Object other) {
+    softly.collectFailureOf(() -> super.isNotSameAs(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert matches(Predicate<? super LocalDate> predicate) {
+    softly.collectFailureOf(() -> super.matches(predicate));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert matches(Predicate<? super LocalDate> predicate, String predicateDescription) {
+    softly.collectFailureOf(() -> super.matches(predicate, predicateDescription));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert is(Condition<? super LocalDate> condition) {
+    softly.collectFailureOf(() -> super.is(condition));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isNot(Condition<? super LocalDate> condition) {
+    softly.collectFailureOf(() -> super.isNot(condition));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert has(Condition<? super LocalDate> condition) {
+    softly.collectFailureOf(() -> super.has(condition));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert doesNotHave(Condition<? super LocalDate> condition) {
+    softly.collectFailureOf(() -> super.doesNotHave(condition));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert hasYear(int expectedYear) {
+    softly.collectFailureOf(() -> super.hasYear(expectedYear));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert hasMonthOfYear(int expectedMonthOfYear) {
+    softly.collectFailureOf(() -> super.hasMonthOfYear(expectedMonthOfYear));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert hasDayOfMonth(int expectedDayOfMonth) {
+    softly.collectFailureOf(() -> super.hasDayOfMonth(expectedDayOfMonth));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isBefore(LocalDate other) {
+    softly.collectFailureOf(() -> super.isBefore(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isBefore(String localDateAsString) {
+    softly.collectFailureOf(() -> super.isBefore(localDateAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isBeforeOrEqualTo(LocalDate other) {
+    softly.collectFailureOf(() -> super.isBeforeOrEqualTo(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isBeforeOrEqualTo(String localDateAsString) {
+    softly.collectFailureOf(() -> super.isBeforeOrEqualTo(localDateAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isAfterOrEqualTo(LocalDate other) {
+    softly.collectFailureOf(() -> super.isAfterOrEqualTo(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isAfterOrEqualTo(String localDateAsString) {
+    softly.collectFailureOf(() -> super.isAfterOrEqualTo(localDateAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isAfter(LocalDate other) {
+    softly.collectFailureOf(() -> super.isAfter(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isAfter(String localDateAsString) {
+    softly.collectFailureOf(() -> super.isAfter(localDateAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isEqualTo(String localDateString) {
+    softly.collectFailureOf(() -> super.isEqualTo(localDateString));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isNotEqualTo(String localDateAsString) {
+    softly.collectFailureOf(() -> super.isNotEqualTo(localDateAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isCloseTo(LocalDate other, long toleranceMillis) {
+    softly.collectFailureOf(() -> super.isCloseTo(other, toleranceMillis));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isCloseTo(LocalDate other, ReadableDuration tolerance) {
+    softly.collectFailureOf(() -> super.isCloseTo(other, tolerance));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isIn(String... localDatesAsString) {
+    softly.collectFailureOf(() -> super.isIn(localDatesAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isNotIn(String... localDatesAsString) {
+    softly.collectFailureOf(() -> super.isNotIn(localDatesAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isIn(JodaTimeSet values) {
+    softly.collectFailureOf(() -> super.isIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isNotIn(JodaTimeSet values) {
+    softly.collectFailureOf(() -> super.isNotIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isBusinessDay() {
+    softly.collectFailureOf(() -> super.isBusinessDay());
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isNotHoliday() {
+    softly.collectFailureOf(() -> super.isNotHoliday());
+    return this;
+  }
+
+  @Override
+  public LocalDateAssert isNthBusinessDayAfter(int n, LocalDate start) {
+    softly.collectFailureOf(() -> super.isNthBusinessDayAfter(n, start));
+    return this;
+  }
+}
@@ -0,0 +1,318 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import java.util.function.Predicate;
+
+import org.assertj.core.api.Condition;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDateTime;
+import org.joda.time.ReadableDuration;
+
+/**
+ * {@link LocalDateTimeAssert} collecting its failures in a {@link JodaSoftAssertions} instead of throwing them.
+ * <p>
+ * Every assertion is overridden to run the fail-fast one, assertions calling other assertions of this object have
+ * their failure collected once.
+ */
+class SoftLocalDateTimeAssert extends LocalDateTimeAssert {
+
+  private final JodaSoftAssertions softly;
+
+  SoftLocalDateTimeAssert(JodaSoftAssertions softly, LocalDateTime actual) {
+    super(LocalDateTimeAssert.class, actual);
+    this.softly = softly;
+  }
+
+  @Override
+  public LocalDateTimeAssert isNotNull() {
+    softly.collectFailureOf(() -> super.isNotNull());
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isEqualTo(Object expected) {
+    softly.collectFailureOf(() -> super.isEqualTo(expected));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isNotEqualTo(Object other) {
+    softly.collectFailureOf(() -> super.isNotEqualTo(other));
+    return this;
+  }
+
+  @Override
+  public void isNull() {
+    softly.collectFailureOf(() -> super.isNull());
+  }
+
+  @Override
+  public LocalDateTimeAssert isIn(Object... values) {
+    softly.collectFailureOf(() -> super.isIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isNotIn(Object... values) {
+    softly.collectFailureOf(() -> super.isNotIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isIn(Iterable<?> values) {
+    softly.collectFailureOf(() -> super.isIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isNotIn(Iterable<?> values) {
+    softly.collectFailureOf(() -> super.isNotIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isInstanceOf(Class<?> type) {
+    softly.collectFailureOf(() -> super.isInstanceOf(type));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isSameAs(Object expected) {
+    softly.collectFailureOf(() -> super.isSameAs(expected));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isNotSameAs(Object other) {
+    softly.collectFailureOf(() -> super.isNotSameAs(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert matches(Predicate<? super LocalDateTime> predicate) {
+    softly.collectFailureOf(() -> super.matches(predicate));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert matches(Predicate<? super LocalDateTime> predicate, String predicateDescription) {
+    softly.collectFailureOf(() -> super.matches(predicate, predicateDescription));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert is(Condition<? super LocalDateTime> condition) {
+    softly.collectFailureOf(() -> super.is(condition));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isNot(Condition<? super LocalDateTime> condition) {
+    softly.collectFailureOf(() -> super.isNot(condition));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert has(Condition<? super LocalDateTime> condition) {
+    softly.collectFailureOf(() -> super.has(condition));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert doesNotHave(Condition<? super LocalDateTime> condition) {
+    softly.collectFailureOf(() -> super.doesNotHave(condition));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert hasYear(int expectedYear) {
+    softly.collectFailureOf(() -> super.hasYear(expectedYear));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert hasMonthOfYear(int expectedMonthOfYear) {
+    softly.collectFailureOf(() -> super.hasMonthOfYear(expectedMonthOfYear));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert hasDayOfMonth(int expectedDayOfMonth) {
+    softly.collectFailureOf(() -> super.hasDayOfMonth(expectedDayOfMonth));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert hasHourOfDay(int expectedHourOfDay) {
+    softly.collectFailureOf(() -> super.hasHourOfDay(expectedHourOfDay));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert hasMinuteOfHour(int expectedMinuteOfHour) {
+    softly.collectFailureOf(() -> super.hasMinuteOfHour(expectedMinuteOfHour));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert hasSecondOfMinute(int expectedSecondOfMinute) {
+    softly.collectFailureOf(() -> super.hasSecondOfMinute(expectedSecondOfMinute));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert hasMillisOfSecond(int expectedMillisOfSecond) {
+    softly.collectFailureOf(() -> super.hasMillisOfSecond(expectedMillisOfSecond));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isBefore(LocalDateTime other) {
+    softly.collectFailureOf(() -> super.isBefore(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isBefore(String localDateTimeAsString) {
+    softly.collectFailureOf(() -> super.isBefore(localDateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isBeforeOrEqualTo(LocalDateTime other) {
+    softly.collectFailureOf(() -> super.isBeforeOrEqualTo(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isBeforeOrEqualTo(String localDateTimeAsString) {
+    softly.collectFailureOf(() -> super.isBeforeOrEqualTo(localDateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isAfterOrEqualTo(LocalDateTime other) {
+    softly.collectFailureOf(() -> super.isAfterOrEqualTo(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isAfterOrEqualTo(String localDateTimeAsString) {
+    softly.collectFailureOf(() -> super.isAfterOrEqualTo(localDateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isAfter(LocalDateTime other) {
+    softly.collectFailureOf(() -> super.isAfter(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isAfter(String localDateTimeAsString) {
+    softly.collectFailureOf(() -> super.isAfter(localDateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isEqualTo(String dateTimeAsString) {
+    softly.collectFailureOf(() -> super.isEqualTo(dateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isNotEqualTo(String dateTimeAsString) {
+    softly.collectFailureOf(() -> super.isNotEqualTo(dateTimeAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isCloseTo(LocalDateTime other, long toleranceMillis) {
+    softly.collectFailureOf(() -> super.isCloseTo(other, toleranceMillis));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isCloseTo(LocalDateTime other, ReadableDuration tolerance) {
+    softly.collectFailureOf(() -> super.isCloseTo(other, tolerance));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isIn(String... dateTimesAsString) {
+    softly.collectFailureOf(() -> super.isIn(dateTimesAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isNotIn(String... dateTimesAsString) {
+    softly.collectFailureOf(() -> super.isNotIn(dateTimesAsString));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isIn(JodaTimeSet values) {
+    softly.collectFailureOf(() -> super.isIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isNotIn(JodaTimeSet values) {
+    softly.collectFailureOf(() -> super.isNotIn(values));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isEqualToIgnoringMillis(LocalDateTime other) {
+    softly.collectFailureOf(() -> super.isEqualToIgnoringMillis(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isEqualToIgnoringSeconds(LocalDateTime other) {
+    softly.collectFailureOf(() -> super.isEqualToIgnoringSeconds(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isEqualToIgnoringMinutes(LocalDateTime other) {
+    softly.collectFailureOf(() -> super.isEqualToIgnoringMinutes(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isEqualToIgnoringHours(LocalDateTime other) {
+    softly.collectFailureOf(() -> super.isEqualToIgnoringHours(other));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isEqualToTruncatedTo(LocalDateTime other, DateTimeFieldType fieldType) {
+    softly.collectFailureOf(() -> super.isEqualToTruncatedTo(other, fieldType));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isInDstGap(DateTimeZone zone) {
+    softly.collectFailureOf(() -> super.isInDstGap(zone));
+    return this;
+  }
+
+  @Override
+  public LocalDateTimeAssert isInDstOverlap(DateTimeZone zone) {
+    softly.collectFailureOf(() -> super.isInDstOverlap(zone));
+    return this;
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldBeAfter.shouldBeAfter;
+import static org.assertj.jodatime.error.ShouldBeBefore.shouldBeBefore;
+import static org.assertj.jodatime.error.ShouldBeWithin.shouldBeWithin;
+import static org.assertj.jodatime.error.ShouldHaveMonthOfYearEqualTo.shouldHaveMonthOfYearEqualTo;
+import static org.assertj.jodatime.error.ShouldHaveYearEqualTo.shouldHaveYearEqualTo;
+import static org.assertj.jodatime.internal.PackedMonths.pack;
+import static org.assertj.jodatime.internal.Parsing.parseYearMonth;
+
+import org.assertj.core.api.AbstractAssert;
+import org.joda.time.YearMonth;
+
+/**
+ * Assertions for Joda {@link YearMonth} type.
+ * <p>
+ * Year months are compared by their year and month fields packed in a single number.
+ */
+public class YearMonthAssert extends AbstractAssert<YearMonthAssert, YearMonth> {
+
+  public static final String NULL_YEAR_MONTH_PARAMETER_MESSAGE = "The YearMonth to compare actual with should not "
+                                                                  + "be null";
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.YearMonthAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected YearMonthAssert(Class<YearMonthAssert> selfType, YearMonth actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected YearMonth getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the year of the actual {@code YearMonth} is equal to the given year
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new YearMonth(&quot;2018-03&quot;)).hasYear(2018);</code></pre>
+   *
+   * @param expectedYear the given year.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code YearMonth} is {@code null}.
+   * @throws AssertionError if the year of the actual {@code YearMonth} is not equal to the given year.
+   */
+  public YearMonthAssert hasYear(int expectedYear) {
+    isNotNull();
+    if (actual.getYear() != expectedYear)
+      throw lazyAssertionError(info, shouldHaveYearEqualTo(actual, actual.getYear(), expectedYear));
+    return this;
+  }
+
+  /**
+   * Verifies that the month of the actual {@code YearMonth} is equal to the given month
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new YearMonth(&quot;2018-03&quot;)).hasMonthOfYear(3);</code></pre>
+   *
+   * @param expectedMonthOfYear the given month.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code YearMonth} is {@code null}.
+   * @throws AssertionError if the month of the actual {@code YearMonth} is not equal to the given month.
+   */
+  public YearMonthAssert hasMonthOfYear(int expectedMonthOfYear) {
+    isNotNull();
+    int actualMonthOfYear = actual.getMonthOfYear();
+    if (actualMonthOfYear != expectedMonthOfYear)
+      throw lazyAssertionError(info, shouldHaveMonthOfYearEqualTo(actual, actualMonthOfYear, expectedMonthOfYear));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code YearMonth} is <b>strictly</b> before the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new YearMonth(&quot;2018-03&quot;)).isBefore(new YearMonth(&quot;2018-04&quot;));</code></pre>
+   *
+   * @param other the given {@link YearMonth}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code YearMonth} is {@code null}.
+   * @throws IllegalArgumentException if other {@code YearMonth} is {@code null}.
+   * @throws AssertionError if the actual {@code YearMonth} is not strictly before the given one.
+   */
+  public YearMonthAssert isBefore(YearMonth other) {
+    isNotNull();
+    assertYearMonthParameterIsNotNull(other);
+    if (pack(actual) >= pack(other)) throw lazyAssertionError(info, shouldBeBefore(actual, other));
+    return this;
+  }
+
+  /**
+   * Same assertion as {@link #isBefore(YearMonth)} but the {@link YearMonth} is built from given String, which must
+   * follow ISO year month format ({@code yyyy-MM}) to allow calling {@link YearMonth#parse(String)}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // use directly String in comparison to avoid a conversion
+   * assertThat(new YearMonth(&quot;2018-03&quot;)).isBefore(&quot;2018-04&quot;);</code></pre>
+   *
+   * @param yearMonthAsString String representing a {@link YearMonth}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code YearMonth} is {@code null}.
+   * @throws IllegalArgumentException if given String is null or can't be converted to a {@link YearMonth}.
+   * @throws AssertionError if the actual {@code YearMonth} is not strictly before the {@link YearMonth} built from
+   *           given String.
+   */
+  public YearMonthAssert isBefore(String yearMonthAsString) {
+    assertYearMonthAsStringParameterIsNotNull(yearMonthAsString);
+    return isBefore(parseYearMonth(yearMonthAsString));
+  }
+
+  /**
+   * Verifies that the actual {@code YearMonth} is <b>strictly</b> after the given one.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new YearMonth(&quot;2018-04&quot;)).isAfter(new YearMonth(&quot;2018-03&quot;));</code></pre>
+   *
+   * @param other the given {@link YearMonth}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code YearMonth} is {@code null}.
+   * @throws IllegalArgumentException if other {@code YearMonth} is {@code null}.
+   * @throws AssertionError if the actual {@code YearMonth} is not strictly after the given one.
+   */
+  public YearMonthAssert isAfter(YearMonth other) {
+    isNotNull();
+    assertYearMonthParameterIsNotNull(other);
+    if (pack(actual) <= pack(other)) throw lazyAssertionError(info, shouldBeAfter(actual, other));
+    return this;
+  }
+
+  /**
+   * Same assertion as {@link #isAfter(YearMonth)} but the {@link YearMonth} is built from given String, which must
+   * follow ISO year month format ({@code yyyy-MM}) to allow calling {@link YearMonth#parse(String)}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // use directly String in comparison to avoid a conversion
+   * assertThat(new YearMonth(&quot;2018-04&quot;)).isAfter(&quot;2018-03&quot;);</code></pre>
+   *
+   * @param yearMonthAsString String representing a {@link YearMonth}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code YearMonth} is {@code null}.
+   * @throws IllegalArgumentException if given String is null or can't be converted to a {@link YearMonth}.
+   * @throws AssertionError if the actual {@code YearMonth} is not strictly after the {@link YearMonth} built from
+   *           given String.
+   */
+  public YearMonthAssert isAfter(String yearMonthAsString) {
+    assertYearMonthAsStringParameterIsNotNull(yearMonthAsString);
+    return isAfter(parseYearMonth(yearMonthAsString));
+  }
+
+  /**
+   * Verifies that the actual {@code YearMonth} is within the given range, bounds included.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertions succeed
+   * assertThat(new YearMonth(&quot;2018-03&quot;)).isBetween(new YearMonth(&quot;2018-01&quot;), new YearMonth(&quot;2018-12&quot;));
+   * assertThat(new YearMonth(&quot;2018-12&quot;)).isBetween(new YearMonth(&quot;2018-01&quot;), new YearMonth(&quot;2018-12&quot;));
+   *
+   * // assertion fails
+   * assertThat(new YearMonth(&quot;2019-01&quot;)).isBetween(new YearMonth(&quot;2018-01&quot;), new YearMonth(&quot;2018-12&quot;));</code></pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code YearMonth} is {@code null}.
+   * @throws IllegalArgumentException if start or end is {@code null} or if end is before start.
+   * @throws AssertionError if the actual {@code YearMonth} is not within the given range.
+   */
+  public YearMonthAssert isBetween(YearMonth start, YearMonth end) {
+    isNotNull();
+    checkRange(start, end);
+    long packedStart = pack(start);
+    long packedEnd = pack(end);
+    if (packedEnd < packedStart)
+      throw new IllegalArgumentException("The end of the range should not be before its start");
+    long packedActual = pack(actual);
+    if (packedActual < packedStart || packedActual > packedEnd)
+      throw lazyAssertionError(info, shouldBeWithin(actual, start, end));
+    return this;
+  }
+
+  /**
+   * Same assertion as {@link #isBetween(YearMonth, YearMonth)} but the {@link YearMonth}s are built from given Strings,
+   * which must follow ISO year month format ({@code yyyy-MM}) to allow calling {@link YearMonth#parse(String)}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> assertThat(new YearMonth(&quot;2018-03&quot;)).isBetween(&quot;2018-01&quot;, &quot;2018-12&quot;);</code></pre>
+   *
+   * @param start String representing the start of the range, inclusive.
+   * @param end String representing the end of the range, inclusive.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code YearMonth} is {@code null}.
+   * @throws IllegalArgumentException if a given String is null or can't be converted to a {@link YearMonth} or if end
+   *           is before start.
+   * @throws AssertionError if the actual {@code YearMonth} is not within the given range.
+   */
+  public YearMonthAssert isBetween(String start, String end) {
+    checkRange(start, end);
+    return isBetween(parseYearMonth(start), parseYearMonth(end));
+  }
+
+  private static void assertYearMonthAsStringParameterIsNotNull(String yearMonthAsString) {
+    if (yearMonthAsString == null)
+      throw new IllegalArgumentException("The String representing the YearMonth to compare actual with should not "
+                                         + "be null");
+  }
+
+  private static void assertYearMonthParameterIsNotNull(YearMonth other) {
+    if (other == null) throw new IllegalArgumentException(NULL_YEAR_MONTH_PARAMETER_MESSAGE);
+  }
+
+  private static void checkRange(Object start, Object end) {
+    if (start == null) throw new IllegalArgumentException("The start of the range should not be null");
+    if (end == null) throw new IllegalArgumentException("The end of the range should not be null");
+  }
+}
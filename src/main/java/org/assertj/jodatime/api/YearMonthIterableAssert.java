@@ -0,0 +1,191 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.jodatime.error.ElementShouldNotBeNull.elementShouldNotBeNull;
+import static org.assertj.jodatime.error.LazyAssertionError.lazyAssertionError;
+import static org.assertj.jodatime.error.ShouldAllBeIn.shouldAllBeIn;
+import static org.assertj.jodatime.error.ShouldBeContiguous.shouldBeContiguous;
+import static org.assertj.jodatime.error.ShouldHaveNoDuplicates.shouldHaveNoDuplicates;
+import static org.assertj.jodatime.internal.PackedMonths.firstDuplicate;
+import static org.assertj.jodatime.internal.PackedMonths.firstMissingMonth;
+import static org.assertj.jodatime.internal.PackedMonths.pack;
+import static org.assertj.jodatime.internal.PackedMonths.unpackYearMonth;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.jodatime.internal.LongHashSet;
+import org.joda.time.YearMonth;
+
+/**
+ * Assertions for {@link Iterable}s (and arrays) of Joda {@link YearMonth}s, like the partition keys of a data set.
+ * <p>
+ * Each assertion first packs the elements as {@code year * 12 + monthOfYear - 1} numbers in a primitive array, then
+ * checks them with plain comparisons and primitive hash sets, no {@link YearMonth} is compared or boxed. Only the
+ * first element failing an assertion is reported along with its index, {@code null} elements always fail the
+ * assertions.
+ * <p>
+ * Example :
+ * <pre><code class='java'> assertThatYearMonths(partitionKeys).hasNoDuplicates()
+ *                                   .isContiguous()
+ *                                   .isSubsetOf(retainedMonths);</code></pre>
+ */
+public class YearMonthIterableAssert
+    extends AbstractAssert<YearMonthIterableAssert, Iterable<? extends YearMonth>> {
+
+  /**
+   * Creates a new <code>{@link org.assertj.jodatime.api.YearMonthIterableAssert}</code>.
+   *
+   * @param selfType the "self type"
+   * @param actual the actual value to verify
+   */
+  protected YearMonthIterableAssert(Class<YearMonthIterableAssert> selfType, Iterable<? extends YearMonth> actual) {
+    super(actual, selfType);
+  }
+
+  // visible for test
+  protected Iterable<? extends YearMonth> getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the actual {@code YearMonth}s cover every month between the earliest and the latest of them, whatever
+   * their order, duplicates are accepted. An empty {@code Iterable} is contiguous.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatYearMonths(asList(new YearMonth(2018, 12), new YearMonth(2018, 11), new YearMonth(2019, 1))).isContiguous();
+   *
+   * // assertion fails as 2018-12 is missing
+   * assertThatYearMonths(asList(new YearMonth(2018, 11), new YearMonth(2019, 1))).isContiguous();</code></pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or a month is missing between the earliest and the latest
+   *           elements.
+   */
+  public YearMonthIterableAssert isContiguous() {
+    long[] missing = firstMissingMonth(packedActual());
+    if (missing == null) return this;
+    throw lazyAssertionError(info, shouldBeContiguous(unpackYearMonth(missing[0]), unpackYearMonth(missing[1]),
+                                                      unpackYearMonth(missing[2])));
+  }
+
+  /**
+   * Verifies that the actual {@code YearMonth}s are distinct, i.e. that no two elements have the same year and month.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatYearMonths(asList(new YearMonth(2018, 11), new YearMonth(2018, 12))).hasNoDuplicates();
+   *
+   * // assertion fails
+   * assertThatYearMonths(asList(new YearMonth(2018, 11), new YearMonth(2018, 11))).hasNoDuplicates();</code></pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if an element is {@code null} or equal to a previous one.
+   */
+  public YearMonthIterableAssert hasNoDuplicates() {
+    long[] packed = packedActual();
+    int index = firstDuplicate(packed);
+    if (index < 0) return this;
+    int firstIndex = 0;
+    while (packed[firstIndex] != packed[index]) {
+      firstIndex++;
+    }
+    throw lazyAssertionError(info, shouldHaveNoDuplicates(index, elementAt(index), firstIndex));
+  }
+
+  /**
+   * Verifies that all the actual {@code YearMonth}s are among the given ones.
+   * <p>
+   * Example :
+   * <pre><code class='java'> YearMonth[] retainedMonths = { new YearMonth(2018, 11), new YearMonth(2018, 12) };
+   *
+   * // assertion succeeds
+   * assertThatYearMonths(asList(new YearMonth(2018, 12))).isSubsetOf(retainedMonths);
+   *
+   * // assertion fails
+   * assertThatYearMonths(asList(new YearMonth(2018, 12), new YearMonth(2019, 1))).isSubsetOf(retainedMonths);</code></pre>
+   *
+   * @param values the accepted {@link YearMonth}s.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given array or one of its values is {@code null}.
+   * @throws AssertionError if an element is {@code null} or not among the given values.
+   */
+  public YearMonthIterableAssert isSubsetOf(YearMonth... values) {
+    checkValuesNotNull(values);
+    return isSubsetOf(Arrays.asList(values), values);
+  }
+
+  /**
+   * Same assertion as {@link #isSubsetOf(YearMonth...)} but with an {@link Iterable} of values.
+   *
+   * @param values the accepted {@link YearMonth}s.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code Iterable} or one of its values is {@code null}.
+   * @throws AssertionError if an element is {@code null} or not among the given values.
+   */
+  public YearMonthIterableAssert isSubsetOf(Iterable<? extends YearMonth> values) {
+    checkValuesNotNull(values);
+    return isSubsetOf(values, values);
+  }
+
+  private YearMonthIterableAssert isSubsetOf(Iterable<? extends YearMonth> values, Object valuesToReport) {
+    LongHashSet accepted = new LongHashSet(sizeHint(values));
+    for (YearMonth value : values) {
+      if (value == null)
+        throw new IllegalArgumentException("The YearMonths to compare actual with should not contain null values");
+      accepted.add(pack(value));
+    }
+    long[] packed = packedActual();
+    for (int i = 0; i < packed.length; i++) {
+      if (!accepted.contains(packed[i])) throw lazyAssertionError(info, shouldAllBeIn(i, elementAt(i), valuesToReport));
+    }
+    return this;
+  }
+
+  private long[] packedActual() {
+    isNotNull();
+    long[] packed = new long[sizeHint(actual)];
+    int size = 0;
+    for (YearMonth element : actual) {
+      if (element == null) throw lazyAssertionError(info, elementShouldNotBeNull(size));
+      if (size == packed.length) packed = Arrays.copyOf(packed, Math.max(16, size * 2));
+      packed[size++] = pack(element);
+    }
+    return size == packed.length ? packed : Arrays.copyOf(packed, size);
+  }
+
+  // only called to report a failure, a second pass is cheaper than keeping all the elements
+  private YearMonth elementAt(int index) {
+    Iterator<? extends YearMonth> elements = actual.iterator();
+    for (int i = 0; i < index; i++) {
+      elements.next();
+    }
+    return elements.next();
+  }
+
+  private static int sizeHint(Iterable<?> values) {
+    return values instanceof Collection ? ((Collection<?>) values).size() : 16;
+  }
+
+  private static void checkValuesNotNull(Object values) {
+    if (values == null) throw new IllegalArgumentException("The YearMonths to compare actual with should not be null");
+  }
+}
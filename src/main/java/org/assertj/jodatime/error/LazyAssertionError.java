@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import java.util.Arrays;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.description.Description;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.presentation.Representation;
+import org.assertj.jodatime.internal.StackTraceCapture;
+
+/**
+ * {@link AssertionError} rendering its message from an {@link ErrorMessageFactory} only when {@link #getMessage()} is
+ * first called.
+ * <p>
+ * Formatting the message (and the representation of the values it contains) is the most expensive part of a failing
+ * assertion, it is wasted when the error is caught and discarded without being reported.
+ * <p>
+ * The stack trace is not captured when {@link StackTraceCapture} is disabled and truncated to its max depth otherwise.
+ * <p>
+ * The error still goes through {@link Failures} so that its configuration (e.g. thread dumps) applies, the message is
+ * rendered eagerly when {@link Failures} creates another type of error than {@link AssertionError}. Values referenced
+ * by the message are expected to be immutable, the assertions snapshot the mutable Joda ones when they fail.
+ */
+public class LazyAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+  private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+  private static final ErrorMessageFactory PENDING_MESSAGE = new BasicErrorMessageFactory("message not rendered yet");
+
+  private final transient ErrorMessageFactory messageFactory;
+  private final transient Description description;
+  private final transient Representation representation;
+  private volatile String message;
+
+  /**
+   * Creates the {@link AssertionError} to throw when an assertion fails, its message is rendered on demand unless an
+   * overriding error message was set.
+   *
+   * @param info the info of the failing assertion.
+   * @param messageFactory the factory of the error message.
+   * @return the created {@link AssertionError}.
+   */
+  public static AssertionError lazyAssertionError(AssertionInfo info, ErrorMessageFactory messageFactory) {
+    // the overriding error message is already rendered, nothing to defer
+    if (info.overridingErrorMessage() != null) {
+      return truncateStackTrace(Failures.instance().failure(info, messageFactory));
+    }
+    AssertionError failure = Failures.instance().failure(info, PENDING_MESSAGE);
+    // a custom error type can't render its message lazily, it is created with the rendered one
+    if (failure.getClass() != AssertionError.class) {
+      return truncateStackTrace(Failures.instance().failure(info, messageFactory));
+    }
+    AssertionError error = new LazyAssertionError(messageFactory, info.description(), info.representation());
+    Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(error);
+    return truncateStackTrace(error);
+  }
+
+  // done once AssertJ elements are removed, otherwise the kept elements could all be AssertJ ones
+  private static AssertionError truncateStackTrace(AssertionError error) {
+    if (StackTraceCapture.isDisabled()) {
+      // errors not created here (e.g. with an overriding message) have captured their stack trace
+      error.setStackTrace(NO_STACK_TRACE);
+      return error;
+    }
+    int maxDepth = StackTraceCapture.maxDepth();
+    if (maxDepth == StackTraceCapture.DEFAULT_MAX_DEPTH) return error;
+    StackTraceElement[] stackTrace = error.getStackTrace();
+    if (stackTrace.length > maxDepth) error.setStackTrace(Arrays.copyOf(stackTrace, maxDepth));
+    return error;
+  }
+
+  private LazyAssertionError(ErrorMessageFactory messageFactory, Description description,
+                             Representation representation) {
+    this.messageFactory = messageFactory;
+    this.description = description;
+    this.representation = representation;
+  }
+
+  @Override
+  public String getMessage() {
+    String renderedMessage = message;
+    if (renderedMessage == null) {
+      // concurrent first calls may both render the same message, that is harmless
+      renderedMessage = messageFactory.create(description, representation);
+      message = renderedMessage;
+    }
+    return renderedMessage;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    // called by the Throwable constructor, the stack trace is left empty when its capture is disabled
+    return StackTraceCapture.isDisabled() ? this : super.fillInStackTrace();
+  }
+
+  // the message factory is not serializable, a plain AssertionError with the rendered message is serialized instead
+  private Object writeReplace() {
+    AssertionError error = new AssertionError(getMessage());
+    error.setStackTrace(getStackTrace());
+    return error;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.joda.time.DateTimeFieldType;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all the elements of a sequence of Joda
+ * values are equal to a given one once truncated to a {@link DateTimeFieldType} failed, only the first different
+ * element is reported.
+ */
+public class ShouldAllBeEqualTruncatedTo extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldAllBeEqualTruncatedTo(long index, Object element, Object other,
+                                                                DateTimeFieldType fieldType) {
+    return new ShouldAllBeEqualTruncatedTo(index, element, other, fieldType);
+  }
+
+  private ShouldAllBeEqualTruncatedTo(long index, Object element, Object other, DateTimeFieldType fieldType) {
+    super("%nExpecting all elements to have same fields down to %s as:%n  <%s>%nbut element at index %s:%n  <%s>%nhad not.",
+          fieldType, other, index, element);
+  }
+}
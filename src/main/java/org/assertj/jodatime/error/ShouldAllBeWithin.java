@@ -0,0 +1,32 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all the elements of a sequence of Joda
+ * values are within a range failed, only the first element out of the range is reported.
+ */
+public class ShouldAllBeWithin extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldAllBeWithin(long index, Object element, Object start, Object end) {
+    return new ShouldAllBeWithin(index, element, start, end);
+  }
+
+  private ShouldAllBeWithin(long index, Object element, Object start, Object end) {
+    super("%nExpecting all elements to be within:%n  [<%s>, <%s>]%nbut element at index %s:%n  <%s>%nwas not.",
+          start, end, index, element);
+  }
+}
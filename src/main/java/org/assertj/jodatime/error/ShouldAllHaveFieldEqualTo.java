@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.joda.time.DateTimeFieldType;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all the elements of a sequence of Joda
+ * values have a field equal to a given value failed, only the first element with a different value is reported.
+ */
+public class ShouldAllHaveFieldEqualTo extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldAllHaveFieldEqualTo(long index, Object element, DateTimeFieldType fieldType,
+                                                              int actualValue, int expectedValue) {
+    return new ShouldAllHaveFieldEqualTo(index, element, fieldType, actualValue, expectedValue);
+  }
+
+  private ShouldAllHaveFieldEqualTo(long index, Object element, DateTimeFieldType fieldType, int actualValue,
+                                    int expectedValue) {
+    super("%nExpecting all elements to have %s:%n  <%s>%nbut element at index %s:%n  <%s>%nhad:%n  <%s>",
+          fieldType, expectedValue, index, element, actualValue);
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a date is a business day (or is not a
+ * holiday) of a business calendar failed.
+ */
+public class ShouldBeBusinessDay extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldBeBusinessDay(Object actual, boolean isHoliday) {
+    return new ShouldBeBusinessDay("%nExpecting:%n  <%s>%nto be a business day but it was a "
+                                   + (isHoliday ? "holiday." : "weekend day."), actual);
+  }
+
+  public static ErrorMessageFactory shouldNotBeHoliday(Object actual) {
+    return new ShouldBeBusinessDay("%nExpecting:%n  <%s>%nnot to be a holiday but it was.", actual);
+  }
+
+  private ShouldBeBusinessDay(String format, Object actual) {
+    super(format, actual);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that Joda values are close to other ones within a
+ * tolerance failed.
+ */
+public class ShouldBeCloseTo extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldBeCloseTo(Object actual, Object other, long toleranceMillis,
+                                                    long differenceMillis) {
+    return new ShouldBeCloseTo("%nExpecting:%n  <%s>%nto be close to:%n  <%s>%nwithin %sms but difference was %sms.",
+                               actual, other, toleranceMillis, differenceMillis);
+  }
+
+  public static ErrorMessageFactory elementShouldBeCloseTo(long index, Object element, Object expectedElement,
+                                                           long toleranceMillis, long differenceMillis) {
+    return new ShouldBeCloseTo("%nExpecting element at index %s:%n  <%s>%nto be close to:%n  <%s>%n"
+                               + "within %sms but difference was %sms.",
+                               index, element, expectedElement, toleranceMillis, differenceMillis);
+  }
+
+  public static ErrorMessageFactory seriesShouldHaveSameSize(long index, boolean actualIsShorter) {
+    String shorterSide = actualIsShorter ? "actual" : "expected";
+    return new ShouldBeCloseTo("%nExpecting actual and expected elements to have the same size but " + shorterSide
+                               + " had no element at index %s.", index);
+  }
+
+  private ShouldBeCloseTo(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a sequence of Joda values is sorted
+ * chronologically failed, only the first two elements out of order are reported.
+ */
+public class ShouldBeInChronologicalOrder extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldBeSorted(long index, Object previous, Object element) {
+    return new ShouldBeInChronologicalOrder("%nExpecting elements to be sorted chronologically but element at index %s:%n"
+                                           + "  <%s>%nis before the previous one:%n  <%s>",
+                                           index, element, previous);
+  }
+
+  public static ErrorMessageFactory shouldBeStrictlyIncreasing(long index, Object previous, Object element) {
+    return new ShouldBeInChronologicalOrder("%nExpecting elements to be strictly increasing but element at index %s:%n"
+                                           + "  <%s>%nis not strictly after the previous one:%n  <%s>",
+                                           index, element, previous);
+  }
+
+  private ShouldBeInChronologicalOrder(String format, long index, Object element, Object previous) {
+    super(format, index, element, previous);
+  }
+}
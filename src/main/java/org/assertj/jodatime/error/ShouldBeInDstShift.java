@@ -0,0 +1,37 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a local time is in a gap or an overlap of
+ * a {@link DateTimeZone} (i.e. in the local time line shift of an offset transition) failed.
+ */
+public class ShouldBeInDstShift extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldBeInDstGap(Object actual, DateTimeZone zone) {
+    return new ShouldBeInDstShift(actual, "a gap", zone);
+  }
+
+  public static ErrorMessageFactory shouldBeInDstOverlap(Object actual, DateTimeZone zone) {
+    return new ShouldBeInDstShift(actual, "an overlap", zone);
+  }
+
+  private ShouldBeInDstShift(Object actual, String shift, DateTimeZone zone) {
+    super("%nExpecting:%n  <%s>%nto be in " + shift + " of the %s time zone offset transitions but it was not.",
+          actual, zone);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a date is a given number of business days
+ * after another one failed.
+ */
+public class ShouldBeNthBusinessDayAfter extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldBeNthBusinessDayAfter(Object actual, int n, Object start,
+                                                                long actualBusinessDays) {
+    return new ShouldBeNthBusinessDayAfter("%nExpecting:%n  <%s>%nto be %s business day(s) after:%n  <%s>%n"
+                                           + "but it was %s business day(s) after it.",
+                                           actual, n, start, actualBusinessDays);
+  }
+
+  public static ErrorMessageFactory shouldBeNthBusinessDayAfterButIsNotBusinessDay(Object actual, int n,
+                                                                                   Object start) {
+    return new ShouldBeNthBusinessDayAfter("%nExpecting:%n  <%s>%nto be %s business day(s) after:%n  <%s>%n"
+                                           + "but it was not a business day.",
+                                           actual, n, start);
+  }
+
+  private ShouldBeNthBusinessDayAfter(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
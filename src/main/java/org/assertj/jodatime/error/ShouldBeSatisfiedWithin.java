@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.presentation.Representation;
+import org.joda.time.ReadableDuration;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a polled Joda value eventually satisfies
+ * some requirements failed, the failure of the last attempt is reported.
+ */
+public class ShouldBeSatisfiedWithin extends BasicErrorMessageFactory {
+
+  private final AssertionError lastFailure;
+
+  public static ErrorMessageFactory shouldBeSatisfiedWithin(ReadableDuration timeout, long attempts,
+                                                            AssertionError lastFailure) {
+    return new ShouldBeSatisfiedWithin(lastFailure, timeout, attempts);
+  }
+
+  private ShouldBeSatisfiedWithin(AssertionError lastFailure, ReadableDuration timeout, long attempts) {
+    super("%nExpecting the polled value to satisfy the requirements within %s but it did not after %s attempts, the "
+          + "last attempt failed with:%n", timeout, attempts);
+    this.lastFailure = lastFailure;
+  }
+
+  @Override
+  public String create(Description description, Representation representation) {
+    return super.create(description, representation) + String.valueOf(lastFailure.getMessage()).trim();
+  }
+}
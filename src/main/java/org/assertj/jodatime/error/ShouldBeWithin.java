@@ -0,0 +1,30 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a Joda value is within a range failed.
+ */
+public class ShouldBeWithin extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldBeWithin(Object actual, Object start, Object end) {
+    return new ShouldBeWithin(actual, start, end);
+  }
+
+  private ShouldBeWithin(Object actual, Object start, Object end) {
+    super("%nExpecting:%n  <%s>%nto be within:%n  [<%s>, <%s>]%nbut was not.", actual, start, end);
+  }
+}
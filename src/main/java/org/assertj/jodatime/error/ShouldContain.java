@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a Joda interval contains (or does not
+ * contain) an instant or another interval failed.
+ */
+public class ShouldContain extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldContain(Object actual, Object other) {
+    return new ShouldContain("%nExpecting interval:%n  <%s>%nto contain:%n  <%s>%nbut did not.", actual, other);
+  }
+
+  public static ErrorMessageFactory shouldNotContain(Object actual, Object other) {
+    return new ShouldContain("%nExpecting interval:%n  <%s>%nnot to contain:%n  <%s>%nbut did.", actual, other);
+  }
+
+  private ShouldContain(String format, Object actual, Object other) {
+    super(format, actual, other);
+  }
+}
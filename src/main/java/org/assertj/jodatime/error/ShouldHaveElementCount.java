@@ -0,0 +1,31 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the number of elements of a sequence of Joda
+ * values failed.
+ */
+public class ShouldHaveElementCount extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldHaveElementCount(long actualCount, long expectedCount) {
+    return new ShouldHaveElementCount(actualCount, expectedCount);
+  }
+
+  private ShouldHaveElementCount(long actualCount, long expectedCount) {
+    super("%nExpecting number of elements to be:%n  <%s>%nbut was:%n  <%s>", expectedCount, actualCount);
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the number of elements of a series in any time
+ * window of a given length failed, only the earliest offending window is reported.
+ */
+public class ShouldHaveElementCountInAnyWindow extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldHaveAtMostElementsInAnyWindow(int maxCount, Object windowDuration,
+                                                                        Object window, long count, long firstIndex) {
+    return new ShouldHaveElementCountInAnyWindow("%nExpecting at most %s elements in any window of:%n  <%s>%n"
+                                                 + "but window:%n  <%s>%ncontained %s elements from index %s to %s.",
+                                                 maxCount, windowDuration, window, count, firstIndex,
+                                                 firstIndex + count - 1);
+  }
+
+  public static ErrorMessageFactory shouldHaveAtLeastElementsInAnyWindow(int minCount, Object windowDuration,
+                                                                         Object window, long count) {
+    return new ShouldHaveElementCountInAnyWindow("%nExpecting at least %s elements in any window of:%n  <%s>%n"
+                                                 + "between the first and the last elements but window:%n  <%s>%n"
+                                                 + "contained %s elements.",
+                                                 minCount, windowDuration, window, count);
+  }
+
+  private ShouldHaveElementCountInAnyWindow(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the elements of a collection of Joda values
+ * are distinct failed, only the first duplicate is reported.
+ */
+public class ShouldHaveNoDuplicates extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldHaveNoDuplicates(long index, Object element, long firstIndex) {
+    return new ShouldHaveNoDuplicates(index, element, firstIndex);
+  }
+
+  private ShouldHaveNoDuplicates(long index, Object element, long firstIndex) {
+    super("%nExpecting elements to be distinct but element at index %s:%n  <%s>%nis equal to element at index %s",
+          index, element, firstIndex);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that there is no gap longer than a given
+ * duration between Joda intervals or between consecutive elements of a series failed, only the earliest gap is
+ * reported.
+ */
+public class ShouldHaveNoGapLongerThan extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldHaveNoGapLongerThan(Object maxGap, Object gap, Object gapDuration) {
+    return new ShouldHaveNoGapLongerThan("%nExpecting no gap longer than:%n  <%s>%nbetween intervals but no interval "
+                                         + "covers:%n  <%s>%nwhich lasts:%n  <%s>",
+                                         maxGap, gap, gapDuration);
+  }
+
+  public static ErrorMessageFactory elementsShouldHaveNoGapLongerThan(Object maxGap, long index, Object previous,
+                                                                      Object element, Object gapDuration) {
+    return new ShouldHaveNoGapLongerThan("%nExpecting no gap longer than:%n  <%s>%nbetween consecutive elements but "
+                                         + "elements at index %s and %s:%n  <%s>%n  <%s>%nare apart by:%n  <%s>",
+                                         maxGap, index - 1, index, previous, element, gapDuration);
+  }
+
+  private ShouldHaveNoGapLongerThan(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
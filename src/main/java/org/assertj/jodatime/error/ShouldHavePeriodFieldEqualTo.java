@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.joda.time.DurationFieldType;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a field of a Joda period is equal to a
+ * given value failed.
+ */
+public class ShouldHavePeriodFieldEqualTo extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldHavePeriodFieldEqualTo(Object actual, DurationFieldType fieldType,
+                                                                 int actualValue, int expectedValue) {
+    return new ShouldHavePeriodFieldEqualTo(actual, fieldType, actualValue, expectedValue);
+  }
+
+  private ShouldHavePeriodFieldEqualTo(Object actual, DurationFieldType fieldType, int actualValue,
+                                       int expectedValue) {
+    super("%n" +
+          "Expecting:%n" +
+          "  <%s>%n" +
+          fieldType.getName() + " to be:%n" +
+          "  <%s>%n" +
+          "but was:%n" +
+          "  <%s>",
+          actual, expectedValue, actualValue);
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a statistic (percentile, max, mean, ...) of
+ * a collection of Joda durations is at most a given value failed.
+ */
+public class ShouldHaveStatisticAtMost extends BasicErrorMessageFactory {
+
+  public static ErrorMessageFactory shouldHaveStatisticAtMost(String statistic, Object actualValue, Object maxValue,
+                                                              long count) {
+    return new ShouldHaveStatisticAtMost(statistic, actualValue, maxValue, count);
+  }
+
+  private ShouldHaveStatisticAtMost(String statistic, Object actualValue, Object maxValue, long count) {
+    super("%nExpecting " + statistic + " of %s durations:%n  <%s>%nto be at most:%n  <%s>", count, actualValue,
+          maxValue);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import static org.assertj.jodatime.internal.GoldenFile.UPDATE_GOLDEN_FILES_PROPERTY;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a series of Joda values is equal to the
+ * one stored in a golden file failed, only the first different element is reported.
+ */
+public class ShouldMatchGoldenFile extends BasicErrorMessageFactory {
+
+  private static final String HOW_TO_UPDATE = "%nRun with -D" + UPDATE_GOLDEN_FILES_PROPERTY
+                                              + "=true to rewrite the golden file if this change is expected.";
+
+  public static ErrorMessageFactory elementShouldMatchGoldenFile(long index, Object element, Object goldenElement,
+                                                                 Object goldenFile) {
+    return new ShouldMatchGoldenFile("%nExpecting element at index %s:%n  <%s>%nto be equal to the one of golden "
+                                     + "file:%n  <%s>%nwhich is:%n  <%s>" + HOW_TO_UPDATE,
+                                     index, element, goldenFile, goldenElement);
+  }
+
+  public static ErrorMessageFactory shouldHaveGoldenFileSize(long actualSize, long goldenSize, Object goldenFile) {
+    return new ShouldMatchGoldenFile("%nExpecting %s elements as in golden file:%n  <%s>%nbut actual had %s elements."
+                                     + HOW_TO_UPDATE,
+                                     goldenSize, goldenFile, actualSize);
+  }
+
+  private ShouldMatchGoldenFile(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.jodatime.internal.SeriesDiff;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two series of Joda values match within a
+ * tolerance failed.
+ * <p>
+ * The message is a compact diff: the number of missing, extra and shifted elements followed by the first samples of
+ * each of them, it does not grow with the size of the compared series.
+ */
+public class ShouldMatchSeries extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldMatchSeries}</code>.
+   *
+   * @param diff the differences between the actual and the expected series.
+   * @param toleranceMillis the maximum distance between matching elements.
+   * @param toElement converts the sampled millis to the displayed elements.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldMatchSeries(SeriesDiff diff, long toleranceMillis,
+                                                      LongFunction<?> toElement) {
+    StringBuilder format = new StringBuilder("%nExpecting actual series to match expected series within %sms but "
+                                             + "found %s missing, %s extra and %s shifted elements.");
+    List<Object> arguments = new ArrayList<>();
+    arguments.add(toleranceMillis);
+    arguments.add(diff.missingCount());
+    arguments.add(diff.extraCount());
+    arguments.add(diff.shiftedCount());
+    if (diff.missingCount() > 0) {
+      format.append("%nMissing elements (expected index: element):");
+      for (long[] sample : diff.missingSamples()) {
+        format.append("%n  %s: <%s>");
+        arguments.add(sample[0]);
+        arguments.add(toElement.apply(sample[1]));
+      }
+      appendOmittedCount(format, arguments, diff.missingCount(), diff.missingSamples());
+    }
+    if (diff.extraCount() > 0) {
+      format.append("%nExtra elements (actual index: element):");
+      for (long[] sample : diff.extraSamples()) {
+        format.append("%n  %s: <%s>");
+        arguments.add(sample[0]);
+        arguments.add(toElement.apply(sample[1]));
+      }
+      appendOmittedCount(format, arguments, diff.extraCount(), diff.extraSamples());
+    }
+    if (diff.shiftedCount() > 0) {
+      format.append("%nShifted elements (actual index: element instead of expected element):");
+      for (long[] sample : diff.shiftedSamples()) {
+        format.append("%n  %s: <%s> instead of <%s>");
+        arguments.add(sample[0]);
+        arguments.add(toElement.apply(sample[1]));
+        arguments.add(toElement.apply(sample[2]));
+      }
+      appendOmittedCount(format, arguments, diff.shiftedCount(), diff.shiftedSamples());
+    }
+    return new ShouldMatchSeries(format.toString(), arguments.toArray());
+  }
+
+  private static void appendOmittedCount(StringBuilder format, List<Object> arguments, long count,
+                                         List<long[]> samples) {
+    if (count == samples.size()) return;
+    format.append("%n  ... (%s more)");
+    arguments.add(count - samples.size());
+  }
+
+  private ShouldMatchSeries(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Exponential backoff between the attempts of a polling assertion: the first delay is short to notice quickly a value
+ * that is about to change, each delay doubles the previous one up to a maximum to limit the wakeups of long waits.
+ * <p>
+ * The polling thread sleeps until its next attempt and is never woken up in between, the last delay is shortened so
+ * that the last attempt happens at the deadline. Time is measured with {@link System#nanoTime()}, deadlines are not
+ * affected by a fixed Joda current time ({@link org.joda.time.DateTimeUtils#setCurrentMillisFixed(long)}) nor by
+ * wall clock adjustments.
+ * <p>
+ * This class is not thread safe, an instance is meant to be used by a single polling loop.
+ */
+public final class Backoff {
+
+  private final long startNanos;
+  private final long timeoutNanos;
+  private final long maxDelayNanos;
+  private long delayNanos;
+  private long failedAttempts;
+
+  /**
+   * Starts the timeout.
+   *
+   * @param timeoutMillis the time given to the polled value to satisfy the assertion. expected not to be negative
+   * @param initialDelayMillis the delay after the first failed attempt. expected to be strictly positive
+   * @param maxDelayMillis the maximum delay between two attempts. expected not to be less than initialDelayMillis
+   */
+  public Backoff(long timeoutMillis, long initialDelayMillis, long maxDelayMillis) {
+    startNanos = System.nanoTime();
+    // MILLISECONDS.toNanos saturates instead of overflowing
+    timeoutNanos = MILLISECONDS.toNanos(timeoutMillis);
+    delayNanos = MILLISECONDS.toNanos(initialDelayMillis);
+    maxDelayNanos = MILLISECONDS.toNanos(maxDelayMillis);
+  }
+
+  /**
+   * Records a failed attempt and sleeps until the next one.
+   *
+   * @return true if a new attempt should be made, false if the timeout has elapsed or if the thread was interrupted
+   *         (its interrupt status is then restored).
+   */
+  public boolean awaitNextAttempt() {
+    failedAttempts++;
+    // elapsed time is a difference of nanoTime values, the only overflow safe way to use them
+    long remainingNanos = timeoutNanos - (System.nanoTime() - startNanos);
+    if (remainingNanos <= 0) return false;
+    try {
+      NANOSECONDS.sleep(Math.min(delayNanos, remainingNanos));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    delayNanos = delayNanos > maxDelayNanos / 2 ? maxDelayNanos : delayNanos * 2;
+    return true;
+  }
+
+  /**
+   * @return the number of failed attempts so far.
+   */
+  public long failedAttempts() {
+    return failedAttempts;
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.joda.time.Chronology;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * Business days of a calendar stored as one bitset per year indexed by day of year, a day being a business day if it
+ * is neither a weekend day nor a holiday.
+ * <p>
+ * Checking a day is an array lookup and the number of business days between two days is the population count of the
+ * bitsets words between them instead of a day by day iteration.
+ * <p>
+ * Days are identified by their local millis and located in the ISO calendar whatever the chronology of the date they
+ * come from. The bitsets of the years from 1900 to 2100 are built lazily and cached, the other ones are built on each
+ * use.
+ */
+public final class BusinessDays {
+
+  private static final Chronology ISO_UTC = ISOChronology.getInstanceUTC();
+  // 366 days fit in 6 longs
+  private static final int WORDS_PER_YEAR = 6;
+  private static final int CACHE_START_YEAR = 1900;
+  private static final int CACHE_END_YEAR = 2100;
+
+  // indexed by ISO day of week (1 is Monday)
+  private final boolean[] weekendDays = new boolean[8];
+  private final Map<Integer, long[]> holidaysByYear = new HashMap<>();
+  private final AtomicReferenceArray<long[]> businessDaysByYear;
+
+  /**
+   * Creates the business days of a calendar.
+   *
+   * @param weekendDaysOfWeek the ISO days of week (1 for Monday to 7 for Sunday) that are not business days. expected
+   *          to be valid days of week
+   * @param holidaysLocalMillis the local millis of the holidays.
+   */
+  public BusinessDays(int[] weekendDaysOfWeek, long[] holidaysLocalMillis) {
+    for (int dayOfWeek : weekendDaysOfWeek) {
+      weekendDays[dayOfWeek] = true;
+    }
+    for (long holidayLocalMillis : holidaysLocalMillis) {
+      long[] holidays = holidaysByYear.computeIfAbsent(ISO_UTC.year().get(holidayLocalMillis),
+                                                       year -> new long[WORDS_PER_YEAR]);
+      setBit(holidays, ISO_UTC.dayOfYear().get(holidayLocalMillis) - 1);
+    }
+    businessDaysByYear = new AtomicReferenceArray<>(CACHE_END_YEAR - CACHE_START_YEAR);
+  }
+
+  public boolean isHoliday(long localMillis) {
+    long[] holidays = holidaysByYear.get(ISO_UTC.year().get(localMillis));
+    return holidays != null && isBitSet(holidays, ISO_UTC.dayOfYear().get(localMillis) - 1);
+  }
+
+  public boolean isWeekendDay(long localMillis) {
+    return weekendDays[ISO_UTC.dayOfWeek().get(localMillis)];
+  }
+
+  public boolean isBusinessDay(long localMillis) {
+    return isBitSet(businessDaysOf(ISO_UTC.year().get(localMillis)), ISO_UTC.dayOfYear().get(localMillis) - 1);
+  }
+
+  /**
+   * Returns the number of business days after the start day up to the end day included.
+   *
+   * @param startLocalMillis the local millis of the start day, excluded from the count.
+   * @param endLocalMillis the local millis of the end day, included in the count. expected to be after the start day
+   * @return the number of business days in ]start, end].
+   */
+  public long countBetween(long startLocalMillis, long endLocalMillis) {
+    int startYear = ISO_UTC.year().get(startLocalMillis);
+    int endYear = ISO_UTC.year().get(endLocalMillis);
+    // the bit of a day is its day of year - 1, the start day is excluded and the end day included
+    int fromBit = ISO_UTC.dayOfYear().get(startLocalMillis);
+    int toBit = ISO_UTC.dayOfYear().get(endLocalMillis);
+    if (startYear == endYear) return countBits(businessDaysOf(startYear), fromBit, toBit);
+    long count = countBits(businessDaysOf(startYear), fromBit, WORDS_PER_YEAR * Long.SIZE);
+    for (int year = startYear + 1; year < endYear; year++) {
+      count += countBits(businessDaysOf(year), 0, WORDS_PER_YEAR * Long.SIZE);
+    }
+    return count + countBits(businessDaysOf(endYear), 0, toBit);
+  }
+
+  private long[] businessDaysOf(int year) {
+    if (year < CACHE_START_YEAR || year >= CACHE_END_YEAR) return computeBusinessDaysOf(year);
+    int index = year - CACHE_START_YEAR;
+    long[] businessDays = businessDaysByYear.get(index);
+    if (businessDays == null) {
+      // concurrent first uses may both compute the same bitset, that is harmless
+      businessDays = computeBusinessDaysOf(year);
+      businessDaysByYear.set(index, businessDays);
+    }
+    return businessDays;
+  }
+
+  private long[] computeBusinessDaysOf(int year) {
+    long[] businessDays = new long[WORDS_PER_YEAR];
+    long[] holidays = holidaysByYear.get(year);
+    long firstDayLocalMillis = ISO_UTC.getDateTimeMillis(year, 1, 1, 0);
+    int firstDayOfWeek = ISO_UTC.dayOfWeek().get(firstDayLocalMillis);
+    int daysInYear = ISO_UTC.dayOfYear().getMaximumValue(firstDayLocalMillis);
+    for (int day = 0; day < daysInYear; day++) {
+      int dayOfWeek = (firstDayOfWeek - 1 + day) % 7 + 1;
+      if (!weekendDays[dayOfWeek] && (holidays == null || !isBitSet(holidays, day))) setBit(businessDays, day);
+    }
+    return businessDays;
+  }
+
+  // number of bits set in [fromBit, toBit[
+  private static long countBits(long[] bits, int fromBit, int toBit) {
+    if (fromBit >= toBit) return 0;
+    int fromWord = fromBit >>> 6;
+    int toWord = (toBit - 1) >>> 6;
+    // shifts are modulo 64: -1L << fromBit keeps the bits from fromBit % 64, -1L >>> -toBit the ones up to toBit % 64
+    long firstWordMask = -1L << fromBit;
+    long lastWordMask = -1L >>> -toBit;
+    if (fromWord == toWord) return Long.bitCount(bits[fromWord] & firstWordMask & lastWordMask);
+    long count = Long.bitCount(bits[fromWord] & firstWordMask);
+    for (int word = fromWord + 1; word < toWord; word++) {
+      count += Long.bitCount(bits[word]);
+    }
+    return count + Long.bitCount(bits[toWord] & lastWordMask);
+  }
+
+  private static boolean isBitSet(long[] bits, int bit) {
+    return (bits[bit >>> 6] & (1L << bit)) != 0;
+  }
+
+  private static void setBit(long[] bits, int bit) {
+    bits[bit >>> 6] |= 1L << bit;
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+/**
+ * Check of an element of a sequence of Joda values, the element preceding it is given to allow ordering checks.
+ *
+ * @param <T> the type of the checked elements.
+ */
+@FunctionalInterface
+public interface ElementCheck<T> {
+
+  /**
+   * Returns true if the given element does not pass this check.
+   *
+   * @param previous the element preceding the checked one, {@code null} for the first element.
+   * @param element the checked element, never {@code null}.
+   * @return true if the element does not pass this check.
+   */
+  boolean isViolatedBy(T previous, T element);
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.PrimitiveIterator;
+
+/**
+ * A golden file of epoch millis, i.e. a binary file of fixed-width big-endian longs (as written by
+ * {@link java.io.DataOutputStream#writeLong(long) DataOutputStream.writeLong}) holding the expected output of a test.
+ * <p>
+ * The file is memory-mapped in read only mode, its elements are read from the page cache on demand and are never
+ * copied on the heap, so golden files of hundreds of MB can be compared without memory pressure. A single mapping is
+ * limited to 2GB, larger files are mapped in several regions.
+ */
+public final class GoldenFile {
+
+  /**
+   * System property rewriting the golden files with the actual values instead of comparing them when set to
+   * {@code true}.
+   */
+  public static final String UPDATE_GOLDEN_FILES_PROPERTY = "assertj.jodatime.updateGoldenFiles";
+
+  private static final int REGION_SHIFT = 27;
+  // 2^27 longs, i.e. a 1GB mapping
+  private static final long LONGS_PER_REGION = 1L << REGION_SHIFT;
+  private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+  private final LongBuffer[] regions;
+  private final long size;
+
+  /**
+   * @return true if the golden files should be rewritten instead of being compared.
+   */
+  public static boolean updateRequested() {
+    return Boolean.getBoolean(UPDATE_GOLDEN_FILES_PROPERTY);
+  }
+
+  /**
+   * Maps the given golden file in memory.
+   *
+   * @param path the golden file. expected not be null
+   * @return the mapped golden file.
+   * @throws IllegalArgumentException if the file does not exist or if its size is not a multiple of 8 bytes.
+   * @throws UncheckedIOException if the file can't be read.
+   */
+  public static GoldenFile map(Path path) {
+    if (!Files.isRegularFile(path))
+      throw new IllegalArgumentException("The golden file " + path + " does not exist, run with -D"
+                                         + UPDATE_GOLDEN_FILES_PROPERTY + "=true to create it");
+    try (FileChannel channel = FileChannel.open(path, READ)) {
+      long bytes = channel.size();
+      if (bytes % Long.BYTES != 0)
+        throw new IllegalArgumentException("The golden file " + path + " should only contain 8 bytes longs but its "
+                                           + "size " + bytes + " is not a multiple of 8");
+      long size = bytes / Long.BYTES;
+      LongBuffer[] regions = new LongBuffer[(int) ((size + LONGS_PER_REGION - 1) / LONGS_PER_REGION)];
+      for (int i = 0; i < regions.length; i++) {
+        long regionStart = i * LONGS_PER_REGION;
+        long regionSize = Math.min(LONGS_PER_REGION, size - regionStart);
+        // the mapping stays valid once the channel is closed
+        regions[i] = channel.map(READ_ONLY, regionStart * Long.BYTES, regionSize * Long.BYTES).asLongBuffer();
+      }
+      return new GoldenFile(regions, size);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read the golden file " + path, e);
+    }
+  }
+
+  /**
+   * Writes the given epoch millis in the given golden file, replacing its content, the parent directories are created
+   * if needed.
+   *
+   * @param path the golden file. expected not be null
+   * @param millis the epoch millis to write. expected not be null
+   * @throws UncheckedIOException if the file can't be written.
+   */
+  public static void write(Path path, PrimitiveIterator.OfLong millis) {
+    try {
+      Path parent = path.toAbsolutePath().getParent();
+      if (parent != null) Files.createDirectories(parent);
+      try (FileChannel channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE)) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        while (millis.hasNext()) {
+          if (!buffer.hasRemaining()) flush(buffer, channel);
+          buffer.putLong(millis.nextLong());
+        }
+        flush(buffer, channel);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to write the golden file " + path, e);
+    }
+  }
+
+  private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private GoldenFile(LongBuffer[] regions, long size) {
+    this.regions = regions;
+    this.size = size;
+  }
+
+  /**
+   * @return the number of epoch millis in this golden file.
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * @param index the index of the element to read. expected to be between 0 and {@link #size()} excluded
+   * @return the epoch millis at the given index.
+   */
+  public long get(long index) {
+    return regions[(int) (index >>> REGION_SHIFT)].get((int) (index & (LONGS_PER_REGION - 1)));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * Search of the first index of a random access sequence (like an array) matching a predicate, either sequentially or
+ * split across the cores with fork/join.
+ */
+public final class IndexSearch {
+
+  public static final int NOT_FOUND = -1;
+  /**
+   * Under this size a parallel search is done sequentially, splitting the work would cost more than it saves.
+   */
+  public static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+  // smallest range scanned by a single fork/join task
+  private static final int MIN_RANGE_SIZE = 1 << 12;
+
+  /**
+   * Returns the first index in {@code [0, size)} matching the given predicate.
+   *
+   * @param size the number of indexes to search.
+   * @param predicate the predicate to test indexes with. expected not be null
+   * @return the first matching index or {@link #NOT_FOUND}.
+   */
+  public static int firstIndexMatching(int size, IntPredicate predicate) {
+    for (int i = 0; i < size; i++) {
+      if (predicate.test(i)) return i;
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Same as {@link #firstIndexMatching(int, IntPredicate)} but the indexes are split in ranges searched in parallel in
+   * the common {@link ForkJoinPool}, the result is the same as a sequential search: the <b>first</b> matching index.
+   * <p>
+   * Ranges after an already matching index are skipped. Searches of less than {@link #SEQUENTIAL_THRESHOLD} indexes are
+   * done sequentially.
+   *
+   * @param size the number of indexes to search.
+   * @param predicate the predicate to test indexes with, it must be safe to call it from several threads. expected not
+   *          be null
+   * @return the first matching index or {@link #NOT_FOUND}.
+   */
+  public static int firstIndexMatchingInParallel(int size, IntPredicate predicate) {
+    if (size < SEQUENTIAL_THRESHOLD) return firstIndexMatching(size, predicate);
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+    // a few ranges per worker so that busy workers can be helped by idle ones
+    int rangeSize = Math.max(MIN_RANGE_SIZE, size / (pool.getParallelism() * 8));
+    AtomicInteger firstIndex = new AtomicInteger(Integer.MAX_VALUE);
+    pool.invoke(new FirstIndexMatchingTask(0, size, rangeSize, predicate, firstIndex));
+    return firstIndex.get() == Integer.MAX_VALUE ? NOT_FOUND : firstIndex.get();
+  }
+
+  private static final class FirstIndexMatchingTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+    private final int rangeSize;
+    private final IntPredicate predicate;
+    private final AtomicInteger firstIndex;
+
+    private FirstIndexMatchingTask(int from, int to, int rangeSize, IntPredicate predicate, AtomicInteger firstIndex) {
+      this.from = from;
+      this.to = to;
+      this.rangeSize = rangeSize;
+      this.predicate = predicate;
+      this.firstIndex = firstIndex;
+    }
+
+    @Override
+    protected void compute() {
+      // a smaller index already matched, nothing in this range can be the first one
+      if (from >= firstIndex.get()) return;
+      if (to - from <= rangeSize) {
+        for (int i = from; i < to; i++) {
+          if (predicate.test(i)) {
+            keepSmallest(i);
+            return;
+          }
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new FirstIndexMatchingTask(from, middle, rangeSize, predicate, firstIndex),
+                new FirstIndexMatchingTask(middle, to, rangeSize, predicate, firstIndex));
+    }
+
+    private void keepSmallest(int index) {
+      int current = firstIndex.get();
+      while (index < current && !firstIndex.compareAndSet(current, index)) {
+        current = firstIndex.get();
+      }
+    }
+  }
+
+  private IndexSearch() {
+    // utility class
+  }
+}
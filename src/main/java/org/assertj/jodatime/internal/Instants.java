@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.ReadWritableInstant;
+import org.joda.time.ReadableInstant;
+
+/**
+ * Comparisons of Joda {@link ReadableInstant}s based on their epoch milliseconds.
+ * <p>
+ * They give the same results as comparing {@link DateTime}s converted in a given {@link DateTimeZone} but without
+ * creating the converted instances, assertions can then build them only when they fail and need an error message.
+ */
+public final class Instants {
+
+  /**
+   * Returns true if {@code other} converted in the {@link DateTimeZone} of {@code actual} is equal to {@code actual},
+   * that is the same as {@code actual.equals(new DateTime(other, actual.getZone()))}.
+   *
+   * @param actual the actual instant. expected not be null
+   * @param other the other instant. expected not be null
+   * @return true if both instants have the same millis and the same chronology once other is in actual's zone.
+   */
+  public static boolean areEqualInZoneOf(ReadableInstant actual, ReadableInstant other) {
+    if (actual.getMillis() != other.getMillis()) return false;
+    Chronology actualChronology = actual.getChronology();
+    Chronology otherChronology = other.getChronology();
+    if (actualChronology == otherChronology) return true;
+    // chronologies are cached per zone by Joda, withZone does not allocate for the built-in ones
+    return actualChronology.equals(otherChronology.withZone(actual.getZone()));
+  }
+
+  /**
+   * Compares the given instants by their epoch millis only, whatever their {@link DateTimeZone} and chronology, this
+   * is the chronological order used by the {@link DateTime} assertions.
+   *
+   * @param instant1 the first instant to compare. expected not be null
+   * @param instant2 the second instant to compare. expected not be null
+   * @return a negative value, zero or a positive value if instant1 is before, at the same millis or after instant2.
+   */
+  public static int compareMillis(ReadableInstant instant1, ReadableInstant instant2) {
+    return Long.compare(instant1.getMillis(), instant2.getMillis());
+  }
+
+  /**
+   * Returns an immutable copy of the given instant if it is mutable (like a {@link org.joda.time.MutableDateTime}),
+   * the instant itself otherwise, so that an error message rendered later shows the instant at the time of the failure.
+   *
+   * @param instant the instant to snapshot.
+   * @return the given instant or a {@link DateTime} with the same millis and chronology.
+   */
+  public static ReadableInstant snapshotOf(ReadableInstant instant) {
+    if (!(instant instanceof ReadWritableInstant)) return instant;
+    return new DateTime(instant.getMillis(), instant.getChronology());
+  }
+
+  private Instants() {
+    // utility class
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Overlap and gap checks of a set of intervals given as their start and end millis, intervals are half-open: they
+ * include their start and exclude their end like Joda {@link org.joda.time.Interval Interval}s.
+ * <p>
+ * Intervals are sorted by start once and swept in that order keeping only the furthest end reached so far, checking n
+ * intervals is O(n log n) instead of comparing each pair of intervals.
+ */
+public final class IntervalSweeps {
+
+  private static final Comparator<Span> BY_START_THEN_END = Comparator.<Span> comparingLong(span -> span.start)
+                                                                      .thenComparingLong(span -> span.end);
+
+  /**
+   * Finds two overlapping intervals, two intervals overlap if they share at least one millisecond, abutting intervals
+   * and zero duration intervals at the start of another one don't overlap (see
+   * {@link org.joda.time.ReadableInterval#overlaps(org.joda.time.ReadableInterval) ReadableInterval#overlaps}).
+   *
+   * @param starts the start millis of the intervals. expected not be null
+   * @param ends the end millis of the intervals, in the same order as starts. expected not be null
+   * @return the indices of two overlapping intervals, the smallest first, or {@code null} if no intervals overlap.
+   */
+  public static int[] findOverlap(long[] starts, long[] ends) {
+    Span[] spans = sortedSpans(starts, ends);
+    // furthest reaching interval among the ones starting strictly before the current start
+    Span furthestBefore = null;
+    // furthest reaching interval among the ones starting at the current start
+    Span furthestAtStart = null;
+    for (Span span : spans) {
+      if (furthestAtStart != null && furthestAtStart.start != span.start) {
+        furthestBefore = furthest(furthestBefore, furthestAtStart);
+        furthestAtStart = null;
+      }
+      // a zero duration interval can't overlap intervals starting at the same instant
+      Span candidate = span.end > span.start ? furthest(furthestBefore, furthestAtStart) : furthestBefore;
+      if (candidate != null && span.start < candidate.end) {
+        return new int[] { Math.min(candidate.index, span.index), Math.max(candidate.index, span.index) };
+      }
+      furthestAtStart = furthest(furthestAtStart, span);
+    }
+    return null;
+  }
+
+  /**
+   * Finds the earliest stretch of time in [from, to) longer than the given length that is not covered by any interval.
+   *
+   * @param starts the start millis of the intervals. expected not be null
+   * @param ends the end millis of the intervals, in the same order as starts. expected not be null
+   * @param from the start of the range to check, inclusive.
+   * @param to the end of the range to check, exclusive.
+   * @param maxGapMillis the length of the longest accepted gap, 0 to find any gap.
+   * @return the start and end millis of the gap or {@code null} if there is no gap longer than the given length.
+   */
+  public static long[] firstGapLongerThan(long[] starts, long[] ends, long from, long to, long maxGapMillis) {
+    long reach = from;
+    for (Span span : sortedSpans(starts, ends)) {
+      if (reach >= to || span.start >= to) break;
+      // zero duration intervals don't cover anything
+      if (span.end <= span.start) continue;
+      if (span.start - reach > maxGapMillis) return new long[] { reach, span.start };
+      reach = Math.max(reach, span.end);
+    }
+    return to - reach > maxGapMillis ? new long[] { reach, to } : null;
+  }
+
+  /**
+   * Same as {@link #firstGapLongerThan(long[], long[], long, long, long)} for the range going from the earliest start
+   * to the latest end of the intervals.
+   *
+   * @param starts the start millis of the intervals. expected not be null
+   * @param ends the end millis of the intervals, in the same order as starts. expected not be null
+   * @param maxGapMillis the length of the longest accepted gap.
+   * @return the start and end millis of the gap or {@code null} if there is no gap longer than the given length.
+   */
+  public static long[] firstGapLongerThan(long[] starts, long[] ends, long maxGapMillis) {
+    if (starts.length == 0) return null;
+    long from = Long.MAX_VALUE;
+    long to = Long.MIN_VALUE;
+    for (int i = 0; i < starts.length; i++) {
+      from = Math.min(from, starts[i]);
+      to = Math.max(to, ends[i]);
+    }
+    return firstGapLongerThan(starts, ends, from, to, maxGapMillis);
+  }
+
+  private static Span[] sortedSpans(long[] starts, long[] ends) {
+    Span[] spans = new Span[starts.length];
+    for (int i = 0; i < spans.length; i++) {
+      spans[i] = new Span(starts[i], ends[i], i);
+    }
+    // TimSort is linear on intervals already sorted by start, the common case
+    Arrays.sort(spans, BY_START_THEN_END);
+    return spans;
+  }
+
+  private static Span furthest(Span span, Span other) {
+    if (span == null) return other;
+    if (other == null) return span;
+    return other.end > span.end ? other : span;
+  }
+
+  private static final class Span {
+
+    private final long start;
+    private final long end;
+    private final int index;
+
+    private Span(long start, long end, int index) {
+      this.start = start;
+      this.end = end;
+      this.index = index;
+    }
+  }
+
+  private IntervalSweeps() {
+    // utility class
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.ReadableInstant;
+import org.joda.time.ReadablePartial;
+
+/**
+ * Local milliseconds (milliseconds from 1970-01-01T00:00 in the local time line) of Joda values, they allow to compare
+ * {@link LocalDateTime}s and {@link LocalDate}s as plain longs.
+ */
+public final class LocalMillis {
+
+  /**
+   * Returns the local millis of the given partial, i.e. the millis of a {@link LocalDate} are the ones of its start of
+   * day.
+   * <p>
+   * {@link LocalDateTime} and {@link LocalDate} do not expose their local millis, they are rebuilt from their fields.
+   *
+   * @param partial the partial to get the local millis from. expected not be null
+   * @return the local millis of the given partial.
+   */
+  public static long localMillisOf(ReadablePartial partial) {
+    return partial.getChronology().set(partial, 0L);
+  }
+
+  /**
+   * Returns the local millis of the given instant in the given {@link DateTimeZone}.
+   * <p>
+   * The offset of zones with transitions is found in their {@link ZoneTransitions} index when indexing is enabled.
+   *
+   * @param zone the zone used to convert instant millis. expected not be null
+   * @param millis the instant millis
+   * @return the local millis of the given instant in the given {@link DateTimeZone}.
+   */
+  public static long localMillisOf(DateTimeZone zone, long millis) {
+    // no offset lookup needed for fixed offset zones like UTC
+    if (zone.isFixed()) return millis + zone.getOffset(0L);
+    return ZoneTransitions.localMillisOf(zone, millis);
+  }
+
+  /**
+   * Returns the value of the given field of the given instant in its own zone and chronology, same as
+   * {@code instant.get(fieldType)} but the zone offset is computed by {@link #localMillisOf(DateTimeZone, long)}.
+   *
+   * @param instant the instant to get the field value of. expected not be null
+   * @param fieldType the field to get. expected not be null
+   * @return the value of the given field.
+   */
+  public static int fieldValueOf(ReadableInstant instant, DateTimeFieldType fieldType) {
+    Chronology chronology = instant.getChronology();
+    // the UTC chronology fields read the local millis as is
+    return fieldType.getField(chronology.withUTC()).get(localMillisOf(chronology.getZone(), instant.getMillis()));
+  }
+
+  private LocalMillis() {
+    // utility class
+  }
+}
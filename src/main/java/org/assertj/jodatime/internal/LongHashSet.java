@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import java.util.Arrays;
+
+/**
+ * Minimal open addressing (linear probing) hash set of primitive {@code long}s, no boxing is involved when adding or
+ * looking up values.
+ * <p>
+ * This class is not thread safe while being built, it is safe to share once all values have been added.
+ */
+public final class LongHashSet {
+
+  // marks a free slot, the value itself is tracked by containsFreeSlotMarker
+  private static final long FREE_SLOT = Long.MIN_VALUE;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private long[] slots;
+  private int mask;
+  private int size;
+  private boolean containsFreeSlotMarker;
+
+  public LongHashSet(int expectedSize) {
+    if (expectedSize < 0) throw new IllegalArgumentException("expected size should not be negative");
+    // keep the load factor under 0.5 so that probe sequences stay short
+    int capacity = 8;
+    while (capacity < 2L * expectedSize && capacity < MAX_CAPACITY) {
+      capacity <<= 1;
+    }
+    slots = newSlots(capacity);
+    mask = capacity - 1;
+  }
+
+  /**
+   * Adds the given value to this set.
+   *
+   * @param value the value to add.
+   * @return true if the value was not already in this set.
+   */
+  public boolean add(long value) {
+    if (value == FREE_SLOT) {
+      if (containsFreeSlotMarker) return false;
+      containsFreeSlotMarker = true;
+      size++;
+      return true;
+    }
+    int index = indexOf(value);
+    if (slots[index] == value) return false;
+    slots[index] = value;
+    size++;
+    if (size * 2 > slots.length) grow();
+    return true;
+  }
+
+  public boolean contains(long value) {
+    if (value == FREE_SLOT) return containsFreeSlotMarker;
+    return slots[indexOf(value)] == value;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the values of this set in ascending order.
+   */
+  public long[] toSortedArray() {
+    long[] values = new long[size];
+    int i = 0;
+    if (containsFreeSlotMarker) values[i++] = FREE_SLOT;
+    for (long slot : slots) {
+      if (slot != FREE_SLOT) values[i++] = slot;
+    }
+    Arrays.sort(values);
+    return values;
+  }
+
+  // returns the slot holding value or the free slot where it should be inserted
+  private int indexOf(long value) {
+    int index = hash(value) & mask;
+    while (slots[index] != FREE_SLOT && slots[index] != value) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private void grow() {
+    if (slots.length == MAX_CAPACITY) throw new IllegalStateException("LongHashSet is full");
+    long[] oldSlots = slots;
+    slots = newSlots(oldSlots.length * 2);
+    mask = slots.length - 1;
+    for (long slot : oldSlots) {
+      if (slot != FREE_SLOT) slots[indexOf(slot)] = slot;
+    }
+  }
+
+  private static long[] newSlots(int capacity) {
+    long[] slots = new long[capacity];
+    Arrays.fill(slots, FREE_SLOT);
+    return slots;
+  }
+
+  private static int hash(long value) {
+    // epoch millis are often multiples of 1000 or 60000, spread them with the murmur3 finalizer
+    long h = value;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import static org.joda.time.DateTimeConstants.MILLIS_PER_HOUR;
+import static org.joda.time.DateTimeConstants.MILLIS_PER_MINUTE;
+
+import org.joda.time.LocalTime;
+
+/**
+ * Comparisons of times of day as their millis of day, {@link LocalTime}s are then compared as plain ints whatever their
+ * chronology instead of field by field.
+ */
+public final class MillisOfDay {
+
+  /**
+   * Returns true if the given time of day is within the given range, bounds included. A range whose start is after its
+   * end crosses midnight, e.g. [22:00, 02:00] contains 23:00 and 01:00.
+   *
+   * @param millisOfDay the time of day to check.
+   * @param startMillisOfDay the start of the range.
+   * @param endMillisOfDay the end of the range.
+   * @return true if the given time of day is within the given range.
+   */
+  public static boolean isWithin(int millisOfDay, int startMillisOfDay, int endMillisOfDay) {
+    if (startMillisOfDay <= endMillisOfDay) return millisOfDay >= startMillisOfDay && millisOfDay <= endMillisOfDay;
+    return millisOfDay >= startMillisOfDay || millisOfDay <= endMillisOfDay;
+  }
+
+  /**
+   * @param millisOfDay the time of day.
+   * @return the hour of day of the given time of day.
+   */
+  public static int hourOf(int millisOfDay) {
+    return millisOfDay / MILLIS_PER_HOUR;
+  }
+
+  /**
+   * @param millisOfDay the time of day.
+   * @return the number of whole minutes since midnight of the given time of day.
+   */
+  public static int minuteOfDayOf(int millisOfDay) {
+    return millisOfDay / MILLIS_PER_MINUTE;
+  }
+
+  private MillisOfDay() {
+    // utility class
+  }
+}
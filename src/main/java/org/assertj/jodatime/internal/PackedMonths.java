@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import org.joda.time.MonthDay;
+import org.joda.time.YearMonth;
+
+/**
+ * {@link YearMonth}s and {@link MonthDay}s packed as plain numbers ordered like the values they represent, so that they
+ * are compared with one primitive comparison and checked in bulk with a {@link LongHashSet} instead of field by field.
+ * <p>
+ * A {@link YearMonth} is packed as {@code year * 12 + monthOfYear - 1}, consecutive months are then consecutive
+ * numbers. It is a {@code long} since the Joda year range times 12 does not fit in an {@code int}.
+ */
+public final class PackedMonths {
+
+  private static final int MONTHS_PER_YEAR = 12;
+  // more than the number of days of any month, only the order of packed month days matters
+  private static final int DAYS_PER_PACKED_MONTH = 32;
+
+  /**
+   * @param yearMonth the value to pack. expected not be null
+   * @return the number of months between year 0 and the given one.
+   */
+  public static long pack(YearMonth yearMonth) {
+    return yearMonth.getYear() * (long) MONTHS_PER_YEAR + yearMonth.getMonthOfYear() - 1;
+  }
+
+  /**
+   * @param packedYearMonth a value returned by {@link #pack(YearMonth)}.
+   * @return the ISO {@link YearMonth} the given value was packed from.
+   */
+  public static YearMonth unpackYearMonth(long packedYearMonth) {
+    return new YearMonth((int) Math.floorDiv(packedYearMonth, MONTHS_PER_YEAR),
+                         (int) Math.floorMod(packedYearMonth, MONTHS_PER_YEAR) + 1);
+  }
+
+  /**
+   * @param monthDay the value to pack. expected not be null
+   * @return an int ordered like month days.
+   */
+  public static int pack(MonthDay monthDay) {
+    return monthDay.getMonthOfYear() * DAYS_PER_PACKED_MONTH + monthDay.getDayOfMonth();
+  }
+
+  /**
+   * Returns the index of the first value equal to a previous one.
+   *
+   * @param packedYearMonths the packed values to check. expected not be null
+   * @return the index of the first duplicate or -1 if all values are distinct.
+   */
+  public static int firstDuplicate(long[] packedYearMonths) {
+    LongHashSet seen = new LongHashSet(packedYearMonths.length);
+    for (int i = 0; i < packedYearMonths.length; i++) {
+      if (!seen.add(packedYearMonths[i])) return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the first month missing between the smallest and the greatest of the given values, whatever their order.
+   * <p>
+   * The values are contiguous when the number of distinct values is the size of their range, the missing month is only
+   * looked for when they are not.
+   *
+   * @param packedYearMonths the packed values to check. expected not be null
+   * @return {@code [smallest, greatest, first missing]} packed months or {@code null} if no month is missing.
+   */
+  public static long[] firstMissingMonth(long[] packedYearMonths) {
+    if (packedYearMonths.length == 0) return null;
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    LongHashSet distinct = new LongHashSet(packedYearMonths.length);
+    for (long packed : packedYearMonths) {
+      min = Math.min(min, packed);
+      max = Math.max(max, packed);
+      distinct.add(packed);
+    }
+    if (max - min + 1 == distinct.size()) return null;
+    long missing = min + 1;
+    while (distinct.contains(missing)) {
+      missing++;
+    }
+    return new long[] { min, max, missing };
+  }
+
+  private PackedMonths() {
+    // utility class
+  }
+}
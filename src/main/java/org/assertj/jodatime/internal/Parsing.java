@@ -0,0 +1,238 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.MonthDay;
+import org.joda.time.YearMonth;
+
+/**
+ * Parses the ISO strings given to the String based assertions, optionally going through a thread safe and size bounded
+ * cache keyed by the string, the {@link DateTimeZone} and the parsed type.
+ * <p>
+ * Joda values are immutable, a cached instance can safely be shared by concurrent assertions. The cache is disabled by
+ * default, parsing then behaves exactly like calling the Joda constructors taking a String.
+ */
+public final class Parsing {
+
+  public static final int DEFAULT_CACHE_MAX_SIZE = 10_000;
+
+  private static final ConcurrentMap<Key, Object> CACHE = new ConcurrentHashMap<>();
+  private static final LongAdder HITS = new LongAdder();
+  private static final LongAdder MISSES = new LongAdder();
+  private static volatile boolean cacheEnabled = false;
+  private static volatile int cacheMaxSize = DEFAULT_CACHE_MAX_SIZE;
+
+  /**
+   * Same as {@code new DateTime(dateTimeAsString, zone)}.
+   *
+   * @param dateTimeAsString the ISO string to parse. expected not be null
+   * @param zone the zone of the parsed {@link DateTime}. expected not be null
+   * @return the parsed {@link DateTime}.
+   */
+  public static DateTime parseDateTime(String dateTimeAsString, DateTimeZone zone) {
+    if (!cacheEnabled) return new DateTime(dateTimeAsString, zone);
+    Key key = new Key(dateTimeAsString, zone, DateTime.class);
+    DateTime dateTime = (DateTime) CACHE.get(key);
+    if (dateTime != null) return hit(dateTime);
+    return miss(key, new DateTime(dateTimeAsString, zone));
+  }
+
+  /**
+   * Same as {@code new DateTime(dateTimeAsString)}, i.e. the parsed {@link DateTime} is in the default zone.
+   *
+   * @param dateTimeAsString the ISO string to parse. expected not be null
+   * @return the parsed {@link DateTime}.
+   */
+  public static DateTime parseDateTime(String dateTimeAsString) {
+    // the default zone can change between two calls, it has to be resolved to be part of the key
+    return parseDateTime(dateTimeAsString, DateTimeZone.getDefault());
+  }
+
+  /**
+   * Same as {@code new LocalDateTime(localDateTimeAsString)}.
+   *
+   * @param localDateTimeAsString the ISO string to parse. expected not be null
+   * @return the parsed {@link LocalDateTime}.
+   */
+  public static LocalDateTime parseLocalDateTime(String localDateTimeAsString) {
+    if (!cacheEnabled) return new LocalDateTime(localDateTimeAsString);
+    Key key = new Key(localDateTimeAsString, null, LocalDateTime.class);
+    LocalDateTime localDateTime = (LocalDateTime) CACHE.get(key);
+    if (localDateTime != null) return hit(localDateTime);
+    return miss(key, new LocalDateTime(localDateTimeAsString));
+  }
+
+  /**
+   * Same as {@code new LocalDate(localDateAsString)}.
+   *
+   * @param localDateAsString the ISO string to parse. expected not be null
+   * @return the parsed {@link LocalDate}.
+   */
+  public static LocalDate parseLocalDate(String localDateAsString) {
+    if (!cacheEnabled) return new LocalDate(localDateAsString);
+    Key key = new Key(localDateAsString, null, LocalDate.class);
+    LocalDate localDate = (LocalDate) CACHE.get(key);
+    if (localDate != null) return hit(localDate);
+    return miss(key, new LocalDate(localDateAsString));
+  }
+
+  /**
+   * Same as {@code new LocalTime(localTimeAsString)}.
+   *
+   * @param localTimeAsString the ISO string to parse. expected not be null
+   * @return the parsed {@link LocalTime}.
+   */
+  public static LocalTime parseLocalTime(String localTimeAsString) {
+    if (!cacheEnabled) return new LocalTime(localTimeAsString);
+    Key key = new Key(localTimeAsString, null, LocalTime.class);
+    LocalTime localTime = (LocalTime) CACHE.get(key);
+    if (localTime != null) return hit(localTime);
+    return miss(key, new LocalTime(localTimeAsString));
+  }
+
+  /**
+   * Same as {@code YearMonth.parse(yearMonthAsString)}.
+   *
+   * @param yearMonthAsString the ISO string to parse. expected not be null
+   * @return the parsed {@link YearMonth}.
+   */
+  public static YearMonth parseYearMonth(String yearMonthAsString) {
+    if (!cacheEnabled) return YearMonth.parse(yearMonthAsString);
+    Key key = new Key(yearMonthAsString, null, YearMonth.class);
+    YearMonth yearMonth = (YearMonth) CACHE.get(key);
+    if (yearMonth != null) return hit(yearMonth);
+    return miss(key, YearMonth.parse(yearMonthAsString));
+  }
+
+  /**
+   * Same as {@code MonthDay.parse(monthDayAsString)}.
+   *
+   * @param monthDayAsString the ISO string to parse. expected not be null
+   * @return the parsed {@link MonthDay}.
+   */
+  public static MonthDay parseMonthDay(String monthDayAsString) {
+    if (!cacheEnabled) return MonthDay.parse(monthDayAsString);
+    Key key = new Key(monthDayAsString, null, MonthDay.class);
+    MonthDay monthDay = (MonthDay) CACHE.get(key);
+    if (monthDay != null) return hit(monthDay);
+    return miss(key, MonthDay.parse(monthDayAsString));
+  }
+
+  public static void setCacheEnabled(boolean enabled) {
+    cacheEnabled = enabled;
+    if (!enabled) clearCache();
+  }
+
+  public static boolean isCacheEnabled() {
+    return cacheEnabled;
+  }
+
+  public static void setCacheMaxSize(int maxSize) {
+    if (maxSize <= 0)
+      throw new IllegalArgumentException("The parse cache max size should be strictly positive but was " + maxSize);
+    cacheMaxSize = maxSize;
+    while (CACHE.size() > maxSize) {
+      evictOne();
+    }
+  }
+
+  public static int cacheMaxSize() {
+    return cacheMaxSize;
+  }
+
+  public static int cacheSize() {
+    return CACHE.size();
+  }
+
+  public static long cacheHits() {
+    return HITS.sum();
+  }
+
+  public static long cacheMisses() {
+    return MISSES.sum();
+  }
+
+  /**
+   * Removes all the cached values and resets the hit and miss counts.
+   */
+  public static void clearCache() {
+    CACHE.clear();
+    HITS.reset();
+    MISSES.reset();
+  }
+
+  private static <T> T hit(T value) {
+    HITS.increment();
+    return value;
+  }
+
+  private static <T> T miss(Key key, T value) {
+    MISSES.increment();
+    // concurrent misses on the same key parse the same value, keeping any of them is fine
+    CACHE.put(key, value);
+    if (CACHE.size() > cacheMaxSize) evictOne();
+    return value;
+  }
+
+  private static void evictOne() {
+    // no LRU bookkeeping to keep lookups lock free, an arbitrary entry is evicted instead
+    Iterator<Key> keys = CACHE.keySet().iterator();
+    if (keys.hasNext()) {
+      keys.next();
+      keys.remove();
+    }
+  }
+
+  private static final class Key {
+
+    private final String text;
+    private final DateTimeZone zone;
+    private final Class<?> type;
+
+    private Key(String text, DateTimeZone zone, Class<?> type) {
+      this.text = text;
+      this.zone = zone;
+      this.type = type;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Key)) return false;
+      Key other = (Key) obj;
+      return type == other.type && text.equals(other.text)
+             && (zone == null ? other.zone == null : zone.equals(other.zone));
+    }
+
+    @Override
+    public int hashCode() {
+      int result = text.hashCode();
+      result = 31 * result + (zone == null ? 0 : zone.hashCode());
+      return 31 * result + type.hashCode();
+    }
+  }
+
+  private Parsing() {
+    // utility class
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import java.util.Arrays;
+
+/**
+ * Selection of the k-th smallest value of an array without sorting it.
+ */
+public final class Selection {
+
+  /**
+   * Returns the k-th smallest value of the given array, k being 0 based, the array is reordered in place.
+   * <p>
+   * This is a quickselect with a median of three pivot, linear on average. As in introselect, if partitioning keeps
+   * being unbalanced the remaining range is sorted, bounding the worst case to O(n log n).
+   *
+   * @param values the values to select from, reordered by this method. expected not be null
+   * @param k the 0 based rank of the value to select. expected to be in [0, values.length[
+   * @return the k-th smallest value.
+   */
+  public static long kthSmallest(long[] values, int k) {
+    int from = 0;
+    int to = values.length - 1;
+    int partitionBudget = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(values.length));
+    while (from < to) {
+      if (partitionBudget-- == 0) {
+        Arrays.sort(values, from, to + 1);
+        return values[k];
+      }
+      long pivot = medianOfThree(values[from], values[(from + to) >>> 1], values[to]);
+      int i = from;
+      int j = to;
+      while (i <= j) {
+        while (values[i] < pivot) i++;
+        while (values[j] > pivot) j--;
+        if (i <= j) swap(values, i++, j--);
+      }
+      // values in [from, j] are <= pivot, values in [i, to] are >= pivot and values in between are equal to pivot
+      if (k <= j) to = j;
+      else if (k >= i) from = i;
+      else return values[k];
+    }
+    return values[k];
+  }
+
+  private static long medianOfThree(long a, long b, long c) {
+    return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+  }
+
+  private static void swap(long[] values, int i, int j) {
+    long value = values[i];
+    values[i] = values[j];
+    values[j] = value;
+  }
+
+  private Selection() {
+    // utility class
+  }
+}
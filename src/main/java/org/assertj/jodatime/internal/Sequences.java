@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import static org.assertj.jodatime.internal.IndexSearch.NOT_FOUND;
+import static org.assertj.jodatime.internal.IndexSearch.firstIndexMatchingInParallel;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Single pass checks of sequences of Joda values, only the previous element is kept so that sequences of any size can
+ * be checked in constant memory.
+ * <p>
+ * Random access lists can also be checked in parallel, see {@link IndexSearch#firstIndexMatchingInParallel}.
+ */
+public final class Sequences {
+
+  /**
+   * Consumes the given elements until one does not pass the given check.
+   * <p>
+   * A {@code null} element is always a violation, the check is not called for it.
+   *
+   * @param <T> the type of the checked elements.
+   * @param elements the elements to check. expected not be null
+   * @param check the check each element must pass. expected not be null
+   * @return the first violation or {@code null} if all elements passed the check.
+   */
+  public static <T> Violation<T> firstViolation(Iterator<? extends T> elements, ElementCheck<? super T> check) {
+    T previous = null;
+    for (long index = 0; elements.hasNext(); index++) {
+      T element = elements.next();
+      if (element == null || check.isViolatedBy(previous, element)) return new Violation<>(index, previous, element);
+      previous = element;
+    }
+    return null;
+  }
+
+  /**
+   * Same as {@link #firstViolation(Iterator, ElementCheck)} but the elements are checked in parallel, the result is
+   * still the <b>first</b> violation.
+   *
+   * @param <T> the type of the checked elements.
+   * @param elements the elements to check, expected to be a {@link RandomAccess} list. expected not be null
+   * @param check the check each element must pass, it must be safe to call it from several threads. expected not be
+   *          null
+   * @return the first violation or {@code null} if all elements passed the check.
+   */
+  public static <T> Violation<T> firstViolationInParallel(List<? extends T> elements, ElementCheck<? super T> check) {
+    int index = firstIndexMatchingInParallel(elements.size(), i -> {
+      T element = elements.get(i);
+      // a null previous element is a violation at a smaller index, this one won't be reported
+      return element == null || check.isViolatedBy(i == 0 ? null : elements.get(i - 1), element);
+    });
+    if (index == NOT_FOUND) return null;
+    return new Violation<>(index, index == 0 ? null : elements.get(index - 1), elements.get(index));
+  }
+
+  private Sequences() {
+    // utility class
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import static org.assertj.jodatime.internal.Tolerances.distance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+/**
+ * Differences between an actual and an expected sorted series of millis, found by a single linear merge of both
+ * series, two elements match if they are not further apart than a tolerance.
+ * <p>
+ * The merge walks both series once: when the current elements match they are both consumed, otherwise the smallest one
+ * is reported (as extra if it is the actual one, missing otherwise) and consumed. A matching element is not paired if
+ * the next element of the other series is a closer match that can be taken without losing another match, so that a
+ * shifted element is not reported instead of an exact one. Elements matching within the
+ * tolerance but not equal are counted as shifted. Only the counts and the first samples of each kind of difference
+ * are kept, so the memory used does not depend on the size of the series.
+ */
+public final class SeriesDiff {
+
+  // number of samples kept for each kind of difference, enough to understand a failure without flooding the report
+  private static final int MAX_SAMPLES = 5;
+
+  private long missingCount;
+  private long extraCount;
+  private long shiftedCount;
+  // [expected index, expected millis]
+  private final List<long[]> missingSamples = new ArrayList<>();
+  // [actual index, actual millis]
+  private final List<long[]> extraSamples = new ArrayList<>();
+  // [actual index, actual millis, expected millis]
+  private final List<long[]> shiftedSamples = new ArrayList<>();
+
+  /**
+   * Merges the given series and returns their differences.
+   *
+   * @param actual the actual millis, expected to be sorted. expected not be null
+   * @param expected the expected millis. expected not be null
+   * @param toleranceMillis the maximum distance between matching elements. expected not to be negative
+   * @return the differences between both series.
+   * @throws IllegalArgumentException if the expected millis are not sorted.
+   */
+  public static SeriesDiff diff(PrimitiveIterator.OfLong actual, PrimitiveIterator.OfLong expected,
+                                long toleranceMillis) {
+    SeriesDiff diff = new SeriesDiff();
+    Cursor actualCursor = new Cursor(actual, false);
+    Cursor expectedCursor = new Cursor(expected, true);
+    while (actualCursor.hasCurrent || expectedCursor.hasCurrent) {
+      boolean consumeActual = actualCursor.hasCurrent;
+      boolean consumeExpected = expectedCursor.hasCurrent;
+      long distance = consumeActual && consumeExpected ? distance(actualCursor.current, expectedCursor.current)
+          : Long.MAX_VALUE;
+      if (distance == 0) {
+        // exact match, both elements are consumed
+      } else if (distance <= toleranceMillis) {
+        if (nextIsCloserMatch(actualCursor, expectedCursor, distance, toleranceMillis)) {
+          diff.extra(actualCursor.index, actualCursor.current);
+          consumeExpected = false;
+        } else if (nextIsCloserMatch(expectedCursor, actualCursor, distance, toleranceMillis)) {
+          diff.missing(expectedCursor.index, expectedCursor.current);
+          consumeActual = false;
+        } else {
+          diff.shifted(actualCursor.index, actualCursor.current, expectedCursor.current);
+        }
+      } else if (consumeActual && (!consumeExpected || actualCursor.current < expectedCursor.current)) {
+        diff.extra(actualCursor.index, actualCursor.current);
+        consumeExpected = false;
+      } else {
+        diff.missing(expectedCursor.index, expectedCursor.current);
+        consumeActual = false;
+      }
+      if (consumeActual) actualCursor.advance();
+      if (consumeExpected) expectedCursor.advance();
+    }
+    return diff;
+  }
+
+  // true if the next element of series is closer to the current element of other than the current element of series
+  // and can be paired with it without losing a match: the next element of series can't match the next one of other
+  private static boolean nextIsCloserMatch(Cursor series, Cursor other, long distance, long toleranceMillis) {
+    return series.hasNext && distance(series.next, other.current) < distance
+           && (!other.hasNext || distance(series.next, other.next) > toleranceMillis);
+  }
+
+  private SeriesDiff() {
+    // built by diff
+  }
+
+  private void missing(long expectedIndex, long expectedMillis) {
+    if (missingCount++ < MAX_SAMPLES) missingSamples.add(new long[] { expectedIndex, expectedMillis });
+  }
+
+  private void extra(long actualIndex, long actualMillis) {
+    if (extraCount++ < MAX_SAMPLES) extraSamples.add(new long[] { actualIndex, actualMillis });
+  }
+
+  private void shifted(long actualIndex, long actualMillis, long expectedMillis) {
+    if (shiftedCount++ < MAX_SAMPLES) shiftedSamples.add(new long[] { actualIndex, actualMillis, expectedMillis });
+  }
+
+  /**
+   * @return true if each element of both series has been matched with an element of the other one.
+   */
+  public boolean seriesMatch() {
+    return missingCount == 0 && extraCount == 0;
+  }
+
+  public long missingCount() {
+    return missingCount;
+  }
+
+  public long extraCount() {
+    return extraCount;
+  }
+
+  public long shiftedCount() {
+    return shiftedCount;
+  }
+
+  /**
+   * @return the {@code [expected index, expected millis]} of the first expected elements missing in actual.
+   */
+  public List<long[]> missingSamples() {
+    return missingSamples;
+  }
+
+  /**
+   * @return the {@code [actual index, actual millis]} of the first actual elements not expected.
+   */
+  public List<long[]> extraSamples() {
+    return extraSamples;
+  }
+
+  /**
+   * @return the {@code [actual index, actual millis, expected millis]} of the first actual elements matching an
+   *         expected one within the tolerance but not equal to it.
+   */
+  public List<long[]> shiftedSamples() {
+    return shiftedSamples;
+  }
+
+  // a series iterator exposing its current element and the next one
+  private static final class Cursor {
+
+    private final PrimitiveIterator.OfLong millis;
+    private final boolean checkSorted;
+    private long index;
+    private boolean hasCurrent;
+    private long current;
+    private boolean hasNext;
+    private long next;
+
+    private Cursor(PrimitiveIterator.OfLong millis, boolean checkSorted) {
+      this.millis = millis;
+      this.checkSorted = checkSorted;
+      hasNext = millis.hasNext();
+      if (hasNext) next = millis.nextLong();
+      // index of the first element once advanced
+      index = -1;
+      advance();
+    }
+
+    private void advance() {
+      index++;
+      hasCurrent = hasNext;
+      current = next;
+      hasNext = millis.hasNext();
+      if (!hasNext) return;
+      next = millis.nextLong();
+      if (checkSorted && next < current)
+        throw new IllegalArgumentException("The expected series should be sorted but element at index " + (index + 1)
+                                           + " was before the previous one");
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import static org.assertj.jodatime.internal.Tolerances.distance;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Supplier;
+
+import org.joda.time.ReadableDuration;
+
+/**
+ * Counts of the elements of a sorted series of millis in sliding time windows, a window of length {@code w} starting at
+ * {@code t} being {@code [t, t + w[}.
+ * <p>
+ * Windows are slid with two pointers over the series, each one an iterator going once through the elements, so a
+ * series is checked in linear time and constant memory whatever the number of elements per window.
+ */
+public final class SlidingWindows {
+
+  /**
+   * Finds the first window starting at an element containing more than the given number of elements.
+   *
+   * @param millis supplies iterators over the series, expected to be sorted, each call must return a new iterator.
+   *          expected not be null
+   * @param maxCount the maximum number of elements accepted in a window.
+   * @param windowMillis the length of the windows. expected to be strictly positive
+   * @return {@code [window start, window end, element count, index of the first element]} of the first window
+   *         containing more than maxCount elements or {@code null} if there is none.
+   */
+  public static long[] firstWindowWithMoreThan(Supplier<PrimitiveIterator.OfLong> millis, int maxCount,
+                                               long windowMillis) {
+    PrimitiveIterator.OfLong left = millis.get();
+    PrimitiveIterator.OfLong right = millis.get();
+    // the window starts at the left element and contains the elements from the left one to the right one included
+    long leftIndex = 0;
+    long leftMillis = 0;
+    long count = 0;
+    while (right.hasNext()) {
+      long rightMillis = right.nextLong();
+      count++;
+      if (count == 1) leftMillis = left.nextLong();
+      while (distance(leftMillis, rightMillis) >= windowMillis) {
+        leftMillis = left.nextLong();
+        leftIndex++;
+        count--;
+      }
+      if (count > maxCount) {
+        // report all the elements of the offending window, not only the first one over the limit
+        while (right.hasNext() && distance(leftMillis, right.nextLong()) < windowMillis) {
+          count++;
+        }
+        return new long[] { leftMillis, endOfWindowStartingAt(leftMillis, windowMillis), count, leftIndex };
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds the first window between the first and the last element (both included) containing less than the given number
+   * of elements, windows not fully contained in this range are not considered.
+   * <p>
+   * The count of a window only decreases when an element leaves it, so only the window starting at the first element
+   * and the windows starting right after an element need to be checked.
+   *
+   * @param millis supplies iterators over the series, expected to be sorted, each call must return a new iterator.
+   *          expected not be null
+   * @param minCount the minimum number of elements expected in a window.
+   * @param windowMillis the length of the windows. expected to be strictly positive
+   * @return {@code [window start, window end, element count]} of the first window containing less than minCount
+   *         elements or {@code null} if there is none.
+   */
+  public static long[] firstWindowWithLessThan(Supplier<PrimitiveIterator.OfLong> millis, int minCount,
+                                               long windowMillis) {
+    PrimitiveIterator.OfLong elements = millis.get();
+    if (!elements.hasNext()) return null;
+    long first = elements.nextLong();
+    long last = first;
+    while (elements.hasNext()) {
+      last = elements.nextLong();
+    }
+    // start of the last window ending at the last element, overflow means no window fits
+    long lastWindowStart = last - windowMillis + 1;
+    if (lastWindowStart > last || lastWindowStart < first) return null;
+    PrimitiveIterator.OfLong left = millis.get();
+    PrimitiveIterator.OfLong right = millis.get();
+    // elements before left are before the window start, elements before right are before the window end
+    long leftIndex = 0;
+    long leftMillis = left.nextLong();
+    long rightIndex = 0;
+    boolean rightPending = false;
+    long rightMillis = 0;
+    for (long windowStart = first; windowStart <= lastWindowStart;) {
+      while (rightPending || right.hasNext()) {
+        if (!rightPending) {
+          rightMillis = right.nextLong();
+          rightPending = true;
+        }
+        if (distance(windowStart, rightMillis) >= windowMillis) break;
+        rightPending = false;
+        rightIndex++;
+      }
+      long count = rightIndex - leftIndex;
+      if (count < minCount) return new long[] { windowStart, endOfWindowStartingAt(windowStart, windowMillis), count };
+      if (leftMillis == Long.MAX_VALUE) break;
+      // next window starts right after the left element, the left element and its duplicates leave the window
+      windowStart = leftMillis + 1;
+      while (leftMillis < windowStart && left.hasNext()) {
+        leftMillis = left.nextLong();
+        leftIndex++;
+      }
+      if (leftMillis < windowStart) break;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the length in millis of the given window duration.
+   *
+   * @param window the window duration.
+   * @return the length of the window in millis.
+   * @throws IllegalArgumentException if the given duration is {@code null} or not strictly positive.
+   */
+  public static long windowMillisOf(ReadableDuration window) {
+    if (window == null) throw new IllegalArgumentException("The window duration should not be null");
+    if (window.getMillis() <= 0)
+      throw new IllegalArgumentException("The window duration should be strictly positive but was " + window);
+    return window.getMillis();
+  }
+
+  // only used to report windows, saturates instead of overflowing
+  private static long endOfWindowStartingAt(long windowStart, long windowMillis) {
+    return windowStart > Long.MAX_VALUE - windowMillis ? Long.MAX_VALUE : windowStart + windowMillis;
+  }
+
+  private SlidingWindows() {
+    // utility class
+  }
+}
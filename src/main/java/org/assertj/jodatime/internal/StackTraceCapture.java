@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+/**
+ * Global and per thread settings of the stack trace captured by the Joda assertion errors.
+ * <p>
+ * Filling in a stack trace walks the whole thread stack, it is the most expensive part of a failing assertion once its
+ * message is rendered lazily, and it is wasted when failures are collected in bulk and only their messages are reported.
+ * Truncating stack traces does not save their capture but reduces the memory retained by the errors and the size of
+ * the reports.
+ */
+public final class StackTraceCapture {
+
+  public static final int DEFAULT_MAX_DEPTH = Integer.MAX_VALUE;
+
+  private static final ThreadLocal<Boolean> DISABLED = new ThreadLocal<>();
+  private static volatile boolean enabled = true;
+  private static volatile int maxDepth = DEFAULT_MAX_DEPTH;
+
+  /**
+   * Enables or disables stack trace capture in all threads.
+   *
+   * @param captureEnabled whether errors should capture their stack trace.
+   */
+  public static void setEnabled(boolean captureEnabled) {
+    enabled = captureEnabled;
+  }
+
+  /**
+   * Sets the maximum number of stack trace elements kept by the errors.
+   *
+   * @param depth the maximum number of stack trace elements.
+   * @throws IllegalArgumentException if the given depth is not strictly positive.
+   */
+  public static void setMaxDepth(int depth) {
+    if (depth <= 0)
+      throw new IllegalArgumentException("The stack trace max depth should be strictly positive but was " + depth);
+    maxDepth = depth;
+  }
+
+  /**
+   * @return the maximum number of stack trace elements kept by the errors.
+   */
+  public static int maxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * Disables stack trace capture in the current thread only until {@link #restore(boolean)} is called.
+   *
+   * @return the previous state to give back to {@link #restore(boolean)}.
+   */
+  public static boolean disable() {
+    boolean previouslyDisabled = DISABLED.get() != null;
+    if (!previouslyDisabled) DISABLED.set(Boolean.TRUE);
+    return previouslyDisabled;
+  }
+
+  /**
+   * Restores the state returned by {@link #disable()}.
+   *
+   * @param previouslyDisabled whether stack trace capture was disabled in the current thread before calling {@link #disable()}.
+   */
+  public static void restore(boolean previouslyDisabled) {
+    if (!previouslyDisabled) DISABLED.remove();
+  }
+
+  /**
+   * @return true if the errors created in the current thread should not capture their stack trace.
+   */
+  public static boolean isDisabled() {
+    return !enabled || DISABLED.get() != null;
+  }
+
+  private StackTraceCapture() {
+    // utility class
+  }
+}
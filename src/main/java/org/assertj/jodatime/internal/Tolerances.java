@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import org.joda.time.ReadableDuration;
+
+/**
+ * Distances between millis (epoch or local ones) used by the tolerance based assertions, a distance is a single
+ * subtraction whatever the fields of the compared values.
+ */
+public final class Tolerances {
+
+  /**
+   * Returns the absolute difference between the given millis, {@link Long#MAX_VALUE} if it does not fit in a long.
+   *
+   * @param millis some millis.
+   * @param otherMillis other millis.
+   * @return the absolute difference between the given millis.
+   */
+  public static long distance(long millis, long otherMillis) {
+    long difference = millis - otherMillis;
+    // the subtraction overflowed if both operands have different signs and the result has not the sign of millis,
+    // Long.MIN_VALUE has no positive counterpart
+    if (((millis ^ otherMillis) & (millis ^ difference)) < 0 || difference == Long.MIN_VALUE) return Long.MAX_VALUE;
+    return difference < 0 ? -difference : difference;
+  }
+
+  /**
+   * Returns the given tolerance in millis after having checked it.
+   *
+   * @param tolerance the tolerance to check.
+   * @return the given tolerance in millis.
+   * @throws IllegalArgumentException if the given tolerance is {@code null} or negative.
+   */
+  public static long toleranceMillisOf(ReadableDuration tolerance) {
+    if (tolerance == null) throw new IllegalArgumentException("The tolerance should not be null");
+    return checkTolerance(tolerance.getMillis());
+  }
+
+  /**
+   * Returns the given tolerance after having checked it.
+   *
+   * @param toleranceMillis the tolerance to check.
+   * @return the given tolerance.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  public static long checkTolerance(long toleranceMillis) {
+    if (toleranceMillis < 0)
+      throw new IllegalArgumentException("The tolerance should not be negative but was " + toleranceMillis + "ms");
+    return toleranceMillis;
+  }
+
+  private Tolerances() {
+    // utility class
+  }
+}
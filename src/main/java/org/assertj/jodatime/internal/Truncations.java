@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import static org.assertj.jodatime.internal.LocalMillis.localMillisOf;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeField;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDateTime;
+
+/**
+ * Equality of Joda date times once truncated to a given field, i.e. ignoring all the fields smaller than it.
+ * <p>
+ * Both values are converted to local milliseconds and rounded down once with
+ * {@link DateTimeField#roundFloor(long) roundFloor}, this gives the same result as comparing each field from the
+ * year down to the truncation unit but in two long comparisons.
+ */
+public final class Truncations {
+
+  /**
+   * Returns true if both {@link DateTime} have the same fields down to the given one included <b>in actual's
+   * {@link DateTimeZone}</b>.
+   *
+   * @param actual the actual datetime. expected not be null
+   * @param other the other datetime. expected not be null
+   * @param fieldType the smallest field taken into account. expected not be null
+   * @return true if both datetime are equal once truncated to the given field, false otherwise.
+   */
+  public static boolean areEqualTruncatedTo(DateTime actual, DateTime other, DateTimeFieldType fieldType) {
+    DateTimeZone zone = actual.getZone();
+    long actualLocalMillis = localMillisOf(zone, actual.getMillis());
+    long otherLocalMillis = localMillisOf(zone, other.getMillis());
+    return areEqualTruncatedTo(actualLocalMillis, actual.getChronology().withUTC(),
+                               otherLocalMillis, other.getChronology().withUTC(), fieldType);
+  }
+
+  /**
+   * Returns true if both {@link LocalDateTime} have the same fields down to the given one included.
+   *
+   * @param actual the actual local datetime. expected not be null
+   * @param other the other local datetime. expected not be null
+   * @param fieldType the smallest field taken into account. expected not be null
+   * @return true if both local datetime are equal once truncated to the given field, false otherwise.
+   */
+  public static boolean areEqualTruncatedTo(LocalDateTime actual, LocalDateTime other, DateTimeFieldType fieldType) {
+    return areEqualTruncatedTo(localMillisOf(actual), actual.getChronology(),
+                               localMillisOf(other), other.getChronology(), fieldType);
+  }
+
+  private static boolean areEqualTruncatedTo(long actualLocalMillis, Chronology actualChronology,
+                                             long otherLocalMillis, Chronology otherChronology,
+                                             DateTimeFieldType fieldType) {
+    long actualTruncated = fieldType.getField(actualChronology).roundFloor(actualLocalMillis);
+    if (actualChronology.equals(otherChronology)) {
+      return actualTruncated == fieldType.getField(actualChronology).roundFloor(otherLocalMillis);
+    }
+    // different calendar systems: millis can't be compared, the truncated fields values must be
+    long otherTruncated = fieldType.getField(otherChronology).roundFloor(otherLocalMillis);
+    return actualChronology.year().get(actualTruncated) == otherChronology.year().get(otherTruncated)
+           && actualChronology.monthOfYear().get(actualTruncated) == otherChronology.monthOfYear().get(otherTruncated)
+           && actualChronology.dayOfMonth().get(actualTruncated) == otherChronology.dayOfMonth().get(otherTruncated)
+           && actualChronology.millisOfDay().get(actualTruncated) == otherChronology.millisOfDay().get(otherTruncated);
+  }
+
+  private Truncations() {
+    // utility class
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+/**
+ * The first element of a sequence that did not pass an {@link ElementCheck}, with its position and the element
+ * preceding it.
+ *
+ * @param <T> the type of the checked elements.
+ */
+public final class Violation<T> {
+
+  private final long index;
+  private final T previous;
+  private final T element;
+
+  public Violation(long index, T previous, T element) {
+    this.index = index;
+    this.previous = previous;
+    this.element = element;
+  }
+
+  /**
+   * @return the position of the violating element, 0 for the first one.
+   */
+  public long index() {
+    return index;
+  }
+
+  /**
+   * @return the element preceding the violating one, {@code null} if the violating element is the first one.
+   */
+  public T previous() {
+    return previous;
+  }
+
+  /**
+   * @return the violating element, {@code null} if the sequence contained a null element.
+   */
+  public T element() {
+    return element;
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.internal;
+
+import static org.joda.time.DateTimeConstants.MILLIS_PER_DAY;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.joda.time.DateTimeZone;
+
+/**
+ * Index of the offset transitions (daylight saving time changes but also standard offset changes) of a
+ * {@link DateTimeZone}, offsets and local time line shifts are then found by a binary search over the index.
+ * <p>
+ * Indexing is disabled by default, all lookups then go to {@link DateTimeZone}. Once enabled, an index is built lazily
+ * with {@link DateTimeZone#nextTransition(long)} the first time a zone is used and cached for the next assertions. The
+ * cache is bounded (see {@link #setIndexMaxZones(int)}), an arbitrary index is evicted when it is full. An index covers
+ * the instants from 1900 to 2100, instants outside this range fall back to {@link DateTimeZone} lookups.
+ * <p>
+ * At each transition the local time line shifts by the offset change:
+ * <ul>
+ * <li>when the offset increases, the local times of the shift never happen, they are in a <b>gap</b></li>
+ * <li>when the offset decreases, the local times of the shift happen twice, they are in an <b>overlap</b></li>
+ * </ul>
+ */
+public final class ZoneTransitions {
+
+  // 1900-01-01T00:00:00Z and 2100-01-01T00:00:00Z
+  private static final long INDEX_START = -2208988800000L;
+  private static final long INDEX_END = 4102444800000L;
+  // offsets are less than a day, the transitions shifting a local time are within this distance of it
+  private static final long SHIFT_SEARCH_SPAN = 2L * MILLIS_PER_DAY;
+
+  public static final int DEFAULT_INDEX_MAX_ZONES = 16;
+
+  private static final ConcurrentMap<DateTimeZone, ZoneTransitions> INDEXES = new ConcurrentHashMap<>();
+  private static volatile boolean indexEnabled = false;
+  private static volatile int indexMaxZones = DEFAULT_INDEX_MAX_ZONES;
+
+  private final DateTimeZone zone;
+  private final int initialOffset;
+  private final int size;
+  // instants where the offset changes and the offsets in force from them
+  private final long[] transitions;
+  private final int[] offsets;
+  // local millis where the local time line shift caused by each transition starts
+  private final long[] shiftStarts;
+
+  /**
+   * Returns the local millis of the given instant in the given zone, same as
+   * {@link DateTimeZone#convertUTCToLocal(long)}.
+   *
+   * @param zone the zone to convert the instant in. expected not be null
+   * @param instant the epoch millis to convert.
+   * @return the local millis of the given instant.
+   */
+  public static long localMillisOf(DateTimeZone zone, long instant) {
+    if (!indexEnabled) return zone.convertUTCToLocal(instant);
+    return instant + indexOf(zone).offsetAt(instant);
+  }
+
+  /**
+   * Returns true if the given local time does not exist in the given zone because the offset increased (like when
+   * daylight saving time starts).
+   *
+   * @param zone the zone to check the local time in. expected not be null
+   * @param localMillis the local time to check.
+   * @return true if the given local time is in a gap.
+   */
+  public static boolean isInGap(DateTimeZone zone, long localMillis) {
+    return shiftAt(zone, localMillis) > 0;
+  }
+
+  /**
+   * Returns true if the given local time happens twice in the given zone because the offset decreased (like when
+   * daylight saving time ends).
+   *
+   * @param zone the zone to check the local time in. expected not be null
+   * @param localMillis the local time to check.
+   * @return true if the given local time is in an overlap.
+   */
+  public static boolean isInOverlap(DateTimeZone zone, long localMillis) {
+    return shiftAt(zone, localMillis) < 0;
+  }
+
+  public static void setIndexEnabled(boolean enabled) {
+    indexEnabled = enabled;
+    if (!enabled) INDEXES.clear();
+  }
+
+  public static boolean isIndexEnabled() {
+    return indexEnabled;
+  }
+
+  public static void setIndexMaxZones(int maxZones) {
+    if (maxZones <= 0)
+      throw new IllegalArgumentException("The zone transition index max zones should be strictly positive but was "
+                                         + maxZones);
+    indexMaxZones = maxZones;
+    while (INDEXES.size() > maxZones) {
+      evictOne();
+    }
+  }
+
+  public static int indexMaxZones() {
+    return indexMaxZones;
+  }
+
+  public static int indexedZones() {
+    return INDEXES.size();
+  }
+
+  public static boolean isIndexed(DateTimeZone zone) {
+    return INDEXES.containsKey(zone);
+  }
+
+  private static ZoneTransitions indexOf(DateTimeZone zone) {
+    ZoneTransitions index = INDEXES.get(zone);
+    if (index != null) return index;
+    // make room first so that the index about to be built is not the evicted one
+    while (INDEXES.size() >= indexMaxZones) {
+      evictOne();
+    }
+    return INDEXES.computeIfAbsent(zone, ZoneTransitions::new);
+  }
+
+  private static void evictOne() {
+    // no LRU bookkeeping to keep lookups lock free, an arbitrary index is evicted instead
+    Iterator<DateTimeZone> zones = INDEXES.keySet().iterator();
+    if (zones.hasNext()) {
+      zones.next();
+      zones.remove();
+    }
+  }
+
+  // returns the offset change of the transition whose local time line shift contains localMillis, 0 if there is none
+  private static long shiftAt(DateTimeZone zone, long localMillis) {
+    if (!indexEnabled || localMillis < INDEX_START + SHIFT_SEARCH_SPAN
+        || localMillis >= INDEX_END - SHIFT_SEARCH_SPAN) {
+      return shiftAtWithoutIndex(zone, localMillis);
+    }
+    return indexOf(zone).shiftAt(localMillis);
+  }
+
+  private static long shiftAtWithoutIndex(DateTimeZone zone, long localMillis) {
+    for (long instant = localMillis - SHIFT_SEARCH_SPAN;;) {
+      long transition = zone.nextTransition(instant);
+      if (transition <= instant || transition > localMillis + SHIFT_SEARCH_SPAN) return 0;
+      int offsetBefore = zone.getOffset(transition - 1);
+      int offsetAfter = zone.getOffset(transition);
+      if (transition + Math.min(offsetBefore, offsetAfter) <= localMillis
+          && localMillis < transition + Math.max(offsetBefore, offsetAfter)) {
+        return offsetAfter - offsetBefore;
+      }
+      instant = transition;
+    }
+  }
+
+  private ZoneTransitions(DateTimeZone zone) {
+    this.zone = zone;
+    initialOffset = zone.getOffset(INDEX_START);
+    long[] transitionsBuffer = new long[16];
+    int[] offsetsBuffer = new int[16];
+    int count = 0;
+    int previousOffset = initialOffset;
+    for (long instant = INDEX_START; instant < INDEX_END;) {
+      long transition = zone.nextTransition(instant);
+      if (transition <= instant || transition >= INDEX_END) break;
+      int offset = zone.getOffset(transition);
+      // name only changes don't shift the local time line
+      if (offset != previousOffset) {
+        if (count == transitionsBuffer.length) {
+          transitionsBuffer = Arrays.copyOf(transitionsBuffer, count * 2);
+          offsetsBuffer = Arrays.copyOf(offsetsBuffer, count * 2);
+        }
+        transitionsBuffer[count] = transition;
+        offsetsBuffer[count] = offset;
+        count++;
+        previousOffset = offset;
+      }
+      instant = transition;
+    }
+    size = count;
+    transitions = transitionsBuffer;
+    offsets = offsetsBuffer;
+    shiftStarts = new long[count];
+    for (int i = 0; i < count; i++) {
+      shiftStarts[i] = transitions[i] + Math.min(offsetBefore(i), offsets[i]);
+    }
+  }
+
+  private int offsetAt(long instant) {
+    if (instant < INDEX_START || instant >= INDEX_END) return zone.getOffset(instant);
+    int index = lastIndexAtOrBefore(transitions, instant);
+    return index < 0 ? initialOffset : offsets[index];
+  }
+
+  private long shiftAt(long localMillis) {
+    // shifts don't overlap each other, only the last one starting at or before localMillis can contain it
+    int index = lastIndexAtOrBefore(shiftStarts, localMillis);
+    if (index < 0) return 0;
+    int offsetBefore = offsetBefore(index);
+    int offsetChange = offsets[index] - offsetBefore;
+    long shiftEnd = transitions[index] + Math.max(offsetBefore, offsets[index]);
+    return localMillis < shiftEnd ? offsetChange : 0;
+  }
+
+  private int offsetBefore(int index) {
+    return index == 0 ? initialOffset : offsets[index - 1];
+  }
+
+  private int lastIndexAtOrBefore(long[] sortedValues, long value) {
+    int index = Arrays.binarySearch(sortedValues, 0, size, value);
+    return index >= 0 ? index : -index - 2;
+  }
+}
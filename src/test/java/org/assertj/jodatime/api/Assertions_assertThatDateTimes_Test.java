@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Assertions#assertThatDateTimes(Iterable)}</code> and
+ * <code>{@link Assertions#assertThatDateTimes(DateTime[])}</code>.
+ */
+public class Assertions_assertThatDateTimes_Test {
+
+  @Test
+  public void should_create_Assert() {
+    DateTimeIterableAssert assertions = Assertions.assertThatDateTimes(asList(new DateTime()));
+    assertNotNull(assertions);
+  }
+
+  @Test
+  public void should_pass_actual() {
+    List<DateTime> dateTimes = asList(new DateTime());
+    DateTimeIterableAssert assertions = Assertions.assertThatDateTimes(dateTimes);
+    assertSame(dateTimes, assertions.getActual());
+  }
+
+  @Test
+  public void should_pass_actual_array_as_list() {
+    DateTime[] dateTimes = { new DateTime(), new DateTime().plusDays(1) };
+    DateTimeIterableAssert assertions = Assertions.assertThatDateTimes(dateTimes);
+    assertEquals(asList(dateTimes), assertions.getActual());
+  }
+
+  @Test
+  public void should_pass_null_array() {
+    DateTimeIterableAssert assertions = Assertions.assertThatDateTimes((DateTime[]) null);
+    assertNull(assertions.getActual());
+  }
+}
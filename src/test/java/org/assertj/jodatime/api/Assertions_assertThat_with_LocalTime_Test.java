@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import org.joda.time.LocalTime;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Assertions#assertThat(LocalTime)}</code>.
+ */
+public class Assertions_assertThat_with_LocalTime_Test {
+
+  @Test
+  public void should_create_Assert() {
+    LocalTimeAssert assertions = Assertions.assertThat(new LocalTime());
+    assertNotNull(assertions);
+  }
+
+  @Test
+  public void should_pass_actual() {
+    LocalTime localTime = new LocalTime();
+    LocalTimeAssert assertions = Assertions.assertThat(localTime);
+    assertSame(localTime, assertions.getActual());
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.Assertions.clearParseCache;
+import static org.assertj.jodatime.api.Assertions.parseCacheStatistics;
+import static org.assertj.jodatime.api.Assertions.setParseCacheEnabled;
+import static org.assertj.jodatime.api.Assertions.setParseCacheMaxSize;
+import static org.assertj.jodatime.internal.Parsing.DEFAULT_CACHE_MAX_SIZE;
+import static org.joda.time.DateTimeZone.UTC;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Assertions#setParseCacheEnabled(boolean)}</code>.
+ */
+public class Assertions_parseCache_Test extends JodaTimeBaseTest {
+
+  @Before
+  public void enableParseCache() {
+    setParseCacheEnabled(true);
+  }
+
+  @After
+  public void restoreParseCacheDefaults() {
+    setParseCacheMaxSize(DEFAULT_CACHE_MAX_SIZE);
+    setParseCacheEnabled(false);
+  }
+
+  @Test
+  public void should_parse_each_string_once() {
+    // WHEN
+    assertThat(new LocalDate(2000, 1, 1)).isEqualTo("2000-01-01")
+                                         .isBefore("2000-01-02")
+                                         .isIn("2000-01-01", "2000-01-02");
+    // THEN
+    ParseCacheStatistics statistics = parseCacheStatistics();
+    assertThat(statistics.missCount()).isEqualTo(2);
+    assertThat(statistics.hitCount()).isEqualTo(2);
+    assertThat(statistics.size()).isEqualTo(2);
+    assertThat(statistics.hitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  public void should_cache_values_by_type() {
+    // WHEN
+    assertThat(new LocalDate(2000, 1, 1)).isEqualTo("2000-01-01");
+    assertThat(new LocalDateTime(2000, 1, 1, 0, 0)).isEqualTo("2000-01-01");
+    // THEN
+    assertThat(parseCacheStatistics().missCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_cache_values_by_zone() {
+    // GIVEN
+    DateTime dateTimeInUTC = new DateTime(2000, 1, 1, 0, 0, UTC);
+    DateTime dateTimeInParis = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.forID("Europe/Paris"));
+    // WHEN
+    assertThat(dateTimeInUTC).isBefore("2000-01-02T00:00:00");
+    assertThat(dateTimeInParis).isBefore("2000-01-02T00:00:00");
+    assertThat(dateTimeInParis).isAfter("1999-12-31T23:59:59");
+    // THEN
+    assertThat(parseCacheStatistics().missCount()).isEqualTo(3);
+    assertThat(parseCacheStatistics().hitCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_not_keep_more_values_than_max_size() {
+    // GIVEN
+    setParseCacheMaxSize(2);
+    // WHEN
+    assertThat(new LocalDate(2000, 1, 1)).isBefore("2000-01-02").isBefore("2000-01-03").isBefore("2000-01-04");
+    // THEN
+    assertThat(parseCacheStatistics().size()).isEqualTo(2);
+    assertThat(parseCacheStatistics().maxSize()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_not_cache_invalid_strings() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalDate(2000, 1, 1)).isEqualTo("not a date"));
+    // THEN
+    assertThat(error).isInstanceOf(IllegalArgumentException.class);
+    assertThat(parseCacheStatistics().size()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_reset_statistics_when_cleared() {
+    // GIVEN
+    assertThat(new LocalDate(2000, 1, 1)).isEqualTo("2000-01-01").isEqualTo("2000-01-01");
+    // WHEN
+    clearParseCache();
+    // THEN
+    assertThat(parseCacheStatistics().hitCount()).isEqualTo(0);
+    assertThat(parseCacheStatistics().missCount()).isEqualTo(0);
+    assertThat(parseCacheStatistics().size()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_not_record_statistics_when_disabled() {
+    // GIVEN
+    setParseCacheEnabled(false);
+    // WHEN
+    assertThat(new LocalDate(2000, 1, 1)).isEqualTo("2000-01-01").isEqualTo("2000-01-01");
+    // THEN
+    assertThat(parseCacheStatistics().missCount()).isEqualTo(0);
+    assertThat(parseCacheStatistics().hitCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_throw_error_if_max_size_is_not_strictly_positive() {
+    expectIllegalArgumentException("The parse cache max size should be strictly positive but was 0");
+    setParseCacheMaxSize(0);
+  }
+
+}
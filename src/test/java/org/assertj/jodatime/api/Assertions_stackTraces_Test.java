@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.Assertions.setStackTraceMaxDepth;
+import static org.assertj.jodatime.api.Assertions.setStackTracesEnabled;
+import static org.assertj.jodatime.internal.StackTraceCapture.DEFAULT_MAX_DEPTH;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Assertions#setStackTracesEnabled(boolean)}</code> and
+ * <code>{@link Assertions#setStackTraceMaxDepth(int)}</code>.
+ */
+public class Assertions_stackTraces_Test extends JodaTimeBaseTest {
+
+  private final DateTime actual = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.UTC);
+
+  @After
+  public void restoreStackTraceDefaults() {
+    setStackTracesEnabled(true);
+    setStackTraceMaxDepth(DEFAULT_MAX_DEPTH);
+  }
+
+  @Test
+  public void should_capture_stack_traces_by_default() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(actual).hasYear(2001));
+    // THEN
+    assertThat(error.getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  public void should_not_capture_stack_traces_when_disabled() {
+    // GIVEN
+    setStackTracesEnabled(false);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(actual).isAfter("2000-01-02T00:00:00Z"));
+    // THEN
+    assertThat(error.getStackTrace()).isEmpty();
+    assertThat(error).hasMessageContaining("to be strictly after");
+  }
+
+  @Test
+  public void should_not_keep_stack_traces_of_errors_with_an_overriding_message_when_disabled() {
+    // GIVEN
+    setStackTracesEnabled(false);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(actual).overridingErrorMessage("boom").hasYear(2001));
+    // THEN
+    assertThat(error.getStackTrace()).isEmpty();
+    assertThat(error).hasMessage("boom");
+  }
+
+  @Test
+  public void should_truncate_stack_traces_to_max_depth() {
+    // GIVEN
+    setStackTraceMaxDepth(1);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(actual).hasYear(2001));
+    // THEN
+    assertThat(error.getStackTrace()).hasSize(1);
+  }
+
+  @Test
+  public void should_throw_error_if_max_depth_is_not_strictly_positive() {
+    expectIllegalArgumentException("The stack trace max depth should be strictly positive but was 0");
+    setStackTraceMaxDepth(0);
+  }
+
+}
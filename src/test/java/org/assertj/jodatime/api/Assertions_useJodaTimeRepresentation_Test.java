@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.useDefaultRepresentation;
+import static org.assertj.jodatime.api.Assertions.useJodaTimeRepresentation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Assertions#useJodaTimeRepresentation()}</code> and
+ * <code>{@link Assertions#useDefaultRepresentation()}</code>.
+ */
+public class Assertions_useJodaTimeRepresentation_Test extends JodaTimeBaseTest {
+
+  private final List<DateTime> dateTimes = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    DateTime start = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.UTC);
+    for (int i = 0; i <= JodaTimeRepresentation.DEFAULT_MAX_ELEMENTS_FOR_PRINTING; i++) {
+      dateTimes.add(start.plusSeconds(i));
+    }
+  }
+
+  @After
+  public void restoreDefaultRepresentation() {
+    useDefaultRepresentation();
+  }
+
+  @Test
+  public void should_truncate_large_collections_in_error_messages() {
+    // GIVEN
+    useJodaTimeRepresentation();
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(dateTimes).isEmpty());
+    // THEN
+    assertThat(error).hasMessageContaining("[2000-01-01T00:00:00.000Z, 2000-01-01T00:00:01.000Z")
+                     .hasMessageContaining("2000-01-01T00:01:39.000Z, ... (1 more)]");
+    assertThat(error.getMessage()).doesNotContain("2000-01-01T00:01:40.000Z");
+  }
+
+  @Test
+  public void should_print_whole_collections_with_default_representation() {
+    // GIVEN
+    useJodaTimeRepresentation();
+    useDefaultRepresentation();
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(dateTimes).isEmpty());
+    // THEN
+    assertThat(error).hasMessageContaining("2000-01-01T00:01:40.000Z");
+  }
+
+}
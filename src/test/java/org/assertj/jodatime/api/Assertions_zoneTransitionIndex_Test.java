@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.Assertions.setZoneTransitionIndexEnabled;
+import static org.assertj.jodatime.api.Assertions.setZoneTransitionIndexMaxZones;
+import static org.assertj.jodatime.internal.ZoneTransitions.DEFAULT_INDEX_MAX_ZONES;
+
+import org.assertj.jodatime.internal.ZoneTransitions;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDateTime;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Assertions#setZoneTransitionIndexEnabled(boolean)}</code>.
+ */
+public class Assertions_zoneTransitionIndex_Test extends JodaTimeBaseTest {
+
+  private static final DateTimeZone PARIS = DateTimeZone.forID("Europe/Paris");
+  private static final DateTimeZone NEW_YORK = DateTimeZone.forID("America/New_York");
+
+  @After
+  public void restoreZoneTransitionIndexDefaults() {
+    setZoneTransitionIndexMaxZones(DEFAULT_INDEX_MAX_ZONES);
+    setZoneTransitionIndexEnabled(false);
+  }
+
+  @Test
+  public void should_not_index_zones_by_default() {
+    // WHEN
+    assertThat(new DateTime(2018, 7, 1, 10, 0, PARIS)).hasHourOfDay(10);
+    assertThat(new DateTime("2018-10-28T00:30Z", PARIS)).isInDstOverlap();
+    assertThat(new LocalDateTime(2018, 3, 25, 2, 30)).isInDstGap(PARIS);
+    // THEN
+    assertThat(ZoneTransitions.indexedZones()).isZero();
+  }
+
+  @Test
+  public void should_give_same_results_with_index_enabled() {
+    // GIVEN
+    setZoneTransitionIndexEnabled(true);
+    // WHEN
+    assertThat(new DateTime(2018, 7, 1, 10, 0, PARIS)).hasHourOfDay(10);
+    assertThat(new DateTime("2018-10-28T00:30Z", PARIS)).isInDstOverlap();
+    assertThat(new LocalDateTime(2018, 3, 25, 2, 30)).isInDstGap(PARIS);
+    // THEN
+    assertThat(ZoneTransitions.indexedZones()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_evict_indexes_when_max_zones_is_reached() {
+    // GIVEN
+    setZoneTransitionIndexEnabled(true);
+    setZoneTransitionIndexMaxZones(1);
+    // WHEN
+    assertThat(new DateTime(2018, 7, 1, 10, 0, PARIS)).hasHourOfDay(10);
+    assertThat(new DateTime(2018, 7, 1, 10, 0, NEW_YORK)).hasHourOfDay(10);
+    // THEN
+    assertThat(ZoneTransitions.indexedZones()).isEqualTo(1);
+    assertThat(ZoneTransitions.isIndexed(NEW_YORK)).isTrue();
+  }
+
+  @Test
+  public void should_clear_indexes_when_disabled() {
+    // GIVEN
+    setZoneTransitionIndexEnabled(true);
+    assertThat(new DateTime(2018, 7, 1, 10, 0, PARIS)).hasHourOfDay(10);
+    // WHEN
+    setZoneTransitionIndexEnabled(false);
+    // THEN
+    assertThat(ZoneTransitions.indexedZones()).isZero();
+  }
+
+  @Test
+  public void should_throw_error_if_max_zones_is_not_strictly_positive() {
+    expectIllegalArgumentException("The zone transition index max zones should be strictly positive but was 0");
+    setZoneTransitionIndexMaxZones(0);
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.JodaTimeRepresentation.JODA_TIME_REPRESENTATION;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.chrono.BuddhistChronology;
+import org.junit.Test;
+
+public class JodaTimeRepresentation_toStringOf_Test extends JodaTimeBaseTest {
+
+  private final JodaTimeRepresentation representation = new JodaTimeRepresentation(2);
+
+  @Test
+  public void should_print_joda_values_as_their_toString() {
+    // GIVEN
+    DateTime dateTime = new DateTime(2000, 1, 1, 10, 30, 59, 123, DateTimeZone.forID("Europe/Paris"));
+    LocalDateTime buddhistLocalDateTime = new LocalDateTime(2543, 1, 1, 10, 30, 0, 0, BuddhistChronology.getInstanceUTC());
+    // THEN
+    assertThat(JODA_TIME_REPRESENTATION.toStringOf(dateTime)).isEqualTo("2000-01-01T10:30:59.123+01:00");
+    assertThat(JODA_TIME_REPRESENTATION.toStringOf(dateTime.toInstant())).isEqualTo("2000-01-01T09:30:59.123Z");
+    assertThat(JODA_TIME_REPRESENTATION.toStringOf(dateTime.toLocalDateTime())).isEqualTo("2000-01-01T10:30:59.123");
+    assertThat(JODA_TIME_REPRESENTATION.toStringOf(dateTime.toLocalDate())).isEqualTo("2000-01-01");
+    assertThat(JODA_TIME_REPRESENTATION.toStringOf(buddhistLocalDateTime)).isEqualTo(buddhistLocalDateTime.toString());
+  }
+
+  @Test
+  public void should_print_small_collections_and_arrays_entirely() {
+    // GIVEN
+    List<LocalDate> localDates = asList(new LocalDate(2000, 1, 1), new LocalDate(2000, 1, 2));
+    // THEN
+    assertThat(representation.toStringOf(localDates)).isEqualTo("[2000-01-01, 2000-01-02]");
+    assertThat(representation.toStringOf(new Instant[] { new Instant(0L) })).isEqualTo("[1970-01-01T00:00:00.000Z]");
+  }
+
+  @Test
+  public void should_print_first_elements_of_large_collections() {
+    // GIVEN
+    List<LocalDate> localDates = new ArrayList<>();
+    for (int day = 1; day <= 10; day++) {
+      localDates.add(new LocalDate(2000, 1, day));
+    }
+    // THEN
+    assertThat(representation.toStringOf(localDates)).isEqualTo("[2000-01-01, 2000-01-02, ... (8 more)]");
+  }
+
+  @Test
+  public void should_print_first_elements_of_large_arrays() {
+    // GIVEN
+    Object[] values = { null, new LocalDate(2000, 1, 1), null };
+    // THEN
+    assertThat(representation.toStringOf(values)).isEqualTo("[null, 2000-01-01, ... (1 more)]");
+    assertThat(representation.toStringOf(new long[] { 1L, 2L, 3L })).isEqualTo("[1L, 2L, ... (1 more)]");
+  }
+
+  @Test
+  public void should_print_other_values_as_standard_representation() {
+    assertThat(representation.toStringOf(null)).isEqualTo("null");
+    assertThat(representation.toStringOf(1L)).isEqualTo("1L");
+  }
+
+  @Test
+  public void should_throw_error_if_max_elements_for_printing_is_not_strictly_positive() {
+    expectIllegalArgumentException("The maximum number of elements for printing should be strictly positive but was 0");
+    new JodaTimeRepresentation(0);
+  }
+
+}
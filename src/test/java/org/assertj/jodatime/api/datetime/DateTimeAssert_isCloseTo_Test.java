@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetime;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.DateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class DateTimeAssert_isCloseTo_Test extends JodaTimeBaseTest {
+
+  private final DateTime actual = new DateTime("2000-01-01T10:00:59.999Z");
+
+  @Test
+  public void should_pass_if_actual_is_close_to_given_value_across_a_field_boundary() {
+    assertThat(actual).isCloseTo(new DateTime("2000-01-01T10:01:00.000Z"), 1)
+                      .isCloseTo(new DateTime("2000-01-01T10:01:00.000Z"), Duration.millis(1));
+  }
+
+  @Test
+  public void should_pass_if_distance_is_equal_to_tolerance() {
+    assertThat(actual).isCloseTo(new DateTime("2000-01-01T10:01:00.002Z"), 3);
+  }
+
+  @Test
+  public void should_compare_instants_whatever_the_time_zone_of_given_one() {
+    assertThat(actual).isCloseTo(new DateTime("2000-01-01T11:01:00.000+01:00", DateTimeZone.forOffsetHours(1)), 1);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_close_to_given_value() {
+    // GIVEN
+    DateTime other = new DateTime("2000-01-01T10:01:00.002Z");
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(actual).isCloseTo(other, 1));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2000-01-01T10:00:59.999Z>%n" +
+                                        "to be close to:%n" +
+                                        "  <2000-01-01T10:01:00.002Z>%n" +
+                                        "within 1ms but difference was 3ms."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    DateTime nullActual = null;
+    assertThat(nullActual).isCloseTo(new DateTime("2000-01-01T10:01:00.000Z"), 1);
+  }
+
+  @Test
+  public void should_throw_error_if_given_value_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThat(actual).isCloseTo(null, 1);
+  }
+
+  @Test
+  public void should_throw_error_if_tolerance_is_negative() {
+    expectIllegalArgumentException("The tolerance should not be negative but was -1ms");
+    assertThat(actual).isCloseTo(actual, -1);
+  }
+
+  @Test
+  public void should_throw_error_if_tolerance_is_null() {
+    expectIllegalArgumentException("The tolerance should not be null");
+    assertThat(actual).isCloseTo(actual, (Duration) null);
+  }
+
+}
@@ -12,10 +12,12 @@
  */
 package org.assertj.jodatime.api.datetime;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.jodatime.api.Assertions.assertThat;
 
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.GJChronology;
 import org.junit.Test;
 
 /**
@@ -38,6 +40,13 @@ public class DateTimeAssert_isEqualTo_Test extends DateTimeAssertBaseTest {
     assertThat(cestDateTime).as("in CEST time zone").isEqualTo(utcDateTime.toString());
   }
 
+  @Test
+  public void isEqualTo_should_fail_if_chronologies_differ_even_if_instants_are_the_same() {
+    DateTime isoDateTime = new DateTime(2013, 6, 10, 0, 0, DateTimeZone.UTC);
+    DateTime gjDateTime = isoDateTime.withChronology(GJChronology.getInstance(DateTimeZone.forID("Europe/Berlin")));
+    assertThatThrownBy(() -> assertThat(isoDateTime).isEqualTo(gjDateTime)).isInstanceOf(AssertionError.class);
+  }
+
   @Test
   public void isEqualTo_should_pass_if_both_actual_and_expected_DateTime_are_null() {
     DateTime nullDateTime = null;
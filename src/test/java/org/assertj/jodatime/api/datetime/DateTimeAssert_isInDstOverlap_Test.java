@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetime;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+public class DateTimeAssert_isInDstOverlap_Test extends DateTimeAssertBaseTest {
+
+  // clocks go from 03:00 back to 02:00 at 01:00Z on 2018-10-28, local times from 02:00 to 03:00 happen twice
+  private final DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
+
+  @Test
+  public void should_pass_if_local_time_of_actual_is_in_an_overlap_of_its_zone() {
+    assertThat(new DateTime("2018-10-28T00:00:00.000Z", paris)).isInDstOverlap();
+    assertThat(new DateTime("2018-10-28T01:59:59.999Z", paris)).isInDstOverlap();
+  }
+
+  @Test
+  public void should_fail_if_local_time_of_actual_is_not_in_an_overlap_of_its_zone() {
+    // GIVEN
+    DateTime afterOverlap = new DateTime("2018-10-28T02:00:00.000Z", paris);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(afterOverlap).isInDstOverlap());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2018-10-28T03:00:00.000+01:00>%n" +
+                                        "to be in an overlap of the Europe/Paris time zone offset transitions " +
+                                        "but it was not."));
+  }
+
+  @Test
+  public void should_fail_if_zone_of_actual_has_no_transitions() {
+    // GIVEN
+    DateTime inUtc = new DateTime("2018-10-28T00:30Z", DateTimeZone.UTC);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(inUtc).isInDstOverlap());
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    DateTime actual = null;
+    assertThat(actual).isInDstOverlap();
+  }
+
+}
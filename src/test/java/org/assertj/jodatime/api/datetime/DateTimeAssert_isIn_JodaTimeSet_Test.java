@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.joda.time.DateTimeZone.UTC;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.assertj.jodatime.api.JodaTimeSet;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.chrono.BuddhistChronology;
+import org.junit.Test;
+
+public class DateTimeAssert_isIn_JodaTimeSet_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 2, 3, 4, 5, 6, UTC);
+  private final JodaTimeSet candidates = JodaTimeSet.of(refDatetime.minusDays(1), refDatetime, refDatetime.plusDays(1));
+
+  @Test
+  public void should_pass_if_actual_is_in_given_set() {
+    assertThat(refDatetime).isIn(candidates);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_in_given_set_with_a_different_timezone() {
+    assertThat(refDatetime.withZone(DateTimeZone.forID("Asia/Tokyo"))).isIn(candidates);
+  }
+
+  @Test
+  public void should_pass_if_actual_has_the_millis_of_a_value_of_given_set_in_another_chronology() {
+    // GIVEN
+    DateTime buddhistDateTime = refDatetime.withChronology(BuddhistChronology.getInstance(UTC));
+    // WHEN
+    assertThat(buddhistDateTime).isIn(candidates);
+    Throwable error = catchThrowable(() -> assertThat(buddhistDateTime).isIn(refDatetime));
+    // THEN
+    // unlike isIn(DateTime...), which compares chronologies too
+    assertThat(error).isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_in_given_set() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(refDatetime.plusMillis(1)).isIn(candidates));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("to be in:")
+                     .hasMessageContaining("JodaTimeSet[2000-01-01T03:04:05.006Z, 2000-01-02T03:04:05.006Z");
+  }
+
+  @Test
+  public void should_fail_if_given_set_is_empty() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(refDatetime).isIn(JodaTimeSet.empty()));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("JodaTimeSet[]");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    DateTime actual = null;
+    assertThat(actual).isIn(candidates);
+  }
+
+  @Test
+  public void should_throw_error_if_given_set_is_null() {
+    expectIllegalArgumentException("The given JodaTimeSet should not be null");
+    assertThat(refDatetime).isIn((JodaTimeSet) null);
+  }
+
+  @Test
+  public void should_throw_error_if_given_set_does_not_contain_instants() {
+    expectIllegalArgumentException("JodaTimeSet contains LocalDates, it can't be used to look for instants");
+    assertThat(refDatetime).isIn(JodaTimeSet.of(new LocalDate(2000, 1, 2)));
+  }
+
+}
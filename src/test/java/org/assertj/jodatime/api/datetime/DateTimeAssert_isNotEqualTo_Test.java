@@ -17,6 +17,7 @@ import static org.assertj.jodatime.api.Assertions.assertThat;
 
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.GJChronology;
 import org.junit.Test;
 
 /**
@@ -37,6 +38,20 @@ public class DateTimeAssert_isNotEqualTo_Test extends DateTimeAssertBaseTest {
     assertThat(cestDateTime).as("in CEST time zone").isNotEqualTo(utcDateTime);
   }
 
+  @Test
+  public void isNotEqualTo_should_pass_if_chronologies_differ_even_if_instants_are_the_same() {
+    DateTime isoDateTime = new DateTime(2013, 6, 10, 0, 0, DateTimeZone.UTC);
+    DateTime gjDateTime = isoDateTime.withChronology(GJChronology.getInstance(DateTimeZone.UTC));
+    assertThat(isoDateTime).isNotEqualTo(gjDateTime);
+  }
+
+  @Test
+  public void isNotEqualTo_should_fail_if_datetimes_are_equal_in_actual_timezone() {
+    DateTime utcDateTime = new DateTime(2013, 6, 10, 0, 0, DateTimeZone.UTC);
+    DateTime cestDateTime = utcDateTime.withZone(DateTimeZone.forID("Europe/Berlin"));
+    assertThatThrownBy(() -> assertThat(utcDateTime).isNotEqualTo(cestDateTime)).isInstanceOf(AssertionError.class);
+  }
+
   @Test
   public void should_handle_null_actual_gracefully() {
     // GIVEN
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.joda.time.DateTimeZone.UTC;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.assertj.jodatime.api.JodaTimeSet;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+public class DateTimeAssert_isNotIn_JodaTimeSet_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 2, 3, 4, 5, 6, UTC);
+  private final JodaTimeSet forbiddenValues = JodaTimeSet.of(refDatetime.minusDays(1), refDatetime.plusDays(1));
+
+  @Test
+  public void should_pass_if_actual_is_not_in_given_set() {
+    assertThat(refDatetime).isNotIn(forbiddenValues);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_in_given_set_with_a_different_timezone() {
+    // GIVEN
+    DateTime sameInstantInTokyo = refDatetime.plusDays(1).withZone(DateTimeZone.forID("Asia/Tokyo"));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(sameInstantInTokyo).isNotIn(forbiddenValues));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("not to be in:");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    DateTime actual = null;
+    assertThat(actual).isNotIn(forbiddenValues);
+  }
+
+  @Test
+  public void should_throw_error_if_given_set_is_null() {
+    expectIllegalArgumentException("The given JodaTimeSet should not be null");
+    assertThat(refDatetime).isNotIn((JodaTimeSet) null);
+  }
+
+}
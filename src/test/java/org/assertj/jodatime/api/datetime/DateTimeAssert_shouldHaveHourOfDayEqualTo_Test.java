@@ -30,6 +30,15 @@ public class DateTimeAssert_shouldHaveHourOfDayEqualTo_Test extends DateTimeAsse
     assertThat(dateTime).hasHourOfDay(11);
   }
 
+  @Test
+  public void should_pass_if_hours_of_day_are_equal_around_a_daylight_saving_time_transition() {
+    DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
+    // clocks go from 03:00 back to 02:00 at 01:00Z
+    assertThat(new DateTime("2018-10-28T00:59:59.999Z", paris)).hasHourOfDay(2);
+    assertThat(new DateTime("2018-10-28T01:00:00.000Z", paris)).hasHourOfDay(2);
+    assertThat(new DateTime("2018-10-28T02:00:00.000Z", paris)).hasHourOfDay(3);
+  }
+
   @Test
   public void test_should_fail_if_actual_is_null() {
     expectException(AssertionError.class, actualIsNull());
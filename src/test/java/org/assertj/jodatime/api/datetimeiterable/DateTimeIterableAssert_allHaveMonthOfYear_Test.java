@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class DateTimeIterableAssert_allHaveMonthOfYear_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 1, 3, 0, UTC);
+
+  @Test
+  public void should_pass_if_all_elements_have_given_month() {
+    assertThatDateTimes(asList(refDatetime, refDatetime.plusHours(1))).allHaveMonthOfYear(1);
+  }
+
+  @Test
+  public void should_fail_reporting_first_element_with_another_month() {
+    // GIVEN
+    List<DateTime> dateTimes = asList(refDatetime, refDatetime.withMonthOfYear(2));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(dateTimes).allHaveMonthOfYear(1));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements to have monthOfYear:%n" +
+                                        "  <1>%n" +
+                                        "but element at index 1:%n" +
+                                        "  <%s>%n" +
+                                        "had:%n" +
+                                        "  <2>", refDatetime.withMonthOfYear(2)));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<DateTime> dateTimes = null;
+    assertThatDateTimes(dateTimes).allHaveMonthOfYear(1);
+  }
+
+}
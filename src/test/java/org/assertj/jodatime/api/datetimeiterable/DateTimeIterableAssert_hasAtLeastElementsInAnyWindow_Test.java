@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class DateTimeIterableAssert_hasAtLeastElementsInAnyWindow_Test extends JodaTimeBaseTest {
+
+  private final DateTime first = new DateTime(2000, 1, 1, 0, 0, UTC);
+  private final List<DateTime> actual = asList(first, first.plusSeconds(5), first.plusSeconds(11),
+                                               first.plusSeconds(12));
+  private final Duration fiveSeconds = Duration.standardSeconds(5);
+
+  @Test
+  public void should_pass_if_every_window_contains_at_least_min_count_elements() {
+    assertThatDateTimes(actual).hasAtLeastElementsInAnyWindow(1, Duration.standardSeconds(6))
+                      .hasAtLeastElementsInAnyWindow(2, Duration.standardSeconds(12));
+  }
+
+  @Test
+  public void should_pass_if_elements_span_less_than_a_window() {
+    assertThatDateTimes(actual).hasAtLeastElementsInAnyWindow(100, Duration.standardSeconds(13));
+  }
+
+  @Test
+  public void should_fail_reporting_earliest_window_containing_less_than_min_count_elements() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual).hasAtLeastElementsInAnyWindow(1, fiveSeconds));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting at least 1 elements in any window of:%n" +
+                                        "  <PT5S>%n" +
+                                        "between the first and the last elements but window:%n" +
+                                        "  <2000-01-01T00:00:05.001Z/2000-01-01T00:00:10.001Z>%n" +
+                                        "contained 0 elements."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_sorted() {
+    // GIVEN
+    List<DateTime> dateTimes = asList(first.plusSeconds(1), first);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(dateTimes).hasAtLeastElementsInAnyWindow(1,
+                                                                                                        fiveSeconds));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be sorted chronologically but element at index 1:%n" +
+                                        "  <2000-01-01T00:00:00.000Z>%n" +
+                                        "is before the previous one:%n" +
+                                        "  <2000-01-01T00:00:01.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<DateTime> dateTimes = null;
+    assertThatDateTimes(dateTimes).hasAtLeastElementsInAnyWindow(1, fiveSeconds);
+  }
+
+  @Test
+  public void should_throw_error_if_min_count_is_not_strictly_positive() {
+    expectIllegalArgumentException("The minimum number of elements should be strictly positive but was 0");
+    assertThatDateTimes(actual).hasAtLeastElementsInAnyWindow(0, fiveSeconds);
+  }
+
+  @Test
+  public void should_throw_error_if_window_is_null() {
+    expectIllegalArgumentException("The window duration should not be null");
+    assertThatDateTimes(actual).hasAtLeastElementsInAnyWindow(1, null);
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class DateTimeIterableAssert_hasNoGapsLongerThan_Test extends JodaTimeBaseTest {
+
+  private final DateTime first = new DateTime(2000, 1, 1, 0, 0, UTC);
+  private final List<DateTime> actual = asList(first, first.plusSeconds(5), first.plusSeconds(11),
+                                               first.plusSeconds(12));
+
+  @Test
+  public void should_pass_if_no_consecutive_elements_are_further_apart_than_max_gap() {
+    assertThatDateTimes(actual).hasNoGapsLongerThan(Duration.standardSeconds(6))
+                      .inParallel()
+                      .hasNoGapsLongerThan(Duration.standardSeconds(6));
+  }
+
+  @Test
+  public void should_pass_if_consecutive_elements_are_equal_and_max_gap_is_zero() {
+    assertThatDateTimes(asList(first, first)).hasNoGapsLongerThan(Duration.ZERO);
+  }
+
+  @Test
+  public void should_fail_reporting_first_gap_longer_than_max_gap() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual)
+        .hasNoGapsLongerThan(Duration.standardSeconds(5)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting no gap longer than:%n" +
+                                        "  <PT5S>%n" +
+                                        "between consecutive elements but elements at index 1 and 2:%n" +
+                                        "  <2000-01-01T00:00:05.000Z>%n" +
+                                        "  <2000-01-01T00:00:11.000Z>%n" +
+                                        "are apart by:%n" +
+                                        "  <PT6S>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_sorted() {
+    // GIVEN
+    List<DateTime> dateTimes = asList(first, first.minusSeconds(1));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(dateTimes)
+        .hasNoGapsLongerThan(Duration.standardSeconds(5)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be sorted chronologically but element at index 1:%n" +
+                                        "  <1999-12-31T23:59:59.000Z>%n" +
+                                        "is before the previous one:%n" +
+                                        "  <2000-01-01T00:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_an_element_is_null() {
+    // GIVEN
+    List<DateTime> dateTimes = asList(first, null);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(dateTimes)
+        .hasNoGapsLongerThan(Duration.standardSeconds(5)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements not to be null but element at index 1 was."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<DateTime> dateTimes = null;
+    assertThatDateTimes(dateTimes).hasNoGapsLongerThan(Duration.standardSeconds(5));
+  }
+
+  @Test
+  public void should_throw_error_if_max_gap_is_null() {
+    expectIllegalArgumentException("The maximum gap duration should not be null");
+    assertThatDateTimes(actual).hasNoGapsLongerThan(null);
+  }
+
+  @Test
+  public void should_throw_error_if_max_gap_is_negative() {
+    expectIllegalArgumentException("The maximum gap duration should not be negative but was PT-0.001S");
+    assertThatDateTimes(actual).hasNoGapsLongerThan(Duration.millis(-1));
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetimeiterable;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class DateTimeIterableAssert_inParallel_Test extends JodaTimeBaseTest {
+
+  // large enough to be split in many ranges checked in parallel
+  private static final int SIZE = 200_000;
+
+  private final DateTime start = new DateTime(2000, 1, 1, 0, 0, UTC);
+  private final List<DateTime> dateTimes = new ArrayList<>(SIZE);
+
+  public DateTimeIterableAssert_inParallel_Test() {
+    for (int i = 0; i < SIZE; i++) {
+      dateTimes.add(start.plusSeconds(i));
+    }
+  }
+
+  @Test
+  public void should_pass_if_all_elements_pass_the_assertions() {
+    assertThatDateTimes(dateTimes).inParallel()
+                         .isStrictlyIncreasing()
+                         .isWithin(start, dateTimes.get(SIZE - 1))
+                         .allHaveYear(2000);
+  }
+
+  @Test
+  public void should_report_first_violating_element_whatever_the_range_checked_first() {
+    // GIVEN
+    dateTimes.set(SIZE - 1, start.minusDays(1));
+    dateTimes.set(100_000, null);
+    dateTimes.set(54_321, start.minusDays(2));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(dateTimes).inParallel()
+                                                                   .isWithin(start, start.plusYears(1)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements to be within:%n" +
+                                        "  [<2000-01-01T00:00:00.000Z>, <2001-01-01T00:00:00.000Z>]%n" +
+                                        "but element at index 54321:%n" +
+                                        "  <1999-12-30T00:00:00.000Z>%n" +
+                                        "was not."));
+  }
+
+  @Test
+  public void should_report_null_element_if_it_is_the_first_violation() {
+    // GIVEN
+    dateTimes.set(100_000, null);
+    dateTimes.set(150_000, start.minusDays(1));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(dateTimes).inParallel().isSorted());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements not to be null but element at index 100000 was."));
+  }
+
+  @Test
+  public void should_check_non_random_access_iterables_in_parallel() {
+    // GIVEN
+    List<DateTime> linkedDateTimes = new LinkedList<>(dateTimes);
+    linkedDateTimes.set(SIZE - 2, start.plusYears(2));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(linkedDateTimes).inParallel().isSorted());
+    // THEN
+    assertThat(error).hasMessageContaining(format("element at index %s:", SIZE - 1));
+  }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class DateTimeIterableAssert_isPairwiseCloseTo_Test extends JodaTimeBaseTest {
+
+  private final DateTime first = new DateTime(2000, 1, 1, 10, 0, 59, 999, UTC);
+  private final DateTime second = first.plusSeconds(1);
+  private final List<DateTime> actual = asList(first, second);
+
+  @Test
+  public void should_pass_if_all_elements_are_close_to_expected_ones() {
+    // GIVEN
+    DateTime secondInTokyo = second.minusMillis(2).withZone(DateTimeZone.forID("Asia/Tokyo"));
+    List<DateTime> expected = asList(first.plusMillis(1), secondInTokyo);
+    // THEN
+    assertThatDateTimes(actual).isPairwiseCloseTo(expected, 2)
+                      .isPairwiseCloseTo(expected, Duration.millis(2));
+  }
+
+  @Test
+  public void should_pass_in_parallel_if_all_elements_are_close_to_expected_ones() {
+    assertThatDateTimes(actual).inParallel().isPairwiseCloseTo(asList(first.plusMillis(1), second.minusMillis(2)), 2);
+  }
+
+  @Test
+  public void should_fail_reporting_first_element_not_close_to_expected_one() {
+    // GIVEN
+    List<DateTime> expected = asList(first.plusMillis(3), second.plusMillis(4));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual).isPairwiseCloseTo(expected, 2));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting element at index 0:%n" +
+                                        "  <2000-01-01T10:00:59.999Z>%n" +
+                                        "to be close to:%n" +
+                                        "  <2000-01-01T10:01:00.002Z>%n" +
+                                        "within 2ms but difference was 3ms."));
+  }
+
+  @Test
+  public void should_fail_if_actual_has_more_elements_than_expected() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual).isPairwiseCloseTo(asList(first), 2));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting actual and expected elements to have the same size " +
+                                        "but expected had no element at index 1."));
+  }
+
+  @Test
+  public void should_fail_if_actual_has_less_elements_than_expected() {
+    // GIVEN
+    List<DateTime> expected = asList(first, second, second);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual).inParallel().isPairwiseCloseTo(expected, 2));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting actual and expected elements to have the same size " +
+                                        "but actual had no element at index 2."));
+  }
+
+  @Test
+  public void should_fail_if_an_element_is_null() {
+    // GIVEN
+    List<DateTime> dateTimes = asList(first, null);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(dateTimes).isPairwiseCloseTo(actual, 2));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements not to be null but element at index 1 was."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<DateTime> dateTimes = null;
+    assertThatDateTimes(dateTimes).isPairwiseCloseTo(actual, 2);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_elements_are_null() {
+    expectIllegalArgumentException("The expected DateTimes should not be null");
+    assertThatDateTimes(actual).isPairwiseCloseTo(null, 2);
+  }
+
+  @Test
+  public void should_throw_error_if_an_expected_element_is_null() {
+    expectIllegalArgumentException("The expected DateTimes should not contain null elements " +
+                                   "but element at index 1 was null");
+    assertThatDateTimes(actual).isPairwiseCloseTo(asList(first, null), 2);
+  }
+
+  @Test
+  public void should_throw_error_if_tolerance_is_negative() {
+    expectIllegalArgumentException("The tolerance should not be negative but was -1ms");
+    assertThatDateTimes(actual).isPairwiseCloseTo(actual, -1);
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+public class DateTimeIterableAssert_isSorted_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 1, 0, 0, UTC);
+
+  @Test
+  public void should_pass_if_actual_is_sorted() {
+    assertThatDateTimes(asList(refDatetime, refDatetime, refDatetime.plusHours(1))).isSorted();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_sorted_with_elements_in_different_timezones() {
+    // 2000-01-01T00:30+01:00 is 1999-12-31T23:30Z
+    DateTime inParis = new DateTime(2000, 1, 1, 0, 30, DateTimeZone.forID("Europe/Paris"));
+    assertThatDateTimes(new DateTime[] { inParis, refDatetime }).isSorted();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    List<DateTime> dateTimes = emptyList();
+    assertThatDateTimes(dateTimes).isSorted();
+  }
+
+  @Test
+  public void should_fail_reporting_first_element_out_of_order() {
+    // GIVEN
+    List<DateTime> dateTimes = asList(refDatetime, refDatetime.plusDays(2), refDatetime.plusDays(1),
+                                      refDatetime.minusDays(1));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(dateTimes).isSorted());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be sorted chronologically but element at index 2:%n" +
+                                        "  <2000-01-02T00:00:00.000Z>%n" +
+                                        "is before the previous one:%n" +
+                                        "  <2000-01-03T00:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_null() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(new DateTime[] { refDatetime, null }).isSorted());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements not to be null but element at index 1 was."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<DateTime> dateTimes = null;
+    assertThatDateTimes(dateTimes).isSorted();
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+public class DateTimeIterableAssert_isStrictlyIncreasing_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 1, 0, 0, UTC);
+
+  @Test
+  public void should_pass_if_actual_is_strictly_increasing() {
+    assertThatDateTimes(asList(refDatetime, refDatetime.plusMillis(1), refDatetime.plusHours(1)))
+        .isStrictlyIncreasing();
+  }
+
+  @Test
+  public void should_fail_if_two_elements_are_the_same_instant_in_different_timezones() {
+    // GIVEN
+    DateTime sameInstantInParis = refDatetime.withZone(DateTimeZone.forID("Europe/Paris"));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(asList(refDatetime, sameInstantInParis))
+        .isStrictlyIncreasing());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be strictly increasing but element at index 1:%n" +
+                                        "  <2000-01-01T01:00:00.000+01:00>%n" +
+                                        "is not strictly after the previous one:%n" +
+                                        "  <2000-01-01T00:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<DateTime> dateTimes = null;
+    assertThatDateTimes(dateTimes).isStrictlyIncreasing();
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class DateTimeIterableAssert_isWithin_Test extends JodaTimeBaseTest {
+
+  private final DateTime start = new DateTime(2000, 1, 1, 0, 0, UTC);
+  private final DateTime end = new DateTime(2000, 1, 2, 0, 0, UTC);
+
+  @Test
+  public void should_pass_if_all_elements_are_within_range_bounds_included() {
+    assertThatDateTimes(asList(end, start, start.plusHours(12))).isWithin(start, end);
+  }
+
+  @Test
+  public void should_fail_reporting_first_element_out_of_range() {
+    // GIVEN
+    List<DateTime> dateTimes = asList(start, end.plusMillis(1), start.minusDays(1));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(dateTimes).isWithin(start, end));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements to be within:%n" +
+                                        "  [<2000-01-01T00:00:00.000Z>, <2000-01-02T00:00:00.000Z>]%n" +
+                                        "but element at index 1:%n" +
+                                        "  <2000-01-02T00:00:00.001Z>%n" +
+                                        "was not."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<DateTime> dateTimes = null;
+    assertThatDateTimes(dateTimes).isWithin(start, end);
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_null() {
+    expectIllegalArgumentException("The start of the range should not be null");
+    assertThatDateTimes(asList(start)).isWithin(null, end);
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_null() {
+    expectIllegalArgumentException("The end of the range should not be null");
+    assertThatDateTimes(asList(start)).isWithin(start, null);
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_after_end() {
+    expectIllegalArgumentException("The start of the range should not be after its end");
+    assertThatDateTimes(asList(start)).isWithin(end, start);
+  }
+
+}
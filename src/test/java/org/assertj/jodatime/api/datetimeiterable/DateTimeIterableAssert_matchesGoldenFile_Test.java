@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DateTimeIterableAssert_matchesGoldenFile_Test extends JodaTimeBaseTest {
+
+  private static final String UPDATE_GOLDEN_FILES = "assertj.jodatime.updateGoldenFiles";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 1, 0, 0, UTC);
+  private Path goldenFile;
+
+  @Before
+  public void writeGoldenFile() throws IOException {
+    goldenFile = folder.getRoot().toPath().resolve("series.golden");
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(goldenFile))) {
+      out.writeLong(refDatetime.getMillis());
+      out.writeLong(refDatetime.plusSeconds(1).getMillis());
+      out.writeLong(refDatetime.plusSeconds(2).getMillis());
+    }
+  }
+
+  @After
+  public void clearUpdateProperty() {
+    System.clearProperty(UPDATE_GOLDEN_FILES);
+  }
+
+  @Test
+  public void should_pass_if_actual_has_same_instants_as_golden_file_whatever_their_time_zone() {
+    DateTime refDatetimeInParis = refDatetime.withZone(DateTimeZone.forID("Europe/Paris"));
+    assertThatDateTimes(asList(refDatetimeInParis, refDatetime.plusSeconds(1), refDatetime.plusSeconds(2)))
+      .matchesGoldenFile(goldenFile);
+  }
+
+  @Test
+  public void should_rewrite_golden_file_if_update_is_requested() throws IOException {
+    // GIVEN
+    System.setProperty(UPDATE_GOLDEN_FILES, "true");
+    List<DateTime> actual = asList(refDatetime.plusMinutes(1), refDatetime.plusMinutes(2));
+    // WHEN
+    assertThatDateTimes(actual).matchesGoldenFile(goldenFile);
+    // THEN
+    assertThat(Files.size(goldenFile)).isEqualTo(16);
+    try (DataInputStream in = new DataInputStream(Files.newInputStream(goldenFile))) {
+      assertThat(in.readLong()).isEqualTo(refDatetime.plusMinutes(1).getMillis());
+      assertThat(in.readLong()).isEqualTo(refDatetime.plusMinutes(2).getMillis());
+    }
+  }
+
+  @Test
+  public void should_not_rewrite_golden_file_if_an_element_is_null() throws IOException {
+    // GIVEN
+    System.setProperty(UPDATE_GOLDEN_FILES, "true");
+    List<DateTime> actual = asList(refDatetime, null);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual).matchesGoldenFile(goldenFile));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements not to be null but element at index 1 was."));
+    assertThat(Files.size(goldenFile)).isEqualTo(24);
+  }
+
+  @Test
+  public void should_fail_reporting_golden_element_in_element_time_zone() {
+    // GIVEN
+    DateTime shiftedInParis = refDatetime.plusSeconds(1).plusMillis(1).withZone(DateTimeZone.forID("Europe/Paris"));
+    List<DateTime> actual = asList(refDatetime, shiftedInParis, refDatetime.plusSeconds(2));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual).matchesGoldenFile(goldenFile));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting element at index 1:%n" +
+                                        "  <2000-01-01T01:00:01.001+01:00>%n" +
+                                        "to be equal to the one of golden file:%n" +
+                                        "  <" + goldenFile + ">%n" +
+                                        "which is:%n" +
+                                        "  <2000-01-01T01:00:01.000+01:00>%n" +
+                                        "Run with -Dassertj.jodatime.updateGoldenFiles=true to rewrite the golden " +
+                                        "file if this change is expected."));
+  }
+
+  @Test
+  public void should_fail_if_actual_has_more_elements_than_golden_file() {
+    // GIVEN
+    List<DateTime> actual = asList(refDatetime, refDatetime.plusSeconds(1), refDatetime.plusSeconds(2),
+                                   refDatetime.plusSeconds(3));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual).matchesGoldenFile(goldenFile));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting 3 elements as in golden file:%n" +
+                                        "  <" + goldenFile + ">%n" +
+                                        "but actual had 4 elements.%n" +
+                                        "Run with -Dassertj.jodatime.updateGoldenFiles=true to rewrite the golden " +
+                                        "file if this change is expected."));
+  }
+
+  @Test
+  public void should_fail_if_an_element_is_null() {
+    // GIVEN
+    List<DateTime> actual = asList(refDatetime, null);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual).matchesGoldenFile(goldenFile));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements not to be null but element at index 1 was."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<DateTime> actual = null;
+    assertThatDateTimes(actual).matchesGoldenFile(goldenFile);
+  }
+
+  @Test
+  public void should_throw_error_if_golden_file_is_null() {
+    expectIllegalArgumentException("The golden file should not be null");
+    assertThatDateTimes(asList(refDatetime)).matchesGoldenFile(null);
+  }
+
+}
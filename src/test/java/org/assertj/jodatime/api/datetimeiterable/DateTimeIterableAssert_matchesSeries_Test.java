@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.datetimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimes;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class DateTimeIterableAssert_matchesSeries_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 1, 0, 0, UTC);
+  private final List<DateTime> expected = asList(refDatetime, refDatetime.plusSeconds(1), refDatetime.plusSeconds(2));
+
+  @Test
+  public void should_pass_if_actual_has_same_instants_as_expected_whatever_their_time_zone() {
+    DateTime refDatetimeInParis = refDatetime.withZone(DateTimeZone.forID("Europe/Paris"));
+    List<DateTime> actual = asList(refDatetimeInParis, refDatetime.plusSeconds(1), refDatetime.plusSeconds(2));
+    assertThatDateTimes(actual).matchesSeries(expected);
+  }
+
+  @Test
+  public void should_pass_if_all_elements_match_within_tolerance() {
+    List<DateTime> actual = asList(refDatetime.plusMillis(5), refDatetime.plusMillis(995), refDatetime.plusSeconds(2));
+    assertThatDateTimes(actual).matchesSeries(expected, 5)
+                      .matchesSeries(expected, Duration.millis(5));
+  }
+
+  @Test
+  public void should_fail_reporting_missing_and_extra_elements() {
+    // GIVEN
+    List<DateTime> actual = asList(refDatetime, refDatetime.plusMillis(1_500), refDatetime.plusSeconds(2));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual).matchesSeries(expected));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting actual series to match expected series within 0ms but found " +
+                                        "1 missing, 1 extra and 0 shifted elements.%n" +
+                                        "Missing elements (expected index: element):%n" +
+                                        "  1: <2000-01-01T00:00:01.000Z>%n" +
+                                        "Extra elements (actual index: element):%n" +
+                                        "  1: <2000-01-01T00:00:01.500Z>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_sorted() {
+    // GIVEN
+    List<DateTime> actual = asList(refDatetime.plusSeconds(1), refDatetime);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimes(actual).matchesSeries(expected));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be sorted chronologically but element at index 1:%n" +
+                                        "  <2000-01-01T00:00:00.000Z>%n" +
+                                        "is before the previous one:%n" +
+                                        "  <2000-01-01T00:00:01.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<DateTime> dateTimes = null;
+    assertThatDateTimes(dateTimes).matchesSeries(expected);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    expectIllegalArgumentException("The expected DateTimes should not be null");
+    assertThatDateTimes(expected).matchesSeries(null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_contains_null() {
+    expectIllegalArgumentException("The expected DateTimes should not contain null elements " +
+                                   "but element at index 1 was null");
+    assertThatDateTimes(expected).matchesSeries(asList(refDatetime, null));
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_not_sorted() {
+    expectIllegalArgumentException("The expected series should be sorted " +
+                                   "but element at index 1 was before the previous one");
+    assertThatDateTimes(expected).matchesSeries(asList(refDatetime.plusSeconds(1), refDatetime));
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.duration;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.DurationAssert.NULL_DURATION_PARAMETER_MESSAGE;
+import static org.joda.time.Duration.millis;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class DurationAssert_isShorterThan_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_actual_is_shorter_than_given_duration() {
+    assertThat(millis(150)).isShorterThan(millis(200));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_shorter_than_given_duration() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(millis(250)).isShorterThan(millis(200)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <PT0.250S>%n" +
+                                        "to be strictly shorter than:%n" +
+                                        "  <PT0.200S>"));
+  }
+
+  @Test
+  public void should_throw_error_if_given_duration_is_null() {
+    expectIllegalArgumentException(NULL_DURATION_PARAMETER_MESSAGE);
+    assertThat(millis(150)).isShorterThan(null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    Duration actual = null;
+    assertThat(actual).isShorterThan(millis(200));
+  }
+
+}
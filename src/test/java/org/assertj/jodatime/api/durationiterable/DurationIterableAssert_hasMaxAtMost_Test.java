@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.durationiterable;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThatDurations;
+import static org.joda.time.Duration.millis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class DurationIterableAssert_hasMaxAtMost_Test extends JodaTimeBaseTest {
+
+  // 1ms to 1000ms
+  private final List<Duration> latencies = new ArrayList<>();
+  {
+    for (int i = 1; i <= 1000; i++) {
+      latencies.add(millis(i));
+    }
+  }
+
+  @Test
+  public void should_pass_if_longest_duration_is_at_most_given_duration() {
+    assertThatDurations(latencies).hasMaxAtMost(millis(1000));
+  }
+
+  @Test
+  public void should_fail_if_longest_duration_is_longer_than_given_duration() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDurations(latencies).hasMaxAtMost(millis(999)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting max of 1000 durations:%n" +
+                                        "  <PT1S>%n" +
+                                        "to be at most:%n" +
+                                        "  <PT0.999S>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_empty() {
+    // GIVEN
+    List<Duration> durations = emptyList();
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDurations(durations).hasMaxAtMost(millis(1)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting actual not to be empty"));
+  }
+
+  @Test
+  public void should_throw_error_if_given_duration_is_null() {
+    expectIllegalArgumentException("The maximum duration should not be null");
+    assertThatDurations(latencies).hasMaxAtMost(null);
+  }
+
+}
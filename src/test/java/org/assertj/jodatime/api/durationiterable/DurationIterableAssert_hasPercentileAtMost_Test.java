@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.durationiterable;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDurations;
+import static org.joda.time.Duration.millis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class DurationIterableAssert_hasPercentileAtMost_Test extends JodaTimeBaseTest {
+
+  // 1ms to 1000ms in random order
+  private final List<Duration> latencies = new ArrayList<>();
+  {
+    for (int i = 1; i <= 1000; i++) {
+      latencies.add(millis(i));
+    }
+    Collections.shuffle(latencies, new Random(42));
+  }
+
+  @Test
+  public void should_pass_if_percentile_is_at_most_given_duration() {
+    assertThatDurations(latencies).hasPercentileAtMost(50, millis(500))
+                                  .hasPercentileAtMost(99, millis(990))
+                                  .hasPercentileAtMost(99.9, millis(999))
+                                  .hasPercentileAtMost(100, millis(1000));
+  }
+
+  @Test
+  public void should_fail_reporting_actual_percentile() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDurations(latencies).hasPercentileAtMost(99.9, millis(998)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting p99.9 of 1000 durations:%n" +
+                                        "  <PT0.999S>%n" +
+                                        "to be at most:%n" +
+                                        "  <PT0.998S>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_null() {
+    // GIVEN
+    Duration[] durations = { millis(1), null };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDurations(durations).hasPercentileAtMost(99, millis(1)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements not to be null but element at index 1 was."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_empty() {
+    // GIVEN
+    List<Duration> durations = emptyList();
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDurations(durations).hasPercentileAtMost(99, millis(1)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting actual not to be empty"));
+  }
+
+  @Test
+  public void should_throw_error_if_percentile_is_zero() {
+    expectIllegalArgumentException("The percentile should be in ]0, 100] but was 0.0");
+    assertThatDurations(latencies).hasPercentileAtMost(0, millis(1));
+  }
+
+  @Test
+  public void should_throw_error_if_percentile_is_greater_than_100() {
+    expectIllegalArgumentException("The percentile should be in ]0, 100] but was 100.5");
+    assertThatDurations(latencies).hasPercentileAtMost(100.5, millis(1));
+  }
+
+  @Test
+  public void should_throw_error_if_given_duration_is_null() {
+    expectIllegalArgumentException("The maximum duration should not be null");
+    assertThatDurations(latencies).hasPercentileAtMost(99, null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<Duration> durations = null;
+    assertThatDurations(durations).hasPercentileAtMost(99, millis(1));
+  }
+
+}
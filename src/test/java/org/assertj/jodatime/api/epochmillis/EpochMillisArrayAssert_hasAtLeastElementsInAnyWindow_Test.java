@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.epochmillis;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatEpochMillis;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class EpochMillisArrayAssert_hasAtLeastElementsInAnyWindow_Test extends JodaTimeBaseTest {
+
+  private final long[] actual = { 0L, 400L, 800L, 2_000L };
+  private final Duration oneSecond = Duration.standardSeconds(1);
+
+  @Test
+  public void should_pass_if_every_window_contains_at_least_min_count_elements() {
+    assertThatEpochMillis(actual).hasAtLeastElementsInAnyWindow(1, Duration.standardSeconds(2));
+  }
+
+  @Test
+  public void should_fail_reporting_earliest_window_containing_less_than_min_count_elements() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(actual).hasAtLeastElementsInAnyWindow(1, oneSecond));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting at least 1 elements in any window of:%n" +
+                                        "  <PT1S>%n" +
+                                        "between the first and the last elements but window:%n" +
+                                        "  <1970-01-01T00:00:00.801Z/1970-01-01T00:00:01.801Z>%n" +
+                                        "contained 0 elements."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    long[] epochMillis = null;
+    assertThatEpochMillis(epochMillis).hasAtLeastElementsInAnyWindow(1, oneSecond);
+  }
+
+  @Test
+  public void should_throw_error_if_window_is_not_strictly_positive() {
+    expectIllegalArgumentException("The window duration should be strictly positive but was PT0S");
+    assertThatEpochMillis(actual).hasAtLeastElementsInAnyWindow(1, Duration.ZERO);
+  }
+
+}
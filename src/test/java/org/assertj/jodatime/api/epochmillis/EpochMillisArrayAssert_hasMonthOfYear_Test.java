@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.epochmillis;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatEpochMillis;
+import static org.joda.time.DateTimeZone.UTC;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+public class EpochMillisArrayAssert_hasMonthOfYear_Test extends JodaTimeBaseTest {
+
+  // 1970-01-01T00:00:00Z and 1970-01-01T05:00:00Z
+  private final long[] epochMillis = { 0L, 5 * 3_600_000L };
+
+  @Test
+  public void should_pass_if_all_elements_have_given_monthOfYear_in_given_timezone() {
+    assertThatEpochMillis(epochMillis).hasMonthOfYear(1, UTC);
+  }
+
+  @Test
+  public void should_fail_reporting_first_element_with_another_monthOfYear_in_given_timezone() {
+    // GIVEN
+    DateTimeZone newYork = DateTimeZone.forID("America/New_York");
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(epochMillis).hasMonthOfYear(1, newYork));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements to have monthOfYear:%n" +
+                                        "  <1>%n" +
+                                        "but element at index 0:%n" +
+                                        "  <1969-12-31T19:00:00.000-05:00>%n" +
+                                        "had:%n" +
+                                        "  <12>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    long[] actual = null;
+    assertThatEpochMillis(actual).hasMonthOfYear(1, UTC);
+  }
+
+  @Test
+  public void should_throw_error_if_given_timezone_is_null() {
+    expectIllegalArgumentException("The DateTimeZone to get fields in should not be null");
+    assertThatEpochMillis(epochMillis).hasMonthOfYear(1, null);
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.epochmillis;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatEpochMillis;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class EpochMillisArrayAssert_hasNoGapsLongerThan_Test extends JodaTimeBaseTest {
+
+  private final long[] actual = { 0L, 400L, 800L, 2_000L };
+
+  @Test
+  public void should_pass_if_no_consecutive_elements_are_further_apart_than_max_gap() {
+    assertThatEpochMillis(actual).hasNoGapsLongerThan(Duration.millis(1_200))
+                                 .inParallel()
+                                 .hasNoGapsLongerThan(Duration.millis(1_200));
+  }
+
+  @Test
+  public void should_fail_reporting_first_gap_longer_than_max_gap() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(actual).hasNoGapsLongerThan(Duration.millis(1_199)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting no gap longer than:%n" +
+                                        "  <PT1.199S>%n" +
+                                        "between consecutive elements but elements at index 2 and 3:%n" +
+                                        "  <1970-01-01T00:00:00.800Z>%n" +
+                                        "  <1970-01-01T00:00:02.000Z>%n" +
+                                        "are apart by:%n" +
+                                        "  <PT1.200S>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_sorted() {
+    // GIVEN
+    long[] epochMillis = { 1L, 0L };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(epochMillis).hasNoGapsLongerThan(Duration.ZERO));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be sorted chronologically but element at index 1:%n" +
+                                        "  <1970-01-01T00:00:00.000Z>%n" +
+                                        "is before the previous one:%n" +
+                                        "  <1970-01-01T00:00:00.001Z>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    long[] epochMillis = null;
+    assertThatEpochMillis(epochMillis).hasNoGapsLongerThan(Duration.ZERO);
+  }
+
+  @Test
+  public void should_throw_error_if_max_gap_is_negative() {
+    expectIllegalArgumentException("The maximum gap duration should not be negative but was PT-0.001S");
+    assertThatEpochMillis(actual).hasNoGapsLongerThan(Duration.millis(-1));
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.epochmillis;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThatEpochMillis;
+import static org.joda.time.DateTimeZone.UTC;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class EpochMillisArrayAssert_inParallel_Test extends JodaTimeBaseTest {
+
+  // large enough to be split in many ranges checked in parallel
+  private static final int SIZE = 500_000;
+
+  private final long[] epochMillis = new long[SIZE];
+
+  public EpochMillisArrayAssert_inParallel_Test() {
+    for (int i = 0; i < SIZE; i++) {
+      epochMillis[i] = i * 1000L;
+    }
+  }
+
+  @Test
+  public void should_pass_if_all_elements_pass_the_assertions() {
+    assertThatEpochMillis(epochMillis).inParallel()
+                                      .isStrictlyIncreasing()
+                                      .isWithin(new DateTime(0L, UTC), new DateTime((SIZE - 1) * 1000L, UTC))
+                                      .hasYear(1970, UTC);
+  }
+
+  @Test
+  public void should_report_first_violating_element_whatever_the_range_checked_first() {
+    // GIVEN
+    epochMillis[SIZE - 10] = -1L;
+    epochMillis[300_000] = -2L;
+    epochMillis[123_456] = -3L;
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(epochMillis).inParallel().isSorted());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be sorted chronologically but element at index 123456:%n" +
+                                        "  <1969-12-31T23:59:59.997Z>%n" +
+                                        "is before the previous one:%n" +
+                                        "  <1970-01-02T10:17:35.000Z>"));
+  }
+
+  @Test
+  public void should_check_small_arrays_sequentially() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(new long[] { 1L, 0L }).inParallel().isSorted());
+    // THEN
+    assertThat(error).hasMessageContaining("element at index 1");
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.epochmillis;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatEpochMillis;
+import static org.assertj.jodatime.api.DateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+import static org.joda.time.DateTimeZone.UTC;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class EpochMillisArrayAssert_isBefore_Test extends JodaTimeBaseTest {
+
+  // 1970-01-01T00:00:00Z, 1970-01-01T00:00:01Z, 1970-01-01T00:01:00Z
+  private final long[] epochMillis = { 0L, 1_000L, 60_000L };
+
+  @Test
+  public void should_pass_if_all_elements_are_before_given_datetime() {
+    assertThatEpochMillis(epochMillis).isBefore(new DateTime(60_001L, UTC));
+  }
+
+  @Test
+  public void should_fail_reporting_first_violating_element() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(epochMillis).isBefore(new DateTime(1_000L, UTC)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements to be strictly before:%n" +
+                                        "  <1970-01-01T00:00:01.000Z>%n" +
+                                        "but element at index 1:%n" +
+                                        "  <1970-01-01T00:00:01.000Z>%n" +
+                                        "was not."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    long[] actual = null;
+    assertThatEpochMillis(actual).isBefore(new DateTime(60_001L, UTC));
+  }
+
+  @Test
+  public void should_throw_error_if_given_datetime_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThatEpochMillis(epochMillis).isBefore(null);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.epochmillis;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatEpochMillis;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.junit.Test;
+
+public class EpochMillisArrayAssert_isSorted_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_actual_is_sorted() {
+    assertThatEpochMillis(new long[] { 0L, 0L, 1_000L }).isSorted();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    assertThatEpochMillis(new long[0]).isSorted();
+  }
+
+  @Test
+  public void should_fail_reporting_first_element_out_of_order() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(new long[] { 0L, 2_000L, 1_000L, -1L }).isSorted());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be sorted chronologically but element at index 2:%n" +
+                                        "  <1970-01-01T00:00:01.000Z>%n" +
+                                        "is before the previous one:%n" +
+                                        "  <1970-01-01T00:00:02.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    long[] actual = null;
+    assertThatEpochMillis(actual).isSorted();
+  }
+
+}
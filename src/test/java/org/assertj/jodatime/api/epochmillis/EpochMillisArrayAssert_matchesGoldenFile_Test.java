@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.epochmillis;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatEpochMillis;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EpochMillisArrayAssert_matchesGoldenFile_Test extends JodaTimeBaseTest {
+
+  private static final String UPDATE_GOLDEN_FILES = "assertj.jodatime.updateGoldenFiles";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path goldenFile;
+
+  @Before
+  public void writeGoldenFile() throws IOException {
+    goldenFile = folder.getRoot().toPath().resolve("series.golden");
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(goldenFile))) {
+      out.writeLong(0L);
+      out.writeLong(1_000L);
+      out.writeLong(2_000L);
+    }
+  }
+
+  @After
+  public void clearUpdateProperty() {
+    System.clearProperty(UPDATE_GOLDEN_FILES);
+  }
+
+  @Test
+  public void should_pass_if_actual_has_same_elements_as_golden_file() {
+    assertThatEpochMillis(new long[] { 0L, 1_000L, 2_000L }).matchesGoldenFile(goldenFile);
+  }
+
+  @Test
+  public void should_rewrite_golden_file_if_update_is_requested() throws IOException {
+    // GIVEN
+    System.setProperty(UPDATE_GOLDEN_FILES, "true");
+    Path newGoldenFile = folder.getRoot().toPath().resolve("new/series.golden");
+    // WHEN
+    assertThatEpochMillis(new long[] { 5L, 7L }).matchesGoldenFile(goldenFile)
+                                              .matchesGoldenFile(newGoldenFile);
+    // THEN
+    for (Path path : new Path[] { goldenFile, newGoldenFile }) {
+      assertThat(Files.size(path)).isEqualTo(16);
+      try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+        assertThat(in.readLong()).isEqualTo(5L);
+        assertThat(in.readLong()).isEqualTo(7L);
+      }
+    }
+  }
+
+  @Test
+  public void should_fail_if_an_element_is_not_equal_to_the_golden_file_one() {
+    // GIVEN
+    long[] epochMillis = { 0L, 1_001L, 2_000L };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(epochMillis).matchesGoldenFile(goldenFile));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting element at index 1:%n" +
+                                        "  <1970-01-01T00:00:01.001Z>%n" +
+                                        "to be equal to the one of golden file:%n" +
+                                        "  <" + goldenFile + ">%n" +
+                                        "which is:%n" +
+                                        "  <1970-01-01T00:00:01.000Z>%n" +
+                                        "Run with -Dassertj.jodatime.updateGoldenFiles=true to rewrite the golden " +
+                                        "file if this change is expected."));
+  }
+
+  @Test
+  public void should_fail_if_actual_and_golden_file_sizes_differ() {
+    // GIVEN
+    long[] epochMillis = { 0L, 1_000L };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(epochMillis).matchesGoldenFile(goldenFile));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting 3 elements as in golden file:%n" +
+                                        "  <" + goldenFile + ">%n" +
+                                        "but actual had 2 elements.%n" +
+                                        "Run with -Dassertj.jodatime.updateGoldenFiles=true to rewrite the golden " +
+                                        "file if this change is expected."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    long[] epochMillis = null;
+    assertThatEpochMillis(epochMillis).matchesGoldenFile(goldenFile);
+  }
+
+  @Test
+  public void should_throw_error_if_golden_file_is_null() {
+    expectIllegalArgumentException("The golden file should not be null");
+    assertThatEpochMillis(new long[] { 0L }).matchesGoldenFile(null);
+  }
+
+  @Test
+  public void should_throw_error_if_golden_file_does_not_exist() {
+    Path missingGoldenFile = folder.getRoot().toPath().resolve("missing.golden");
+    expectIllegalArgumentException("The golden file " + missingGoldenFile + " does not exist, " +
+                                   "run with -Dassertj.jodatime.updateGoldenFiles=true to create it");
+    assertThatEpochMillis(new long[] { 0L }).matchesGoldenFile(missingGoldenFile);
+  }
+
+  @Test
+  public void should_throw_error_if_golden_file_size_is_not_a_multiple_of_8() throws IOException {
+    Path truncatedGoldenFile = Files.write(folder.getRoot().toPath().resolve("truncated.golden"), new byte[5]);
+    expectIllegalArgumentException("The golden file " + truncatedGoldenFile + " should only contain 8 bytes longs " +
+                                   "but its size 5 is not a multiple of 8");
+    assertThatEpochMillis(new long[] { 0L }).matchesGoldenFile(truncatedGoldenFile);
+  }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.epochmillis;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatEpochMillis;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class EpochMillisArrayAssert_matchesSeries_Test extends JodaTimeBaseTest {
+
+  private final long[] expected = { 0L, 1_000L, 2_000L, 3_000L };
+
+  @Test
+  public void should_pass_if_actual_has_same_elements_as_expected() {
+    assertThatEpochMillis(new long[] { 0L, 1_000L, 2_000L, 3_000L }).matchesSeries(expected);
+    assertThatEpochMillis(new long[0]).matchesSeries(new long[0]);
+  }
+
+  @Test
+  public void should_pass_if_all_elements_match_within_tolerance() {
+    assertThatEpochMillis(new long[] { 0L, 1_005L, 1_995L, 3_000L }).matchesSeries(expected, 5)
+                                                                    .matchesSeries(expected, Duration.millis(5));
+  }
+
+  @Test
+  public void should_fail_reporting_missing_extra_and_shifted_elements() {
+    // GIVEN
+    long[] actual = { 0L, 1_003L, 2_500L };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(actual).matchesSeries(expected, 5));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting actual series to match expected series within 5ms but found " +
+                                        "2 missing, 1 extra and 1 shifted elements.%n" +
+                                        "Missing elements (expected index: element):%n" +
+                                        "  2: <1970-01-01T00:00:02.000Z>%n" +
+                                        "  3: <1970-01-01T00:00:03.000Z>%n" +
+                                        "Extra elements (actual index: element):%n" +
+                                        "  2: <1970-01-01T00:00:02.500Z>%n" +
+                                        "Shifted elements (actual index: element instead of expected element):%n" +
+                                        "  1: <1970-01-01T00:00:01.003Z> instead of <1970-01-01T00:00:01.000Z>"));
+  }
+
+  @Test
+  public void should_fail_reporting_only_first_samples() {
+    // GIVEN
+    long[] longerExpected = { 0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(new long[] { 0L }).matchesSeries(longerExpected));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting actual series to match expected series within 0ms but found " +
+                                        "7 missing, 0 extra and 0 shifted elements.%n" +
+                                        "Missing elements (expected index: element):%n" +
+                                        "  1: <1970-01-01T00:00:00.001Z>%n" +
+                                        "  2: <1970-01-01T00:00:00.002Z>%n" +
+                                        "  3: <1970-01-01T00:00:00.003Z>%n" +
+                                        "  4: <1970-01-01T00:00:00.004Z>%n" +
+                                        "  5: <1970-01-01T00:00:00.005Z>%n" +
+                                        "  ... (2 more)"));
+  }
+
+  @Test
+  public void should_fail_reporting_extra_element_preceding_an_exact_match_rather_than_a_shift() {
+    // GIVEN
+    long[] epochMillis = { 0L, 10L };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(epochMillis).matchesSeries(new long[] { 10L }, 10));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting actual series to match expected series within 10ms but found " +
+                                        "0 missing, 1 extra and 0 shifted elements.%n" +
+                                        "Extra elements (actual index: element):%n" +
+                                        "  0: <1970-01-01T00:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_fail_reporting_missing_element_preceding_an_exact_match_rather_than_a_shift() {
+    // GIVEN
+    long[] epochMillis = { 10L };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(epochMillis).matchesSeries(new long[] { 0L, 10L },
+                                                                                             10));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting actual series to match expected series within 10ms but found " +
+                                        "1 missing, 0 extra and 0 shifted elements.%n" +
+                                        "Missing elements (expected index: element):%n" +
+                                        "  0: <1970-01-01T00:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_pass_if_pairing_closer_elements_would_leave_elements_unmatched() {
+    // 4 is closer to 5 than 0 but pairing them would leave 0 and 9 unmatched
+    assertThatEpochMillis(new long[] { 0L, 4L }).matchesSeries(new long[] { 5L, 9L }, 5);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_sorted() {
+    // GIVEN
+    long[] epochMillis = { 1L, 0L };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEpochMillis(epochMillis).matchesSeries(new long[] { 0L, 1L }));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be sorted chronologically but element at index 1:%n" +
+                                        "  <1970-01-01T00:00:00.000Z>%n" +
+                                        "is before the previous one:%n" +
+                                        "  <1970-01-01T00:00:00.001Z>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    long[] epochMillis = null;
+    assertThatEpochMillis(epochMillis).matchesSeries(expected);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    expectIllegalArgumentException("The expected epoch millis should not be null");
+    assertThatEpochMillis(expected).matchesSeries(null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_not_sorted() {
+    expectIllegalArgumentException("The expected series should be sorted " +
+                                   "but element at index 1 was before the previous one");
+    assertThatEpochMillis(expected).matchesSeries(new long[] { 1_000L, 0L });
+  }
+
+  @Test
+  public void should_throw_error_if_tolerance_is_negative() {
+    expectIllegalArgumentException("The tolerance should not be negative but was -1ms");
+    assertThatEpochMillis(expected).matchesSeries(expected, -1);
+  }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.eventual;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatEventually;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.Duration;
+import org.junit.After;
+import org.junit.Test;
+
+public class EventualDateTimeAssert_eventuallySatisfies_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 1, 0, 0, UTC);
+  private final AtomicInteger polls = new AtomicInteger();
+
+  @After
+  public void clearInterruptStatus() {
+    Thread.interrupted();
+  }
+
+  @Test
+  public void should_pass_once_polled_value_satisfies_requirements() {
+    // GIVEN
+    Supplier<DateTime> lastUpdated = () -> polls.incrementAndGet() < 3 ? refDatetime : refDatetime.plusYears(1);
+    // WHEN
+    assertThatEventually(lastUpdated).within(Duration.standardSeconds(10))
+                                     .eventuallySatisfies(dateTime -> dateTime.hasYear(2001));
+    // THEN
+    assertThat(polls.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void should_pass_if_polled_value_is_null_before_satisfying_requirements() {
+    Supplier<DateTime> lastUpdated = () -> polls.incrementAndGet() < 2 ? null : refDatetime;
+    assertThatEventually(lastUpdated).eventuallySatisfies(dateTime -> dateTime.hasYear(2000));
+  }
+
+  @Test
+  public void should_fail_reporting_last_attempt_failure_if_timeout_elapses() {
+    // GIVEN
+    Supplier<DateTime> lastUpdated = () -> {
+      polls.incrementAndGet();
+      return refDatetime;
+    };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEventually(lastUpdated)
+      .within(Duration.millis(50))
+      .withPollDelays(Duration.millis(10), Duration.millis(20))
+      .eventuallySatisfies(dateTime -> dateTime.hasYear(2001)));
+    // THEN
+    // the exact number of attempts depends on the scheduling of the test thread
+    assertThat(polls.get()).isGreaterThan(1);
+    assertThat(error).hasMessageStartingWith(format("%nExpecting the polled value to satisfy the requirements within " +
+                                                    "PT0.050S but it did not after " + polls.get() + " attempts"))
+                     .hasMessageEndingWith(format("the last attempt failed with:%n" +
+                                                  "Expecting:%n" +
+                                                  "  <2000-01-01T00:00:00.000Z>%n" +
+                                                  "year to be:%n" +
+                                                  "  <2001>%n" +
+                                                  "but was:%n" +
+                                                  "  <2000>"));
+  }
+
+  @Test
+  public void should_describe_polled_value_assertions_with_the_eventual_assertion_description() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEventually(() -> refDatetime)
+      .as("last update")
+      .within(Duration.ZERO)
+      .eventuallySatisfies(dateTime -> dateTime.hasYear(2001)));
+    // THEN
+    assertThat(error).hasMessageEndingWith(format("the last attempt failed with:%n" +
+                                                  "[last update] %n" +
+                                                  "Expecting:%n" +
+                                                  "  <2000-01-01T00:00:00.000Z>%n" +
+                                                  "year to be:%n" +
+                                                  "  <2001>%n" +
+                                                  "but was:%n" +
+                                                  "  <2000>"));
+  }
+
+  @Test
+  public void should_render_last_attempt_failure_only_when_the_error_message_is_rendered() {
+    // GIVEN
+    AtomicInteger lastFailureRenderings = new AtomicInteger();
+    AssertionError lastFailure = new AssertionError() {
+      @Override
+      public String getMessage() {
+        lastFailureRenderings.incrementAndGet();
+        return "boom";
+      }
+    };
+    Throwable error = catchThrowable(() -> assertThatEventually(() -> refDatetime)
+      .within(Duration.ZERO)
+      .eventuallySatisfies(dateTime -> {
+        throw lastFailure;
+      }));
+    assertThat(lastFailureRenderings.get()).isEqualTo(0);
+    // WHEN
+    String message = error.getMessage();
+    // THEN
+    assertThat(message).endsWith(format("the last attempt failed with:%nboom"));
+    assertThat(lastFailureRenderings.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_poll_once_if_timeout_is_zero() {
+    // GIVEN
+    Supplier<DateTime> lastUpdated = () -> {
+      polls.incrementAndGet();
+      return null;
+    };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEventually(lastUpdated)
+      .within(Duration.ZERO)
+      .eventuallySatisfies(dateTime -> dateTime.hasYear(2001)));
+    // THEN
+    assertThat(polls.get()).isEqualTo(1);
+    assertThat(error).hasMessage(format("%nExpecting the polled value to satisfy the requirements within PT0S " +
+                                        "but it did not after 1 attempts, the last attempt failed with:%n" +
+                                        actualIsNull()));
+  }
+
+  @Test
+  public void should_stop_polling_and_keep_interrupt_status_if_thread_is_interrupted() {
+    // GIVEN
+    Thread.currentThread().interrupt();
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEventually(() -> refDatetime)
+      .eventuallySatisfies(dateTime -> dateTime.hasYear(2001)));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+    assertThat(Thread.currentThread().isInterrupted()).isTrue();
+  }
+
+  @Test
+  public void should_propagate_supplier_exceptions() {
+    // GIVEN
+    IllegalStateException supplierException = new IllegalStateException("boom");
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEventually(() -> {
+      throw supplierException;
+    }).eventuallySatisfies(dateTime -> dateTime.hasYear(2001)));
+    // THEN
+    assertThat(error).isSameAs(supplierException);
+  }
+
+  @Test
+  public void should_fail_if_supplier_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    Supplier<DateTime> lastUpdated = null;
+    assertThatEventually(lastUpdated).eventuallySatisfies(dateTime -> dateTime.hasYear(2000));
+  }
+
+  @Test
+  public void should_throw_error_if_requirements_are_null() {
+    expectIllegalArgumentException("The requirements should not be null");
+    assertThatEventually(() -> refDatetime).eventuallySatisfies(null);
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.eventual;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatEventually;
+import static org.assertj.jodatime.api.DateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class EventualDateTimeAssert_isAfter_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 1, 0, 0, UTC);
+
+  @Test
+  public void should_pass_once_polled_value_is_strictly_after() {
+    AtomicInteger polls = new AtomicInteger();
+    Supplier<DateTime> lastUpdated = () -> polls.incrementAndGet() < 3 ? refDatetime.minusSeconds(1)
+                                                                   : refDatetime.plusSeconds(1);
+    assertThatEventually(lastUpdated).isAfter(refDatetime);
+  }
+
+  @Test
+  public void should_fail_if_no_polled_value_is_strictly_after_before_timeout() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatEventually(() -> refDatetime.minusSeconds(1))
+      .within(Duration.ZERO)
+      .isAfter(refDatetime));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting the polled value to satisfy the requirements within PT0S " +
+                                        "but it did not after 1 attempts, the last attempt failed with:%n" +
+                                        "Expecting:%n" +
+                                        "  <1999-12-31T23:59:59.000Z>%n" +
+                                        "to be strictly after:%n" +
+                                        "  <2000-01-01T00:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_supplier_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    Supplier<DateTime> lastUpdated = null;
+    assertThatEventually(lastUpdated).isAfter(refDatetime);
+  }
+
+  @Test
+  public void should_throw_error_if_given_datetime_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThatEventually(() -> refDatetime).isAfter(null);
+  }
+
+}
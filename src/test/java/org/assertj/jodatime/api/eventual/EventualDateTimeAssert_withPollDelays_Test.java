@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.eventual;
+
+import static org.assertj.jodatime.api.Assertions.assertThatEventually;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class EventualDateTimeAssert_withPollDelays_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 1, 0, 0);
+
+  @Test
+  public void should_pass_with_fixed_poll_delay() {
+    AtomicInteger polls = new AtomicInteger();
+    Supplier<DateTime> lastUpdated = () -> polls.incrementAndGet() < 3 ? refDatetime : refDatetime.plusSeconds(1);
+    assertThatEventually(lastUpdated).withPollDelays(Duration.millis(1), Duration.millis(1))
+                                     .isAfter(refDatetime);
+  }
+
+  @Test
+  public void should_throw_error_if_initial_delay_is_null() {
+    expectIllegalArgumentException("The initial poll delay should not be null");
+    assertThatEventually(() -> refDatetime).withPollDelays(null, Duration.millis(1));
+  }
+
+  @Test
+  public void should_throw_error_if_max_delay_is_null() {
+    expectIllegalArgumentException("The max poll delay should not be null");
+    assertThatEventually(() -> refDatetime).withPollDelays(Duration.millis(1), null);
+  }
+
+  @Test
+  public void should_throw_error_if_initial_delay_is_not_strictly_positive() {
+    expectIllegalArgumentException("The initial poll delay should be strictly positive but was PT0S");
+    assertThatEventually(() -> refDatetime).withPollDelays(Duration.ZERO, Duration.millis(1));
+  }
+
+  @Test
+  public void should_throw_error_if_max_delay_is_less_than_initial_delay() {
+    expectIllegalArgumentException("The max poll delay PT0.005S should not be less than the initial one PT0.010S");
+    assertThatEventually(() -> refDatetime).withPollDelays(Duration.millis(10), Duration.millis(5));
+  }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.eventual;
+
+import static org.assertj.jodatime.api.Assertions.assertThatEventually;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.Duration;
+import org.junit.Test;
+
+public class EventualDateTimeAssert_within_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_with_zero_timeout() {
+    assertThatEventually(DateTime::now).within(Duration.ZERO).isAfter(new DateTime(2000, 1, 1, 0, 0));
+  }
+
+  @Test
+  public void should_throw_error_if_timeout_is_null() {
+    expectIllegalArgumentException("The timeout should not be null");
+    assertThatEventually(DateTime::now).within(null);
+  }
+
+  @Test
+  public void should_throw_error_if_timeout_is_negative() {
+    expectIllegalArgumentException("The timeout should not be negative but was PT-0.001S");
+    assertThatEventually(DateTime::now).within(Duration.millis(-1));
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.instant;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.InstantAssert.NULL_INSTANT_PARAMETER_MESSAGE;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.junit.Test;
+
+public class InstantAssert_isAfter_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_actual_is_after_given_instant() {
+    assertThat(new Instant(2000L)).isAfter(new Instant(1000L));
+  }
+
+  @Test
+  public void should_compare_instants_whatever_the_time_zone_of_given_one() {
+    assertThat(new Instant(2000L)).isAfter(new DateTime(1000L, DateTimeZone.forID("Asia/Tokyo")));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_strictly_after_given_instant() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new Instant(1000L)).isAfter(new Instant(1000L)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <1970-01-01T00:00:01.000Z>%n" +
+                                        "to be strictly after:%n" +
+                                        "  <1970-01-01T00:00:01.000Z>%n"));
+  }
+
+  @Test
+  public void should_throw_error_if_given_instant_is_null() {
+    expectIllegalArgumentException(NULL_INSTANT_PARAMETER_MESSAGE);
+    assertThat(new Instant(2000L)).isAfter(null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    Instant actual = null;
+    assertThat(actual).isAfter(new Instant(1000L));
+  }
+
+}
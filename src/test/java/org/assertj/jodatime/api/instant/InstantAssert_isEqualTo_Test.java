@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.instant;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.junit.Test;
+
+public class InstantAssert_isEqualTo_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_actual_represents_same_instant_as_given_one() {
+    assertThat(new Instant(1000L)).isEqualTo(new Instant(1000L))
+                                  .isEqualTo(new DateTime(1000L, DateTimeZone.forID("Asia/Tokyo")));
+  }
+
+  @Test
+  public void should_pass_if_both_actual_and_given_instant_are_null() {
+    Instant actual = null;
+    assertThat(actual).isEqualTo((Instant) null);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_represent_same_instant_as_given_one() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new Instant(1000L)).isEqualTo(new Instant(2000L)));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("1970-01-01T00:00:02.000Z");
+  }
+
+  @Test
+  public void should_pass_if_actual_does_not_represent_same_instant_as_given_one() {
+    assertThat(new Instant(1000L)).isNotEqualTo(new Instant(2000L));
+  }
+
+  @Test
+  public void should_fail_if_actual_represents_same_instant_as_given_one_in_another_time_zone() {
+    // GIVEN
+    DateTime sameInstantInTokyo = new DateTime(1000L, DateTimeZone.forID("Asia/Tokyo"));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new Instant(1000L)).isNotEqualTo(sameInstantInTokyo));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+  }
+
+}
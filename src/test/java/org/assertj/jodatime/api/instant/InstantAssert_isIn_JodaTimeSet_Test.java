@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.assertj.jodatime.api.JodaTimeSet;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.junit.Test;
+
+public class InstantAssert_isIn_JodaTimeSet_Test extends JodaTimeBaseTest {
+
+  private final JodaTimeSet candidates = JodaTimeSet.of(new Instant(0L),
+                                                        new DateTime(1000L, DateTimeZone.forID("Asia/Tokyo")));
+
+  @Test
+  public void should_pass_if_actual_is_in_given_set() {
+    assertThat(new Instant(1000L)).isIn(candidates);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_not_in_given_set() {
+    assertThat(new Instant(2000L)).isNotIn(candidates);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_in_given_set() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new Instant(2000L)).isIn(candidates));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("1970-01-01T00:00:02.000Z");
+  }
+
+  @Test
+  public void should_throw_error_if_given_set_is_null() {
+    expectIllegalArgumentException("The given JodaTimeSet should not be null");
+    assertThat(new Instant(0L)).isIn((JodaTimeSet) null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    Instant actual = null;
+    assertThat(actual).isIn(candidates);
+  }
+
+}
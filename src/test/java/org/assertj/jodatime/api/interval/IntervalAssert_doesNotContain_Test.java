@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.interval;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.IntervalAssert.NULL_INSTANT_PARAMETER_MESSAGE;
+import static org.joda.time.DateTimeZone.UTC;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.Interval;
+import org.joda.time.ReadableInstant;
+import org.junit.Test;
+
+public class IntervalAssert_doesNotContain_Test extends JodaTimeBaseTest {
+
+  private final DateTime start = new DateTime(2000, 1, 1, 0, 0, UTC);
+  private final Interval actual = new Interval(start, start.plusHours(2));
+
+  @Test
+  public void should_pass_if_actual_does_not_contain_instant() {
+    assertThat(actual).doesNotContain(start.plusHours(2));
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_instant() {
+    // GIVEN
+    DateTime instant = start;
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(actual).doesNotContain(instant));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting interval:%n" +
+                                        "  <2000-01-01T00:00:00.000Z/2000-01-01T02:00:00.000Z>%n" +
+                                        "not to contain:%n" +
+                                        "  <2000-01-01T00:00:00.000Z>%n" +
+                                        "but did."));
+  }
+
+  @Test
+  public void should_throw_error_if_given_instant_is_null() {
+    expectIllegalArgumentException(NULL_INSTANT_PARAMETER_MESSAGE);
+    assertThat(actual).doesNotContain((ReadableInstant) null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    Interval actual = null;
+    assertThat(actual).doesNotContain(start.plusHours(2));
+  }
+
+}
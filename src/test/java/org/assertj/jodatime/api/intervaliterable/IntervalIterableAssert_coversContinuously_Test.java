@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.intervaliterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThatIntervals;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.Interval;
+import org.junit.Test;
+
+public class IntervalIterableAssert_coversContinuously_Test extends JodaTimeBaseTest {
+
+  private final DateTime start = new DateTime(2000, 1, 1, 0, 0, UTC);
+  private final DateTime end = start.plusHours(4);
+
+  @Test
+  public void should_pass_if_overlapping_intervals_cover_range() {
+    assertThatIntervals(asList(new Interval(start.plusHours(2), end.plusHours(1)),
+                               new Interval(start.minusHours(1), start.plusHours(3)))).coversContinuously(start, end);
+  }
+
+  @Test
+  public void should_pass_if_range_is_empty() {
+    List<Interval> intervals = emptyList();
+    assertThatIntervals(intervals).coversContinuously(start, start);
+  }
+
+  @Test
+  public void should_fail_reporting_earliest_gap() {
+    // GIVEN
+    List<Interval> intervals = asList(new Interval(start.plusHours(3), end),
+                                      new Interval(start, start.plusHours(1)));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatIntervals(intervals).coversContinuously(start, end));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting intervals to cover continuously:%n" +
+                                        "  [<2000-01-01T00:00:00.000Z>, <2000-01-01T04:00:00.000Z>[%n" +
+                                        "but no interval covers:%n" +
+                                        "  <2000-01-01T01:00:00.000Z/2000-01-01T03:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_end_of_range_is_not_covered() {
+    // GIVEN
+    List<Interval> intervals = asList(new Interval(start, end.minusMillis(1)));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatIntervals(intervals).coversContinuously(start, end));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting intervals to cover continuously:%n" +
+                                        "  [<2000-01-01T00:00:00.000Z>, <2000-01-01T04:00:00.000Z>[%n" +
+                                        "but no interval covers:%n" +
+                                        "  <2000-01-01T03:59:59.999Z/2000-01-01T04:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_null() {
+    expectIllegalArgumentException("The start of the range should not be null");
+    assertThatIntervals(asList(new Interval(start, end))).coversContinuously(null, end);
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_null() {
+    expectIllegalArgumentException("The end of the range should not be null");
+    assertThatIntervals(asList(new Interval(start, end))).coversContinuously(start, null);
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_after_end() {
+    expectIllegalArgumentException("The start of the range should not be after its end");
+    assertThatIntervals(asList(new Interval(start, end))).coversContinuously(end, start);
+  }
+
+}
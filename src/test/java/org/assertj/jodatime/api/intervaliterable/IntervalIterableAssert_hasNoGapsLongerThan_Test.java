@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.intervaliterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThatIntervals;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.Duration;
+import org.joda.time.Interval;
+import org.junit.Test;
+
+public class IntervalIterableAssert_hasNoGapsLongerThan_Test extends JodaTimeBaseTest {
+
+  private final DateTime start = new DateTime(2000, 1, 1, 8, 0, UTC);
+  // morning and afternoon shifts with a one hour break
+  private final List<Interval> shifts = asList(new Interval(start.plusHours(5), start.plusHours(9)),
+                                               new Interval(start, start.plusHours(4)));
+
+  @Test
+  public void should_pass_if_no_gap_is_longer_than_given_duration() {
+    assertThatIntervals(shifts).hasNoGapsLongerThan(Duration.standardHours(1));
+  }
+
+  @Test
+  public void should_fail_reporting_earliest_gap_longer_than_given_duration() {
+    // GIVEN
+    Duration maxGap = Duration.standardMinutes(30);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatIntervals(shifts).hasNoGapsLongerThan(maxGap));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting no gap longer than:%n" +
+                                        "  <PT1800S>%n" +
+                                        "between intervals but no interval covers:%n" +
+                                        "  <2000-01-01T12:00:00.000Z/2000-01-01T13:00:00.000Z>%n" +
+                                        "which lasts:%n" +
+                                        "  <PT3600S>"));
+  }
+
+  @Test
+  public void should_throw_error_if_given_duration_is_null() {
+    expectIllegalArgumentException("The maximum gap duration should not be null");
+    assertThatIntervals(shifts).hasNoGapsLongerThan(null);
+  }
+
+  @Test
+  public void should_throw_error_if_given_duration_is_negative() {
+    expectIllegalArgumentException("The maximum gap duration should not be negative but was PT-1S");
+    assertThatIntervals(shifts).hasNoGapsLongerThan(Duration.standardSeconds(-1));
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.intervaliterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatIntervals;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.Interval;
+import org.junit.Test;
+
+public class IntervalIterableAssert_hasNoOverlaps_Test extends JodaTimeBaseTest {
+
+  private final DateTime start = new DateTime(2000, 1, 1, 0, 0, UTC);
+
+  @Test
+  public void should_pass_if_intervals_abut_in_any_order() {
+    assertThatIntervals(asList(new Interval(start.plusHours(2), start.plusHours(3)),
+                               new Interval(start, start.plusHours(1)),
+                               new Interval(start.plusHours(1), start.plusHours(2)))).hasNoOverlaps();
+  }
+
+  @Test
+  public void should_pass_if_zero_duration_interval_is_at_the_start_of_another_one() {
+    Interval[] intervals = { new Interval(start, start), new Interval(start, start.plusHours(1)) };
+    assertThatIntervals(intervals).hasNoOverlaps();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    List<Interval> intervals = emptyList();
+    assertThatIntervals(intervals).hasNoOverlaps();
+  }
+
+  @Test
+  public void should_fail_reporting_overlapping_intervals() {
+    // GIVEN
+    List<Interval> intervals = asList(new Interval(start.plusHours(4), start.plusHours(5)),
+                                      new Interval(start, start.plusHours(2)),
+                                      new Interval(start.plusHours(1), start.plusHours(3)));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatIntervals(intervals).hasNoOverlaps());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting intervals not to overlap but interval at index 1:%n" +
+                                        "  <2000-01-01T00:00:00.000Z/2000-01-01T02:00:00.000Z>%n" +
+                                        "overlaps interval at index 2:%n" +
+                                        "  <2000-01-01T01:00:00.000Z/2000-01-01T03:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_zero_duration_interval_is_inside_another_one() {
+    // GIVEN
+    Interval[] intervals = { new Interval(start, start.plusHours(2)),
+                             new Interval(start.plusHours(1), start.plusHours(1)) };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatIntervals(intervals).hasNoOverlaps());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting intervals not to overlap but interval at index 0:%n" +
+                                        "  <2000-01-01T00:00:00.000Z/2000-01-01T02:00:00.000Z>%n" +
+                                        "overlaps interval at index 1:%n" +
+                                        "  <2000-01-01T01:00:00.000Z/2000-01-01T01:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_null() {
+    // GIVEN
+    Interval[] intervals = { new Interval(start, start), null };
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatIntervals(intervals).hasNoOverlaps());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements not to be null but element at index 1 was."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<Interval> intervals = null;
+    assertThatIntervals(intervals).hasNoOverlaps();
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localdate;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.joda.time.DateTimeConstants.FRIDAY;
+import static org.joda.time.DateTimeConstants.SATURDAY;
+
+import org.assertj.jodatime.api.BusinessCalendar;
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalDate;
+import org.joda.time.chrono.BuddhistChronology;
+import org.junit.Test;
+
+public class LocalDateAssert_isBusinessDay_Test extends JodaTimeBaseTest {
+
+  private final BusinessCalendar calendar = BusinessCalendar.withHolidays(new LocalDate("2018-12-25"),
+                                                                          new LocalDate("2018-12-26"));
+
+  @Test
+  public void should_pass_if_actual_is_a_week_day_by_default() {
+    assertThat(new LocalDate("2018-12-25")).isBusinessDay();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_neither_a_weekend_day_nor_a_holiday() {
+    assertThat(new LocalDate("2018-12-24")).usingBusinessCalendar(calendar).isBusinessDay();
+    assertThat(new LocalDate("2018-12-27")).usingBusinessCalendar(calendar).isBusinessDay();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_a_business_day_with_custom_weekend_days() {
+    assertThat(new LocalDate("2018-12-23")).usingBusinessCalendar(calendar.withWeekendDays(FRIDAY, SATURDAY))
+                                           .isBusinessDay();
+  }
+
+  @Test
+  public void should_locate_dates_in_the_iso_calendar_whatever_their_chronology() {
+    // GIVEN
+    LocalDate christmasInBuddhistCalendar = new LocalDate(2561, 12, 25, BuddhistChronology.getInstanceUTC());
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(christmasInBuddhistCalendar).usingBusinessCalendar(calendar)
+                                                                                  .isBusinessDay());
+    // THEN
+    assertThat(error).hasMessageContaining("to be a business day but it was a holiday.");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_a_holiday() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalDate("2018-12-25")).usingBusinessCalendar(calendar)
+                                                                                .isBusinessDay());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2018-12-25>%n" +
+                                        "to be a business day but it was a holiday."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_a_weekend_day() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalDate("2018-12-22")).isBusinessDay());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2018-12-22>%n" +
+                                        "to be a business day but it was a weekend day."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDate nullActual = null;
+    assertThat(nullActual).isBusinessDay();
+  }
+
+  @Test
+  public void should_throw_error_if_calendar_is_null() {
+    expectIllegalArgumentException("The BusinessCalendar should not be null");
+    assertThat(new LocalDate("2018-12-24")).usingBusinessCalendar(null);
+  }
+
+  @Test
+  public void should_throw_error_if_a_weekend_day_is_not_a_day_of_week() {
+    expectIllegalArgumentException("The weekend days should be days of week from 1 (Monday) to 7 (Sunday) "
+                                   + "but 8 was not");
+    calendar.withWeekendDays(SATURDAY, 8);
+  }
+
+  @Test
+  public void should_throw_error_if_a_holiday_is_null() {
+    expectIllegalArgumentException("The holidays should not contain null values");
+    BusinessCalendar.withHolidays(new LocalDate("2018-12-25"), null);
+  }
+
+}
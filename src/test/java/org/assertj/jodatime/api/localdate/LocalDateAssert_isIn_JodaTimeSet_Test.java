@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localdate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.assertj.jodatime.api.JodaTimeSet;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.junit.Test;
+
+public class LocalDateAssert_isIn_JodaTimeSet_Test extends JodaTimeBaseTest {
+
+  private final LocalDate refLocalDate = new LocalDate(2000, 1, 2);
+  private final JodaTimeSet candidates = JodaTimeSet.of(refLocalDate, refLocalDate.plusDays(1));
+
+  @Test
+  public void should_pass_if_actual_is_in_given_set() {
+    assertThat(refLocalDate).isIn(candidates);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_not_in_given_set_for_isNotIn() {
+    assertThat(refLocalDate.minusDays(1)).isNotIn(candidates);
+  }
+
+  @Test
+  public void should_pass_if_given_set_is_empty_for_isNotIn() {
+    assertThat(refLocalDate).isNotIn(JodaTimeSet.empty());
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_in_given_set() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(refLocalDate.minusDays(1)).isIn(candidates));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("JodaTimeSet[2000-01-02, 2000-01-03]");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_in_given_set_for_isNotIn() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(refLocalDate).isNotIn(candidates));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("not to be in:");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDate actual = null;
+    assertThat(actual).isIn(candidates);
+  }
+
+  @Test
+  public void should_throw_error_if_given_set_does_not_contain_local_dates() {
+    expectIllegalArgumentException("JodaTimeSet contains LocalDateTimes, it can't be used to look for LocalDates");
+    assertThat(refLocalDate).isIn(JodaTimeSet.of(new LocalDateTime(2000, 1, 2, 0, 0)));
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localdate;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.BusinessCalendar;
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+public class LocalDateAssert_isNotHoliday_Test extends JodaTimeBaseTest {
+
+  private final BusinessCalendar calendar = BusinessCalendar.withHolidays(new LocalDate("2018-12-25"),
+                                                                          new LocalDate("2016-12-25"));
+
+  @Test
+  public void should_pass_if_actual_is_not_a_holiday() {
+    assertThat(new LocalDate("2018-12-24")).usingBusinessCalendar(calendar).isNotHoliday();
+    assertThat(new LocalDate("2017-12-25")).usingBusinessCalendar(calendar).isNotHoliday();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_a_weekend_day_that_is_not_a_holiday() {
+    assertThat(new LocalDate("2018-12-22")).usingBusinessCalendar(calendar).isNotHoliday();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_a_holiday() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalDate("2018-12-25")).usingBusinessCalendar(calendar)
+                                                                                .isNotHoliday());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2018-12-25>%n" +
+                                        "not to be a holiday but it was."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_a_holiday_on_a_weekend_day() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalDate("2016-12-25")).usingBusinessCalendar(calendar)
+                                                                                .isNotHoliday());
+    // THEN
+    assertThat(error).hasMessageContaining("not to be a holiday but it was.");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDate nullActual = null;
+    assertThat(nullActual).usingBusinessCalendar(calendar).isNotHoliday();
+  }
+
+}
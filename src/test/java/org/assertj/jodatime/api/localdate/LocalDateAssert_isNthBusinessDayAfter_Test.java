@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localdate;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.LocalDateAssert.NULL_LOCAL_DATE_PARAMETER_MESSAGE;
+
+import org.assertj.jodatime.api.BusinessCalendar;
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+public class LocalDateAssert_isNthBusinessDayAfter_Test extends JodaTimeBaseTest {
+
+  // Thursday
+  private final LocalDate tradeDate = new LocalDate("2018-12-20");
+  private final BusinessCalendar calendar = BusinessCalendar.withHolidays(new LocalDate("2018-12-25"),
+                                                                          new LocalDate("2018-12-26"),
+                                                                          new LocalDate("2019-01-01"));
+
+  @Test
+  public void should_pass_if_actual_is_the_nth_business_day_after_start() {
+    assertThat(new LocalDate("2018-12-21")).usingBusinessCalendar(calendar).isNthBusinessDayAfter(1, tradeDate);
+    assertThat(new LocalDate("2018-12-24")).usingBusinessCalendar(calendar).isNthBusinessDayAfter(2, tradeDate);
+    assertThat(new LocalDate("2018-12-27")).usingBusinessCalendar(calendar).isNthBusinessDayAfter(3, tradeDate);
+  }
+
+  @Test
+  public void should_pass_if_start_is_not_a_business_day() {
+    assertThat(new LocalDate("2018-12-24")).isNthBusinessDayAfter(1, new LocalDate("2018-12-22"));
+  }
+
+  @Test
+  public void should_pass_across_years() {
+    // 3 business days at the end of 2018, 261 week days in 2019 but new year's day and 2 in 2020
+    assertThat(new LocalDate("2020-01-02")).usingBusinessCalendar(calendar)
+                                           .isNthBusinessDayAfter(3 + 260 + 2, new LocalDate("2018-12-26"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_the_nth_business_day_after_start() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalDate("2018-12-27")).usingBusinessCalendar(calendar)
+                                                                                .isNthBusinessDayAfter(2, tradeDate));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2018-12-27>%n" +
+                                        "to be 2 business day(s) after:%n" +
+                                        "  <2018-12-20>%n" +
+                                        "but it was 3 business day(s) after it."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_after_start() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalDate("2018-12-19")).isNthBusinessDayAfter(1, tradeDate));
+    // THEN
+    assertThat(error).hasMessageContaining("but it was 0 business day(s) after it.");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_a_business_day() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalDate("2018-12-25")).usingBusinessCalendar(calendar)
+                                                                                .isNthBusinessDayAfter(3, tradeDate));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2018-12-25>%n" +
+                                        "to be 3 business day(s) after:%n" +
+                                        "  <2018-12-20>%n" +
+                                        "but it was not a business day."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDate nullActual = null;
+    assertThat(nullActual).isNthBusinessDayAfter(1, tradeDate);
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_null() {
+    expectIllegalArgumentException(NULL_LOCAL_DATE_PARAMETER_MESSAGE);
+    assertThat(new LocalDate("2018-12-24")).isNthBusinessDayAfter(1, null);
+  }
+
+  @Test
+  public void should_throw_error_if_n_is_not_strictly_positive() {
+    expectIllegalArgumentException("The number of business days should be strictly positive but was 0");
+    assertThat(new LocalDate("2018-12-24")).isNthBusinessDayAfter(0, tradeDate);
+  }
+
+}
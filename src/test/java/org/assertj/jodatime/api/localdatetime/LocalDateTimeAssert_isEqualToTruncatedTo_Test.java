@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localdatetime;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.LocalDateTimeAssert.NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE;
+import static org.joda.time.DateTimeFieldType.dayOfMonth;
+import static org.joda.time.DateTimeFieldType.hourOfDay;
+import static org.joda.time.DateTimeFieldType.monthOfYear;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalDateTime;
+import org.junit.Test;
+
+public class LocalDateTimeAssert_isEqualToTruncatedTo_Test extends JodaTimeBaseTest {
+
+  private final LocalDateTime refLocalDateTime = new LocalDateTime(2000, 1, 2, 3, 4, 5, 6);
+
+  @Test
+  public void should_pass_if_actual_is_equal_to_other_truncated_to_given_field() {
+    assertThat(refLocalDateTime).isEqualToTruncatedTo(refLocalDateTime.plusMinutes(30), hourOfDay())
+                                .isEqualToTruncatedTo(refLocalDateTime.plusHours(10), dayOfMonth())
+                                .isEqualToTruncatedTo(refLocalDateTime.plusDays(20), monthOfYear());
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_equal_to_given_localdatetime_truncated_to_given_field() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(refLocalDateTime).isEqualToTruncatedTo(refLocalDateTime.plusHours(1),
+                                                                                              hourOfDay()));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2000-01-02T03:04:05.006>%n" +
+                                        "to have same fields down to hourOfDay as:%n" +
+                                        "  <2000-01-02T04:04:05.006>%n" +
+                                        "but had not."));
+  }
+
+  @Test
+  public void should_fail_as_fields_are_different_even_if_time_difference_is_less_than_the_truncation_unit() {
+    // GIVEN
+    LocalDateTime endOfDay = new LocalDateTime(2000, 1, 1, 23, 59, 59, 999);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(endOfDay).isEqualToTruncatedTo(endOfDay.plusMillis(1),
+                                                                                      dayOfMonth()));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDateTime actual = null;
+    assertThat(actual).isEqualToTruncatedTo(new LocalDateTime(), hourOfDay());
+  }
+
+  @Test
+  public void should_throw_error_if_given_localdatetime_is_null() {
+    expectIllegalArgumentException(NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThat(refLocalDateTime).isEqualToTruncatedTo(null, hourOfDay());
+  }
+
+  @Test
+  public void should_throw_error_if_given_field_type_is_null() {
+    expectIllegalArgumentException("The DateTimeFieldType to truncate to should not be null");
+    assertThat(refLocalDateTime).isEqualToTruncatedTo(refLocalDateTime, null);
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localdatetime;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDateTime;
+import org.junit.Test;
+
+public class LocalDateTimeAssert_isInDstGap_Test extends JodaTimeBaseTest {
+
+  // clocks go from 02:00 to 03:00 on 2018-03-25
+  private final DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
+
+  @Test
+  public void should_pass_if_actual_is_in_a_gap_of_given_zone() {
+    assertThat(new LocalDateTime("2018-03-25T02:00:00.000")).isInDstGap(paris);
+    assertThat(new LocalDateTime("2018-03-25T02:59:59.999")).isInDstGap(paris);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_in_a_gap_outside_the_indexed_years() {
+    // clocks go from 02:00 to 03:00 on 2150-03-29
+    assertThat(new LocalDateTime("2150-03-29T02:30")).isInDstGap(paris);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_in_a_gap_of_a_southern_hemisphere_zone() {
+    // clocks go from 02:00 to 03:00 on 2018-10-07 in Sydney
+    assertThat(new LocalDateTime("2018-10-07T02:30")).isInDstGap(DateTimeZone.forID("Australia/Sydney"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_right_after_the_gap() {
+    // GIVEN
+    LocalDateTime afterGap = new LocalDateTime("2018-03-25T03:00:00.000");
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(afterGap).isInDstGap(paris));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2018-03-25T03:00:00.000>%n" +
+                                        "to be in a gap of the Europe/Paris time zone offset transitions " +
+                                        "but it was not."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_in_an_overlap() {
+    // GIVEN
+    LocalDateTime inOverlap = new LocalDateTime("2018-10-28T02:30");
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(inOverlap).isInDstGap(paris));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  public void should_fail_if_zone_has_no_transitions() {
+    // GIVEN
+    LocalDateTime inParisGap = new LocalDateTime("2018-03-25T02:30");
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(inParisGap).isInDstGap(DateTimeZone.UTC));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDateTime actual = null;
+    assertThat(actual).isInDstGap(paris);
+  }
+
+  @Test
+  public void should_throw_error_if_given_zone_is_null() {
+    expectIllegalArgumentException("The DateTimeZone should not be null");
+    assertThat(new LocalDateTime("2018-03-25T02:30")).isInDstGap(null);
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localdatetime;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDateTime;
+import org.junit.Test;
+
+public class LocalDateTimeAssert_isInDstOverlap_Test extends JodaTimeBaseTest {
+
+  // clocks go from 03:00 back to 02:00 on 2018-10-28
+  private final DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
+
+  @Test
+  public void should_pass_if_actual_is_in_an_overlap_of_given_zone() {
+    assertThat(new LocalDateTime("2018-10-28T02:00:00.000")).isInDstOverlap(paris);
+    assertThat(new LocalDateTime("2018-10-28T02:59:59.999")).isInDstOverlap(paris);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_right_before_the_overlap() {
+    // GIVEN
+    LocalDateTime beforeOverlap = new LocalDateTime("2018-10-28T01:59:59.999");
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(beforeOverlap).isInDstOverlap(paris));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2018-10-28T01:59:59.999>%n" +
+                                        "to be in an overlap of the Europe/Paris time zone offset transitions " +
+                                        "but it was not."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_in_a_gap() {
+    // GIVEN
+    LocalDateTime inGap = new LocalDateTime("2018-03-25T02:30");
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(inGap).isInDstOverlap(paris));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDateTime actual = null;
+    assertThat(actual).isInDstOverlap(paris);
+  }
+
+  @Test
+  public void should_throw_error_if_given_zone_is_null() {
+    expectIllegalArgumentException("The DateTimeZone should not be null");
+    assertThat(new LocalDateTime("2018-10-28T02:30")).isInDstOverlap(null);
+  }
+
+}
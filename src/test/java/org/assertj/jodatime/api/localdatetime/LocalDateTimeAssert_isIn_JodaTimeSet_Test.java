@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localdatetime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.assertj.jodatime.api.JodaTimeSet;
+import org.joda.time.LocalDateTime;
+import org.junit.Test;
+
+public class LocalDateTimeAssert_isIn_JodaTimeSet_Test extends JodaTimeBaseTest {
+
+  private final LocalDateTime refLocalDateTime = new LocalDateTime(2000, 1, 2, 3, 4, 5, 6);
+  private final JodaTimeSet candidates = JodaTimeSet.of(refLocalDateTime, refLocalDateTime.plusHours(1));
+
+  @Test
+  public void should_pass_if_actual_is_in_given_set() {
+    assertThat(refLocalDateTime).isIn(candidates);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_not_in_given_set_for_isNotIn() {
+    assertThat(refLocalDateTime.plusMillis(1)).isNotIn(candidates);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_in_given_set() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(refLocalDateTime.minusHours(1)).isIn(candidates));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("JodaTimeSet[2000-01-02T03:04:05.006, 2000-01-02T04:04:05.006]");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_in_given_set_for_isNotIn() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(refLocalDateTime).isNotIn(candidates));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("not to be in:");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDateTime actual = null;
+    assertThat(actual).isIn(candidates);
+  }
+
+  @Test
+  public void should_throw_error_if_given_set_is_null() {
+    expectIllegalArgumentException("The given JodaTimeSet should not be null");
+    assertThat(refLocalDateTime).isIn((JodaTimeSet) null);
+  }
+
+}
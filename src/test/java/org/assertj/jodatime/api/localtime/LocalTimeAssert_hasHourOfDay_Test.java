@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localtime;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalTime;
+import org.joda.time.chrono.BuddhistChronology;
+import org.junit.Test;
+
+public class LocalTimeAssert_hasHourOfDay_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_actual_has_given_hour_of_day() {
+    assertThat(new LocalTime(10, 59, 59, 999)).hasHourOfDay(10);
+    assertThat(new LocalTime(0, 0)).hasHourOfDay(0);
+    assertThat(new LocalTime(23, 0, 0, 0, BuddhistChronology.getInstanceUTC())).hasHourOfDay(23);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_have_given_hour_of_day() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalTime(10, 30)).hasHourOfDay(11));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <10:30:00.000>%n" +
+                                        "hour of day to be:%n" +
+                                        "  <11>%n" +
+                                        "but was:%n" +
+                                        "  <10>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalTime actual = null;
+    assertThat(actual).hasHourOfDay(10);
+  }
+
+}
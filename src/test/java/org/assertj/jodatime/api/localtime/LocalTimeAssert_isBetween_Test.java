@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localtime;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalTime;
+import org.junit.Test;
+
+public class LocalTimeAssert_isBetween_Test extends JodaTimeBaseTest {
+
+  private static final LocalTime EIGHT = new LocalTime(8, 0);
+  private static final LocalTime NOON = new LocalTime(12, 0);
+  private static final LocalTime TEN_PM = new LocalTime(22, 0);
+  private static final LocalTime TWO_AM = new LocalTime(2, 0);
+
+  @Test
+  public void should_pass_if_actual_is_within_range_bounds_included() {
+    assertThat(new LocalTime(10, 30)).isBetween(EIGHT, NOON)
+                                     .isBetween("08:00", "12:00");
+    assertThat(EIGHT).isBetween(EIGHT, NOON);
+    assertThat(NOON).isBetween(EIGHT, NOON);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_within_range_crossing_midnight() {
+    assertThat(new LocalTime(23, 30)).isBetween(TEN_PM, TWO_AM);
+    assertThat(new LocalTime(0, 0)).isBetween(TEN_PM, TWO_AM);
+    assertThat(new LocalTime(1, 59, 59, 999)).isBetween(TEN_PM, TWO_AM);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_outside_range() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalTime(12, 0, 0, 1)).isBetween(EIGHT, NOON));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <12:00:00.001>%n" +
+                                        "to be within:%n" +
+                                        "  [<08:00:00.000>, <12:00:00.000>]%n" +
+                                        "but was not."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_outside_range_crossing_midnight() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(NOON).isBetween(TEN_PM, TWO_AM));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <12:00:00.000>%n" +
+                                        "to be within:%n" +
+                                        "  [<22:00:00.000>, <02:00:00.000>]%n" +
+                                        "but was not."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalTime actual = null;
+    assertThat(actual).isBetween(EIGHT, NOON);
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_null() {
+    expectIllegalArgumentException("The start of the range should not be null");
+    assertThat(NOON).isBetween(null, NOON);
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_null() {
+    expectIllegalArgumentException("The end of the range should not be null");
+    assertThat(NOON).isBetween(EIGHT, null);
+  }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localtime;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalTime;
+import org.junit.Test;
+
+public class LocalTimeAssert_isEqualToIgnoringSeconds_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_actual_has_same_hour_and_minute_as_other() {
+    assertThat(new LocalTime(10, 30, 59, 999)).isEqualToIgnoringSeconds(new LocalTime(10, 30))
+                                              .isEqualToIgnoringSeconds(new LocalTime(10, 30, 1, 0));
+  }
+
+  @Test
+  public void should_fail_if_actual_minute_differs() {
+    // GIVEN
+    LocalTime other = new LocalTime(10, 29, 59, 999);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new LocalTime(10, 30)).isEqualToIgnoringSeconds(other));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <10:30:00.000>%n" +
+                                        "to have same hour and minute as:%n" +
+                                        "  <10:29:59.999>%n" +
+                                        "but had not."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalTime actual = null;
+    assertThat(actual).isEqualToIgnoringSeconds(new LocalTime());
+  }
+
+  @Test
+  public void should_throw_error_if_other_is_null() {
+    expectIllegalArgumentException("The LocalTime to compare actual with should not be null");
+    assertThat(new LocalTime()).isEqualToIgnoringSeconds(null);
+  }
+
+}
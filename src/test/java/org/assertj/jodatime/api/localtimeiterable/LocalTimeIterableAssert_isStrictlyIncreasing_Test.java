@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localtimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatLocalTimes;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalTime;
+import org.junit.Test;
+
+public class LocalTimeIterableAssert_isStrictlyIncreasing_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_actual_is_strictly_increasing() {
+    List<LocalTime> localTimes = asList(new LocalTime(8, 0), new LocalTime(8, 0, 0, 1), new LocalTime(9, 0));
+    assertThatLocalTimes(localTimes).isStrictlyIncreasing();
+  }
+
+  @Test
+  public void should_fail_if_two_elements_are_equal() {
+    // GIVEN
+    List<LocalTime> localTimes = asList(new LocalTime(8, 0), new LocalTime(8, 30), new LocalTime(8, 30));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatLocalTimes(localTimes).isStrictlyIncreasing());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be strictly increasing but element at index 2:%n" +
+                                        "  <08:30:00.000>%n" +
+                                        "is not strictly after the previous one:%n" +
+                                        "  <08:30:00.000>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<LocalTime> localTimes = null;
+    assertThatLocalTimes(localTimes).isStrictlyIncreasing();
+  }
+
+}
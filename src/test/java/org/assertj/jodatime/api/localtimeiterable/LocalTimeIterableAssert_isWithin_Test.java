@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.localtimeiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatLocalTimes;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalTime;
+import org.junit.Test;
+
+public class LocalTimeIterableAssert_isWithin_Test extends JodaTimeBaseTest {
+
+  private static final LocalTime EIGHT = new LocalTime(8, 0);
+  private static final LocalTime EIGHT_FIFTY_NINE = new LocalTime(8, 59);
+
+  @Test
+  public void should_pass_if_all_elements_are_within_range() {
+    assertThatLocalTimes(asList(EIGHT, new LocalTime(8, 30), EIGHT_FIFTY_NINE)).isWithin(EIGHT, EIGHT_FIFTY_NINE);
+  }
+
+  @Test
+  public void should_pass_if_all_elements_are_within_range_crossing_midnight() {
+    List<LocalTime> nightShift = asList(new LocalTime(22, 0), new LocalTime(0, 0), new LocalTime(2, 0));
+    assertThatLocalTimes(nightShift).isWithin(new LocalTime(22, 0), new LocalTime(2, 0));
+  }
+
+  @Test
+  public void should_fail_if_an_element_is_outside_range() {
+    // GIVEN
+    List<LocalTime> localTimes = asList(EIGHT, new LocalTime(8, 30), EIGHT_FIFTY_NINE, new LocalTime(9, 0));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatLocalTimes(localTimes).isWithin(EIGHT, EIGHT_FIFTY_NINE));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements to be within:%n" +
+                                        "  [<08:00:00.000>, <08:59:00.000>]%n" +
+                                        "but element at index 3:%n" +
+                                        "  <09:00:00.000>%n" +
+                                        "was not."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<LocalTime> localTimes = null;
+    assertThatLocalTimes(localTimes).isWithin(EIGHT, EIGHT_FIFTY_NINE);
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_null() {
+    expectIllegalArgumentException("The start of the range should not be null");
+    assertThatLocalTimes(asList(EIGHT)).isWithin(null, EIGHT_FIFTY_NINE);
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_null() {
+    expectIllegalArgumentException("The end of the range should not be null");
+    assertThatLocalTimes(asList(EIGHT)).isWithin(EIGHT, null);
+  }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.monthday;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.MonthDay;
+import org.junit.Test;
+
+public class MonthDayAssert_isBefore_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_actual_is_strictly_before_other() {
+    assertThat(new MonthDay(2, 29)).isBefore(new MonthDay(3, 15))
+                                   .isBefore("--03-15");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_equal_to_other() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new MonthDay(3, 15)).isBefore(new MonthDay(3, 15)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <--03-15>%n" +
+                                        "to be strictly before:%n" +
+                                        "  <--03-15>%n"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    MonthDay actual = null;
+    assertThat(actual).isBefore(new MonthDay(3, 15));
+  }
+
+  @Test
+  public void should_throw_error_if_other_is_null() {
+    expectIllegalArgumentException("The MonthDay to compare actual with should not be null");
+    assertThat(new MonthDay(3, 15)).isBefore((MonthDay) null);
+  }
+
+  @Test
+  public void should_throw_error_if_other_as_string_is_null() {
+    expectIllegalArgumentException("The String representing the MonthDay to compare actual with should not be null");
+    assertThat(new MonthDay(3, 15)).isBefore((String) null);
+  }
+
+}
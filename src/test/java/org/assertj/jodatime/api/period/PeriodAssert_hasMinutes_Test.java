@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.period;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.Period;
+import org.junit.Test;
+
+public class PeriodAssert_hasMinutes_Test extends JodaTimeBaseTest {
+
+  private final Period actual = new Period(1, 30, 0, 0);
+
+  @Test
+  public void should_pass_if_actual_has_given_minutes() {
+    assertThat(actual).hasMinutes(30);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_have_given_minutes() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(actual).hasMinutes(30 + 1));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <PT1H30M>%n" +
+                                        "minutes to be:%n" +
+                                        "  <31>%n" +
+                                        "but was:%n" +
+                                        "  <30>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    Period actual = null;
+    assertThat(actual).hasMinutes(30);
+  }
+
+}
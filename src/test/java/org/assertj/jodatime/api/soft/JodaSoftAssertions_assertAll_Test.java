@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.soft;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.assertj.jodatime.api.JodaSoftAssertions;
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+public class JodaSoftAssertions_assertAll_Test extends JodaTimeBaseTest {
+
+  private final DateTime actual = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.UTC);
+
+  @Test
+  public void should_pass_if_no_soft_assertion_failed() {
+    // GIVEN
+    JodaSoftAssertions softly = new JodaSoftAssertions();
+    // WHEN
+    softly.assertThat(actual).hasYear(2000).isBefore(actual.plusDays(1));
+    softly.assertThat(new LocalDate(2000, 1, 1)).hasMonthOfYear(1);
+    // THEN
+    softly.assertAll();
+    assertThat(softly.wasSuccess()).isTrue();
+  }
+
+  @Test
+  public void should_fail_reporting_all_the_failed_soft_assertions() {
+    // GIVEN
+    JodaSoftAssertions softly = new JodaSoftAssertions();
+    softly.assertThat(actual).hasYear(2001).hasMonthOfYear(1);
+    softly.assertThat(new LocalDate(2000, 1, 1)).isAfter("2000-01-02");
+    // WHEN
+    Throwable error = catchThrowable(softly::assertAll);
+    // THEN
+    assertThat(error).hasMessage(format("%nThe following 2 assertions failed:%n" +
+                                        "1) %nExpecting:%n" +
+                                        "  <2000-01-01T00:00:00.000Z>%n" +
+                                        "year to be:%n" +
+                                        "  <2001>%n" +
+                                        "but was:%n" +
+                                        "  <2000>%n" +
+                                        "2) %nExpecting:%n" +
+                                        "  <2000-01-01>%n" +
+                                        "to be strictly after:%n" +
+                                        "  <2000-01-02>%n"));
+  }
+
+  @Test
+  public void should_fail_reporting_the_failure_count_and_the_recorded_errors_only() {
+    // GIVEN
+    JodaSoftAssertions softly = new JodaSoftAssertions(1);
+    for (int year = 2001; year <= 2010; year++) {
+      softly.assertThat(actual).hasYear(year);
+    }
+    // WHEN
+    Throwable error = catchThrowable(softly::assertAll);
+    // THEN
+    assertThat(softly.failureCount()).isEqualTo(10);
+    assertThat(softly.errorsCollected()).hasSize(1);
+    assertThat(error).hasMessage(format("%n10 assertions failed, the first 1 are:%n" +
+                                        "1) %nExpecting:%n" +
+                                        "  <2000-01-01T00:00:00.000Z>%n" +
+                                        "year to be:%n" +
+                                        "  <2001>%n" +
+                                        "but was:%n" +
+                                        "  <2000>%n"));
+  }
+
+  @Test
+  public void should_only_count_failures_if_no_error_is_recorded() {
+    // GIVEN
+    JodaSoftAssertions softly = new JodaSoftAssertions(0);
+    // WHEN
+    softly.assertThat(actual).hasYear(2001).hasDayOfMonth(2);
+    // THEN
+    assertThat(softly.failureCount()).isEqualTo(2);
+    assertThat(softly.errorsCollected()).isEmpty();
+  }
+
+  @Test
+  public void should_throw_error_if_max_recorded_errors_is_negative() {
+    expectIllegalArgumentException("The maximum number of recorded errors should not be negative but was -1");
+    new JodaSoftAssertions(-1);
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.soft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.jodatime.api.DateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.jodatime.api.JodaSoftAssertions;
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.junit.Test;
+
+public class JodaSoftAssertions_assertThat_Test extends JodaTimeBaseTest {
+
+  private final JodaSoftAssertions softly = new JodaSoftAssertions();
+
+  @Test
+  public void should_collect_failures_of_DateTime_assertions() {
+    // GIVEN
+    DateTime actual = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.UTC);
+    // WHEN
+    softly.assertThat(actual).isAfter(actual.plusDays(1)).isEqualToIgnoringHours(actual.plusDays(1)).hasYear(2000);
+    // THEN
+    assertThat(softly.failureCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_collect_failures_of_LocalDateTime_assertions() {
+    // GIVEN
+    LocalDateTime actual = new LocalDateTime(2000, 1, 1, 23, 59);
+    // WHEN
+    softly.assertThat(actual).hasHourOfDay(0).isBefore("2000-01-01T23:00");
+    // THEN
+    assertThat(softly.failureCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_collect_failures_of_LocalDate_assertions() {
+    // GIVEN
+    LocalDate actual = new LocalDate(2000, 1, 1);
+    // WHEN
+    softly.assertThat(actual).hasDayOfMonth(2).isIn("2000-01-02", "2000-01-03");
+    // THEN
+    assertThat(softly.failureCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_collect_once_the_failure_of_an_assertion_calling_other_assertions() {
+    // GIVEN
+    DateTime nullActual = null;
+    // WHEN
+    softly.assertThat(nullActual).isBefore("2000-01-01T00:00:00Z");
+    // THEN
+    assertThat(softly.failureCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_throw_error_if_a_parameter_is_invalid() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    softly.assertThat(new DateTime()).isBefore((DateTime) null);
+  }
+
+}
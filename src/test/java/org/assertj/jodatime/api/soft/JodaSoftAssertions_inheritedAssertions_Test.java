@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.soft;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.assertj.core.api.Condition;
+import org.assertj.jodatime.api.JodaSoftAssertions;
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.junit.Test;
+
+public class JodaSoftAssertions_inheritedAssertions_Test extends JodaTimeBaseTest {
+
+  private final JodaSoftAssertions softly = new JodaSoftAssertions();
+
+  @Test
+  public void should_collect_failures_of_inherited_DateTime_assertions() {
+    // GIVEN
+    DateTime actual = new DateTime(2000, 1, 1, 0, 0, DateTimeZone.UTC);
+    Condition<DateTime> inLeapYear = new Condition<>(dateTime -> dateTime.year().isLeap(), "in leap year");
+    // WHEN
+    softly.assertThat(actual).isNull();
+    softly.assertThat(actual).isIn((Object) "2000").isNotIn(singletonList(actual)).isInstanceOf(String.class)
+          .isSameAs(new DateTime(actual)).matches(dateTime -> dateTime.getYear() == 2001).isNot(inLeapYear)
+          .has(inLeapYear);
+    // THEN
+    assertThat(softly.failureCount()).isEqualTo(7);
+  }
+
+  @Test
+  public void should_collect_failures_of_inherited_LocalDateTime_assertions() {
+    // GIVEN
+    LocalDateTime actual = new LocalDateTime(2000, 1, 1, 0, 0);
+    // WHEN
+    softly.assertThat(actual).isNotIn((Object) actual).isNotSameAs(actual).matches(dateTime -> false, "never");
+    // THEN
+    assertThat(softly.failureCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void should_collect_failures_of_inherited_LocalDate_assertions() {
+    // GIVEN
+    LocalDate actual = new LocalDate(2000, 1, 1);
+    Condition<LocalDate> firstDayOfYear = new Condition<>(date -> date.getDayOfYear() == 1, "first day of year");
+    // WHEN
+    softly.assertThat(actual).isIn(singletonList(actual.plusDays(1))).is(firstDayOfYear).doesNotHave(firstDayOfYear);
+    // THEN
+    assertThat(softly.failureCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_not_collect_failure_of_satisfies() {
+    // GIVEN
+    LocalDate actual = new LocalDate(2000, 1, 1);
+    // WHEN
+    Throwable error = catchThrowable(() -> softly.assertThat(actual)
+                                                .satisfies(date -> assertThat(date.getYear()).isEqualTo(2001)));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+    assertThat(softly.failureCount()).isEqualTo(0);
+  }
+
+}
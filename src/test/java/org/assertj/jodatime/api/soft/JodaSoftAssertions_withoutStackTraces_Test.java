@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.soft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaSoftAssertions;
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+public class JodaSoftAssertions_withoutStackTraces_Test extends JodaTimeBaseTest {
+
+  private final LocalDate actual = new LocalDate(2000, 1, 1);
+
+  @Test
+  public void should_collect_errors_without_stack_trace() {
+    // GIVEN
+    JodaSoftAssertions softly = new JodaSoftAssertions().withoutStackTraces();
+    // WHEN
+    softly.assertThat(actual).hasYear(2001);
+    // THEN
+    assertThat(softly.errorsCollected().get(0).getStackTrace()).isEmpty();
+  }
+
+  @Test
+  public void should_collect_errors_with_stack_trace_by_default() {
+    // GIVEN
+    JodaSoftAssertions softly = new JodaSoftAssertions();
+    // WHEN
+    softly.assertThat(actual).hasYear(2001);
+    // THEN
+    assertThat(softly.errorsCollected().get(0).getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  public void should_capture_stack_traces_again_after_a_soft_assertion_without_stack_trace() {
+    // GIVEN
+    new JodaSoftAssertions().withoutStackTraces().assertThat(actual).hasYear(2001);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(actual).hasYear(2001));
+    // THEN
+    assertThat(error.getStackTrace()).isNotEmpty();
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.stream;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimeStream;
+import static org.assertj.jodatime.api.JodaStreamCheck.sorted;
+import static org.assertj.jodatime.api.JodaStreamCheck.strictlyIncreasing;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.assertj.jodatime.api.JodaStreamAssert;
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class JodaStreamAssert_consume_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 1, 0, 0, UTC);
+
+  @Test
+  public void should_consume_each_element_once() {
+    // GIVEN
+    int[] consumedElements = { 0 };
+    Stream<DateTime> dateTimes = Stream.of(refDatetime, refDatetime.plusDays(1)).peek(d -> consumedElements[0]++);
+    // WHEN
+    assertThatDateTimeStream(dateTimes).consume(sorted(), strictlyIncreasing());
+    // THEN
+    assertThat(consumedElements[0]).isEqualTo(2);
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_null() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimeStream(Stream.of(refDatetime, null)).consume());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements not to be null but element at index 1 was."));
+  }
+
+  @Test
+  public void should_throw_error_if_actual_has_already_been_consumed() {
+    // GIVEN
+    JodaStreamAssert<DateTime> streamAssert = assertThatDateTimeStream(Stream.of(refDatetime)).consume();
+    // WHEN
+    Throwable error = catchThrowable(streamAssert::consume);
+    // THEN
+    assertThat(error).isInstanceOf(IllegalStateException.class)
+                     .hasMessage("The stream has already been consumed");
+  }
+
+  @Test
+  public void should_not_consume_actual_if_a_check_is_null() {
+    // GIVEN
+    Iterator<DateTime> dateTimes = asList(refDatetime).iterator();
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimeStream(dateTimes).consume(sorted(), null));
+    // THEN
+    assertThat(error).isInstanceOf(IllegalArgumentException.class)
+                     .hasMessage("The stream checks should not be null");
+    assertThat(dateTimes.hasNext()).isTrue();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    Stream<DateTime> dateTimes = null;
+    assertThatDateTimeStream(dateTimes).consume();
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.stream;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThatLocalDateStream;
+import static org.assertj.jodatime.api.JodaStreamCheck.elementCount;
+
+import java.util.stream.Stream;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+public class JodaStreamCheck_elementCount_Test extends JodaTimeBaseTest {
+
+  private final LocalDate refDate = new LocalDate(2000, 1, 1);
+
+  @Test
+  public void should_pass_if_actual_has_expected_number_of_elements() {
+    assertThatLocalDateStream(Stream.of(refDate, refDate.plusDays(1))).consume(elementCount(2));
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_have_expected_number_of_elements() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatLocalDateStream(Stream.of(refDate)).consume(elementCount(2)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting number of elements to be:%n" +
+                                        "  <2>%n" +
+                                        "but was:%n" +
+                                        "  <1>"));
+  }
+
+  @Test
+  public void should_throw_error_if_expected_count_is_negative() {
+    expectIllegalArgumentException("The expected number of elements should not be negative");
+    elementCount(-1);
+  }
+
+}
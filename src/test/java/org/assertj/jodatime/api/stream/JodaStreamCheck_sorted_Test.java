@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.stream;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimeStream;
+import static org.assertj.jodatime.api.Assertions.assertThatLocalDateStream;
+import static org.assertj.jodatime.api.JodaStreamCheck.sorted;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+public class JodaStreamCheck_sorted_Test extends JodaTimeBaseTest {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 1, 0, 0, UTC);
+
+  @Test
+  public void should_pass_if_actual_is_sorted() {
+    assertThatDateTimeStream(Stream.of(refDatetime, refDatetime, refDatetime.plusHours(1))).consume(sorted());
+  }
+
+  @Test
+  public void should_pass_if_actual_is_sorted_with_elements_in_different_timezones() {
+    // 2000-01-01T00:30+01:00 is 1999-12-31T23:30Z
+    DateTime inParis = new DateTime(2000, 1, 1, 0, 30, DateTimeZone.forID("Europe/Paris"));
+    assertThatDateTimeStream(Stream.of(inParis, refDatetime)).consume(sorted());
+  }
+
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    assertThatDateTimeStream(Stream.empty()).consume(sorted());
+  }
+
+  @Test
+  public void should_fail_reporting_first_element_out_of_order() {
+    // GIVEN
+    Stream<DateTime> dateTimes = Stream.of(refDatetime, refDatetime.plusDays(2), refDatetime.plusDays(1),
+                                           refDatetime.minusDays(1));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimeStream(dateTimes).consume(sorted()));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be sorted chronologically but element at index 2:%n" +
+                                        "  <2000-01-02T00:00:00.000Z>%n" +
+                                        "is before the previous one:%n" +
+                                        "  <2000-01-03T00:00:00.000Z>"));
+  }
+
+  @Test
+  public void should_fail_if_local_dates_iterator_is_not_sorted() {
+    // GIVEN
+    LocalDate refDate = new LocalDate(2000, 1, 1);
+    Iterator<LocalDate> localDates = asList(refDate, refDate.minusDays(1)).iterator();
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatLocalDateStream(localDates).consume(sorted()));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be sorted chronologically but element at index 1:%n" +
+                                        "  <1999-12-31>%n" +
+                                        "is before the previous one:%n" +
+                                        "  <2000-01-01>"));
+  }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.stream;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThatLocalDateTimeStream;
+import static org.assertj.jodatime.api.JodaStreamCheck.strictlyIncreasing;
+
+import java.util.stream.Stream;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.LocalDateTime;
+import org.junit.Test;
+
+public class JodaStreamCheck_strictlyIncreasing_Test extends JodaTimeBaseTest {
+
+  private final LocalDateTime refLocalDateTime = new LocalDateTime(2000, 1, 1, 0, 0);
+
+  @Test
+  public void should_pass_if_actual_is_strictly_increasing() {
+    assertThatLocalDateTimeStream(Stream.of(refLocalDateTime, refLocalDateTime.plusMillis(1),
+                                            refLocalDateTime.plusHours(1))).consume(strictlyIncreasing());
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_consecutive_equal_elements() {
+    // GIVEN
+    Stream<LocalDateTime> localDateTimes = Stream.of(refLocalDateTime, refLocalDateTime);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatLocalDateTimeStream(localDateTimes).consume(strictlyIncreasing()));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be strictly increasing but element at index 1:%n" +
+                                        "  <2000-01-01T00:00:00.000>%n" +
+                                        "is not strictly after the previous one:%n" +
+                                        "  <2000-01-01T00:00:00.000>"));
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.stream;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThatDateTimeStream;
+import static org.assertj.jodatime.api.JodaStreamCheck.sorted;
+import static org.assertj.jodatime.api.JodaStreamCheck.within;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.stream.Stream;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class JodaStreamCheck_within_Test extends JodaTimeBaseTest {
+
+  private final DateTime start = new DateTime(2000, 1, 1, 0, 0, UTC);
+  private final DateTime end = start.plusDays(1);
+
+  @Test
+  public void should_pass_if_all_elements_are_within_range_bounds_included() {
+    assertThatDateTimeStream(Stream.of(start, start.plusHours(1), end)).consume(within(start, end));
+  }
+
+  @Test
+  public void should_pass_when_combined_with_ordering_check() {
+    assertThatDateTimeStream(Stream.of(start, start.plusHours(1), end)).consume(sorted(), within(start, end));
+  }
+
+  @Test
+  public void should_fail_reporting_first_element_out_of_range() {
+    // GIVEN
+    Stream<DateTime> dateTimes = Stream.of(start, end.plusMillis(1), start.minusDays(1));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatDateTimeStream(dateTimes).consume(within(start, end)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements to be within:%n" +
+                                        "  [<2000-01-01T00:00:00.000Z>, <2000-01-02T00:00:00.000Z>]%n" +
+                                        "but element at index 1:%n" +
+                                        "  <2000-01-02T00:00:00.001Z>%n" +
+                                        "was not."));
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_null() {
+    expectIllegalArgumentException("The start of the range should not be null");
+    within(null, end);
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_null() {
+    expectIllegalArgumentException("The end of the range should not be null");
+    within(start, null);
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_after_end() {
+    expectIllegalArgumentException("The start of the range should not be after its end");
+    assertThatDateTimeStream(Stream.of(start)).consume(within(end, start));
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.yearmonth;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.YearMonth;
+import org.junit.Test;
+
+public class YearMonthAssert_hasYear_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_actual_has_given_year() {
+    assertThat(new YearMonth(2018, 3)).hasYear(2018);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_have_given_year() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new YearMonth(2018, 3)).hasYear(2019));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2018-03>%n" +
+                                        "year to be:%n" +
+                                        "  <2019>%n" +
+                                        "but was:%n" +
+                                        "  <2018>"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    YearMonth actual = null;
+    assertThat(actual).hasYear(2018);
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.yearmonth;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.YearMonth;
+import org.junit.Test;
+
+public class YearMonthAssert_isBetween_Test extends JodaTimeBaseTest {
+
+  private static final YearMonth JANUARY = new YearMonth(2018, 1);
+  private static final YearMonth DECEMBER = new YearMonth(2018, 12);
+
+  @Test
+  public void should_pass_if_actual_is_within_range_bounds_included() {
+    assertThat(new YearMonth(2018, 3)).isBetween(JANUARY, DECEMBER)
+                                      .isBetween("2018-01", "2018-12");
+    assertThat(JANUARY).isBetween(JANUARY, DECEMBER);
+    assertThat(DECEMBER).isBetween(JANUARY, DECEMBER);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_outside_range() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(new YearMonth(2019, 1)).isBetween(JANUARY, DECEMBER));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting:%n" +
+                                        "  <2019-01>%n" +
+                                        "to be within:%n" +
+                                        "  [<2018-01>, <2018-12>]%n" +
+                                        "but was not."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    YearMonth actual = null;
+    assertThat(actual).isBetween(JANUARY, DECEMBER);
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_null() {
+    expectIllegalArgumentException("The start of the range should not be null");
+    assertThat(JANUARY).isBetween(null, DECEMBER);
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_null() {
+    expectIllegalArgumentException("The end of the range should not be null");
+    assertThat(JANUARY).isBetween(JANUARY, null);
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_before_start() {
+    expectIllegalArgumentException("The end of the range should not be before its start");
+    assertThat(JANUARY).isBetween(DECEMBER, JANUARY);
+  }
+
+}
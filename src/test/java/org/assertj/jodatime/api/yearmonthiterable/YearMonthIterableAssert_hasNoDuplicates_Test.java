@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.yearmonthiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatYearMonths;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.YearMonth;
+import org.junit.Test;
+
+public class YearMonthIterableAssert_hasNoDuplicates_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_all_elements_are_distinct() {
+    List<YearMonth> yearMonths = asList(new YearMonth(2018, 11), new YearMonth(2017, 11), new YearMonth(2018, 12));
+    assertThatYearMonths(yearMonths).hasNoDuplicates();
+  }
+
+  @Test
+  public void should_fail_if_two_elements_have_same_year_and_month() {
+    // GIVEN
+    List<YearMonth> yearMonths = asList(new YearMonth(2018, 12), new YearMonth(2018, 11), new YearMonth(2019, 1),
+                                        new YearMonth(2018, 12));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatYearMonths(yearMonths).hasNoDuplicates());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to be distinct but element at index 3:%n" +
+                                        "  <2018-12>%n" +
+                                        "is equal to element at index 0"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<YearMonth> yearMonths = null;
+    assertThatYearMonths(yearMonths).hasNoDuplicates();
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.yearmonthiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatYearMonths;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.YearMonth;
+import org.junit.Test;
+
+public class YearMonthIterableAssert_isContiguous_Test extends JodaTimeBaseTest {
+
+  @Test
+  public void should_pass_if_every_month_between_first_and_last_is_present_whatever_the_order() {
+    List<YearMonth> yearMonths = asList(new YearMonth(2018, 12), new YearMonth(2018, 11), new YearMonth(2019, 1),
+                                        new YearMonth(2018, 12));
+    assertThatYearMonths(yearMonths).isContiguous();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    assertThatYearMonths(new YearMonth[0]).isContiguous();
+  }
+
+  @Test
+  public void should_fail_if_a_month_is_missing() {
+    // GIVEN
+    List<YearMonth> yearMonths = asList(new YearMonth(2018, 11), new YearMonth(2019, 2), new YearMonth(2019, 1));
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatYearMonths(yearMonths).isContiguous());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting elements to cover every month from:%n" +
+                                        "  <2018-11>%n" +
+                                        "to:%n" +
+                                        "  <2019-02>%n" +
+                                        "but month:%n" +
+                                        "  <2018-12>%n" +
+                                        "was missing."));
+  }
+
+  @Test
+  public void should_fail_if_an_element_is_null() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatYearMonths(asList(new YearMonth(2018, 11), null)).isContiguous());
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements not to be null but element at index 1 was."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<YearMonth> yearMonths = null;
+    assertThatYearMonths(yearMonths).isContiguous();
+  }
+
+}
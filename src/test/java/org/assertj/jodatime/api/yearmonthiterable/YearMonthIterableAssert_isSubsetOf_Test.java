@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.api.yearmonthiterable;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.jodatime.api.Assertions.assertThatYearMonths;
+
+import java.util.List;
+
+import org.assertj.jodatime.api.JodaTimeBaseTest;
+import org.joda.time.YearMonth;
+import org.junit.Test;
+
+public class YearMonthIterableAssert_isSubsetOf_Test extends JodaTimeBaseTest {
+
+  private static final YearMonth NOVEMBER = new YearMonth(2018, 11);
+  private static final YearMonth DECEMBER = new YearMonth(2018, 12);
+  private static final YearMonth JANUARY = new YearMonth(2019, 1);
+
+  @Test
+  public void should_pass_if_all_elements_are_among_given_values() {
+    assertThatYearMonths(asList(DECEMBER, NOVEMBER, DECEMBER)).isSubsetOf(NOVEMBER, DECEMBER, JANUARY)
+                                                              .isSubsetOf(asList(NOVEMBER, DECEMBER));
+  }
+
+  @Test
+  public void should_fail_if_an_element_is_not_among_given_values() {
+    // GIVEN
+    List<YearMonth> yearMonths = asList(NOVEMBER, JANUARY);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThatYearMonths(yearMonths).isSubsetOf(asList(NOVEMBER)));
+    // THEN
+    assertThat(error).hasMessage(format("%nExpecting all elements to be in:%n" +
+                                        "  <[2018-11]>%n" +
+                                        "but element at index 1:%n" +
+                                        "  <2019-01>%n" +
+                                        "was not."));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    List<YearMonth> yearMonths = null;
+    assertThatYearMonths(yearMonths).isSubsetOf(NOVEMBER);
+  }
+
+  @Test
+  public void should_throw_error_if_values_are_null() {
+    expectIllegalArgumentException("The YearMonths to compare actual with should not be null");
+    assertThatYearMonths(asList(NOVEMBER)).isSubsetOf((YearMonth[]) null);
+  }
+
+  @Test
+  public void should_throw_error_if_a_value_is_null() {
+    expectIllegalArgumentException("The YearMonths to compare actual with should not contain null values");
+    assertThatYearMonths(asList(NOVEMBER)).isSubsetOf(NOVEMBER, null);
+  }
+
+}
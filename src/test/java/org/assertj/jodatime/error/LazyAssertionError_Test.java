@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.jodatime.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.jodatime.api.Assertions.assertThat;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.joda.time.DateTime;
+import org.joda.time.MutableDateTime;
+import org.junit.Test;
+
+public class LazyAssertionError_Test {
+
+  private final DateTime refDatetime = new DateTime(2000, 1, 2, 3, 4, 5, 6, UTC);
+
+  @Test
+  public void should_render_message_when_requested() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(refDatetime).as("birthday").hasYear(2001));
+    // THEN
+    assertThat(error).isInstanceOf(LazyAssertionError.class)
+                     .hasMessage(format("[birthday] %n" +
+                                        "Expecting:%n" +
+                                        "  <2000-01-02T03:04:05.006Z>%n" +
+                                        "year to be:%n" +
+                                        "  <2001>%n" +
+                                        "but was:%n" +
+                                        "  <2000>"));
+    assertThat(error.getMessage()).isSameAs(error.getMessage());
+  }
+
+  @Test
+  public void should_use_overriding_error_message() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(refDatetime).overridingErrorMessage("boom").hasYear(2001));
+    // THEN
+    assertThat(error).isNotInstanceOf(LazyAssertionError.class)
+                     .hasMessage("boom");
+  }
+
+  @Test
+  public void should_render_mutable_instant_as_it_was_when_the_assertion_failed() {
+    // GIVEN
+    MutableDateTime other = new MutableDateTime(2000, 1, 1, 0, 0, 0, 0, UTC);
+    Throwable error = catchThrowable(() -> assertThat(refDatetime.toInstant()).isBefore(other));
+    // WHEN
+    other.addYears(10);
+    // THEN
+    assertThat(error.getMessage()).contains("2000-01-01T00:00:00.000Z")
+                                   .doesNotContain("2010");
+  }
+
+  @Test
+  public void should_serialize_rendered_message() throws Exception {
+    // GIVEN
+    Throwable error = catchThrowable(() -> assertThat(refDatetime).isAfter(refDatetime));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(error);
+    }
+    // WHEN
+    Object deserialized;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserialized = in.readObject();
+    }
+    // THEN
+    assertThat(deserialized).isInstanceOf(AssertionError.class);
+    assertThat(((AssertionError) deserialized).getMessage()).isEqualTo(error.getMessage());
+  }
+
+}